@@ -27,7 +27,12 @@ import com.google.common.base.Predicates;
 import com.google.common.collect.Lists;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 import net.sourceforge.cilib.entity.EntityIdFactory;
+import net.sourceforge.cilib.math.random.generator.SeedSequence;
+import net.sourceforge.cilib.math.random.generator.Seeder;
 import net.sourceforge.cilib.moo.archive.Archive;
 import net.sourceforge.cilib.problem.OptimisationProblem;
 import net.sourceforge.cilib.problem.OptimisationSolution;
@@ -53,6 +58,7 @@ public abstract class AbstractAlgorithm implements Algorithm, Stoppable {
     private int iteration;
     private volatile boolean running;
     private boolean initialised;
+    private transient IterationCache iterationCache;
     protected OptimisationProblem optimisationProblem;
     /**
      * This {@linkplain ThreadLocal} variable maintains the stack of the currently
@@ -69,6 +75,7 @@ public abstract class AbstractAlgorithm implements Algorithm, Stoppable {
             return new AlgorithmStack();
         }
     };
+    private static final ThreadLocal<ExecutorService> evaluationExecutor = new ThreadLocal<ExecutorService>();
 
     /**
      * Default constructor for {@linkplain Algorithm} classes. Sets up the correct state
@@ -112,7 +119,9 @@ public abstract class AbstractAlgorithm implements Algorithm, Stoppable {
         initialised = true;
 
         currentAlgorithmStack.get().push(this);
+        getIterationCache().suspend();
         performInitialisation();
+        getIterationCache().resume();
         currentAlgorithmStack.get().pop();
     }
 
@@ -122,11 +131,26 @@ public abstract class AbstractAlgorithm implements Algorithm, Stoppable {
     @Override
     public final void performIteration() {
         currentAlgorithmStack.get().push(this);
+        getIterationCache().suspend();
         algorithmIteration();
         iteration++;
+        getIterationCache().resume();
         currentAlgorithmStack.get().pop();
     }
 
+    /**
+     * Get the cache of values derived from the state of this algorithm in the
+     * current iteration. The cache is cleared when the algorithm is initialised
+     * and on every iteration, and holds no values while either is in progress.
+     * @return The {@code IterationCache} of this algorithm.
+     */
+    public final IterationCache getIterationCache() {
+        if (iterationCache == null) {
+            iterationCache = new IterationCache();
+        }
+        return iterationCache;
+    }
+
     /**
      * The actual operations that the current {@linkplain Algorithm} performs within a single
      * iteration.
@@ -282,6 +306,74 @@ public abstract class AbstractAlgorithm implements Algorithm, Stoppable {
         return currentAlgorithmStack.get().asList();
     }
 
+    /**
+     * Get the executor on which the algorithms running in the current thread
+     * may calculate fitness values concurrently. The simulator installs the
+     * executor for the duration of each sample. The executor is not passed on
+     * by {@link #inCurrentContext(Callable)}, so that the tasks executing on it
+     * never wait for further tasks on the same executor.
+     * @return The executor, or {@code null} if none is available.
+     */
+    public static ExecutorService getEvaluationExecutor() {
+        return evaluationExecutor.get();
+    }
+
+    /**
+     * Install the executor returned by {@link #getEvaluationExecutor()} for the
+     * current thread.
+     * @param executor The executor to use, or {@code null} to remove it.
+     */
+    public static void setEvaluationExecutor(ExecutorService executor) {
+        if (executor == null) {
+            evaluationExecutor.remove();
+        } else {
+            evaluationExecutor.set(executor);
+        }
+    }
+
+    /**
+     * Wrap the given {@code task} so that it executes within the context of the
+     * algorithms that are currently running in the calling thread. The returned
+     * {@code Callable} may be executed by another thread, in which case
+     * {@link #get()} and the {@link EntityIdFactory} behave as they would have
+     * in the calling thread. If the calling thread draws its seeds from a
+     * {@link SeedSequence}, the task draws its seeds from a sequence derived
+     * when the task is wrapped, so that seeding remains deterministic.
+     * @param <T> The result type of the task.
+     * @param task The task to wrap.
+     * @return A {@code Callable} executing {@code task} in the current context.
+     */
+    public static <T> Callable<T> inCurrentContext(final Callable<T> task) {
+        final List<Algorithm> algorithms = getAlgorithmList();
+        final AtomicLong idSequence = EntityIdFactory.getSequence();
+        SeedSequence parentSeeds = Seeder.getLocalSequence();
+        final SeedSequence seeds = (parentSeeds == null) ? null : new SeedSequence(parentSeeds.getSeed());
+
+        return new Callable<T>() {
+            @Override
+            public T call() throws Exception {
+                AlgorithmStack stack = currentAlgorithmStack.get();
+                AtomicLong previousSequence = EntityIdFactory.getSequence();
+                SeedSequence previousSeeds = Seeder.getLocalSequence();
+                for (Algorithm algorithm : algorithms) {
+                    stack.push(algorithm);
+                }
+                EntityIdFactory.setSequence(idSequence);
+                Seeder.setLocalSequence(seeds);
+
+                try {
+                    return task.call();
+                } finally {
+                    for (int i = 0; i < algorithms.size(); i++) {
+                        stack.pop();
+                    }
+                    EntityIdFactory.setSequence(previousSequence);
+                    Seeder.setLocalSequence(previousSeeds);
+                }
+            }
+        };
+    }
+
     /**
      * Get the current list of {@linkplain StoppingCondition} instances that are
      * associated with the current {@linkplain Algorithm}.
@@ -0,0 +1,90 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.algorithm;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Values derived from the state of an {@linkplain AbstractAlgorithm} that remain
+ * valid until the algorithm is initialised or advances to the next iteration,
+ * at which point the cache is cleared. Expensive queries that are made several
+ * times per iteration, by stopping conditions, measurements and progress
+ * reports, are therefore computed only once.
+ * <p>
+ * Nothing is cached while the algorithm is being initialised or is performing
+ * an iteration, as the population changes during these steps. Code that changes
+ * the population between iterations, such as the reinitialisation of a
+ * sub-swarm, must {@linkplain #clear() clear} the cache. The cache is confined
+ * to the thread that executes the algorithm.
+ */
+public final class IterationCache {
+
+    private final Map<Object, Object> values = new HashMap<Object, Object>();
+    private boolean suspended;
+
+    IterationCache() {
+    }
+
+    /**
+     * Get the value cached for the given key in the current iteration.
+     * @param key The key of the value.
+     * @return The value, or {@code null} if no value is cached.
+     */
+    public Object get(Object key) {
+        return suspended ? null : values.get(key);
+    }
+
+    /**
+     * Cache a value for the remainder of the current iteration.
+     * @param key The key of the value.
+     * @param value The value to cache.
+     */
+    public void put(Object key, Object value) {
+        if (!suspended) {
+            values.put(key, value);
+        }
+    }
+
+    /**
+     * Discard all the cached values.
+     */
+    public void clear() {
+        values.clear();
+    }
+
+    /**
+     * Discard all the cached values and stop caching, while the state of the
+     * algorithm is changed.
+     */
+    void suspend() {
+        values.clear();
+        suspended = true;
+    }
+
+    /**
+     * Resume caching once the state of the algorithm is consistent again.
+     */
+    void resume() {
+        suspended = false;
+    }
+}
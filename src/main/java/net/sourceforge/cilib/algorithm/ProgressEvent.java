@@ -23,17 +23,37 @@ package net.sourceforge.cilib.algorithm;
 
 /**
  * A progress event informs the listening party about the percentage complete of the simulation.
+ * The event may also carry the number of iterations and fitness evaluations that have
+ * been performed for each simulation, from which listeners may derive execution rates.
  *
  * @author  Edwin Peer
  */
 public class ProgressEvent {
 
+    private static final long[] NONE = new long[0];
+    private final double percentage;
+    private final long[] iterations;
+    private final long[] fitnessEvaluations;
+
     /**
      * Creates a new instance of ProgressEvent with a given completion percentage.
      * @param percentage The current percentage value.
      */
     public ProgressEvent(double percentage) {
+        this(percentage, NONE, NONE);
+    }
+
+    /**
+     * Creates a new instance of ProgressEvent with a given completion percentage
+     * and the work performed for each simulation.
+     * @param percentage The current percentage value.
+     * @param iterations The total number of iterations performed, per simulation.
+     * @param fitnessEvaluations The total number of fitness evaluations performed, per simulation.
+     */
+    public ProgressEvent(double percentage, long[] iterations, long[] fitnessEvaluations) {
         this.percentage = percentage;
+        this.iterations = iterations.clone();
+        this.fitnessEvaluations = fitnessEvaluations.clone();
     }
 
     /**
@@ -44,5 +64,19 @@ public class ProgressEvent {
         return percentage;
     }
 
-    private double percentage;
+    /**
+     * Accessor for the total number of iterations performed, per simulation.
+     * @return The iterations, which is empty if the work is not known.
+     */
+    public long[] getIterations() {
+        return iterations.clone();
+    }
+
+    /**
+     * Accessor for the total number of fitness evaluations performed, per simulation.
+     * @return The fitness evaluations, which is empty if the work is not known.
+     */
+    public long[] getFitnessEvaluations() {
+        return fitnessEvaluations.clone();
+    }
 }
@@ -0,0 +1,175 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.algorithm.population;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.Topology;
+import net.sourceforge.cilib.entity.comparator.AscendingFitnessComparator;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * Queries on the population of a {@linkplain PopulationBasedAlgorithm} that
+ * are shared by the stopping conditions, measurements and strategies that need
+ * them. When the algorithm is an {@linkplain AbstractAlgorithm}, each result is
+ * computed at most once per iteration and is kept in the
+ * {@linkplain AbstractAlgorithm#getIterationCache() iteration cache} of the
+ * algorithm.
+ */
+public final class Populations {
+
+    private static final Object CENTROID = new Object();
+    private static final Object FITNESS_MOMENTS = new Object();
+
+    private Populations() {
+        throw new UnsupportedOperationException("Cannot instantiate.");
+    }
+
+    /**
+     * Get the most fit entity in the topology of the given algorithm, as
+     * determined by an {@link AscendingFitnessComparator}.
+     * @param <E> The {@code Entity} type.
+     * @param algorithm The algorithm.
+     * @return The best entity.
+     */
+    public static <E extends Entity> E bestEntity(PopulationBasedAlgorithm algorithm) {
+        return Populations.<E>bestEntity(algorithm, new AscendingFitnessComparator<E>());
+    }
+
+    /**
+     * Get the best entity in the topology of the given algorithm, based on the
+     * provided {@code Comparator}. The result is shared between comparators of
+     * the same class, so the comparator should not have any state.
+     * @param <E> The {@code Entity} type.
+     * @param algorithm The algorithm.
+     * @param comparator The {@code Comparator} to base the selection on.
+     * @return The best entity.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Entity> E bestEntity(PopulationBasedAlgorithm algorithm, Comparator<? super E> comparator) {
+        Object key = Arrays.asList(Populations.class, comparator.getClass());
+        E best = (E) cached(algorithm, key);
+        if (best == null) {
+            best = ((Topology<E>) algorithm.getTopology()).getBestEntity(comparator);
+            cache(algorithm, key, best);
+        }
+        return best;
+    }
+
+    /**
+     * Get the centroid of the candidate solutions of the entities in the
+     * topology of the given algorithm.
+     * @param algorithm The algorithm.
+     * @return A new {@code Vector} that is the mean candidate solution.
+     */
+    public static Vector centroid(PopulationBasedAlgorithm algorithm) {
+        Vector centroid = (Vector) cached(algorithm, CENTROID);
+        if (centroid == null) {
+            centroid = centroid(algorithm.getTopology());
+            cache(algorithm, CENTROID, centroid);
+        }
+        return Vector.copyOf(centroid);
+    }
+
+    /**
+     * Get the mean fitness of the entities in the topology of the given algorithm.
+     * @param algorithm The algorithm.
+     * @return The mean fitness.
+     */
+    public static double fitnessMean(PopulationBasedAlgorithm algorithm) {
+        return fitnessMoments(algorithm)[0];
+    }
+
+    /**
+     * Get the population variance of the fitness of the entities in the
+     * topology of the given algorithm.
+     * @param algorithm The algorithm.
+     * @return The variance of the fitness.
+     */
+    public static double fitnessVariance(PopulationBasedAlgorithm algorithm) {
+        return fitnessMoments(algorithm)[1];
+    }
+
+    private static double[] fitnessMoments(PopulationBasedAlgorithm algorithm) {
+        double[] moments = (double[]) cached(algorithm, FITNESS_MOMENTS);
+        if (moments == null) {
+            moments = fitnessMoments(algorithm.getTopology());
+            cache(algorithm, FITNESS_MOMENTS, moments);
+        }
+        return moments;
+    }
+
+    private static Vector centroid(Topology<? extends Entity> topology) {
+        Iterator<? extends Entity> iterator = topology.iterator();
+        Vector centroid = (Vector) iterator.next().getCandidateSolution().getClone();
+        double[] sum = new double[centroid.size()];
+        for (int j = 0; j < sum.length; j++) {
+            sum[j] = centroid.doubleValueOf(j);
+        }
+
+        while (iterator.hasNext()) {
+            Vector position = (Vector) iterator.next().getCandidateSolution();
+            for (int j = 0; j < sum.length; j++) {
+                sum[j] += position.doubleValueOf(j);
+            }
+        }
+
+        int size = topology.size();
+        for (int j = 0; j < sum.length; j++) {
+            centroid.setReal(j, sum[j] / size);
+        }
+        return centroid;
+    }
+
+    /**
+     * Welford's single pass over the fitness values.
+     */
+    private static double[] fitnessMoments(Topology<? extends Entity> topology) {
+        double mean = 0.0;
+        double m2 = 0.0;
+        int n = 0;
+        for (Entity entity : topology) {
+            double value = entity.getFitness().getValue();
+            n++;
+            double delta = value - mean;
+            mean += delta / n;
+            m2 += delta * (value - mean);
+        }
+        return new double[] {mean, n == 0 ? 0.0 : m2 / n};
+    }
+
+    private static Object cached(PopulationBasedAlgorithm algorithm, Object key) {
+        if (algorithm instanceof AbstractAlgorithm) {
+            return ((AbstractAlgorithm) algorithm).getIterationCache().get(key);
+        }
+        return null;
+    }
+
+    private static void cache(PopulationBasedAlgorithm algorithm, Object key, Object value) {
+        if (algorithm instanceof AbstractAlgorithm) {
+            ((AbstractAlgorithm) algorithm).getIterationCache().put(key, value);
+        }
+    }
+}
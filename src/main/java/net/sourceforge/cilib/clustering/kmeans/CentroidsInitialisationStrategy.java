@@ -40,6 +40,12 @@ import net.sourceforge.cilib.util.Cloneable;
  */
 public interface CentroidsInitialisationStrategy extends Serializable, Cloneable {
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    CentroidsInitialisationStrategy getClone();
+
     /**
      * Initialize the centroid vectors for a clustering. Each centroid is appended to a
      * {@link Vector} that represents all the centroids. This {@link Vector} is then
@@ -0,0 +1,66 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.clustering.kmeans;
+
+import java.io.Serializable;
+
+import net.sourceforge.cilib.problem.ClusteringProblem;
+import net.sourceforge.cilib.problem.dataset.ClusterableDataSet;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.Cloneable;
+
+/**
+ * This strategy determines how the centroids of a {@link KMeans} clustering are moved
+ * during a single iteration. The approaches are:
+ * <ul>
+ * <li>Assign every pattern to its closest centroid and move every centroid to the mean of
+ * its cluster ({@link LloydCentroidsUpdateStrategy});</li>
+ * <li>Do the same, but skip the distance calculations that the triangle inequality
+ * proves to be unnecessary ({@link HamerlyCentroidsUpdateStrategy}); or</li>
+ * <li>Move the centroids towards a small random sample of the patterns
+ * ({@link MiniBatchCentroidsUpdateStrategy}).</li>
+ * </ul>
+ * A strategy may keep state between the iterations of a single clustering, but it may
+ * not assume that the centroids it receives are those that it produced, because
+ * {@link KMeans} reinitialises the centroids of empty clusters.
+ */
+public interface CentroidsUpdateStrategy extends Serializable, Cloneable {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    CentroidsUpdateStrategy getClone();
+
+    /**
+     * Move the centroids, which are stored one after the other in a single {@link Vector},
+     * in place.
+     *
+     * @param problem the {@link ClusteringProblem} currently being optimized
+     * @param dataset the {@link ClusterableDataSet} currently being clustered
+     * @param centroids the {@link Vector} that represents all the centroids
+     * @return the number of patterns that belong to each centroid; {@link KMeans}
+     *         reinitialises the centroids to which no patterns belong
+     */
+    int[] update(ClusteringProblem problem, ClusterableDataSet dataset, Vector centroids);
+
+}
@@ -0,0 +1,239 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.clustering.kmeans;
+
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+
+import net.sourceforge.cilib.problem.ClusteringProblem;
+import net.sourceforge.cilib.problem.dataset.ClusterableDataSet;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.EuclideanDistanceMeasure;
+
+/**
+ * An exact KMeans update that produces the same clusters as the
+ * {@link LloydCentroidsUpdateStrategy}, but skips most of the distance calculations once
+ * the centroids start to settle. Every pattern keeps an upper bound on the distance to
+ * its own centroid and a lower bound on the distance to every other centroid. The bounds
+ * are loosened by the distance that the centroids moved, and a pattern is only compared
+ * with all the centroids when the triangle inequality can no longer prove that it stays
+ * in its cluster.
+ * <p>
+ * This is the algorithm described in:
+ *
+ * @inproceedings{ 2010.Hamerly, title = "Making k-means even faster", author = "Greg
+ *                 Hamerly", year = "2010", booktitle = "Proceedings of the 2010 SIAM
+ *                 International Conference on Data Mining", pages = "130--140"}
+ *
+ * Hamerly's single lower bound per pattern is used, rather than the one lower bound per
+ * pattern and centroid of Elkan's algorithm, so that the memory needed stays linear in
+ * the number of patterns. The bounds rely on the triangle inequality of the Euclidean
+ * distance, which must therefore be the distance measure of the {@link ClusteringProblem}.
+ * <p>
+ * The bounds are an acceleration only: a copy of this strategy starts without them and
+ * assigns every pattern on its first update.
+ */
+public class HamerlyCentroidsUpdateStrategy implements CentroidsUpdateStrategy {
+    private static final long serialVersionUID = -2171609426962372203L;
+
+    private int[] labels;
+    private double[] upper;
+    private double[] lower;
+    private int[] counts;
+    private double[] sums;
+    private double[] previous;
+
+    /**
+     * Create a new instance of {@linkplain HamerlyCentroidsUpdateStrategy}.
+     */
+    public HamerlyCentroidsUpdateStrategy() {
+    }
+
+    /**
+     * Create a copy of the provided instance, without the bounds of its clustering.
+     * @param copy The instance to copy.
+     */
+    public HamerlyCentroidsUpdateStrategy(HamerlyCentroidsUpdateStrategy copy) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HamerlyCentroidsUpdateStrategy getClone() {
+        return new HamerlyCentroidsUpdateStrategy(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] update(ClusteringProblem problem, ClusterableDataSet dataset, Vector centroids) {
+        Preconditions.checkState(problem.getDistanceMeasure().getClass() == EuclideanDistanceMeasure.class,
+                "The triangle inequality bounds require the Euclidean distance measure.");
+        double[] patterns = dataset.getPatternMatrix();
+        int numberOfPatterns = dataset.getNumberOfPatterns();
+        int numberOfClusters = problem.getNumberOfClusters();
+        int dimension = centroids.size() / numberOfClusters;
+
+        double[] current = new double[centroids.size()];
+        for (int i = 0; i < current.length; i++) {
+            current[i] = centroids.doubleValueOf(i);
+        }
+
+        if (labels == null || labels.length != numberOfPatterns || previous.length != current.length) {
+            assignAll(patterns, current, numberOfPatterns, numberOfClusters, dimension);
+        } else {
+            loosenBounds(current, numberOfClusters, dimension);
+            reassign(patterns, current, numberOfPatterns, numberOfClusters, dimension);
+        }
+        previous = current;
+
+        for (int j = 0; j < numberOfClusters; j++) {
+            if (counts[j] > 0) {
+                for (int k = 0, offset = j * dimension; k < dimension; k++) {
+                    centroids.setReal(offset + k, sums[offset + k] / counts[j]);
+                }
+            }
+        }
+        return counts.clone();
+    }
+
+    /**
+     * Assign every pattern to its closest centroid and determine its bounds from scratch.
+     */
+    private void assignAll(double[] patterns, double[] current, int numberOfPatterns, int numberOfClusters, int dimension) {
+        labels = new int[numberOfPatterns];
+        upper = new double[numberOfPatterns];
+        lower = new double[numberOfPatterns];
+        counts = new int[numberOfClusters];
+        sums = new double[numberOfClusters * dimension];
+
+        for (int i = 0; i < numberOfPatterns; i++) {
+            int closest = closest(patterns, i, current, numberOfClusters, dimension);
+            labels[i] = closest;
+            counts[closest]++;
+            for (int k = 0, offset = i * dimension, sum = closest * dimension; k < dimension; k++) {
+                sums[sum + k] += patterns[offset + k];
+            }
+        }
+    }
+
+    /**
+     * Loosen the bounds of every pattern by the distances that the centroids moved since
+     * the previous update.
+     */
+    private void loosenBounds(double[] current, int numberOfClusters, int dimension) {
+        double[] shift = new double[numberOfClusters];
+        int furthest = 0;
+        for (int j = 0; j < numberOfClusters; j++) {
+            shift[j] = Math.sqrt(squaredDistance(current, j * dimension, previous, j * dimension, dimension));
+            if (shift[j] > shift[furthest]) {
+                furthest = j;
+            }
+        }
+        double secondFurthest = 0.0;
+        for (int j = 0; j < numberOfClusters; j++) {
+            if (j != furthest) {
+                secondFurthest = Math.max(secondFurthest, shift[j]);
+            }
+        }
+
+        for (int i = 0; i < labels.length; i++) {
+            upper[i] += shift[labels[i]];
+            lower[i] -= labels[i] == furthest ? secondFurthest : shift[furthest];
+        }
+    }
+
+    /**
+     * Reassign the patterns whose bounds no longer prove that they are closest to their
+     * own centroid, moving them between the counts and sums of the clusters.
+     */
+    private void reassign(double[] patterns, double[] current, int numberOfPatterns, int numberOfClusters, int dimension) {
+        // half the distance from every centroid to its closest neighbour
+        double[] separation = new double[numberOfClusters];
+        Arrays.fill(separation, Double.POSITIVE_INFINITY);
+        for (int j = 0; j < numberOfClusters; j++) {
+            for (int l = j + 1; l < numberOfClusters; l++) {
+                double distance = 0.5 * Math.sqrt(squaredDistance(current, j * dimension, current, l * dimension, dimension));
+                separation[j] = Math.min(separation[j], distance);
+                separation[l] = Math.min(separation[l], distance);
+            }
+        }
+
+        for (int i = 0; i < numberOfPatterns; i++) {
+            int label = labels[i];
+            double bound = Math.max(separation[label], lower[i]);
+            if (upper[i] <= bound) {
+                continue;
+            }
+            upper[i] = Math.sqrt(squaredDistance(patterns, i * dimension, current, label * dimension, dimension));
+            if (upper[i] <= bound) {
+                continue;
+            }
+
+            int closest = closest(patterns, i, current, numberOfClusters, dimension);
+            if (closest != label) {
+                labels[i] = closest;
+                counts[label]--;
+                counts[closest]++;
+                for (int k = 0, offset = i * dimension; k < dimension; k++) {
+                    sums[label * dimension + k] -= patterns[offset + k];
+                    sums[closest * dimension + k] += patterns[offset + k];
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the closest centroid of pattern {@code i}, setting its upper bound to the
+     * distance to that centroid and its lower bound to the distance to the second closest.
+     */
+    private int closest(double[] patterns, int i, double[] current, int numberOfClusters, int dimension) {
+        int closest = 0;
+        double minimum = Double.POSITIVE_INFINITY;
+        double second = Double.POSITIVE_INFINITY;
+
+        for (int j = 0; j < numberOfClusters; j++) {
+            double distance = squaredDistance(patterns, i * dimension, current, j * dimension, dimension);
+            if (distance < minimum) {
+                second = minimum;
+                minimum = distance;
+                closest = j;
+            } else if (distance < second) {
+                second = distance;
+            }
+        }
+        upper[i] = Math.sqrt(minimum);
+        lower[i] = Math.sqrt(second);
+        return closest;
+    }
+
+    private static double squaredDistance(double[] x, int xOffset, double[] y, int yOffset, int dimension) {
+        double distance = 0.0;
+        for (int k = 0; k < dimension; k++) {
+            double difference = x[xOffset + k] - y[yOffset + k];
+            distance += difference * difference;
+        }
+        return distance;
+    }
+}
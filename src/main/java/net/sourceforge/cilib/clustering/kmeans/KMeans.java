@@ -21,20 +21,14 @@
  */
 package net.sourceforge.cilib.clustering.kmeans;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Hashtable;
 import java.util.List;
 
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.algorithm.SingularAlgorithm;
-import net.sourceforge.cilib.math.Stats;
 import net.sourceforge.cilib.problem.OptimisationSolution;
-import net.sourceforge.cilib.problem.dataset.ClusterableDataSet.Pattern;
 import net.sourceforge.cilib.type.types.container.Vector;
 import net.sourceforge.cilib.util.ClusteringUtils;
-import net.sourceforge.cilib.util.calculator.FitnessCalculator;
-import net.sourceforge.cilib.util.calculator.StructuredTypeFitnessCalculator;
 
 /**
  * This algorithm is an implementation of the KMeans Clustering algorithm.
@@ -51,24 +45,27 @@ import net.sourceforge.cilib.util.calculator.StructuredTypeFitnessCalculator;
  *
  * This class makes use of a {@link CentroidsInitialisationStrategy} to initialise the
  * centroids in the desired manner. The default centroid initialisation strategy is the
- * {@link RandomCentroidsInitialisationStrategy}.
+ * {@link RandomCentroidsInitialisationStrategy}. The centroids are moved in every iteration by
+ * a {@link CentroidsUpdateStrategy}. The default is the standard
+ * {@link LloydCentroidsUpdateStrategy}; the {@link HamerlyCentroidsUpdateStrategy} finds the
+ * same clusters with fewer distance calculations and the
+ * {@link MiniBatchCentroidsUpdateStrategy} approximates them for very large datasets.
  *
  * @author Theuns Cloete
- * @TODO: Check that removing the FitnessCalculator does not break the functionality of this class.
  */
 public class KMeans extends AbstractAlgorithm implements SingularAlgorithm {
     private static final long serialVersionUID = -3301123926538450441L;
 
     private CentroidsInitialisationStrategy centroidsInitialisationStrategy = null;
+    private CentroidsUpdateStrategy centroidsUpdateStrategy = null;
     private Vector centroids = null;
-    private FitnessCalculator<Vector> calculator;
 
     /**
      * Create an instance of {@linkplain KMeans}.
      */
     public KMeans() {
-        calculator = new StructuredTypeFitnessCalculator<Vector>();
         centroidsInitialisationStrategy = new RandomCentroidsInitialisationStrategy();
+        centroidsUpdateStrategy = new LloydCentroidsUpdateStrategy();
     }
 
     /**
@@ -77,8 +74,9 @@ public class KMeans extends AbstractAlgorithm implements SingularAlgorithm {
      */
     public KMeans(KMeans copy) {
         super(copy);
-        centroids = copy.centroids.getClone();
-        calculator = copy.calculator.getClone();
+        centroidsInitialisationStrategy = copy.centroidsInitialisationStrategy.getClone();
+        centroidsUpdateStrategy = copy.centroidsUpdateStrategy.getClone();
+        centroids = copy.centroids == null ? null : copy.centroids.getClone();
     }
 
     /**
@@ -105,40 +103,19 @@ public class KMeans extends AbstractAlgorithm implements SingularAlgorithm {
      */
     @Override
     public void algorithmIteration() {
-        calculator.getFitness(centroids);
-
-        // the fitness calculation step already arranged the clusters and centroids for us
         ClusteringUtils helper = ClusteringUtils.get();
-        ArrayList<Hashtable<Integer, Pattern>> clusters = helper.getOriginalClusters();
-
-        for (int i = 0; i < clusters.size(); i++) {
-            Hashtable<Integer, Pattern> cluster = clusters.get(i);
-            // get the i'th centroid; only used to determine the dimension of a single centroid
-            Vector centroid = helper.getOriginalCentroids().get(i);
+        int[] counts = centroidsUpdateStrategy.update(helper.getClusteringProblem(), helper.getClusterableDataSet(), centroids);
+        int dimension = centroids.size() / counts.length;
 
+        for (int i = 0; i < counts.length; i++) {
             // TODO: I don't know if this is part of the original KMeans algorithm
-            if (cluster.isEmpty()) {    // reinitialise the centroid if no patterns "belong" to it
-                centroid = reinitialiseCentroid(centroid);
-            }
-            else {                        // the centroid becomes the mean of cluster i
-                centroid = Stats.meanVector(cluster.values());
-            }
-            updateCentroid(centroid, i);
-        }
-    }
-
-    /**
-     * Update the correct centroid inside the {@link #centroids} {@link Vector} with the
-     * contents of the new provided position.
-     * @param newPosition a {@link Vector} representing the new position of the centroid
-     * @param cluster the cluster number that is used to determine the correct position in
-     *        the {@link #centroids} {@link Vector}
-     */
-    private void updateCentroid(Vector newPosition, int cluster) {
-        int dimension = newPosition.size();
+            if (counts[i] == 0) {    // reinitialise the centroid if no patterns "belong" to it
+                Vector centroid = reinitialiseCentroid(dimension);
 
-        for (int i = 0; i < dimension; i++) {
-            centroids.set(cluster * dimension + i, newPosition.get(i));
+                for (int j = 0; j < dimension; j++) {
+                    centroids.set(i * dimension + j, centroid.get(j));
+                }
+            }
         }
     }
 
@@ -147,15 +124,15 @@ public class KMeans extends AbstractAlgorithm implements SingularAlgorithm {
      * The {@link CentroidsInitialisationStrategy} returns an entire centroids {@link Vector},
      * but we only need a single centroid. The given parameter is only used to determine the
      * size of a single centroid.
-     * @param centroid the centroid that should be reinitialised
+     * @param dimension the size of a single centroid
      * @return a {@link Vector} representing a new (reinitialised) centroid
      */
-    private Vector reinitialiseCentroid(Vector centroid) {
+    private Vector reinitialiseCentroid(int dimension) {
         ClusteringUtils helper = ClusteringUtils.get();
         Vector tmp = centroidsInitialisationStrategy.initialise(helper.getClusteringProblem(), helper.getClusterableDataSet());
 
         // this first centroid will do
-        return tmp.copyOfRange(0, centroid.size());
+        return tmp.copyOfRange(0, dimension);
     }
 
     /**
@@ -189,4 +166,20 @@ public class KMeans extends AbstractAlgorithm implements SingularAlgorithm {
     public void setCentroidsInitialisationStrategy(CentroidsInitialisationStrategy centroidsInitialisationStrategy) {
         this.centroidsInitialisationStrategy = centroidsInitialisationStrategy;
     }
+
+    /**
+     * Get the strategy that moves the centroids in every iteration.
+     * @return The current {@linkplain CentroidsUpdateStrategy}.
+     */
+    public CentroidsUpdateStrategy getCentroidsUpdateStrategy() {
+        return centroidsUpdateStrategy;
+    }
+
+    /**
+     * Set the strategy that moves the centroids in every iteration.
+     * @param centroidsUpdateStrategy The value to set.
+     */
+    public void setCentroidsUpdateStrategy(CentroidsUpdateStrategy centroidsUpdateStrategy) {
+        this.centroidsUpdateStrategy = centroidsUpdateStrategy;
+    }
 }
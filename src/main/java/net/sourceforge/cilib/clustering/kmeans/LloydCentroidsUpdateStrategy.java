@@ -0,0 +1,90 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.clustering.kmeans;
+
+import net.sourceforge.cilib.problem.ClusteringProblem;
+import net.sourceforge.cilib.problem.dataset.ClusterableDataSet;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.ClusterAssignment;
+import net.sourceforge.cilib.util.ClusteringUtils;
+import net.sourceforge.cilib.util.calculator.FitnessCalculator;
+import net.sourceforge.cilib.util.calculator.StructuredTypeFitnessCalculator;
+
+/**
+ * The standard (Lloyd) KMeans update: every pattern is assigned to its closest centroid
+ * and every centroid becomes the mean of the patterns that belong to it. The assignment
+ * is done by evaluating the fitness of the centroids, which arranges the clusters through
+ * {@link ClusteringUtils} and is counted as a fitness evaluation.
+ */
+public class LloydCentroidsUpdateStrategy implements CentroidsUpdateStrategy {
+    private static final long serialVersionUID = 5702960164416834126L;
+
+    private FitnessCalculator<Vector> calculator;
+
+    /**
+     * Create a new instance of {@linkplain LloydCentroidsUpdateStrategy}.
+     */
+    public LloydCentroidsUpdateStrategy() {
+        calculator = new StructuredTypeFitnessCalculator<Vector>();
+    }
+
+    /**
+     * Create a copy of the provided instance.
+     * @param copy The instance to copy.
+     */
+    public LloydCentroidsUpdateStrategy(LloydCentroidsUpdateStrategy copy) {
+        calculator = copy.calculator.getClone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LloydCentroidsUpdateStrategy getClone() {
+        return new LloydCentroidsUpdateStrategy(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] update(ClusteringProblem problem, ClusterableDataSet dataset, Vector centroids) {
+        calculator.getFitness(centroids);
+
+        // the fitness calculation step already arranged the clusters and centroids for us
+        ClusterAssignment assignment = ClusteringUtils.get().getAssignment();
+        int numberOfClusters = assignment.getNumberOfClusters();
+        int dimension = centroids.size() / numberOfClusters;
+        int[] counts = new int[numberOfClusters];
+
+        for (int i = 0; i < numberOfClusters; i++) {
+            counts[i] = assignment.getCount(i);
+            if (counts[i] > 0) {        // the centroid becomes the mean of cluster i
+                Vector mean = assignment.getMean(i);
+                for (int j = 0; j < dimension; j++) {
+                    centroids.setReal(i * dimension + j, mean.doubleValueOf(j));
+                }
+            }
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,171 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.clustering.kmeans;
+
+import com.google.common.base.Preconditions;
+
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.math.random.generator.RandomProvider;
+import net.sourceforge.cilib.problem.ClusteringProblem;
+import net.sourceforge.cilib.problem.dataset.ClusterableDataSet;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.EuclideanDistanceMeasure;
+
+/**
+ * A KMeans update that only looks at a small random sample (a mini-batch) of the patterns
+ * in every iteration, so that the cost of an iteration does not depend on the size of the
+ * dataset. Every sampled pattern pulls its closest centroid towards it with a step size
+ * of one over the number of patterns that the centroid has attracted so far, which makes
+ * every centroid the running mean of the patterns that it attracted.
+ * <p>
+ * This is the algorithm described in:
+ *
+ * @inproceedings{ 2010.Sculley, title = "Web-scale k-means clustering", author = "D.
+ *                 Sculley", year = "2010", booktitle = "Proceedings of the 19th
+ *                 International Conference on World Wide Web", pages = "1177--1178"}
+ *
+ * The centroids only approximate those of the {@link LloydCentroidsUpdateStrategy}, and
+ * more iterations are needed. The counts of a centroid are reset when {@link KMeans}
+ * reinitialises it. The running means are Euclidean, which must therefore be the
+ * distance measure of the {@link ClusteringProblem}.
+ */
+public class MiniBatchCentroidsUpdateStrategy implements CentroidsUpdateStrategy {
+    private static final long serialVersionUID = 4465364928154950012L;
+
+    private RandomProvider random;
+    private int batchSize;
+    private int[] counts;
+    private double[] previous;
+
+    /**
+     * Create a new instance of {@linkplain MiniBatchCentroidsUpdateStrategy} with
+     * mini-batches of 100 patterns.
+     */
+    public MiniBatchCentroidsUpdateStrategy() {
+        random = new MersenneTwister();
+        batchSize = 100;
+    }
+
+    /**
+     * Create a copy of the provided instance, without the counts of its clustering.
+     * @param copy The instance to copy.
+     */
+    public MiniBatchCentroidsUpdateStrategy(MiniBatchCentroidsUpdateStrategy copy) {
+        random = new MersenneTwister();
+        batchSize = copy.batchSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MiniBatchCentroidsUpdateStrategy getClone() {
+        return new MiniBatchCentroidsUpdateStrategy(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] update(ClusteringProblem problem, ClusterableDataSet dataset, Vector centroids) {
+        Preconditions.checkState(problem.getDistanceMeasure().getClass() == EuclideanDistanceMeasure.class,
+                "The running means require the Euclidean distance measure.");
+        double[] patterns = dataset.getPatternMatrix();
+        int numberOfPatterns = dataset.getNumberOfPatterns();
+        int numberOfClusters = problem.getNumberOfClusters();
+        int dimension = centroids.size() / numberOfClusters;
+
+        double[] current = new double[centroids.size()];
+        for (int i = 0; i < current.length; i++) {
+            current[i] = centroids.doubleValueOf(i);
+        }
+        if (counts == null || counts.length != numberOfClusters || previous.length != current.length) {
+            counts = new int[numberOfClusters];
+            previous = current.clone();
+        }
+        // a centroid that did not end where it was left has been reinitialised
+        for (int j = 0; j < numberOfClusters; j++) {
+            for (int k = j * dimension; k < (j + 1) * dimension; k++) {
+                if (current[k] != previous[k]) {
+                    counts[j] = 0;
+                    break;
+                }
+            }
+        }
+
+        // the whole batch is assigned before any centroid is moved
+        int[] batch = new int[batchSize];
+        int[] closest = new int[batchSize];
+        for (int b = 0; b < batchSize; b++) {
+            batch[b] = random.nextInt(numberOfPatterns);
+            closest[b] = closest(patterns, batch[b] * dimension, current, numberOfClusters, dimension);
+        }
+        for (int b = 0; b < batchSize; b++) {
+            int centroid = closest[b] * dimension;
+            double step = 1.0 / ++counts[closest[b]];
+            for (int k = 0, offset = batch[b] * dimension; k < dimension; k++) {
+                current[centroid + k] += step * (patterns[offset + k] - current[centroid + k]);
+            }
+        }
+
+        for (int i = 0; i < current.length; i++) {
+            centroids.setReal(i, current[i]);
+        }
+        previous = current;
+        return counts.clone();
+    }
+
+    private static int closest(double[] patterns, int offset, double[] current, int numberOfClusters, int dimension) {
+        int closest = 0;
+        double minimum = Double.POSITIVE_INFINITY;
+
+        for (int j = 0, centroid = 0; j < numberOfClusters; j++, centroid += dimension) {
+            double distance = 0.0;
+            for (int k = 0; k < dimension; k++) {
+                double difference = patterns[offset + k] - current[centroid + k];
+                distance += difference * difference;
+            }
+            if (distance < minimum) {
+                minimum = distance;
+                closest = j;
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Get the number of patterns that are sampled in every iteration.
+     * @return The size of a mini-batch.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Set the number of patterns that are sampled in every iteration.
+     * @param batchSize The size of a mini-batch, which must be positive.
+     */
+    public void setBatchSize(int batchSize) {
+        Preconditions.checkArgument(batchSize > 0, "The batch size must be positive.");
+        this.batchSize = batchSize;
+    }
+}
@@ -21,8 +21,6 @@
  */
 package net.sourceforge.cilib.entity;
 
-import java.util.Map;
-
 import net.sourceforge.cilib.problem.Fitness;
 import net.sourceforge.cilib.type.types.Blackboard;
 import net.sourceforge.cilib.type.types.Type;
@@ -56,11 +54,7 @@ public class CandidateSolutionMixin implements CandidateSolution {
      * @param copy The template object to copy.
      */
     public CandidateSolutionMixin(CandidateSolutionMixin copy) {
-        this.properties = new Blackboard<Enum<?>, Type>();
-
-        for (Map.Entry<Enum<?>, Type> entry : copy.properties.entrySet()) {
-            this.properties.put(entry.getKey(), entry.getValue().getClone());
-        }
+        this.properties = copy.properties.getClone();
     }
 
     /**
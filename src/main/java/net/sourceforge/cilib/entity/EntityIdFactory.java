@@ -48,6 +48,24 @@ public final class EntityIdFactory {
         return instance.getAndIncrement();
     }
 
+    /**
+     * Get the sequence of the current thread. The sequence may be shared with
+     * other threads, using {@link #setSequence(AtomicLong)}, to ensure that the
+     * entities created by worker threads still obtain unique {@code id}s.
+     * @return the sequence of the current thread.
+     */
+    public static AtomicLong getSequence() {
+        return sequence.get();
+    }
+
+    /**
+     * Set the sequence to be used by the current thread.
+     * @param instance the sequence to use.
+     */
+    public static void setSequence(AtomicLong instance) {
+        sequence.set(instance);
+    }
+
     public static void remove() {
         sequence.remove();
     }
@@ -21,24 +21,61 @@
  */
 package net.sourceforge.cilib.entity;
 
+import net.sourceforge.cilib.type.types.Blackboard;
+
 /**
  * The defined types for all properties within {@linkplain Entity} objects.
+ * Each constant occupies a fixed slot within the {@linkplain Blackboard} of
+ * an entity.
  */
-public enum EntityType {
-    CANDIDATE_SOLUTION,
-    FITNESS,
-    STRATEGY_PARAMETERS;
+public enum EntityType implements Blackboard.Slot {
+    CANDIDATE_SOLUTION(0),
+    FITNESS(1),
+    STRATEGY_PARAMETERS(2);
+
+    private final int slot;
+
+    private EntityType(int slot) {
+        this.slot = slot;
+    }
+
+    @Override
+    public int getSlot() {
+        return slot;
+    }
 
     /**
      * {@linkplain Particle} specific constants.
      */
-    public enum Particle {
-        BEST_POSITION,
-        BEST_FITNESS,
-        VELOCITY;
+    public enum Particle implements Blackboard.Slot {
+        BEST_POSITION(3),
+        BEST_FITNESS(4),
+        VELOCITY(5);
+
+        private final int slot;
 
-        public enum Count {
-            PBEST_STAGNATION_COUNTER;
+        private Particle(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public int getSlot() {
+            return slot;
+        }
+
+        public enum Count implements Blackboard.Slot {
+            PBEST_STAGNATION_COUNTER(6);
+
+            private final int slot;
+
+            private Count(int slot) {
+                this.slot = slot;
+            }
+
+            @Override
+            public int getSlot() {
+                return slot;
+            }
         }
     }
 
@@ -46,9 +83,20 @@ public enum EntityType {
      * Coevolution constants... This is probably going to be refactored to another location.
      * TODO: Check this
      */
-    public enum Coevolution { // Not sure about this... has a funky smell to it.
-        DISTANCE,
-        BOARD,
-        POPULATION_ID;
+    public enum Coevolution implements Blackboard.Slot { // Not sure about this... has a funky smell to it.
+        DISTANCE(7),
+        BOARD(8),
+        POPULATION_ID(9);
+
+        private final int slot;
+
+        private Coevolution(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public int getSlot() {
+            return slot;
+        }
     }
 }
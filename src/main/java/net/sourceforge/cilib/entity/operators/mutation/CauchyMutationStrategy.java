@@ -21,14 +21,15 @@
  */
 package net.sourceforge.cilib.entity.operators.mutation;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import java.util.List;
 
 import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.controlparameter.ProportionalControlParameter;
 import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.math.random.CauchyDistribution;
-import net.sourceforge.cilib.math.random.ProbabilityDistributionFuction;
-import net.sourceforge.cilib.type.types.Numeric;
+import net.sourceforge.cilib.type.types.Bounds;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
@@ -41,7 +42,8 @@ public class CauchyMutationStrategy extends MutationStrategy {
     private static final long serialVersionUID = 8576581034467137106L;
     private double location;
     private ControlParameter scaleStrategy;
-    private ProbabilityDistributionFuction cauchy;
+    private CauchyDistribution cauchy;
+    private transient double[] offsets; // scratch space, drawn in bulk per mutated entity
 
     public CauchyMutationStrategy() {
         super();
@@ -74,10 +76,16 @@ public class CauchyMutationStrategy extends MutationStrategy {
             Vector chromosome = (Vector) current.getCandidateSolution();
 
             if (this.getMutationProbability().getParameter() >= this.getRandomDistribution().getRandomNumber()) {
-                for (int i = 0; i < chromosome.size(); i++) {
-                    Numeric element = chromosome.get(i);
-                    double scale = this.scaleStrategy.getParameter(element.getBounds().getLowerBound(), element.getBounds().getUpperBound());
-                    double value = this.getOperatorStrategy().evaluate(chromosome.doubleValueOf(i), this.cauchy.getRandomNumber(this.location, scale));
+                int n = chromosome.size();
+                if (offsets == null || offsets.length != n) {
+                    offsets = new double[n];
+                }
+                this.cauchy.fillCauchy(offsets, 0.0, 1.0);
+                for (int i = 0; i < n; i++) {
+                    Bounds bounds = chromosome.boundsOf(i);
+                    double scale = this.scaleStrategy.getParameter(bounds.getLowerBound(), bounds.getUpperBound());
+                    checkArgument(scale > 0, "The scale must be greater than zero.");
+                    double value = this.getOperatorStrategy().evaluate(chromosome.doubleValueOf(i), this.location + scale * offsets[i]);
 
                     chromosome.setReal(i, value);
                 }
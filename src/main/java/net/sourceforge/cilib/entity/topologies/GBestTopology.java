@@ -24,7 +24,6 @@ package net.sourceforge.cilib.entity.topologies;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
@@ -48,17 +47,17 @@ import net.sourceforge.cilib.entity.Entity;
 public class GBestTopology<E extends Entity> extends AbstractTopology<E> {
     private static final long serialVersionUID = 3190027340582769112L;
 
-    protected LinkedList<E> entities;
+    protected ArrayList<E> entities;
 
     /**
      * Creates a new instance of <code>GBestTopology</code>.
      */
     public GBestTopology() {
-        entities = new LinkedList<E>();
+        entities = new ArrayList<E>();
     }
 
     public GBestTopology(GBestTopology<E> copy) {
-        this.entities = new LinkedList<E>();
+        this.entities = new ArrayList<E>(copy.entities.size());
         for (E entity : copy.entities) {
             entity.reinitialise();
             this.entities.add((E) entity.getClone());
@@ -233,6 +232,58 @@ public class GBestTopology<E extends Entity> extends AbstractTopology<E> {
         public int getIndex();
     }
 
+    /**
+     * Iterator over the neighbourhood of an entity as recorded in a
+     * {@linkplain NeighbourhoodTable}. Each step is a table lookup followed by
+     * an indexed access, so the traversal does not depend on the size of the
+     * topology. Neighbourhoods are read-only, entities are removed through
+     * the topology iterator instead.
+     *
+     * @param <T> The {@linkplain Entity} type.
+     */
+    static class TableNeighbourhoodIterator<T extends Entity> implements IndexedIterator<T> {
+        private final List<T> entities;
+        private final NeighbourhoodTable table;
+        private final int end;
+        private int slot;
+        private int index;
+
+        TableNeighbourhoodIterator(List<T> entities, NeighbourhoodTable table, IndexedIterator<?> iterator) {
+            if (iterator.getIndex() == -1) {
+                throw new IllegalStateException();
+            }
+            this.entities = entities;
+            this.table = table;
+            this.index = iterator.getIndex();
+            this.slot = table.start(index);
+            this.end = table.end(index);
+        }
+
+        @Override
+        public int getIndex() {
+            return index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return slot < end;
+        }
+
+        @Override
+        public T next() {
+            if (slot >= end) {
+                throw new NoSuchElementException();
+            }
+            index = table.neighbour(slot++);
+            return entities.get(index);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Neighbourhoods cannot be modified");
+        }
+    }
+
     private class GBestTopologyIterator<T extends Entity> implements IndexedIterator<T> {
 
         public GBestTopologyIterator(GBestTopology<T> topology) {
@@ -22,7 +22,6 @@
 package net.sourceforge.cilib.entity.topologies;
 
 import java.util.Iterator;
-import java.util.NoSuchElementException;
 
 import net.sourceforge.cilib.entity.Entity;
 
@@ -33,6 +32,7 @@ import net.sourceforge.cilib.entity.Entity;
 public class HypercubeTopology<E extends Entity> extends GBestTopology<E> {
     private static final long serialVersionUID = -8328600903928335004L;
     private int neighbourhoodSize;
+    private transient NeighbourhoodTable neighbourhoods;
 
     public HypercubeTopology() {
         super();
@@ -57,7 +57,11 @@ public class HypercubeTopology<E extends Entity> extends GBestTopology<E> {
      */
     @Override
     public Iterator<E> neighbourhood(Iterator<? extends Entity> iterator) {
-        return new HypercubeNeighbourhoodIterator<E>(this, (IndexedIterator<E>) iterator);
+        int size = size();
+        if (neighbourhoods == null || !neighbourhoods.matches(size, neighbourhoodSize)) {
+            neighbourhoods = NeighbourhoodTable.hypercube(size, neighbourhoodSize);
+        }
+        return new TableNeighbourhoodIterator<E>(entities, neighbourhoods, (IndexedIterator<?>) iterator);
     }
 
     /**
@@ -77,53 +81,4 @@ public class HypercubeTopology<E extends Entity> extends GBestTopology<E> {
     public int getNeighbourhoodSize() {
            return neighbourhoodSize;
     }
-
-    private class HypercubeNeighbourhoodIterator<T extends Entity> implements IndexedIterator<T> {
-        private HypercubeTopology<T> topology;
-        private int index;
-        private int count;
-
-        public HypercubeNeighbourhoodIterator(HypercubeTopology<T> topology, IndexedIterator<T> iterator) {
-            if (iterator.getIndex() == -1) {
-                throw new IllegalStateException();
-            }
-            this.topology = topology;
-            index = iterator.getIndex();
-
-            if (index < 0)
-                index += topology.size();
-
-            count = 0;
-        }
-
-        @Override
-        public int getIndex() {
-            return index;
-        }
-
-        @Override
-        public boolean hasNext() {
-            return (count < topology.getNeighbourhoodSize());
-        }
-
-        @Override
-        public T next() {
-            if (count >= topology.getNeighbourhoodSize()) {
-                throw new NoSuchElementException();
-            }
-            int i = index ^ Double.valueOf(Math.pow(2, count)).intValue();
-            count++;
-
-            return topology.entities.get(i);
-        }
-
-        @Override
-        public void remove() {
-            topology.entities.remove(index);
-            index = index ^ Double.valueOf(Math.pow(2, count)).intValue();
-            if (index < 0) {
-                index += topology.size();
-            }
-        }
-    }
 }
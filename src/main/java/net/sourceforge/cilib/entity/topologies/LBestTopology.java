@@ -22,7 +22,6 @@
 package net.sourceforge.cilib.entity.topologies;
 
 import java.util.Iterator;
-import java.util.NoSuchElementException;
 
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
@@ -45,6 +44,7 @@ public class LBestTopology<E extends Entity> extends GBestTopology<E> {
     private static final long serialVersionUID = 93039445052676571L;
 
     private ControlParameter neighbourhoodSize;
+    private transient NeighbourhoodTable neighbourhoods;
 
     /**
      * Creates a new instance of <code>LBestTopology</code>. The default
@@ -76,13 +76,20 @@ public class LBestTopology<E extends Entity> extends GBestTopology<E> {
     /**
      * Recalculate the {@link #neighbourhoodSize} by updating the
      * {@link ControlParameter} and then construct a new iterator to be returned.
+     * The neighbourhoods are looked up in a table that is only rebuilt when
+     * the size of the topology or of the neighbourhood changes.
      * @param iterator The {@linkplain Iterator} to wrap.
      * @return a new iterator for this topology.
      */
     @Override
     public Iterator<E> neighbourhood(Iterator<? extends Entity> iterator) {
         neighbourhoodSize.updateParameter();
-        return new LBestNeighbourhoodIterator<E>(this, (IndexedIterator<E>) iterator);
+        int size = size();
+        int degree = getNeighbourhoodSize();
+        if (neighbourhoods == null || !neighbourhoods.matches(size, degree)) {
+            neighbourhoods = NeighbourhoodTable.ring(size, degree);
+        }
+        return new TableNeighbourhoodIterator<E>(entities, neighbourhoods, (IndexedIterator<?>) iterator);
     }
 
     /**
@@ -112,55 +119,4 @@ public class LBestTopology<E extends Entity> extends GBestTopology<E> {
 
         return rounded;
     }
-
-    private class LBestNeighbourhoodIterator<T extends Entity> implements IndexedIterator<T> {
-
-        public LBestNeighbourhoodIterator(LBestTopology<T> topology, IndexedIterator<T> iterator) {
-            if (iterator.getIndex() == -1) {
-                throw new IllegalStateException();
-            }
-            this.topology = topology;
-            index = iterator.getIndex() - (topology.getNeighbourhoodSize() / 2) - 1;
-            if (index < 0) {
-                index += topology.size();
-            }
-            count = 0;
-        }
-
-        @Override
-        public int getIndex() {
-            return index;
-        }
-
-        @Override
-        public boolean hasNext() {
-            return (count != topology.getNeighbourhoodSize());
-        }
-
-        @Override
-        public T next() {
-            if (count == topology.getNeighbourhoodSize()) {
-                throw new NoSuchElementException();
-            }
-            ++index;
-            ++count;
-            if (index == topology.size()) {
-               index = 0;
-            }
-            return topology.entities.get(index);
-        }
-
-        @Override
-        public void remove() {
-            topology.entities.remove(index);
-            --index;
-            if (index < 0) {
-                index += topology.size();
-            }
-        }
-
-        private LBestTopology<T> topology;
-        private int index;
-        private int count;
-    }
 }
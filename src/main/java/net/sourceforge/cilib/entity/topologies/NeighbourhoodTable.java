@@ -0,0 +1,133 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.entity.topologies;
+
+/**
+ * Precomputed neighbourhood adjacency of a topology, stored in compressed
+ * sparse row form. The neighbours of the entity at index {@code i} are the
+ * indices {@code neighbours[offsets[i]]} up to (but excluding)
+ * {@code neighbours[offsets[i + 1]]}, in the order the neighbourhood
+ * iterator visits them.
+ * <p>
+ * A table only depends on the shape of the topology, not on the entities it
+ * contains, and is rebuilt by the owning topology when that shape changes.
+ */
+final class NeighbourhoodTable {
+    private final int size;
+    private final int degree;
+    private final int[] offsets;
+    private final int[] neighbours;
+
+    NeighbourhoodTable(int size, int degree, int[] offsets, int[] neighbours) {
+        this.size = size;
+        this.degree = degree;
+        this.offsets = offsets;
+        this.neighbours = neighbours;
+    }
+
+    /**
+     * Create the table for a ring of {@code size} entities, where the
+     * neighbourhood of each entity is the {@code degree} entities centred
+     * around it.
+     * @param size The number of entities.
+     * @param degree The neighbourhood size.
+     * @return The ring table.
+     */
+    static NeighbourhoodTable ring(int size, int degree) {
+        int[] offsets = new int[size + 1];
+        int[] neighbours = new int[size * degree];
+        int slot = 0;
+        for (int i = 0; i < size; i++) {
+            offsets[i] = slot;
+            int index = i - (degree / 2) - 1;
+            if (index < 0) {
+                index += size;
+            }
+            for (int count = 0; count < degree; count++) {
+                ++index;
+                if (index == size) {
+                    index = 0;
+                }
+                neighbours[slot++] = index;
+            }
+        }
+        offsets[size] = slot;
+        return new NeighbourhoodTable(size, degree, offsets, neighbours);
+    }
+
+    /**
+     * Create the table for a hypercube of {@code size} entities, where the
+     * neighbours of an entity are the entities whose indices differ from its
+     * own in exactly one of the lowest {@code degree} bits. Indices outside of
+     * the topology are kept, and will fail when they are looked up.
+     * @param size The number of entities.
+     * @param degree The neighbourhood size.
+     * @return The hypercube table.
+     */
+    static NeighbourhoodTable hypercube(int size, int degree) {
+        int[] offsets = new int[size + 1];
+        int[] neighbours = new int[size * degree];
+        int slot = 0;
+        for (int i = 0; i < size; i++) {
+            offsets[i] = slot;
+            for (int count = 0; count < degree; count++) {
+                neighbours[slot++] = i ^ (int) Math.pow(2, count);
+            }
+        }
+        offsets[size] = slot;
+        return new NeighbourhoodTable(size, degree, offsets, neighbours);
+    }
+
+    /**
+     * Determine whether this table describes a topology of the given shape.
+     * @param size The number of entities.
+     * @param degree The neighbourhood size.
+     * @return {@code true} if the table can be reused, {@code false} otherwise.
+     */
+    boolean matches(int size, int degree) {
+        return this.size == size && this.degree == degree;
+    }
+
+    /**
+     * @param index The index of the entity.
+     * @return The first slot of the neighbourhood of the entity.
+     */
+    int start(int index) {
+        return offsets[index];
+    }
+
+    /**
+     * @param index The index of the entity.
+     * @return The slot after the last slot of the neighbourhood of the entity.
+     */
+    int end(int index) {
+        return offsets[index + 1];
+    }
+
+    /**
+     * @param slot The slot within the table.
+     * @return The index of the neighbour stored in the slot.
+     */
+    int neighbour(int slot) {
+        return neighbours[slot];
+    }
+}
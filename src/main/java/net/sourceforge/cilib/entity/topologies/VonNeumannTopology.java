@@ -51,10 +51,15 @@ import net.sourceforge.cilib.entity.Entity;
 public class VonNeumannTopology<E extends Entity> extends AbstractTopology<E> {
     private static final long serialVersionUID = -4795901403887110994L;
 
-    private enum Direction { CENTER, NORTH, EAST, SOUTH, WEST, DONE };
+    private static final int NEIGHBOURHOOD_SIZE = 5;
+
     private ArrayList<ArrayList<E>> entities;
     private int lastRow;
     private int lastCol;
+    private transient NeighbourhoodTable neighbourhoods;
+    private transient int[] rowOffsets;
+    private transient int[] slotRows;
+    private transient int[] slotCols;
 
     /**
      * Creates a new instance of <code>VonNeumannTopology</code>.
@@ -126,6 +131,7 @@ public class VonNeumannTopology<E extends Entity> extends AbstractTopology<E> {
             entities.add(shortest);
         }
         shortest.add(particle);
+        neighbourhoods = null;
 
         lastRow = entities.size() - 1;
         lastCol = entities.get(lastRow).size() - 1;
@@ -166,6 +172,7 @@ public class VonNeumannTopology<E extends Entity> extends AbstractTopology<E> {
         if (row.size() == 0) {
             entities.remove(x);
         }
+        neighbourhoods = null;
 
         lastRow = entities.size() - 1;
         lastCol = entities.get(lastRow).size() - 1;
@@ -173,6 +180,76 @@ public class VonNeumannTopology<E extends Entity> extends AbstractTopology<E> {
 
 
 
+    /**
+     * Obtain the neighbourhood table of the grid, rebuilding it if the shape
+     * of the grid changed since it was last built. Entities are numbered in
+     * row major order and the neighbours of each entity are stored in the
+     * order center, north, east, south and west.
+     * @return The neighbourhood table.
+     */
+    private NeighbourhoodTable getNeighbourhoods() {
+        if (neighbourhoods != null) {
+            return neighbourhoods;
+        }
+
+        int rows = entities.size();
+        rowOffsets = new int[rows + 1];
+        for (int row = 0; row < rows; row++) {
+            rowOffsets[row + 1] = rowOffsets[row] + entities.get(row).size();
+        }
+
+        int size = rowOffsets[rows];
+        slotRows = new int[size];
+        slotCols = new int[size];
+        int[] offsets = new int[size + 1];
+        int[] neighbours = new int[size * NEIGHBOURHOOD_SIZE];
+        int slot = 0;
+        for (int x = 0; x < rows; x++) {
+            int length = entities.get(x).size();
+            for (int y = 0; y < length; y++) {
+                int index = rowOffsets[x] + y;
+                slotRows[index] = x;
+                slotCols[index] = y;
+                offsets[index] = slot;
+                neighbours[slot++] = index;
+                neighbours[slot++] = north(x, y);
+                neighbours[slot++] = rowOffsets[x] + (y + 1 < length ? y + 1 : 0);
+                neighbours[slot++] = south(x, y);
+                neighbours[slot++] = rowOffsets[x] + (y > 0 ? y - 1 : length - 1);
+            }
+        }
+        offsets[size] = slot;
+
+        neighbourhoods = new NeighbourhoodTable(size, NEIGHBOURHOOD_SIZE, offsets, neighbours);
+        return neighbourhoods;
+    }
+
+    private int north(int x, int y) {
+        int row = x - 1;
+        while (true) {
+            if (row < 0) {
+                row = entities.size() - 1;
+            }
+            if (y < entities.get(row).size()) {
+                return rowOffsets[row] + y;
+            }
+            --row;
+        }
+    }
+
+    private int south(int x, int y) {
+        int row = x + 1;
+        while (true) {
+            if (row >= entities.size()) {
+                row = 0;
+            }
+            if (y < entities.get(row).size()) {
+                return rowOffsets[row] + y;
+            }
+            ++row;
+        }
+    }
+
     private interface MatrixIterator<T extends Entity> extends Iterator<T> {
         public int getRow();
         public int getCol();
@@ -248,94 +325,44 @@ public class VonNeumannTopology<E extends Entity> extends AbstractTopology<E> {
 
     private class VonNeumannNeighbourhoodIterator<T extends Entity> implements MatrixIterator<T> {
 
-        private int x;
-        private int y;
+        private final VonNeumannTopology<T> topology;
+        private final NeighbourhoodTable table;
+        private final int end;
+        private int slot;
         private int row;
         private int col;
-        private Direction index;
-        private VonNeumannTopology<T> topology;
-
 
         public VonNeumannNeighbourhoodIterator(VonNeumannTopology<T> topology, MatrixIterator<T> iterator) {
             if (iterator.getCol() == -1) {
                 throw new IllegalStateException();
             }
             this.topology = topology;
-            row = x = iterator.getRow();
-            col = y = iterator.getCol();
-            index = Direction.CENTER;
+            this.table = topology.getNeighbourhoods();
+            row = iterator.getRow();
+            col = iterator.getCol();
+            int index = topology.rowOffsets[row] + col;
+            slot = table.start(index);
+            end = table.end(index);
         }
 
         /**
          * {@inheritDoc}
          */
         public boolean hasNext() {
-            return (index != Direction.DONE);
+            return slot < end;
         }
 
         /**
          * {@inheritDoc}
          */
         public T next() {
-            switch (index) {
-                case CENTER: {
-                    row = x;
-                    col = y;
-                    break;
-                }
-
-                case NORTH: {
-                    row = x - 1;
-                    col = y;
-                    while (true) {
-                        if (row < 0) {
-                            row = topology.entities.size() - 1;
-                        }
-                        if (col < topology.entities.get(row).size()) {
-                            break;
-                        }
-                        --row;
-                    }
-                    break;
-                }
-
-                case EAST: {
-                    row = x;
-                    col = y + 1;
-                    if (col >= topology.entities.get(row).size()) {
-                        col = 0;
-                    }
-                    break;
-                }
-
-                case SOUTH: {
-                    row = x + 1;
-                    col = y;
-                    while (true) {
-                        if (row >= topology.entities.size()) {
-                            row = 0;
-                        }
-                        if (col < topology.entities.get(row).size()) {
-                            break;
-                        }
-                        ++row;
-                    }
-                    break;
-                }
-
-                case WEST: {
-                    row = x;
-                    col = y - 1;
-                    if (col < 0) {
-                        col = topology.entities.get(row).size() - 1;
-                    }
-                    break;
-                }
-
-                default: throw new NoSuchElementException();
+            if (slot >= end) {
+                throw new NoSuchElementException();
             }
 
-            index = Direction.values()[index.ordinal()+1];
+            int index = table.neighbour(slot++);
+            row = topology.slotRows[index];
+            col = topology.slotCols[index];
             return topology.entities.get(row).get(col);
         }
 
@@ -343,10 +370,7 @@ public class VonNeumannTopology<E extends Entity> extends AbstractTopology<E> {
          * {@inheritDoc}
          */
         public void remove() {
-            topology.remove(row, col);
-            if (index == Direction.CENTER) {
-                index = Direction.DONE;
-            }
+            throw new UnsupportedOperationException("Neighbourhoods cannot be modified");
         }
 
         /**
@@ -409,6 +433,7 @@ public class VonNeumannTopology<E extends Entity> extends AbstractTopology<E> {
      */
     public void clear() {
         this.entities.clear();
+        neighbourhoods = null;
     }
 
 
@@ -0,0 +1,63 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.entity.visitor;
+
+import java.util.Arrays;
+
+/**
+ * Approximate the diameter by the length of the diagonal of the axis-aligned
+ * box that bounds the positions, in {@code O(nd)} time. The approximation
+ * never underestimates: for a diameter {@code D} in {@code d} dimensions the
+ * result lies within {@code [D, sqrt(d) D]}. Stopping conditions based on the
+ * approximation are therefore conservative.
+ */
+public class BoundingBoxDiameterStrategy implements DiameterStrategy {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double diameter(double[] positions, int size, int dimension) {
+        if (size == 0) {
+            return 0.0;
+        }
+        double[] lower = Arrays.copyOf(positions, dimension);
+        double[] upper = Arrays.copyOf(positions, dimension);
+        for (int i = 1; i < size; i++) {
+            for (int k = 0, offset = i * dimension; k < dimension; k++) {
+                double value = positions[offset + k];
+                if (value < lower[k]) {
+                    lower[k] = value;
+                } else if (value > upper[k]) {
+                    upper[k] = value;
+                }
+            }
+        }
+
+        double sum = 0.0;
+        for (int k = 0; k < dimension; k++) {
+            double delta = upper[k] - lower[k];
+            sum += delta * delta;
+        }
+        return Math.sqrt(sum);
+    }
+}
@@ -0,0 +1,40 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.entity.visitor;
+
+/**
+ * Strategy to determine the diameter of a set of positions, being the largest
+ * Euclidean distance between any two of the positions. Implementations may
+ * trade accuracy for speed, in which case the bounds of the error are stated.
+ */
+public interface DiameterStrategy {
+
+    /**
+     * Determine the diameter of the given positions.
+     * @param positions The positions, stored row-major: the {@code j}th element
+     *        of position {@code i} is {@code positions[i * dimension + j]}.
+     * @param size The number of positions.
+     * @param dimension The number of elements in each position.
+     * @return The diameter.
+     */
+    double diameter(double[] positions, int size, int dimension);
+}
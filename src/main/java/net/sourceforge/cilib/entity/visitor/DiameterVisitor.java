@@ -21,19 +21,32 @@
  */
 package net.sourceforge.cilib.entity.visitor;
 
+import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
 import java.util.Iterator;
 
 import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.EuclideanDistanceMeasure;
 
 /**
  * Visitor to determine the size of the diameter of the provided {@linkplain Topology}
  * within the <code>visit</code> method.
+ * <p>
+ * With the default Euclidean distance measure, the diameter is determined by
+ * the {@linkplain DiameterStrategy} of the visitor. When the visitor is accepted
+ * by an algorithm, the diameter is shared through {@link Diameters}, so that it
+ * is computed only once per iteration.
  */
 public class DiameterVisitor extends TopologyVisitor {
     private double distance = -Double.MAX_VALUE;
     private boolean done;
+    private DiameterStrategy strategy;
+
+    public DiameterVisitor() {
+        strategy = new ExactDiameterStrategy();
+    }
 
     /**
      * Obtain the {@code diameter} of the provided {@code Topology}.
@@ -42,16 +55,34 @@ public class DiameterVisitor extends TopologyVisitor {
     @Override
     public void visit(Topology<? extends Entity> topology) {
         done = false;
+
+        if (distanceMeasure.getClass() == EuclideanDistanceMeasure.class) {
+            if (currentAlgorithm != null && currentAlgorithm.getTopology() == topology) {
+                distance = Diameters.of(currentAlgorithm, strategy, getFilter());
+            } else {
+                distance = Diameters.of(topology, strategy, getFilter());
+            }
+            done = true;
+            return;
+        }
+
         double maxDistance = 0.0;
+        Predicate<? super Entity> filter = getFilter();
 
         Iterator<? extends Entity> k1 = topology.iterator();
         while (k1.hasNext()) {
             Entity p1 = (Entity) k1.next();
+            if (!filter.apply(p1)) {
+                continue;
+            }
             Vector position1 = (Vector) p1.getCandidateSolution();
 
             Iterator<? extends Entity> k2 = topology.iterator();
             while (k2.hasNext()) {
                 Entity p2 = (Entity) k2.next();
+                if (!filter.apply(p2)) {
+                    continue;
+                }
                 Vector position2 = (Vector) p2.getCandidateSolution();
 
                 double actualDistance = distanceMeasure.distance(position1, position2);
@@ -64,6 +95,16 @@ public class DiameterVisitor extends TopologyVisitor {
         done = true;
     }
 
+    /**
+     * Get the entities that are considered in the diameter. The returned
+     * {@code Predicate} should be a constant, so that the diameter can be
+     * shared between visitors.
+     * @return The filter of the entities, which accepts all entities.
+     */
+    protected Predicate<? super Entity> getFilter() {
+        return Predicates.alwaysTrue();
+    }
+
     /**
      * Obtain the diameter value for the {@link net.sourceforge.cilib.entity.Topology} of
      * {@code Entity} instances.
@@ -82,4 +123,12 @@ public class DiameterVisitor extends TopologyVisitor {
         return done;
     }
 
+    public DiameterStrategy getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(DiameterStrategy strategy) {
+        this.strategy = strategy;
+    }
+
 }
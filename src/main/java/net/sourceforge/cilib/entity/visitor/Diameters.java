@@ -0,0 +1,109 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.entity.visitor;
+
+import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
+import java.util.Arrays;
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.algorithm.population.PopulationBasedAlgorithm;
+import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.Topology;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * The diameter of a population, being the largest Euclidean distance between
+ * the candidate solutions of any two entities. The diameter of the topology of
+ * an algorithm is computed at most once per iteration for each combination of
+ * {@linkplain DiameterStrategy} and filter, and is shared through the
+ * {@linkplain AbstractAlgorithm#getIterationCache() iteration cache} of the
+ * algorithm by the stopping conditions, measurements and visitors that need it.
+ */
+public final class Diameters {
+
+    private Diameters() {
+        throw new UnsupportedOperationException("Cannot instantiate.");
+    }
+
+    /**
+     * Get the diameter of the topology of the given algorithm.
+     * @param algorithm The algorithm.
+     * @param strategy The strategy used to determine the diameter.
+     * @return The diameter.
+     */
+    public static double of(PopulationBasedAlgorithm algorithm, DiameterStrategy strategy) {
+        return of(algorithm, strategy, Predicates.alwaysTrue());
+    }
+
+    /**
+     * Get the diameter of the entities in the topology of the given algorithm
+     * that satisfy the {@code filter}. The filter should be a constant, so that
+     * the result can be shared.
+     * @param algorithm The algorithm.
+     * @param strategy The strategy used to determine the diameter.
+     * @param filter The entities to consider.
+     * @return The diameter.
+     */
+    public static double of(PopulationBasedAlgorithm algorithm, DiameterStrategy strategy, Predicate<? super Entity> filter) {
+        if (!(algorithm instanceof AbstractAlgorithm)) {
+            return of(algorithm.getTopology(), strategy, filter);
+        }
+
+        Object key = Arrays.asList(Diameters.class, strategy.getClass(), filter);
+        AbstractAlgorithm owner = (AbstractAlgorithm) algorithm;
+        Double diameter = (Double) owner.getIterationCache().get(key);
+        if (diameter == null) {
+            diameter = of(algorithm.getTopology(), strategy, filter);
+            owner.getIterationCache().put(key, diameter);
+        }
+        return diameter;
+    }
+
+    /**
+     * Determine the diameter of the entities in the given topology that satisfy
+     * the {@code filter}, without caching.
+     * @param topology The topology.
+     * @param strategy The strategy used to determine the diameter.
+     * @param filter The entities to consider.
+     * @return The diameter, or {@code 0.0} if no entity is considered.
+     */
+    public static double of(Topology<? extends Entity> topology, DiameterStrategy strategy, Predicate<? super Entity> filter) {
+        double[] positions = null;
+        int size = 0;
+        int dimension = 0;
+        for (Entity entity : topology) {
+            if (!filter.apply(entity)) {
+                continue;
+            }
+            Vector position = (Vector) entity.getCandidateSolution();
+            if (positions == null) {
+                dimension = position.size();
+                positions = new double[topology.size() * dimension];
+            }
+            for (int k = 0, offset = size * dimension; k < dimension; k++) {
+                positions[offset + k] = position.doubleValueOf(k);
+            }
+            size++;
+        }
+        return (size == 0) ? 0.0 : strategy.diameter(positions, size, dimension);
+    }
+}
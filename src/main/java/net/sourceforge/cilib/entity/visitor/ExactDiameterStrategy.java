@@ -0,0 +1,52 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.entity.visitor;
+
+/**
+ * Determine the exact diameter by comparing all the pairs of positions, which
+ * requires {@code O(n^2 d)} time for {@code n} positions of {@code d} dimensions.
+ */
+public class ExactDiameterStrategy implements DiameterStrategy {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double diameter(double[] positions, int size, int dimension) {
+        double max = 0.0;
+        for (int i = 0; i < size; i++) {
+            int a = i * dimension;
+            for (int j = i + 1; j < size; j++) {
+                int b = j * dimension;
+                double sum = 0.0;
+                for (int k = 0; k < dimension; k++) {
+                    double delta = positions[a + k] - positions[b + k];
+                    sum += delta * delta;
+                }
+                if (sum > max) {
+                    max = sum;
+                }
+            }
+        }
+        return Math.sqrt(max);
+    }
+}
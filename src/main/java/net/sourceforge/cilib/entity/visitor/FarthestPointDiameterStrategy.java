@@ -0,0 +1,68 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.entity.visitor;
+
+/**
+ * Approximate the diameter with repeated farthest-point sweeps, in {@code O(nd)}
+ * time per sweep. Starting from the first position, each sweep moves to the
+ * position farthest from the current one, until the distance no longer grows.
+ * The approximation never overestimates: the first sweep finds a distance
+ * {@code r} from a single position, and the diameter {@code D} satisfies
+ * {@code r <= D <= 2r}, so the result lies within {@code [D / 2, D]}. In
+ * practice, the result is usually exact.
+ */
+public class FarthestPointDiameterStrategy implements DiameterStrategy {
+
+    private static final int MAXIMUM_SWEEPS = 8;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double diameter(double[] positions, int size, int dimension) {
+        int current = 0;
+        double best = 0.0;
+        for (int sweep = 0; sweep < MAXIMUM_SWEEPS; sweep++) {
+            int a = current * dimension;
+            int farthest = current;
+            double max = 0.0;
+            for (int j = 0; j < size; j++) {
+                int b = j * dimension;
+                double sum = 0.0;
+                for (int k = 0; k < dimension; k++) {
+                    double delta = positions[a + k] - positions[b + k];
+                    sum += delta * delta;
+                }
+                if (sum > max) {
+                    max = sum;
+                    farthest = j;
+                }
+            }
+            if (max <= best) {
+                break;
+            }
+            best = max;
+            current = farthest;
+        }
+        return Math.sqrt(best);
+    }
+}
@@ -22,8 +22,8 @@
 package net.sourceforge.cilib.functions.clustering;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Hashtable;
+import java.util.List;
 
 import net.sourceforge.cilib.functions.ContinuousFunction;
 import net.sourceforge.cilib.functions.clustering.clustercenterstrategies.ClusterCenterStrategy;
@@ -31,15 +31,20 @@ import net.sourceforge.cilib.functions.clustering.clustercenterstrategies.Cluste
 import net.sourceforge.cilib.problem.ClusteringProblem;
 import net.sourceforge.cilib.problem.dataset.ClusterableDataSet.Pattern;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.ClusterAssignment;
+import net.sourceforge.cilib.util.ClusterStatistics;
 import net.sourceforge.cilib.util.ClusteringUtils;
 
 /**
  * This abstract class defines member variables and member functions that can be used by
  * subclasses to calculate the fitness of a particular clustering in their respective
  * evaluate methods.<br/>This class makes extensive use of the {@link ClusteringUtils}
- * helper class. The {@link #helper} variable is set at the beginning of the
- * {@link #evaluate(Vector)} method so that it can be accessible to the classes that inherit
- * from this one. <br/> This class makes use of a {@link ClusterCenterStrategy} to enable
+ * helper class. The arrangement of the centroids that are being evaluated is kept by the
+ * {@link ClusteringUtils} of the evaluating thread, and is accessible to the classes that
+ * inherit from this one via {@link #getHelper()}, {@link #getAssignment()},
+ * {@link #getArrangedCentroids()} and {@link #getClustersFormed()}, so that the same
+ * function can evaluate several solutions at once. <br/> This class makes use of a
+ * {@link ClusterCenterStrategy} to enable
  * the user of this class to specify what is meant by the <i>center</i> of a cluster,
  * because sometimes the <i>centroid</i> is used and other times the <i>mean</i> is used.
  * By default, the cluster center is interpreted as the cluster centroid.
@@ -49,10 +54,39 @@ import net.sourceforge.cilib.util.ClusteringUtils;
 public abstract class ClusteringFitnessFunction implements ContinuousFunction {
     private static final long serialVersionUID = 4834673666638644106L;
 
+    /**
+     * @deprecated Use {@link #getHelper()}. The field is only set for subclasses that
+     * {@linkplain #usesMemberFields() use the member fields}.
+     */
+    @Deprecated
     protected ClusteringUtils helper = null;
     protected ClusterCenterStrategy clusterCenterStrategy = null;
+    /**
+     * @deprecated Use {@link #getAssignment()}. The field is only set for subclasses that
+     * {@linkplain #usesMemberFields() use the member fields}.
+     */
+    @Deprecated
+    protected ClusterAssignment assignment = null;
+    /**
+     * The clusters that contain at least one pattern.
+     *
+     * @deprecated Use {@link #getArrangedClusters()}, which only builds the clusters when
+     * they are needed. The field is only set for subclasses that
+     * {@linkplain #usesMemberFields() use the member fields}.
+     */
+    @Deprecated
     protected ArrayList<Hashtable<Integer, Pattern>> arrangedClusters = null;
+    /**
+     * @deprecated Use {@link #getArrangedCentroids()}. The field is only set for subclasses
+     * that {@linkplain #usesMemberFields() use the member fields}.
+     */
+    @Deprecated
     protected ArrayList<Vector> arrangedCentroids = null;
+    /**
+     * @deprecated Use {@link #getClustersFormed()}. The field is only set for subclasses
+     * that {@linkplain #usesMemberFields() use the member fields}.
+     */
+    @Deprecated
     protected int clustersFormed = 0;
 
     /**
@@ -73,10 +107,8 @@ public abstract class ClusteringFitnessFunction implements ContinuousFunction {
      * {@link ClusteringUtils#arrangeClustersAndCentroids(Vector)} method. We also assume
      * that this method removes empty clusters and their associated centroids from the
      * <i>arranged lists</i></li>
-     * <li>Sets the {@link #arrangedClusters} member variable which is available to
-     * sub-classes.</li>
-     * <li>Sets the {@link #arrangedCentroids} member variable which is available to
-     * sub-classes.</li>
+     * <li>Sets the deprecated member variables, but only if the subclass
+     * {@linkplain #usesMemberFields() uses them}.</li>
      * <li>Calculate the fitness using the given centroids {@linkplain Vector}. We don't
      * care how this is done, since it is handled by the abstraction (polymorphism) created
      * by the hierarchy of this class. This is achieved via the abstact
@@ -84,35 +116,110 @@ public abstract class ClusteringFitnessFunction implements ContinuousFunction {
      * <li>Validate the fitness, i.e. make sure the fitness is positive
      * <code>&gt;= 0.0</code>.</li>
      * </ol>
-     * Steps 1 - 3 have to be performed before the fitness is calculated, using the given
-     * <tt>centroids</tt> {@linkplain Vector}, in step 4.
+     * Steps 1 - 2 have to be performed before the fitness is calculated, using the given
+     * <tt>centroids</tt> {@linkplain Vector}, in step 3.
      *
      * @param centroids The {@link Vector} representing the centroid vectors
      * @return the fitness that has been calculated
      */
     @Override
     public Double apply(Vector centroids) {
-        helper = ClusteringUtils.get();    //this statement should not be in a constructor
-        helper.arrangeClustersAndCentroids(centroids);
-        arrangedClusters = helper.getArrangedClusters();
-        arrangedCentroids = helper.getArrangedCentroids();
-
-        clustersFormed = arrangedClusters.size();
+        ClusteringUtils utils = getHelper();
+        utils.arrangeClustersAndCentroids(centroids);
+        int formed = utils.getAssignment().getClustersFormed();
+
+        if (usesMemberFields()) {
+            helper = utils;
+            assignment = utils.getAssignment();
+            arrangedCentroids = utils.getArrangedCentroids();
+            arrangedClusters = utils.getArrangedClusters();
+            clustersFormed = formed;
+        }
 
         /*
          * TODO: Figure out a nice OO way to determine whether this function is being
          * optimised as a FunctionMinimisationProblem or FunctionMaximisationProblem and then
          * return the appropriate value
          */
-        if (clustersFormed < 2) {
+        if (formed < 2) {
             return worstFitness();
         }
 
         return validateFitness(calculateFitness());
     }
 
+    /**
+     * Whether the deprecated member fields, such as {@link #clustersFormed}, should be set
+     * before {@link #calculateFitness()} is called. Subclasses that still read the fields
+     * override this method to return {@code true}, but then the function should not evaluate
+     * more than one solution at a time.
+     *
+     * @return {@code false}, the fields are not set by default.
+     */
+    protected boolean usesMemberFields() {
+        return false;
+    }
+
     public abstract double calculateFitness();
 
+    /**
+     * Get the {@link ClusteringUtils} of the current thread, which keeps the arrangement of
+     * the centroids that are being evaluated.
+     *
+     * @return the current {@link ClusteringUtils}
+     */
+    protected ClusteringUtils getHelper() {
+        return ClusteringUtils.get();
+    }
+
+    /**
+     * Get the assignment of the patterns to the centroids that are being evaluated.
+     *
+     * @return the current {@link ClusterAssignment}
+     */
+    protected ClusterAssignment getAssignment() {
+        return getHelper().getAssignment();
+    }
+
+    /**
+     * Get the centroids of the clusters that contain at least one pattern.
+     *
+     * @return the arranged centroids
+     */
+    protected ArrayList<Vector> getArrangedCentroids() {
+        return getHelper().getArrangedCentroids();
+    }
+
+    /**
+     * Get the number of clusters that contain at least one pattern.
+     *
+     * @return the number of clusters formed
+     */
+    protected int getClustersFormed() {
+        return getAssignment().getClustersFormed();
+    }
+
+    /**
+     * Get the clusters that contain at least one pattern, mapping the indices of the
+     * patterns to the patterns. The clusters are built from the {@link #getAssignment()
+     * assignment} the first time they are requested for an arrangement.
+     *
+     * @return the arranged clusters
+     */
+    protected ArrayList<Hashtable<Integer, Pattern>> getArrangedClusters() {
+        return getHelper().getArrangedClusters();
+    }
+
+    /**
+     * Get the statistics of the clusters of the current arrangement, which are shared with
+     * the other fitness functions that evaluate the same centroids.
+     *
+     * @return the {@link ClusterStatistics} of the arranged clusters
+     */
+    protected ClusterStatistics getStatistics() {
+        return getHelper().getClusterStatistics();
+    }
+
     /**
      * Calculate the Quantisation Error.
      *
@@ -127,19 +234,13 @@ public abstract class ClusteringFitnessFunction implements ContinuousFunction {
      */
     public double calculateQuantisationError() {
         double quantisationError = 0.0;
+        ClusterStatistics statistics = getStatistics();
+        int formed = getClustersFormed();
 
-        for (int i = 0; i < clustersFormed; i++) {
-            double averageDistance = 0.0;
-            Collection<Pattern> cluster = arrangedClusters.get(i).values();
-            Vector center = clusterCenterStrategy.getCenter(i);
-
-            for (Pattern pattern : cluster) {
-                averageDistance += helper.calculateDistance(pattern.data, center);
-            }
-            averageDistance /= cluster.size();
-            quantisationError += averageDistance;
+        for (int i = 0; i < formed; i++) {
+            quantisationError += statistics.getDistanceSum(clusterCenterStrategy, i) / statistics.getSize(i);
         }
-        quantisationError /= clustersFormed;
+        quantisationError /= formed;
         return quantisationError;
     }
 
@@ -160,16 +261,11 @@ public abstract class ClusteringFitnessFunction implements ContinuousFunction {
      */
     public double calculateMaximumAverageDistance() {
         double maximumAverageDistance = 0.0;
+        ClusterStatistics statistics = getStatistics();
+        int formed = getClustersFormed();
 
-        for (int i = 0; i < clustersFormed; i++) {
-            double averageDistance = 0.0;
-            Collection<Pattern> cluster = arrangedClusters.get(i).values();
-            Vector center = clusterCenterStrategy.getCenter(i);
-
-            for (Pattern pattern : cluster) {
-                averageDistance += helper.calculateDistance(pattern.data, center);
-            }
-            averageDistance /= cluster.size();
+        for (int i = 0; i < formed; i++) {
+            double averageDistance = statistics.getDistanceSum(clusterCenterStrategy, i) / statistics.getSize(i);
             maximumAverageDistance = Math.max(maximumAverageDistance, averageDistance);
         }
         return maximumAverageDistance;
@@ -183,12 +279,15 @@ public abstract class ClusteringFitnessFunction implements ContinuousFunction {
      */
     public double calculateMinimumInterClusterDistance() {
         double minimumInterClusterDistance = Double.MAX_VALUE;
-
-        for (int i = 0; i < clustersFormed - 1; i++) {
-            Vector leftCenter = clusterCenterStrategy.getCenter(i);
-            for (int j = i + 1; j < clustersFormed; j++) {
-                Vector rightCenter = clusterCenterStrategy.getCenter(j);
-                minimumInterClusterDistance = Math.min(minimumInterClusterDistance, helper.calculateDistance(leftCenter, rightCenter));
+        ClusterStatistics statistics = getStatistics();
+        int formed = getClustersFormed();
+        ClusteringUtils utils = getHelper();
+
+        for (int i = 0; i < formed - 1; i++) {
+            Vector leftCenter = statistics.getCenter(clusterCenterStrategy, i);
+            for (int j = i + 1; j < formed; j++) {
+                Vector rightCenter = statistics.getCenter(clusterCenterStrategy, j);
+                minimumInterClusterDistance = Math.min(minimumInterClusterDistance, utils.calculateDistance(leftCenter, rightCenter));
             }
         }
         return minimumInterClusterDistance;
@@ -202,12 +301,15 @@ public abstract class ClusteringFitnessFunction implements ContinuousFunction {
      */
     public double calculateMaximumInterClusterDistance() {
         double maximumInterClusterDistance = -Double.MAX_VALUE;
-
-        for (int i = 0; i < clustersFormed - 1; i++) {
-            Vector leftCenter = clusterCenterStrategy.getCenter(i);
-            for (int j = i + 1; j < clustersFormed; j++) {
-                Vector rightCenter = clusterCenterStrategy.getCenter(j);
-                maximumInterClusterDistance = Math.max(maximumInterClusterDistance, helper.calculateDistance(leftCenter, rightCenter));
+        ClusterStatistics statistics = getStatistics();
+        int formed = getClustersFormed();
+        ClusteringUtils utils = getHelper();
+
+        for (int i = 0; i < formed - 1; i++) {
+            Vector leftCenter = statistics.getCenter(clusterCenterStrategy, i);
+            for (int j = i + 1; j < formed; j++) {
+                Vector rightCenter = statistics.getCenter(clusterCenterStrategy, j);
+                maximumInterClusterDistance = Math.max(maximumInterClusterDistance, utils.calculateDistance(leftCenter, rightCenter));
             }
         }
         return maximumInterClusterDistance;
@@ -228,14 +330,7 @@ public abstract class ClusteringFitnessFunction implements ContinuousFunction {
      * @return the shortest distance between the patterns of two clusters (sets)
      */
     public double calculateMinimumSetDistance(int i, int j) {
-        double distance = Double.MAX_VALUE;
-
-        for (int leftPatternIndex : arrangedClusters.get(i).keySet()) {
-            for (int rightPatternIndex : arrangedClusters.get(j).keySet()) {
-                distance = Math.min(distance, helper.calculateDistance(leftPatternIndex, rightPatternIndex));
-            }
-        }
-        return distance;
+        return getStatistics().getMinimumSetDistance(i, j);
     }
 
     /**
@@ -252,14 +347,7 @@ public abstract class ClusteringFitnessFunction implements ContinuousFunction {
      * @return the longest distance between the patterns of two clusters (sets).
      */
     public double calculateMaximumSetDistance(int i, int j) {
-        double distance = -Double.MAX_VALUE;
-
-        for (int leftPatternIndex : arrangedClusters.get(i).keySet()) {
-            for (int rightPatternIndex : arrangedClusters.get(j).keySet()) {
-                distance = Math.max(distance, helper.calculateDistance(leftPatternIndex, rightPatternIndex));
-            }
-        }
-        return distance;
+        return getStatistics().getMaximumSetDistance(i, j);
     }
 
     /**
@@ -277,14 +365,7 @@ public abstract class ClusteringFitnessFunction implements ContinuousFunction {
      * @return the average distance between the patterns of two clusters (sets).
      */
     public double calculateAverageSetDistance(int i, int j) {
-        double distance = 0.0;
-
-        for (int leftPatternIndex : arrangedClusters.get(i).keySet()) {
-            for (int rightPatternIndex : arrangedClusters.get(j).keySet()) {
-                distance += helper.calculateDistance(leftPatternIndex, rightPatternIndex);
-            }
-        }
-        return distance / (arrangedClusters.get(i).size() * arrangedClusters.get(j).size());
+        return getStatistics().getAverageSetDistance(i, j);
     }
 
     /**
@@ -296,20 +377,7 @@ public abstract class ClusteringFitnessFunction implements ContinuousFunction {
      * @return the diameter of the given cluster.
      */
     public double calculateClusterDiameter(int k) {
-        double diameter = 0.0;
-        Collection<Integer> indices = arrangedClusters.get(k).keySet();
-
-        for (int leftPatternIndex : indices) {
-            for (int rightPatternIndex : indices) {
-                if (leftPatternIndex == rightPatternIndex) {
-                    continue;
-                }
-                else {
-                    diameter = Math.max(diameter, helper.calculateDistance(leftPatternIndex, rightPatternIndex));
-                }
-            }
-        }
-        return diameter;
+        return getStatistics().getDiameter(k);
     }
 
     /**
@@ -326,14 +394,11 @@ public abstract class ClusteringFitnessFunction implements ContinuousFunction {
      */
     public double calculateIntraClusterDistance() {
         double intraClusterDistance = 0.0;
+        ClusterStatistics statistics = getStatistics();
+        int formed = getClustersFormed();
 
-        for (int i = 0; i < clustersFormed; i++) {
-            Collection<Pattern> cluster = arrangedClusters.get(i).values();
-            Vector center = clusterCenterStrategy.getCenter(i);
-
-            for (Pattern pattern : cluster) {
-                intraClusterDistance += helper.calculateDistance(pattern.data, center);
-            }
+        for (int i = 0; i < formed; i++) {
+            intraClusterDistance += statistics.getDistanceSum(clusterCenterStrategy, i);
         }
         return intraClusterDistance;
     }
@@ -349,7 +414,7 @@ public abstract class ClusteringFitnessFunction implements ContinuousFunction {
      * @return the average intra-cluster distance for all clusters.
      */
     public double calculateAverageIntraClusterDistance() {
-        return calculateIntraClusterDistance() / helper.getNumberOfPatternsInDataSet();
+        return calculateIntraClusterDistance() / getHelper().getNumberOfPatternsInDataSet();
     }
 
     public void setClusterCenterStrategy(ClusterCenterStrategy ccs) {
@@ -376,7 +441,7 @@ public abstract class ClusteringFitnessFunction implements ContinuousFunction {
     protected double validateFitness(double fitness) {
         if (fitness < 0.0) {
             System.err.println(this.getClass().getSimpleName() + " fitness < 0.0 : " + fitness);
-            System.err.println("Number of clusters formed = " + clustersFormed);
+            System.err.println("Number of clusters formed = " + getClustersFormed());
         }
         return fitness;
     }
@@ -24,6 +24,8 @@ package net.sourceforge.cilib.functions.clustering;
 import net.sourceforge.cilib.functions.clustering.clustercenterstrategies.ClusterCenterStrategy;
 import net.sourceforge.cilib.problem.dataset.ClusterableDataSet.Pattern;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.ClusterStatistics;
+import net.sourceforge.cilib.util.ClusteringUtils;
 
 /**
  * This is the k-harmonic means clustering fitness function.
@@ -39,13 +41,16 @@ public class KHarmonicMeansFunction extends ClusteringFitnessFunction {
 
     @Override
     public double calculateFitness() {
+        ClusteringUtils helper = getHelper();
+        ClusterStatistics statistics = getStatistics();
+        int clustersFormed = getClustersFormed();
         double harmonicMean = 0.0;
 
         for (Pattern pattern : helper.getPatternsInDataSet()) {
             double sumOfReciprocals = 0.0;
 
-            for (int i = 0; i < arrangedClusters.size(); i++) {
-                Vector center = clusterCenterStrategy.getCenter(i);
+            for (int i = 0; i < clustersFormed; i++) {
+                Vector center = statistics.getCenter(clusterCenterStrategy, i);
                 sumOfReciprocals += 1.0 / Math.max(helper.calculateDistance(pattern.data, center), Double.MIN_VALUE);        // if the distance == 0.0, use a very small value
             }
             harmonicMean += clustersFormed / sumOfReciprocals;
@@ -24,6 +24,7 @@ package net.sourceforge.cilib.functions.clustering;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.ClusteringUtils;
 import net.sourceforge.cilib.util.Vectors;
 
 /**
@@ -114,6 +115,7 @@ public class ParametricClusteringFunction extends ClusteringFitnessFunction {
      * @return the maximum distance possible between two {@linkplain Vector}s for the specified domain.
      */
     protected double zMax() {
+        ClusteringUtils helper = getHelper();
         Vector prototype = (Vector) helper.getClusteringProblem().getDomain().getBuiltRepresenation();
         Vector upperBoundVector = Vectors.upperBoundVector(prototype);
         Vector lowerBoundVector = Vectors.lowerBoundVector(prototype);
@@ -21,10 +21,6 @@
  */
 package net.sourceforge.cilib.functions.clustering.clustercenterstrategies;
 
-import java.util.Collection;
-
-import net.sourceforge.cilib.math.Stats;
-import net.sourceforge.cilib.problem.dataset.ClusterableDataSet.Pattern;
 import net.sourceforge.cilib.type.types.container.Vector;
 import net.sourceforge.cilib.util.ClusteringUtils;
 
@@ -46,8 +42,6 @@ public class ClusterMeanStrategy implements ClusterCenterStrategy {
      */
     @Override
     public Vector getCenter(int i) {
-        Collection<Pattern> cluster = ClusteringUtils.get().getArrangedClusters().get(i).values();
-
-        return Stats.meanVector(cluster);
+        return ClusteringUtils.get().getClusterStatistics().getMean(i);
     }
 }
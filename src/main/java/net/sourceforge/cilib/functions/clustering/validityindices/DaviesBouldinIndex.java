@@ -21,10 +21,7 @@
  */
 package net.sourceforge.cilib.functions.clustering.validityindices;
 
-import java.util.Collection;
-
-import net.sourceforge.cilib.problem.dataset.ClusterableDataSet.Pattern;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.ClusterStatistics;
 
 /**
  * This is the Davies-Bouldin Validity Index.
@@ -48,15 +45,16 @@ public class DaviesBouldinIndex extends ScatterSeperationRatio {
     public double calculateFitness() {
         double db = 0.0, max = -Double.MAX_VALUE;
 
-        cacheWithinClusterScatter();
-        cacheBetweenClusterSeperation();
+        int clustersFormed = getClustersFormed();
+        double[] withinClusterScatter = cacheWithinClusterScatter();
+        double[] betweenClusterSeperation = cacheBetweenClusterSeperation();
 
         for (int i = 0; i < clustersFormed; i++) {
-            double withinScatterLeft = getWithinClusterScatter(i);
+            double withinScatterLeft = withinClusterScatter[i];
             for (int j = 0; j < clustersFormed; j++) {
                 if (i != j) {
-                    double withinScatterRight = getWithinClusterScatter(j);
-                    double betweenSeperation = getBetweenClusterSeperation(i, j);
+                    double withinScatterRight = withinClusterScatter[j];
+                    double betweenSeperation = getBetweenClusterSeperation(betweenClusterSeperation, i, j);
                     max = Math.max(max, (withinScatterLeft + withinScatterRight) / betweenSeperation);
                 }
             }
@@ -68,14 +66,8 @@ public class DaviesBouldinIndex extends ScatterSeperationRatio {
 
     @Override
     protected double calculateWithinClusterScatter(int k) {
-        double withinClusterScatter = 0.0;
-        Collection<Pattern> cluster = arrangedClusters.get(k).values();
-        Vector center = clusterCenterStrategy.getCenter(k);
-
-        for (Pattern pattern : cluster) {
-            withinClusterScatter += helper.calculateDistance(pattern.data, center);
-        }
-        return withinClusterScatter / cluster.size();
+        ClusterStatistics statistics = getStatistics();
+        return statistics.getDistanceSum(clusterCenterStrategy, k) / statistics.getSize(k);
     }
 
     /**
@@ -84,6 +76,7 @@ public class DaviesBouldinIndex extends ScatterSeperationRatio {
      */
     @Override
     protected double calculateBetweenClusterSeperation(int i, int j) {
-        return helper.calculateDistance(clusterCenterStrategy.getCenter(i), clusterCenterStrategy.getCenter(j));
+        ClusterStatistics statistics = getStatistics();
+        return getHelper().calculateDistance(statistics.getCenter(clusterCenterStrategy, i), statistics.getCenter(clusterCenterStrategy, j));
     }
 }
@@ -21,11 +21,8 @@
  */
 package net.sourceforge.cilib.functions.clustering.validityindices;
 
-import java.util.Collection;
-
 import net.sourceforge.cilib.functions.clustering.clustercenterstrategies.ClusterMeanStrategy;
-import net.sourceforge.cilib.problem.dataset.ClusterableDataSet.Pattern;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.ClusterStatistics;
 
 /**
  * This is the Dunn Index 33.
@@ -51,14 +48,8 @@ public class DunnIndex33 extends GeneralisedDunnIndex {
      */
     @Override
     protected double calculateWithinClusterScatter(int k) {
-        double averageDistance = 0.0;
-        Collection<Pattern> cluster = arrangedClusters.get(k).values();
-        Vector center = clusterCenterStrategy.getCenter(k);
-
-        for (Pattern pattern : cluster) {
-            averageDistance += helper.calculateDistance(pattern.data, center);
-        }
-        return 2.0 * (averageDistance / cluster.size());
+        ClusterStatistics statistics = getStatistics();
+        return 2.0 * (statistics.getDistanceSum(clusterCenterStrategy, k) / statistics.getSize(k));
     }
 
     /**
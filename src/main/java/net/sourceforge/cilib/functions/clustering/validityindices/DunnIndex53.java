@@ -21,10 +21,7 @@
  */
 package net.sourceforge.cilib.functions.clustering.validityindices;
 
-import java.util.Collection;
-
-import net.sourceforge.cilib.problem.dataset.ClusterableDataSet.Pattern;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.ClusterStatistics;
 
 /**
  * DunnIndex53.
@@ -49,20 +46,10 @@ public class DunnIndex53 extends DunnIndex33 {
      */
     @Override
     protected double calculateBetweenClusterSeperation(int i, int j) {
-        double lhsAverage = 0.0, rhsAverage = 0.0;
-        Collection<Pattern> leftCluster = arrangedClusters.get(i).values();
-        Collection<Pattern> rightCluster = arrangedClusters.get(j).values();
-        Vector leftCenter = clusterCenterStrategy.getCenter(i);
-        Vector rightCenter = clusterCenterStrategy.getCenter(j);
-
-        for (Pattern pattern : leftCluster) {
-            lhsAverage += helper.calculateDistance(pattern.data, rightCenter);
-        }
-
-        for (Pattern pattern : rightCluster) {
-            rhsAverage += helper.calculateDistance(pattern.data, leftCenter);
-        }
+        ClusterStatistics statistics = getStatistics();
+        double lhsAverage = statistics.getDistanceSum(clusterCenterStrategy, i, j);
+        double rhsAverage = statistics.getDistanceSum(clusterCenterStrategy, j, i);
 
-        return (lhsAverage + rhsAverage) / (leftCluster.size() + rightCluster.size());
+        return (lhsAverage + rhsAverage) / (statistics.getSize(i) + statistics.getSize(j));
     }
 }
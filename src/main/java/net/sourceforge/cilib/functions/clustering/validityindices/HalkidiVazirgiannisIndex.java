@@ -21,10 +21,13 @@
  */
 package net.sourceforge.cilib.functions.clustering.validityindices;
 
+import java.util.List;
+
 import net.sourceforge.cilib.functions.clustering.ClusteringFitnessFunction;
-import net.sourceforge.cilib.math.Stats;
 import net.sourceforge.cilib.problem.dataset.ClusterableDataSet.Pattern;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.ClusterStatistics;
+import net.sourceforge.cilib.util.ClusteringUtils;
 
 /**
  * This is the Halkidi-Vazirgiannis Validity Index.
@@ -39,7 +42,6 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class HalkidiVazirgiannisIndex extends ClusteringFitnessFunction {
     private static final long serialVersionUID = 1164537525165848345L;
-    private double stdev = 0.0;
 
     /**
      * Create a new instance of {@linkplain HalkidiVazirgiannisIndex}.
@@ -62,65 +64,81 @@ public class HalkidiVazirgiannisIndex extends ClusteringFitnessFunction {
      * @return the within-cluster-scatter for the specific clustering
      */
     protected double calculateWithinClusterScatter() {
-        double scattering = 0.0;
-        double datasetVariance = helper.getDataSetVariance();
-        double clusterVariance = 0.0;
+        double scattering = sumOfClusterVariances();
+        double datasetVariance = getHelper().getDataSetVariance();
 
-        stdev = 0.0;
-        for (int i = 0; i < clustersFormed; i++) {
-            clusterVariance = Stats.variance(arrangedClusters.get(i).values(), clusterCenterStrategy.getCenter(i));
-            scattering += clusterVariance;
-            stdev += clusterVariance;
-        }
-        stdev = Math.sqrt(stdev);
-        stdev /= clustersFormed;
         scattering /= datasetVariance;
-        return scattering / clustersFormed;
+        return scattering / getClustersFormed();
     }
 
     /**
-     * Calculate the distances between cluster separation.
+     * Calculate the distances between cluster separation. The densities of the pairs
+     * (i, j) and (j, i) are the same, so every pair is only counted once, and the density
+     * of a cluster around its own center is counted once for all the pairs.
      * @return The distance between cluster separation.
      */
     protected double calculateBetweenClusterSeperation() {
-        Vector midPoint = null, leftCenter = null, rightCenter = null;
+        ClusterStatistics statistics = getStatistics();
+        ClusteringUtils helper = getHelper();
+        List<Pattern> patterns = helper.getPatternsInDataSet();
+        int clustersFormed = getClustersFormed();
+        double stdev = Math.sqrt(sumOfClusterVariances()) / clustersFormed;
         double density = 0.0;
-        int midDensity = 0, leftDensity = 0, rightDensity = 0;
 
+        int[] centerDensities = new int[clustersFormed];
         for (int i = 0; i < clustersFormed; i++) {
-            leftCenter = clusterCenterStrategy.getCenter(i);
-            for (int j = 0; j < clustersFormed; j++) {
-                if (i != j) {
-                    rightCenter = clusterCenterStrategy.getCenter(j);
-                    midPoint = leftCenter.plus(rightCenter);
-                    midPoint = midPoint.divide(2.0);
-                    midDensity = leftDensity = rightDensity = 0;
-
-                    for (Pattern pattern : arrangedClusters.get(i).values()) {
-                        if (helper.calculateDistance(pattern.data, midPoint) <= stdev)
-                            ++midDensity;
-                        if (helper.calculateDistance(pattern.data, leftCenter) <= stdev)
-                            ++leftDensity;
-                    }
+            centerDensities[i] = countWithinDeviation(helper, patterns, statistics.getMembers(i), statistics.getCenter(clusterCenterStrategy, i), stdev);
+        }
 
-                    for (Pattern pattern : arrangedClusters.get(j).values()) {
-                        if (helper.calculateDistance(pattern.data, midPoint) <= stdev)
-                            ++midDensity;
-                        if (helper.calculateDistance(pattern.data, rightCenter) <= stdev)
-                            ++rightDensity;
-                    }
+        for (int i = 0; i < clustersFormed - 1; i++) {
+            Vector leftCenter = statistics.getCenter(clusterCenterStrategy, i);
+            for (int j = i + 1; j < clustersFormed; j++) {
+                Vector rightCenter = statistics.getCenter(clusterCenterStrategy, j);
+                Vector midPoint = leftCenter.plus(rightCenter);
+                midPoint = midPoint.divide(2.0);
+                int midDensity = countWithinDeviation(helper, patterns, statistics.getMembers(i), midPoint, stdev)
+                        + countWithinDeviation(helper, patterns, statistics.getMembers(j), midPoint, stdev);
+                int leftDensity = centerDensities[i];
+                int rightDensity = centerDensities[j];
 
-                    // prevent devision by zero (ArithmeticExceptions)
-                    // leftDensity + rightDensity == 0 can mean one of two things:
-                    // 1. both clusters didn't have any patterns in it or
-                    // 2. the distance between the pattern and midPoint was not > stdev (for both
-                    // clusters)
-                    if (leftDensity + rightDensity > 0.0) {
-                        density += midDensity / (double) Math.max(leftDensity, rightDensity);
-                    }
+                // prevent devision by zero (ArithmeticExceptions)
+                // leftDensity + rightDensity == 0 can mean one of two things:
+                // 1. both clusters didn't have any patterns in it or
+                // 2. the distance between the pattern and midPoint was not > stdev (for both
+                // clusters)
+                if (leftDensity + rightDensity > 0.0) {
+                    density += 2.0 * midDensity / (double) Math.max(leftDensity, rightDensity);
                 }
             }
         }
         return density / (clustersFormed * (clustersFormed - 1));
     }
+
+    /**
+     * The sum of the variances of the clusters, the same as Stats.variance(cluster, center),
+     * from the shared deviations.
+     */
+    private double sumOfClusterVariances() {
+        ClusterStatistics statistics = getStatistics();
+        double variances = 0.0;
+
+        for (int i = 0; i < getClustersFormed(); i++) {
+            double[] deviations = statistics.getSquaredDeviations(clusterCenterStrategy, i);
+            double norm = 0.0;
+            for (double deviation : deviations) {
+                norm += deviation * deviation;
+            }
+            variances += Math.sqrt(norm) / statistics.getSize(i);
+        }
+        return variances;
+    }
+
+    private int countWithinDeviation(ClusteringUtils helper, List<Pattern> patterns, int[] members, Vector point, double stdev) {
+        int count = 0;
+        for (int p : members) {
+            if (helper.calculateDistance(patterns.get(p).data, point) <= stdev)
+                ++count;
+        }
+        return count;
+    }
 }
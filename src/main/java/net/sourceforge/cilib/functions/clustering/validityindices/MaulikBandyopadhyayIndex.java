@@ -24,6 +24,7 @@ package net.sourceforge.cilib.functions.clustering.validityindices;
 import net.sourceforge.cilib.functions.clustering.ClusteringFitnessFunction;
 import net.sourceforge.cilib.problem.dataset.ClusterableDataSet.Pattern;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.ClusteringUtils;
 
 /**
  * MaulikBandyopadhyayIndex.
@@ -52,7 +53,7 @@ public class MaulikBandyopadhyayIndex extends ClusteringFitnessFunction {
     }
 
     private double termOne() {
-        return 1.0 / clustersFormed;
+        return 1.0 / getClustersFormed();
     }
 
     private double termTwo() {
@@ -63,6 +64,7 @@ public class MaulikBandyopadhyayIndex extends ClusteringFitnessFunction {
          * cluster. In this case, the dataset mean can be thought of as the dataset's centroid as
          * well.
          */
+        ClusteringUtils helper = getHelper();
         Vector mean = helper.getDataSetMean();
         for (Pattern pattern : helper.getPatternsInDataSet()) {
             intraDatasetDistance += helper.calculateDistance(pattern.data, mean);
@@ -21,50 +21,47 @@
  */
 package net.sourceforge.cilib.functions.clustering.validityindices;
 
-import java.util.ArrayList;
-
 import net.sourceforge.cilib.functions.clustering.ClusteringFitnessFunction;
 
 /**
  * The ScatterSeperationRatio class was created due to the fact that some validity indices make use
  * of the cluster scatter and cluster seperation concepts. This class caches these values and
  * defines abstract methods (calculateWithinClusterScatter and calculateBetweenClusterSeperation)
- * which sub-classes have to implement to specify how their specific values are calculated.
+ * which sub-classes have to implement to specify how their specific values are calculated. The
+ * values are cached in arrays that are local to the evaluation of a single clustering.
  * @author Theuns Cloete
  */
 public abstract class ScatterSeperationRatio extends ClusteringFitnessFunction {
     private static final long serialVersionUID = 6758442782079174817L;
 
-    protected ArrayList<Double> withinClusterScatterCache = null;
-    protected ArrayList<Double> betweenClusterSeperationCache = null;
-
-    protected void cacheWithinClusterScatter() {
-        withinClusterScatterCache = new ArrayList<Double>();
+    protected double[] cacheWithinClusterScatter() {
+        int clustersFormed = getClustersFormed();
+        double[] withinClusterScatterCache = new double[clustersFormed];
 
         for (int i = 0; i < clustersFormed; i++) {
-            withinClusterScatterCache.add(calculateWithinClusterScatter(i));
+            withinClusterScatterCache[i] = calculateWithinClusterScatter(i);
         }
+        return withinClusterScatterCache;
     }
 
     protected abstract double calculateWithinClusterScatter(int k);
 
-    protected double getWithinClusterScatter(int i) {
-        return withinClusterScatterCache.get(i);
-    }
-
-    protected void cacheBetweenClusterSeperation() {
-        betweenClusterSeperationCache = new ArrayList<Double>();
+    protected double[] cacheBetweenClusterSeperation() {
+        int clustersFormed = getClustersFormed();
+        double[] betweenClusterSeperationCache = new double[clustersFormed * (clustersFormed - 1) / 2];
+        int index = 0;
 
         for(int i = 0; i < clustersFormed - 1; i++) {
             for(int j = i + 1; j < clustersFormed; j++) {
-                betweenClusterSeperationCache.add(calculateBetweenClusterSeperation(i, j));
+                betweenClusterSeperationCache[index++] = calculateBetweenClusterSeperation(i, j);
             }
         }
+        return betweenClusterSeperationCache;
     }
 
     protected abstract double calculateBetweenClusterSeperation(int i, int j);
 
-    protected double getBetweenClusterSeperation(int i, int j) {
+    protected double getBetweenClusterSeperation(double[] betweenClusterSeperationCache, int i, int j) {
         if (i < 0 || j < 0)
             throw new IllegalArgumentException("The seperation between clusters " + i + " and " + j + " does not exist");
 
@@ -76,6 +73,6 @@ public abstract class ScatterSeperationRatio extends ClusteringFitnessFunction {
             i = j;
             j = tmp;
         }
-        return betweenClusterSeperationCache.get(i + (clustersFormed * j) - (((j + 1) * (j + 2)) / 2));
+        return betweenClusterSeperationCache[i + (getClustersFormed() * j) - (((j + 1) * (j + 2)) / 2)];
     }
 }
@@ -21,16 +21,11 @@
  */
 package net.sourceforge.cilib.functions.clustering.validityindices;
 
-import java.util.ArrayList;
-import java.util.Collection;
-
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.functions.clustering.ClusteringFitnessFunction;
 import net.sourceforge.cilib.functions.clustering.clustercenterstrategies.ClusterMeanStrategy;
-import net.sourceforge.cilib.math.Stats;
-import net.sourceforge.cilib.problem.dataset.ClusterableDataSet.Pattern;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.ClusterStatistics;
 
 /**
  * This is the Veenman-Reinders-Backer Validity Index.
@@ -63,28 +58,32 @@ public class VeenmanReindersBackerIndex extends ClusteringFitnessFunction {
         if (!holdsConstraint())
             return worstFitness();
 
+        ClusterStatistics statistics = getStatistics();
+        int clustersFormed = getClustersFormed();
         double sumOfSquaredError = 0.0;
 
-        for (int i = 0; i < arrangedClusters.size(); i++) {
-            Collection<Pattern> cluster = arrangedClusters.get(i).values();
-            Vector center = clusterCenterStrategy.getCenter(i);
-
+        for (int i = 0; i < clustersFormed; i++) {
             // H(Y) in the paper refers to the homogeneity of Y (not variance, because we do not divide by |Y|)
-            for (Pattern pattern : cluster) {
-                sumOfSquaredError += Math.pow(helper.calculateDistance(pattern.data, center), 2);
-            }
+            sumOfSquaredError += statistics.getSquaredDistanceSum(clusterCenterStrategy, i);
         }
-        return sumOfSquaredError / (double) helper.getNumberOfPatternsInDataSet();
+        return sumOfSquaredError / (double) getHelper().getNumberOfPatternsInDataSet();
     }
 
     private boolean holdsConstraint() {
+        ClusterStatistics statistics = getStatistics();
+        int clustersFormed = getClustersFormed();
+
         for (int i = 0; i < clustersFormed - 1; i++) {
+            double[] left = statistics.getSquaredDeviationsFromDataSetMean(i);
             for (int j = i + 1; j < clustersFormed; j++) {
-                Collection<Pattern> union = new ArrayList<Pattern>();
-                union.addAll(arrangedClusters.get(i).values());
-                union.addAll(arrangedClusters.get(j).values());
+                double[] right = statistics.getSquaredDeviationsFromDataSetMean(j);
 
-                if (Stats.variance(union, helper.getDataSetMean()) < getMaximumVariance()) {
+                // the variance of the union of the clusters, as Stats.variance(union, mean)
+                double norm = 0.0;
+                for (int k = 0; k < left.length; k++) {
+                    norm += (left[k] + right[k]) * (left[k] + right[k]);
+                }
+                if (Math.sqrt(norm) / (statistics.getSize(i) + statistics.getSize(j)) < getMaximumVariance()) {
                     return false;
                 }
             }
@@ -21,6 +21,10 @@
  */
 package net.sourceforge.cilib.functions.continuous.decorators;
 
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.EmptyStackException;
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.functions.ContinuousFunction;
@@ -28,54 +32,104 @@ import net.sourceforge.cilib.math.random.GaussianDistribution;
 import net.sourceforge.cilib.math.random.ProbabilityDistributionFuction;
 import net.sourceforge.cilib.math.random.UniformDistribution;
 import net.sourceforge.cilib.type.types.container.Vector;
-import net.sourceforge.cilib.util.Sequence;
 
 /**
  * @author Olusegun Olorunda
  *
  * Rotates a n-dimensional continuous function by multiplying it with
  * an orthonormal basis for R^n.
+ * <p>
+ * The rotation matrix is stored in a flat, row-major {@code double[]}, so that
+ * the product with the input is computed row by row over contiguous memory.
+ * <p>
+ * The decision to re-create the matrix is drawn once for every iteration of
+ * the algorithm that is currently executing, by the first evaluation of the
+ * iteration, so that all the entities of an iteration are evaluated with the
+ * same matrix, regardless of the number of threads that evaluate them. Only
+ * that evaluation takes the lock of the decorator; the others use the matrix
+ * of the iteration without locking. Without an algorithm the decision is
+ * drawn for every evaluation.
  */
 public class RotatedFunctionDecorator implements ContinuousFunction {
 
     private static final long serialVersionUID = 3107473364744861153L;
+    private static final int NO_ITERATION = -1;
     private ContinuousFunction function;
-    private double[][] rotationMatrix;
+    private volatile Rotation rotation; // replaced while holding the lock of this decorator
+    private ProbabilityDistributionFuction rotateOrNot;
+    private GaussianDistribution initializer;
     /**
      * Specifies a probability that determines whether the rotationMatrix should be
-     * re-created for a particular function evaluation.
+     * re-created for a particular iteration of the algorithm, or for a particular
+     * function evaluation if there is no algorithm.
      *
      * Default value is 0.5.
      */
     private ControlParameter rotationProbability;
 
     public RotatedFunctionDecorator() {
-        rotationMatrix = null;
+        rotation = null;
         rotationProbability = new ConstantControlParameter(0.5);
+        rotateOrNot = new UniformDistribution();
+        initializer = new GaussianDistribution();
     }
 
     /**
-     * Multiplies the argument vector, x, by the transpose of the rotation matrix
-     * stores the result in rotatedX and calls the evaluate method of the function
-     * being decorated with the rotated vector as the parameter.
+     * Multiplies the argument vector, x, by the rotation matrix and calls the
+     * evaluate method of the function being decorated with the rotated vector
+     * as the parameter.
      */
     @Override
     public Double apply(final Vector input) {
-        ProbabilityDistributionFuction rotateOrNot = new UniformDistribution();
+        int n = input.size();
+        double[] matrix = currentRotation(n).matrix;
 
-        if (rotationMatrix == null || rotateOrNot.getRandomNumber() < rotationProbability.getParameter()) {
-            setRotationMatrix();
+        Vector.Builder rotatedX = Vector.newBuilder();
+        for (int row = 0, offset = 0; row < n; row++, offset += n) {
+            double sum = 0.0;
+            for (int column = 0; column < n; column++) {
+                sum += matrix[offset + column] * input.doubleValueOf(column);
+            }
+            rotatedX.add(sum);
         }
 
-        Vector rotatedX = Vector.copyOf(Sequence.repeat(0.0, input.size()));
+        return function.apply(rotatedX.build());
+    }
 
-        for (int j = 0; j < input.size(); j++) {
-            for (int i = 0; i < input.size(); i++) {
-                rotatedX.setReal(j, rotatedX.doubleValueOf(j) + input.doubleValueOf(i) * rotationMatrix[i][j]);
-            }
+    /**
+     * Get the rotation to use for an evaluation of the given dimension. The
+     * rotation of the current iteration is used if there is one, otherwise
+     * the decision to re-create the matrix is drawn.
+     */
+    private Rotation currentRotation(int n) {
+        int iteration = currentIteration();
+        Rotation current = rotation;
+        if (current != null && current.dimension == n
+                && iteration != NO_ITERATION && current.iteration == iteration) {
+            return current;
         }
+        return rotate(n, iteration);
+    }
 
-        return function.apply(rotatedX);
+    private synchronized Rotation rotate(int n, int iteration) {
+        Rotation current = rotation;
+        if (current == null || current.dimension != n) {
+            current = new Rotation(initializeMatrix(n), n, iteration);
+        } else if (iteration == NO_ITERATION || current.iteration != iteration) {
+            double[] matrix = (rotateOrNot.getRandomNumber() < rotationProbability.getParameter())
+                    ? initializeMatrix(n) : current.matrix;
+            current = new Rotation(matrix, n, iteration);
+        }
+        rotation = current;
+        return current;
+    }
+
+    private static int currentIteration() {
+        try {
+            return AbstractAlgorithm.get().getIterations();
+        } catch (EmptyStackException e) {
+            return NO_ITERATION;
+        }
     }
 
     /**
@@ -95,92 +149,57 @@ public class RotatedFunctionDecorator implements ContinuousFunction {
      * 3) column_i = column_i/|column_i|
      *
      */
-    private void initializeMatrix() {
+    private double[] initializeMatrix(int dimension) {
         /*
-         * set up a spanning set of gaussian random numbers
+         * set up a spanning set of gaussian random numbers. The columns are
+         * orthonormalised while each is contiguous in the basis array, and
+         * the result is transposed into the row-major rotation matrix.
          */
-//        throw new UnsupportedOperationException();
-        int dimension = 0; //function.getDimension();
-        rotationMatrix = new double[dimension][dimension];
-        ProbabilityDistributionFuction initializer = new GaussianDistribution();
+        double[] basis = initializer.fillGaussian(new double[dimension * dimension], 0.0, 1.0);
+        double[] projection = new double[dimension];
 
         for (int i = 0; i < dimension; i++) {
-            for (int j = 0; j < dimension; j++) {
-                rotationMatrix[i][j] = initializer.getRandomNumber();
-            }
-        }
-
-        /*
-         * generate an orthonormal spanning set from the above spanning set by
-         * replacing each column vector with it's orthonormal equivalent
-         *
-         * NOTE: matrix representation is actually the 'transpose' of a 2-dimensional
-         *       java array. Hence, rotationMatrix[i] is used as a column vector,
-         *       instead of a row vector. This means that:
-         *
-         *       e_13 (math) = rotationMatrix[3][1] (java)
-         *
-         *       This makes for somewhat easier array representation and operations.
-         */
-        for (int i = 0; i < dimension; i++) {
-
-            /*
-             * create a vector to store the result of projecting the current column on
-             * column_j, where j e [0, i-1]
-             */
-            double[] projection = new double[dimension];
-            for (int contents = 0; contents < dimension; contents++) {
-                projection[contents] = 0;
-            }
+            int column_i = i * dimension;
 
             /*
-             * set up the projection vector
+             * set up the projection of the current column on column_j, where j e [0, i-1]
              */
+            Arrays.fill(projection, 0.0);
             for (int j = 0; j < i; j++) {
-                double[] column_j = rotationMatrix[j];
+                int column_j = j * dimension;
                 double innerProduct = 0.0;
 
-                /*
-                 * calculate inner product for the current vector and column_j
-                 */
                 for (int contents = 0; contents < dimension; contents++) {
-                    innerProduct += (rotationMatrix[i][contents] * column_j[contents]);
+                    innerProduct += basis[column_i + contents] * basis[column_j + contents];
                 }
 
-                /*
-                 * multiply column_j by above inner product and add to the projection
-                 */
                 for (int contents = 0; contents < dimension; contents++) {
-                    projection[contents] += (column_j[contents] * innerProduct);
+                    projection[contents] += basis[column_j + contents] * innerProduct;
                 }
             }
 
             /*
              * subtract the projection from the column to be replaced and normalize
              */
-            for (int contents = 0; contents < dimension; contents++) {
-                rotationMatrix[i][contents] -= projection[contents];
-            }
-
-            /*
-             * evaluate the norm of the current rotation matrix column to be replaced
-             */
             double columnNorm = 0.0;
-
             for (int contents = 0; contents < dimension; contents++) {
-                columnNorm += rotationMatrix[i][contents] * rotationMatrix[i][contents];
+                basis[column_i + contents] -= projection[contents];
+                columnNorm += basis[column_i + contents] * basis[column_i + contents];
             }
 
             columnNorm = Math.sqrt(columnNorm);
-
-            /*
-             * normalize the vector
-             */
             for (int contents = 0; contents < dimension; contents++) {
-                rotationMatrix[i][contents] /= columnNorm;
+                basis[column_i + contents] /= columnNorm;
             }
         }
 
+        double[] matrix = new double[dimension * dimension];
+        for (int column = 0; column < dimension; column++) {
+            for (int row = 0; row < dimension; row++) {
+                matrix[row * dimension + column] = basis[column * dimension + row];
+            }
+        }
+        return matrix;
     }
 
     /**
@@ -198,17 +217,31 @@ public class RotatedFunctionDecorator implements ContinuousFunction {
     }
 
     /**
+     * Get a copy of the rotation matrix, indexed as {@code [column][row]}, or
+     * {@code null} if no matrix has been created yet.
      * @return the rotationMatrix
      */
     public double[][] getRotationMatrix() {
-        return rotationMatrix;
+        Rotation current = rotation;
+        if (current == null) {
+            return null;
+        }
+        int dimension = current.dimension;
+        double[][] columns = new double[dimension][dimension];
+        for (int row = 0; row < dimension; row++) {
+            for (int column = 0; column < dimension; column++) {
+                columns[column][row] = current.matrix[row * dimension + column];
+            }
+        }
+        return columns;
     }
 
     /**
-     * @param rotationMatrix the rotationMatrix to set
+     * Discard the rotation matrix, so that a new matrix is created for the
+     * next evaluation.
      */
-    public void setRotationMatrix() {
-        initializeMatrix();
+    public synchronized void setRotationMatrix() {
+        rotation = null;
     }
 
     /**
@@ -224,4 +257,21 @@ public class RotatedFunctionDecorator implements ContinuousFunction {
     public void setRotationProbability(ControlParameter rotationProbability) {
         this.rotationProbability = rotationProbability;
     }
+
+    /**
+     * A rotation matrix, stored in a flat, row-major {@code double[]}, and the
+     * iteration for which it was drawn. Instances are never modified.
+     */
+    private static final class Rotation implements Serializable {
+        private static final long serialVersionUID = -4125640127236187745L;
+        private final double[] matrix; // element (row, column) is at row * dimension + column
+        private final int dimension;
+        private final int iteration;
+
+        Rotation(double[] matrix, int dimension, int iteration) {
+            this.matrix = matrix;
+            this.dimension = dimension;
+            this.iteration = iteration;
+        }
+    }
 }
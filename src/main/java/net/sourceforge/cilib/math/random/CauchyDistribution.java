@@ -24,6 +24,7 @@ package net.sourceforge.cilib.math.random;
 import static com.google.common.base.Preconditions.checkArgument;
 import net.sourceforge.cilib.math.random.generator.MersenneTwister;
 import net.sourceforge.cilib.math.random.generator.RandomProvider;
+import net.sourceforge.cilib.util.RandomProviders;
 
 /**
  *
@@ -52,7 +53,7 @@ public class CauchyDistribution implements ProbabilityDistributionFuction {
      */
     @Override
     public double getRandomNumber() {
-        return getRandomNumber(0.0, 1.0);
+        return next(0.0, 1.0);
     }
 
     /**
@@ -68,10 +69,32 @@ public class CauchyDistribution implements ProbabilityDistributionFuction {
     public double getRandomNumber(double... locationScale) {
         checkArgument(locationScale.length == 2, "The Cauchy distribution requires two parameters.");
         checkArgument(locationScale[1] > 0, "The scale must be greater than zero.");
+        return next(locationScale[0], locationScale[1]);
+    }
+
+    /**
+     * Fill the given array with numbers sampled from the Cauchy distribution.
+     * The uniform numbers are drawn in a single pass before they are
+     * transformed, and the values are those that the same number of calls to
+     * {@link #getRandomNumber(double...)} would produce.
+     * @param values The array to fill.
+     * @param location The location of the mean of the distribution.
+     * @param scale The allowed variation that can be observed.
+     * @return The filled array, for chaining.
+     */
+    public double[] fillCauchy(double[] values, double location, double scale) {
+        checkArgument(scale > 0, "The scale must be greater than zero.");
+        RandomProviders.nextDoubles(provider, values);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = location + scale * Math.tan(Math.PI * (values[i] - 0.5));
+        }
+        return values;
+    }
 
+    private double next(double location, double scale) {
         double x = provider.nextDouble(); // Uniform number between 0.0 and 1.0
 
-        return locationScale[0] + locationScale[1] * Math.tan(Math.PI * (x - 0.5));
+        return location + scale * Math.tan(Math.PI * (x - 0.5));
     }
 
     public RandomProvider getProvider() {
@@ -50,7 +50,7 @@ public class GaussianDistribution implements ProbabilityDistributionFuction {
      */
     @Override
     public double getRandomNumber() {
-        return getRandomNumber(0.0, 1.0);
+        return next(0.0, 1.0);
     }
 
     /**
@@ -79,6 +79,26 @@ public class GaussianDistribution implements ProbabilityDistributionFuction {
     @Override
     public double getRandomNumber(double... locationScale) {
         checkArgument(locationScale.length == 2, "The Gaussian distribution requires two parameters. The first specifies the mean, the second specifies the deviation.");
+        return next(locationScale[0], locationScale[1]);
+    }
+
+    /**
+     * Fill the given array with Gaussian numbers with mean <code>location</code>
+     * and deviation <code>scale</code>. The values are those that the same
+     * number of calls to {@link #getRandomNumber(double...)} would produce.
+     * @param values The array to fill.
+     * @param location The mean to use.
+     * @param scale The deviation to use.
+     * @return The filled array, for chaining.
+     */
+    public double[] fillGaussian(double[] values, double location, double scale) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = next(location, scale);
+        }
+        return values;
+    }
+
+    private double next(double location, double scale) {
         double q, u, v, x, y;
 
         /*
@@ -110,7 +130,7 @@ public class GaussianDistribution implements ProbabilityDistributionFuction {
         } while ((q > 0.27846) || (v * v > -4.0 * Math.log(u) * u * u));
 
         /*  Return ratio of P's coordinates as the normal deviate */
-        return (locationScale[0] + locationScale[1] * v / u);
+        return (location + scale * v / u);
     }
 
     public RandomProvider getProvider() {
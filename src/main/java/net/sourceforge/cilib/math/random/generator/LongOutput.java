@@ -0,0 +1,71 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.math.random.generator;
+
+/**
+ * Derivations shared by the {@linkplain RandomProvider} implementations whose
+ * native output is a 64-bit {@code long}.
+ */
+final class LongOutput {
+
+    private LongOutput() {
+        throw new UnsupportedOperationException("Cannot instantiate.");
+    }
+
+    /**
+     * Draw a uniform value in {@code [0, n)} by rejection, without modulo bias.
+     * @param random The source of bits.
+     * @param n The exclusive upper bound.
+     * @return The value.
+     */
+    static int nextInt(RandomProvider random, int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+
+        if ((n & -n) == n) { // i.e., n is a power of 2
+            return (int) ((n * (random.nextLong() >>> 33)) >> 31);
+        }
+
+        int bits, val;
+        do {
+            bits = (int) (random.nextLong() >>> 33);
+            val = bits % n;
+        } while (bits - val + (n - 1) < 0);
+        return val;
+    }
+
+    /**
+     * Fill the given array with random bytes, eight bytes per step.
+     * @param random The source of bits.
+     * @param bytes The array to fill.
+     */
+    static void nextBytes(RandomProvider random, byte[] bytes) {
+        for (int i = 0, len = bytes.length; i < len;) {
+            for (long rnd = random.nextLong(),
+                    n = Math.min(len - i, Long.SIZE / Byte.SIZE);
+                    n-- > 0; rnd >>= Byte.SIZE) {
+                bytes[i++] = (byte) rnd;
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.math.random.generator;
+
+/**
+ * <p>
+ * A node in a hierarchy of seeds derived from a single root seed. Every node
+ * can {@linkplain #spawn(long) spawn} child nodes by index and produces its
+ * own sequence of {@linkplain #getSeed() seeds}, so that, for example, the
+ * seeds of all the components of the fifth sample of a simulation depend only
+ * on the root seed and the path {@code root -> simulation -> 5}, and not on
+ * the order in which samples happen to be scheduled.
+ * </p><p>
+ * Derivation uses the {@linkplain SplitMix64} mixing function and involves no
+ * shared state, so no locking is needed. A sequence is, however, not thread
+ * safe: each thread should draw from its own node, which is what
+ * {@link Seeder#setLocalSequence(SeedSequence)} arranges.
+ * </p>
+ */
+public final class SeedSequence implements SeedSelectionStrategy {
+
+    private static final long SPAWN_GAMMA = 0x632be59bd9b4e019L;
+    private final long key;
+    private long counter;
+
+    /**
+     * Create the root of a hierarchy.
+     * @param root The root seed.
+     */
+    public SeedSequence(long root) {
+        this.key = root;
+    }
+
+    /**
+     * Derive the child node with the given index. Spawning does not change
+     * the state of this node: the same index always gives the same child.
+     * @param index The index of the child.
+     * @return The child node, with a fresh sequence of seeds.
+     */
+    public SeedSequence spawn(long index) {
+        return new SeedSequence(SplitMix64.mix64(key ^ SplitMix64.mix64(index + SPAWN_GAMMA)));
+    }
+
+    /**
+     * Get the next seed of this node.
+     * @return The seed value.
+     */
+    @Override
+    public long getSeed() {
+        return SplitMix64.mix64(key + SplitMix64.GOLDEN_GAMMA * ++counter);
+    }
+
+    /**
+     * Create a generator seeded from the next seed of this node.
+     * @return The generator.
+     */
+    public SplittableRandomProvider newGenerator() {
+        return new Xoroshiro128PlusPlus(getSeed());
+    }
+}
@@ -29,6 +29,7 @@ package net.sourceforge.cilib.math.random.generator;
  */
 @Deprecated
 public final class Seeder {
+    private static final ThreadLocal<SeedSequence> LOCAL_SEQUENCE = new ThreadLocal<SeedSequence>();
     private SeedSelectionStrategy seedSelectionStrategy;
 
 
@@ -50,13 +51,46 @@ public final class Seeder {
 
 
     /**
-     * Get a seed value.
+     * Get a seed value. If a {@linkplain SeedSequence} is installed for the
+     * current thread, the seed is drawn from it without locking; otherwise the
+     * seed is drawn from the shared {@linkplain SeedSelectionStrategy}.
      * @return The seed value.
      */
-    public static synchronized long getSeed() {
+    public static long getSeed() {
+        SeedSequence sequence = LOCAL_SEQUENCE.get();
+        if (sequence != null) {
+            return sequence.getSeed();
+        }
+        return getSharedSeed();
+    }
+
+    private static synchronized long getSharedSeed() {
         return getInstance().seedSelectionStrategy.getSeed();
     }
 
+    /**
+     * Get the {@linkplain SeedSequence} installed for the current thread.
+     * @return The sequence, or {@code null} if the shared
+     *         {@linkplain SeedSelectionStrategy} is in use.
+     */
+    public static SeedSequence getLocalSequence() {
+        return LOCAL_SEQUENCE.get();
+    }
+
+    /**
+     * Install the {@linkplain SeedSequence} that supplies the seeds requested by
+     * the current thread, typically for the duration of a single sample.
+     * @param sequence The sequence to use, or {@code null} to revert to the
+     *        shared {@linkplain SeedSelectionStrategy}.
+     */
+    public static void setLocalSequence(SeedSequence sequence) {
+        if (sequence == null) {
+            LOCAL_SEQUENCE.remove();
+        } else {
+            LOCAL_SEQUENCE.set(sequence);
+        }
+    }
+
     /**
      * Get the currently defined {@linkplain SeedSelectionStrategy}.
      * @return The current {@linkplain SeedSelectionStrategy}.
@@ -0,0 +1,145 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.math.random.generator;
+
+/**
+ * <p>
+ * The SplitMix64 generator of Steele, Lea and Flood. The state is a single
+ * 64-bit counter that is advanced by an odd increment (the gamma) and then
+ * passed through a bijective mixing function, which makes the generator
+ * trivially cheap to seed and to split.
+ * </p><p>
+ * The period of each stream is 2^64. The generator is primarily intended for
+ * seeding other generators and for deriving seeds in a {@linkplain SeedSequence};
+ * {@linkplain Xoroshiro128PlusPlus} is the better choice for long streams.
+ * </p><p>
+ * References:
+ * <ul><li>
+ * G. L. Steele, D. Lea and C. H. Flood, "Fast Splittable Pseudorandom Number
+ * Generators", OOPSLA 2014, 453-472.
+ * </li></ul></p>
+ */
+public class SplitMix64 implements SplittableRandomProvider {
+
+    private static final long serialVersionUID = 3497325962584512466L;
+    static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+    private final long gamma;
+
+    /**
+     * Default Constructor. Initialises the {@linkplain SplitMix64} with the
+     * seed value from {@link Seeder#getSeed()}.
+     */
+    public SplitMix64() {
+        this(Seeder.getSeed());
+    }
+
+    /**
+     * Create a {@linkplain SplitMix64} with the given seed value.
+     * @param seed The initial seed value to use.
+     */
+    public SplitMix64(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    /**
+     * Copy constructor. Create an instance in the same state as the given
+     * instance.
+     * @param copy The instance to copy.
+     */
+    public SplitMix64(SplitMix64 copy) {
+        this(copy.state, copy.gamma);
+    }
+
+    private SplitMix64(long state, long gamma) {
+        this.state = state;
+        this.gamma = gamma;
+    }
+
+    /**
+     * The 64-bit finaliser (variant 13) of Stafford, applied to the output.
+     * @param z The value to mix.
+     * @return The mixed value.
+     */
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Derive an odd gamma value with enough bit transitions to give a good
+     * stream, as described by Steele et al.
+     */
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SplitMix64 split() {
+        long seed = nextLong();
+        return new SplitMix64(seed, mixGamma(state += gamma));
+    }
+
+    @Override
+    public long nextLong() {
+        return mix64(state += gamma);
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override
+    public int nextInt(int n) {
+        return LongOutput.nextInt(this, n);
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    @Override
+    public float nextFloat() {
+        return (nextLong() >>> 40) / ((float) (1 << 24));
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) / (double) (1L << 53);
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+        LongOutput.nextBytes(this, bytes);
+    }
+}
@@ -0,0 +1,39 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.math.random.generator;
+
+/**
+ * A {@linkplain RandomProvider} that can be split into an independent
+ * generator. The stream of the split generator is determined entirely by
+ * the state of this generator at the time of the split, so a tree of
+ * generators grown from a single seed is reproducible without any shared
+ * (and therefore locked) state.
+ */
+public interface SplittableRandomProvider extends RandomProvider {
+
+    /**
+     * Create a new generator, advancing the state of this generator. The
+     * returned generator does not share any state with this generator.
+     * @return The new generator.
+     */
+    SplittableRandomProvider split();
+}
@@ -0,0 +1,151 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.math.random.generator;
+
+/**
+ * <p>
+ * The xoroshiro128++ generator of Blackman and Vigna. The generator keeps
+ * 128 bits of state in two words, passes BigCrush and PractRand, and needs
+ * only a handful of shifts, rotations and additions per value, which makes it
+ * far cheaper to construct and to copy than the {@linkplain MersenneTwister}.
+ * </p><p>
+ * The period of this generator is 2^128 - 1. The state is expanded from the
+ * seed with {@linkplain SplitMix64}, so that similar seeds give unrelated
+ * streams. The generator is split with the jump function: the split
+ * generator continues from the current state, while this generator is moved
+ * 2^64 values ahead, giving 2^64 non-overlapping subsequences.
+ * </p><p>
+ * References:
+ * <ul><li>
+ * D. Blackman and S. Vigna, "Scrambled Linear Pseudorandom Number Generators",
+ * ACM Transactions on Mathematical Software, 47, 4 (2021), 1-32.
+ * </li></ul></p>
+ */
+public class Xoroshiro128PlusPlus implements SplittableRandomProvider {
+
+    private static final long serialVersionUID = -1828339616713457092L;
+    private static final long[] JUMP = {0x2bd7a6a6e99c2ddcL, 0x0992ccaf6a6fca05L};
+
+    private long s0;
+    private long s1;
+
+    /**
+     * Default Constructor. Initialises the {@linkplain Xoroshiro128PlusPlus} with the
+     * seed value from {@link Seeder#getSeed()}.
+     */
+    public Xoroshiro128PlusPlus() {
+        this(Seeder.getSeed());
+    }
+
+    /**
+     * Create a {@linkplain Xoroshiro128PlusPlus} with the given seed value.
+     * @param seed The initial seed value to use.
+     */
+    public Xoroshiro128PlusPlus(long seed) {
+        long z = seed;
+        s0 = SplitMix64.mix64(z += SplitMix64.GOLDEN_GAMMA);
+        s1 = SplitMix64.mix64(z + SplitMix64.GOLDEN_GAMMA);
+        if ((s0 | s1) == 0) { // the all-zero state is a fixed point
+            s0 = SplitMix64.GOLDEN_GAMMA;
+        }
+    }
+
+    /**
+     * Copy constructor. Create an instance in the same state as the given
+     * instance.
+     * @param copy The instance to copy.
+     */
+    public Xoroshiro128PlusPlus(Xoroshiro128PlusPlus copy) {
+        this.s0 = copy.s0;
+        this.s1 = copy.s1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Xoroshiro128PlusPlus split() {
+        Xoroshiro128PlusPlus split = new Xoroshiro128PlusPlus(this);
+        jump();
+        return split;
+    }
+
+    /**
+     * Advance the state by 2^64 values.
+     */
+    private void jump() {
+        long t0 = 0;
+        long t1 = 0;
+        for (long jump : JUMP) {
+            for (int b = 0; b < 64; b++) {
+                if ((jump & (1L << b)) != 0) {
+                    t0 ^= s0;
+                    t1 ^= s1;
+                }
+                nextLong();
+            }
+        }
+        s0 = t0;
+        s1 = t1;
+    }
+
+    @Override
+    public long nextLong() {
+        long a = s0;
+        long b = s1;
+        long result = Long.rotateLeft(a + b, 17) + a;
+        b ^= a;
+        s0 = Long.rotateLeft(a, 49) ^ b ^ (b << 21);
+        s1 = Long.rotateLeft(b, 28);
+        return result;
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override
+    public int nextInt(int n) {
+        return LongOutput.nextInt(this, n);
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    @Override
+    public float nextFloat() {
+        return (nextLong() >>> 40) / ((float) (1 << 24));
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) / (double) (1L << 53);
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+        LongOutput.nextBytes(this, bytes);
+    }
+}
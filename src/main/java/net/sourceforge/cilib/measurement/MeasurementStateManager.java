@@ -29,7 +29,10 @@ import net.sourceforge.cilib.algorithm.Algorithm;
 /**
  *
  * @author gpampara
+ * @deprecated The {@code MeasurementSuite} holds the state of its measurements
+ *             directly, without externalising it after every measurement.
  */
+@Deprecated
 public class MeasurementStateManager {
     private ConcurrentHashMap<Algorithm, ConcurrentHashMap<Measurement, MeasurementMemento>> algorithmData;
 
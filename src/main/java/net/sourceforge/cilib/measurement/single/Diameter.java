@@ -23,9 +23,9 @@ package net.sourceforge.cilib.measurement.single;
 
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.algorithm.population.PopulationBasedAlgorithm;
-import net.sourceforge.cilib.entity.Entity;
-import net.sourceforge.cilib.entity.Topology;
-import net.sourceforge.cilib.entity.visitor.DiameterVisitor;
+import net.sourceforge.cilib.entity.visitor.DiameterStrategy;
+import net.sourceforge.cilib.entity.visitor.Diameters;
+import net.sourceforge.cilib.entity.visitor.ExactDiameterStrategy;
 import net.sourceforge.cilib.measurement.Measurement;
 import net.sourceforge.cilib.type.types.Real;
 
@@ -39,6 +39,7 @@ import net.sourceforge.cilib.type.types.Real;
  */
 public class Diameter implements Measurement<Real> {
     private static final long serialVersionUID = 5136996282460480831L;
+    private DiameterStrategy strategy = new ExactDiameterStrategy();
 
     /**
      * {@inheritDoc}
@@ -62,12 +63,20 @@ public class Diameter implements Measurement<Real> {
     @Override
     public Real getValue(Algorithm algorithm) {
         PopulationBasedAlgorithm popAlg = (PopulationBasedAlgorithm) algorithm;
-        Topology<? extends Entity> topology = popAlg.getTopology();
+        return Real.valueOf(Diameters.of(popAlg, strategy));
+    }
 
-        DiameterVisitor visitor = new DiameterVisitor();
-        topology.accept(visitor);
+    public DiameterStrategy getStrategy() {
+        return strategy;
+    }
 
-        return Real.valueOf(visitor.getResult());
+    /**
+     * Set the strategy used to determine the diameter. Approximate strategies
+     * trade accuracy for linear time in the size of the swarm.
+     * @param strategy The {@code DiameterStrategy} to use.
+     */
+    public void setStrategy(DiameterStrategy strategy) {
+        this.strategy = strategy;
     }
 
 }
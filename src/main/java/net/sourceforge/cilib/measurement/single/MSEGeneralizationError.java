@@ -22,13 +22,9 @@
 package net.sourceforge.cilib.measurement.single;
 
 import net.sourceforge.cilib.algorithm.Algorithm;
-import net.sourceforge.cilib.io.StandardPatternDataTable;
-import net.sourceforge.cilib.io.pattern.StandardPattern;
 import net.sourceforge.cilib.measurement.Measurement;
 import net.sourceforge.cilib.nn.NeuralNetwork;
-import net.sourceforge.cilib.nn.architecture.visitors.OutputErrorVisitor;
 import net.sourceforge.cilib.problem.NNDataTrainingProblem;
-import net.sourceforge.cilib.type.types.Numeric;
 import net.sourceforge.cilib.type.types.Real;
 import net.sourceforge.cilib.type.types.Type;
 import net.sourceforge.cilib.type.types.container.Vector;
@@ -65,23 +61,9 @@ public class MSEGeneralizationError implements Measurement {
     public Type getValue(Algorithm algorithm) {
         Vector solution = (Vector) algorithm.getBestSolution().getPosition();
         NNDataTrainingProblem problem = (NNDataTrainingProblem) algorithm.getOptimisationProblem();
-        StandardPatternDataTable generalizationSet = problem.getGeneralizationSet();
         NeuralNetwork neuralNetwork = problem.getNeuralNetwork();
-        neuralNetwork.setWeights(solution);
 
-        double errorGeneralization = 0.0;
-        OutputErrorVisitor visitor = new OutputErrorVisitor();
-        Vector error = null;
-        for (StandardPattern pattern : generalizationSet) {
-            neuralNetwork.evaluatePattern(pattern);
-            visitor.setInput(pattern);
-            neuralNetwork.getArchitecture().accept(visitor);
-            error = visitor.getOutput();
-            for (Numeric real : error) {
-                errorGeneralization += real.doubleValue() * real.doubleValue();
-            }
-        }
-        errorGeneralization /= generalizationSet.getNumRows() * error.size();
+        double errorGeneralization = neuralNetwork.getDenseNetwork().calculateMSE(problem.getGeneralizationBatch(), solution);
         return Real.valueOf(errorGeneralization);
     }
 }
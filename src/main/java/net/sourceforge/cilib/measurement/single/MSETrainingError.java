@@ -22,13 +22,9 @@
 package net.sourceforge.cilib.measurement.single;
 
 import net.sourceforge.cilib.algorithm.Algorithm;
-import net.sourceforge.cilib.io.StandardPatternDataTable;
-import net.sourceforge.cilib.io.pattern.StandardPattern;
 import net.sourceforge.cilib.measurement.Measurement;
 import net.sourceforge.cilib.nn.NeuralNetwork;
-import net.sourceforge.cilib.nn.architecture.visitors.OutputErrorVisitor;
 import net.sourceforge.cilib.problem.NNDataTrainingProblem;
-import net.sourceforge.cilib.type.types.Numeric;
 import net.sourceforge.cilib.type.types.Real;
 import net.sourceforge.cilib.type.types.Type;
 import net.sourceforge.cilib.type.types.container.Vector;
@@ -65,23 +61,9 @@ public class MSETrainingError implements Measurement {
     public Type getValue(Algorithm algorithm) {
         Vector solution = (Vector) algorithm.getBestSolution().getPosition();
         NNDataTrainingProblem problem = (NNDataTrainingProblem) algorithm.getOptimisationProblem();
-        StandardPatternDataTable trainingSet = problem.getTrainingSet();
         NeuralNetwork neuralNetwork = problem.getNeuralNetwork();
-        neuralNetwork.setWeights(solution);
 
-        double errorTraining = 0.0;
-        OutputErrorVisitor visitor = new OutputErrorVisitor();
-        Vector error = null;
-        for (StandardPattern pattern : trainingSet) {
-            neuralNetwork.evaluatePattern(pattern);
-            visitor.setInput(pattern);
-            neuralNetwork.getArchitecture().accept(visitor);
-            error = visitor.getOutput();
-            for (Numeric real : error) {
-                errorTraining += real.doubleValue() * real.doubleValue();
-            }
-        }
-        errorTraining /= trainingSet.getNumRows() * error.size();
+        double errorTraining = neuralNetwork.getDenseNetwork().calculateMSE(problem.getTrainingBatch(), solution);
         return Real.valueOf(errorTraining);
     }
 }
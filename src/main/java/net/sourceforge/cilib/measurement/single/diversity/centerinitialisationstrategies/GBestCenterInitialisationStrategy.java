@@ -23,6 +23,7 @@ package net.sourceforge.cilib.measurement.single.diversity.centerinitialisations
 
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.algorithm.population.PopulationBasedAlgorithm;
+import net.sourceforge.cilib.algorithm.population.Populations;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
@@ -34,6 +35,6 @@ public class GBestCenterInitialisationStrategy implements CenterInitialisationSt
     public Vector getCenter() {
         PopulationBasedAlgorithm algorithm = (PopulationBasedAlgorithm) AbstractAlgorithm.get();
 
-        return (Vector) algorithm.getTopology().getBestEntity().getCandidateSolution();
+        return (Vector) Populations.bestEntity(algorithm).getCandidateSolution();
     }
 }
@@ -21,11 +21,9 @@
  */
 package net.sourceforge.cilib.measurement.single.diversity.centerinitialisationstrategies;
 
-import java.util.Iterator;
-
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.algorithm.population.PopulationBasedAlgorithm;
-import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.algorithm.population.Populations;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
@@ -36,24 +34,6 @@ public class SpatialCenterInitialisationStrategy implements CenterInitialisation
     @Override
     public Vector getCenter() {
         PopulationBasedAlgorithm algorithm = (PopulationBasedAlgorithm) AbstractAlgorithm.get();
-        int numberOfEntities = algorithm.getTopology().size();//getPopulationSize();
-
-        Iterator<? extends Entity> averageIterator = algorithm.getTopology().iterator();
-        Entity entity = averageIterator.next();
-        Vector averageEntityPosition = (Vector) entity.getCandidateSolution().getClone();
-
-        while (averageIterator.hasNext()) {
-            entity = averageIterator.next();
-            Vector entityContents = (Vector) entity.getCandidateSolution();
-            for (int j = 0; j < averageEntityPosition.size(); ++j) {
-                averageEntityPosition.setReal(j, averageEntityPosition.doubleValueOf(j) + entityContents.doubleValueOf(j));
-            }
-        }
-
-        for (int j = 0; j < averageEntityPosition.size(); ++j) {
-            averageEntityPosition.setReal(j, averageEntityPosition.doubleValueOf(j) / numberOfEntities);
-        }
-
-        return averageEntityPosition;
+        return Populations.centroid(algorithm);
     }
 }
@@ -0,0 +1,217 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.nn;
+
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.List;
+import net.sourceforge.cilib.functions.activation.ActivationFunction;
+import net.sourceforge.cilib.nn.architecture.Architecture;
+import net.sourceforge.cilib.nn.architecture.ForwardingLayer;
+import net.sourceforge.cilib.nn.architecture.Layer;
+import net.sourceforge.cilib.nn.architecture.visitors.WeightSettingVisitor;
+import net.sourceforge.cilib.nn.components.BiasNeuron;
+import net.sourceforge.cilib.nn.components.Neuron;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * A dense, layered representation of a fully connected feed forward
+ * {@link Architecture}. The weights leading into each layer form a row-major
+ * matrix (one row per neuron) that lies at a fixed offset within a flat weight
+ * {@link Vector}, in the order used by {@link WeightSettingVisitor}. A
+ * candidate weight vector, such as the position of a particle, can therefore
+ * be evaluated as is, without first being copied into the {@link Neuron}s of
+ * the architecture.
+ * <p>
+ * A {@link PatternBatch} is evaluated a block of patterns at a time. The
+ * activations of a layer for the whole block are obtained through a single
+ * matrix-matrix product of the layer's weight matrix with the activations of
+ * the previous layer, and the output error is accumulated as soon as the
+ * output layer has been computed. The activations of each neuron are
+ * calculated in exactly the same order as {@link Neuron#calculateActivation},
+ * so the results are identical to those of the visitor based evaluation.
+ * <p>
+ * The structure of the architecture is captured at construction; the weights
+ * held by the architecture's neurons are not used.
+ */
+public class DenseFeedForwardNetwork {
+
+    private static final int BLOCK_SIZE = 256;
+    private static final double BIAS_ACTIVATION = -1.0;
+
+    private final int numLayers;
+    private final int[] neurons; // per layer, excluding bias neurons (the inputs for the input layer)
+    private final int[] units; // per layer, including bias neurons
+    private final int[] offsets; // of the weight matrix leading into each layer
+    private final ActivationFunction[][] activationFunctions;
+    private final int numWeights;
+
+    /**
+     * Create the dense representation of the given architecture. The first
+     * layer has to be a {@link ForwardingLayer} and, within every layer, the
+     * {@link BiasNeuron}s have to follow the other neurons.
+     * @param architecture the built architecture.
+     */
+    public DenseFeedForwardNetwork(Architecture architecture) {
+        List<Layer> layers = architecture.getLayers();
+        this.numLayers = layers.size();
+        Preconditions.checkArgument(numLayers >= 2, "The architecture requires an input and an output layer.");
+        Preconditions.checkArgument(layers.get(0) instanceof ForwardingLayer, "The input layer has to be a ForwardingLayer.");
+
+        this.neurons = new int[numLayers];
+        this.units = new int[numLayers];
+        this.offsets = new int[numLayers];
+        this.activationFunctions = new ActivationFunction[numLayers][];
+
+        ForwardingLayer inputLayer = (ForwardingLayer) layers.get(0);
+        neurons[0] = inputLayer.getSourceSize();
+        units[0] = inputLayer.size();
+        activationFunctions[0] = new ActivationFunction[0];
+
+        int offset = 0;
+        for (int l = 1; l < numLayers; l++) {
+            Layer layer = layers.get(l);
+            int size = layer.size();
+            int count = 0;
+            ActivationFunction[] functions = new ActivationFunction[size];
+            for (int n = 0; n < size; n++) {
+                Neuron neuron = layer.get(n);
+                if (neuron instanceof BiasNeuron) {
+                    continue;
+                }
+                Preconditions.checkArgument(count == n, "Bias neurons have to follow the other neurons of layer %s.", l);
+                Preconditions.checkArgument(neuron.getNumWeights() == units[l - 1], "Layer %s is not fully connected.", l);
+                functions[count++] = neuron.getActivationFunction();
+            }
+            neurons[l] = count;
+            units[l] = size;
+            offsets[l] = offset;
+            activationFunctions[l] = Arrays.copyOf(functions, count);
+            offset += count * units[l - 1];
+        }
+        Preconditions.checkArgument(neurons[numLayers - 1] == units[numLayers - 1], "The output layer may not contain bias neurons.");
+        this.numWeights = offset;
+    }
+
+    /**
+     * Calculate the mean squared error of the network over all the patterns of
+     * the batch, averaged over the patterns and outputs.
+     * @param batch the patterns to evaluate.
+     * @param weights the weights of the network, read in place.
+     * @return the mean squared error.
+     */
+    public double calculateMSE(PatternBatch batch, Vector weights) {
+        Preconditions.checkArgument(weights.size() == numWeights, "Expected %s weights, but got %s.", numWeights, weights.size());
+        Preconditions.checkArgument(batch.getNumInputs() == getNumInputs() && batch.getNumTargets() == getNumOutputs(),
+                "The patterns do not match the input and output layers of the network.");
+
+        int size = batch.size();
+        int blockSize = Math.min(BLOCK_SIZE, size);
+        double[] inputs = batch.getInputs();
+        double[] targets = batch.getTargets();
+        double[][] activations = new double[numLayers][];
+        for (int l = 1; l < numLayers; l++) {
+            activations[l] = new double[neurons[l] * blockSize];
+        }
+
+        int outputLayer = numLayers - 1;
+        int numOutputs = neurons[outputLayer];
+        double[] outputs = activations[outputLayer];
+        double error = 0.0;
+        for (int start = 0; start < size; start += blockSize) {
+            int length = Math.min(blockSize, size - start);
+
+            propagate(1, weights, inputs, start, size, activations[1], blockSize, length);
+            for (int l = 2; l < numLayers; l++) {
+                propagate(l, weights, activations[l - 1], 0, blockSize, activations[l], blockSize, length);
+            }
+
+            for (int p = 0; p < length; p++) {
+                for (int k = 0; k < numOutputs; k++) {
+                    double difference = targets[k * size + start + p] - outputs[k * blockSize + p];
+                    error += difference * difference;
+                }
+            }
+        }
+        return error / (size * numOutputs);
+    }
+
+    /*
+     * Compute the activations of the given layer for length patterns. Row i of
+     * the previous layer's activations starts at source[sourceOffset + i * sourceStride],
+     * and row n of the result is written to destination[n * destinationStride].
+     * The bias units of the previous layer are not stored.
+     */
+    private void propagate(int layer, Vector weights, double[] source, int sourceOffset, int sourceStride,
+            double[] destination, int destinationStride, int length) {
+        int previousNeurons = neurons[layer - 1];
+        int previousUnits = units[layer - 1];
+        int weight = offsets[layer];
+
+        for (int n = 0; n < neurons[layer]; n++) {
+            int row = n * destinationStride;
+            Arrays.fill(destination, row, row + length, 0.0);
+            for (int i = 0; i < previousNeurons; i++) {
+                double w = weights.doubleValueOf(weight++);
+                int from = sourceOffset + i * sourceStride;
+                for (int p = 0; p < length; p++) {
+                    destination[row + p] += source[from + p] * w;
+                }
+            }
+            for (int i = previousNeurons; i < previousUnits; i++) {
+                double bias = BIAS_ACTIVATION * weights.doubleValueOf(weight++);
+                for (int p = 0; p < length; p++) {
+                    destination[row + p] += bias;
+                }
+            }
+
+            ActivationFunction function = activationFunctions[layer][n];
+            for (int p = 0; p < length; p++) {
+                destination[row + p] = function.apply(destination[row + p]);
+            }
+        }
+    }
+
+    /**
+     * Get the number of weights of the network.
+     * @return the number of weights.
+     */
+    public int getNumWeights() {
+        return numWeights;
+    }
+
+    /**
+     * Get the number of inputs of the network, excluding bias inputs.
+     * @return the number of inputs.
+     */
+    public int getNumInputs() {
+        return neurons[0];
+    }
+
+    /**
+     * Get the number of outputs of the network.
+     * @return the number of outputs.
+     */
+    public int getNumOutputs() {
+        return neurons[numLayers - 1];
+    }
+}
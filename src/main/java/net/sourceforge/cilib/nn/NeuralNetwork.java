@@ -39,6 +39,7 @@ public class NeuralNetwork {
 
     private Architecture architecture;
     private ArchitectureOperationVisitor operationVisitor;
+    private DenseFeedForwardNetwork denseNetwork;
 
     /**
      * Default constructor. The default operation visitor is a {@link FeedForwardVisitor}
@@ -53,6 +54,7 @@ public class NeuralNetwork {
      */
     public void initialize() {
         architecture.initialize();
+        denseNetwork = null;
     }
 
     /**
@@ -81,6 +83,19 @@ public class NeuralNetwork {
      */
     public void setArchitecture(Architecture architecture) {
         this.architecture = architecture;
+        this.denseNetwork = null;
+    }
+
+    /**
+     * Gets the {@link DenseFeedForwardNetwork} representation of the architecture,
+     * which is created on first use after the network has been initialized.
+     * @return the dense representation of the architecture.
+     */
+    public DenseFeedForwardNetwork getDenseNetwork() {
+        if (denseNetwork == null) {
+            denseNetwork = new DenseFeedForwardNetwork(architecture);
+        }
+        return denseNetwork;
     }
 
     /**
@@ -0,0 +1,131 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.nn;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.List;
+import net.sourceforge.cilib.io.pattern.StandardPattern;
+import net.sourceforge.cilib.type.types.Numeric;
+import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * A set of {@link StandardPattern}s stored as two dense, feature-major
+ * matrices: input {@code i} of pattern {@code p} is found at index
+ * {@code i * size + p} of {@link #getInputs()}, and likewise for the targets.
+ * This is the layout that {@link DenseFeedForwardNetwork} evaluates, since a
+ * single input (or target) of consecutive patterns is then contiguous.
+ * <p>
+ * A target is either a {@link Vector} or a single {@link Numeric} value.
+ */
+public final class PatternBatch {
+
+    private final int size;
+    private final int numInputs;
+    private final int numTargets;
+    private final double[] inputs;
+    private final double[] targets;
+
+    /**
+     * Create a batch containing the given patterns, in iteration order. All
+     * the patterns must have the same number of inputs and targets.
+     * @param patterns the patterns to store.
+     */
+    public PatternBatch(Iterable<StandardPattern> patterns) {
+        List<StandardPattern> list = Lists.newArrayList(patterns);
+        Preconditions.checkArgument(!list.isEmpty(), "A pattern batch requires at least one pattern.");
+
+        StandardPattern first = list.get(0);
+        this.size = list.size();
+        this.numInputs = first.getVector().size();
+        this.numTargets = targetSize(first.getTarget());
+        this.inputs = new double[numInputs * size];
+        this.targets = new double[numTargets * size];
+
+        for (int p = 0; p < size; p++) {
+            StandardPattern pattern = list.get(p);
+            Vector vector = pattern.getVector();
+            Type target = pattern.getTarget();
+            Preconditions.checkArgument(vector.size() == numInputs && targetSize(target) == numTargets,
+                    "All patterns in a batch must have the same number of inputs and targets.");
+
+            for (int i = 0; i < numInputs; i++) {
+                inputs[i * size + p] = vector.doubleValueOf(i);
+            }
+            if (target instanceof Vector) {
+                Vector targetVector = (Vector) target;
+                for (int k = 0; k < numTargets; k++) {
+                    targets[k * size + p] = targetVector.doubleValueOf(k);
+                }
+            } else {
+                targets[p] = ((Numeric) target).doubleValue();
+            }
+        }
+    }
+
+    private static int targetSize(Type target) {
+        return target instanceof Vector ? ((Vector) target).size() : 1;
+    }
+
+    /**
+     * Get the number of patterns in the batch.
+     * @return the number of patterns.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the number of inputs of each pattern.
+     * @return the number of inputs.
+     */
+    public int getNumInputs() {
+        return numInputs;
+    }
+
+    /**
+     * Get the number of targets of each pattern.
+     * @return the number of targets.
+     */
+    public int getNumTargets() {
+        return numTargets;
+    }
+
+    /**
+     * Get the inputs of all the patterns, laid out one input after the other.
+     * The returned array is shared and must not be modified.
+     * @return the feature-major matrix of the inputs.
+     */
+    public double[] getInputs() {
+        return inputs;
+    }
+
+    /**
+     * Get the targets of all the patterns, laid out one target after the other.
+     * The returned array is shared and must not be modified.
+     * @return the feature-major matrix of the targets.
+     */
+    public double[] getTargets() {
+        return targets;
+    }
+}
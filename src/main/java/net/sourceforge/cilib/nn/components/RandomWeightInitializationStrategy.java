@@ -23,7 +23,7 @@ package net.sourceforge.cilib.nn.components;
 
 import net.sourceforge.cilib.math.random.generator.MersenneTwister;
 import net.sourceforge.cilib.math.random.generator.RandomProvider;
-import net.sourceforge.cilib.type.types.Randomizable;
+import net.sourceforge.cilib.type.types.Bounds;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
@@ -48,8 +48,9 @@ public class RandomWeightInitializationStrategy implements WeightInitializationS
      */
     @Override
     public void initialize(Vector weights) {
-        for (Randomizable weight : weights) {
-            weight.randomize(randomNumberGenerator);
+        for (int i = 0; i < weights.size(); i++) {
+            Bounds bounds = weights.boundsOf(i);
+            weights.setReal(i, randomNumberGenerator.nextDouble() * (bounds.getUpperBound() - bounds.getLowerBound()) + bounds.getLowerBound());
         }
     }
 
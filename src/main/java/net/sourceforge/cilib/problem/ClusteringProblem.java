@@ -21,6 +21,7 @@
  */
 package net.sourceforge.cilib.problem;
 
+import com.google.common.base.Preconditions;
 import net.sourceforge.cilib.problem.dataset.AssociatedPairDataSetBuilder;
 import net.sourceforge.cilib.problem.dataset.ClusterableDataSet;
 import net.sourceforge.cilib.problem.dataset.DataSetBuilder;
@@ -88,6 +89,7 @@ public class ClusteringProblem extends OptimisationProblemAdapter {
     private int numberOfClusters;
     private DomainRegistry domainRegistry;
     private DistanceMeasure distanceMeasure;
+    private int assignmentThreads;
     private static final int UNINITIALISED = -1;
 
     public ClusteringProblem() {
@@ -96,6 +98,7 @@ public class ClusteringProblem extends OptimisationProblemAdapter {
         numberOfClusters = UNINITIALISED;
         domainRegistry = new StringBasedDomainRegistry();
         distanceMeasure = new EuclideanDistanceMeasure();
+        assignmentThreads = 1;
         // needed so that the unit tests don't get NullPointerExceptions
         ClusteringUtils.get().setClusteringProblem(this);
     }
@@ -106,6 +109,7 @@ public class ClusteringProblem extends OptimisationProblemAdapter {
         numberOfClusters = rhs.numberOfClusters;
         domainRegistry = rhs.domainRegistry.getClone();
         distanceMeasure = rhs.distanceMeasure;
+        assignmentThreads = rhs.assignmentThreads;
         // not sure if it is needed, but it can't hurt
         ClusteringUtils.get().setClusteringProblem(this);
     }
@@ -278,6 +282,26 @@ public class ClusteringProblem extends OptimisationProblemAdapter {
         return distanceMeasure;
     }
 
+    /**
+     * Set the number of tasks that assign the patterns to their closest centroids
+     * during a single fitness evaluation. More than one task pays off for large
+     * datasets. The tasks are executed on the
+     * {@linkplain net.sourceforge.cilib.algorithm.AbstractAlgorithm#getEvaluationExecutor()
+     * evaluation executor} of the simulator. The patterns are assigned sequentially
+     * when there is no such executor, which includes fitness evaluations that are
+     * themselves executed on it.
+     *
+     * @param assignmentThreads the number of threads
+     */
+    public void setAssignmentThreads(int assignmentThreads) {
+        Preconditions.checkArgument(assignmentThreads > 0, "The number of threads must be positive");
+        this.assignmentThreads = assignmentThreads;
+    }
+
+    public int getAssignmentThreads() {
+        return assignmentThreads;
+    }
+
     /**
      * We are actually optimising the {@link #innerProblem}, so use it to calculate the
      * fitness.
@@ -21,7 +21,6 @@
  */
 package net.sourceforge.cilib.problem;
 
-import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.io.DataTable;
 import net.sourceforge.cilib.io.DataTableBuilder;
 import net.sourceforge.cilib.io.DelimitedTextFileReader;
@@ -33,10 +32,9 @@ import net.sourceforge.cilib.io.transform.PatternConversionOperator;
 import net.sourceforge.cilib.io.transform.ShuffleOperator;
 import net.sourceforge.cilib.io.transform.TypeConversionOperator;
 import net.sourceforge.cilib.nn.NeuralNetwork;
-import net.sourceforge.cilib.nn.architecture.visitors.OutputErrorVisitor;
+import net.sourceforge.cilib.nn.PatternBatch;
 import net.sourceforge.cilib.type.DomainRegistry;
 import net.sourceforge.cilib.type.StringBasedDomainRegistry;
-import net.sourceforge.cilib.type.types.Numeric;
 import net.sourceforge.cilib.type.types.Type;
 import net.sourceforge.cilib.type.types.container.Vector;
 
@@ -53,9 +51,10 @@ public class NNDataTrainingProblem extends OptimisationProblemAdapter {
     private DataTableBuilder dataTableBuilder;
     private StandardPatternDataTable trainingSet;
     private StandardPatternDataTable generalizationSet;
+    private transient PatternBatch trainingBatch;
+    private transient PatternBatch generalizationBatch;
     private double trainingSetPercentage;
     private double generalizationSetPercentage;
-    private int previousShuffleIteration;
     private ShuffleOperator shuffler;
     private boolean initialized;
     private DataOperator patternConverstionOperator;
@@ -66,7 +65,6 @@ public class NNDataTrainingProblem extends OptimisationProblemAdapter {
     public NNDataTrainingProblem() {
         neuralNetwork = new NeuralNetwork();
         dataTableBuilder = new DataTableBuilder(new DelimitedTextFileReader());
-        previousShuffleIteration = -1;
         trainingSetPercentage = 0.66;
         generalizationSetPercentage = 0.34;
         patternConverstionOperator = new PatternConversionOperator();
@@ -104,6 +102,7 @@ public class NNDataTrainingProblem extends OptimisationProblemAdapter {
                 generalizationSet.addRow((StandardPattern) dataTable.getRow(i));
             }
 
+            invalidateBatches();
             neuralNetwork.initialize();
         } catch (CIlibIOException exception) {
             exception.printStackTrace();
@@ -120,9 +119,11 @@ public class NNDataTrainingProblem extends OptimisationProblemAdapter {
     }
 
     /**
-     * Calculates the fitness of the given solution by setting the neural network
-     * weights to the solution and evaluating the training set in order to calculate
-     * the MSE (which is minimized).
+     * Calculates the fitness of the given solution by evaluating the training set
+     * as a batch on the dense representation of the neural network, using the
+     * solution as the weights, in order to calculate the MSE (which is minimized).
+     * The MSE does not depend on the order of the patterns, so the batch is
+     * only built again when the training set is replaced.
      * @param solution the weights representing a solution.
      * @return a new MinimizationFitness wrapping the MSE training error.
      */
@@ -132,34 +133,15 @@ public class NNDataTrainingProblem extends OptimisationProblemAdapter {
             this.initialise();
         }
 
-        int currentIteration = AbstractAlgorithm.get().getIterations();
-        if (currentIteration != previousShuffleIteration) {
-            try {
-                shuffler.operate(trainingSet);
-            } catch (CIlibIOException exception) {
-                exception.printStackTrace();
-            }
-        }
-
-        neuralNetwork.setWeights((Vector) solution);
-
-        double errorTraining = 0.0;
-        OutputErrorVisitor visitor = new OutputErrorVisitor();
-        Vector error = null;
-        for (StandardPattern pattern : trainingSet) {
-            Vector output = neuralNetwork.evaluatePattern(pattern);
-            visitor.setInput(pattern);
-            neuralNetwork.getArchitecture().accept(visitor);
-            error = visitor.getOutput();
-            for (Numeric real : error) {
-                errorTraining += real.doubleValue() * real.doubleValue();
-            }
-        }
-        errorTraining /= trainingSet.getNumRows() * error.size();
-
+        double errorTraining = neuralNetwork.getDenseNetwork().calculateMSE(getTrainingBatch(), (Vector) solution);
         return new MinimisationFitness(errorTraining);
     }
 
+    private synchronized void invalidateBatches() {
+        trainingBatch = null;
+        generalizationBatch = null;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -219,8 +201,21 @@ public class NNDataTrainingProblem extends OptimisationProblemAdapter {
      * Sets the generalization dataset.
      * @param generalizationSet the new generalization dataset.
      */
-    public void setGeneralizationSet(StandardPatternDataTable generalizationSet) {
+    public synchronized void setGeneralizationSet(StandardPatternDataTable generalizationSet) {
         this.generalizationSet = generalizationSet;
+        this.generalizationBatch = null;
+    }
+
+    /**
+     * Gets the generalization dataset as a {@link PatternBatch}. The batch is
+     * built when first requested after the generalization set is replaced.
+     * @return the generalization dataset as a batch.
+     */
+    public synchronized PatternBatch getGeneralizationBatch() {
+        if (generalizationBatch == null) {
+            generalizationBatch = new PatternBatch(generalizationSet);
+        }
+        return generalizationBatch;
     }
 
     /**
@@ -267,8 +262,21 @@ public class NNDataTrainingProblem extends OptimisationProblemAdapter {
      * Sets the training dataset.
      * @param trainingSet the new training dataset.
      */
-    public void setTrainingSet(StandardPatternDataTable trainingSet) {
+    public synchronized void setTrainingSet(StandardPatternDataTable trainingSet) {
         this.trainingSet = trainingSet;
+        this.trainingBatch = null;
+    }
+
+    /**
+     * Gets the training dataset as a {@link PatternBatch}. The batch is built
+     * when first requested after the training set is replaced.
+     * @return the training dataset as a batch.
+     */
+    public synchronized PatternBatch getTrainingBatch() {
+        if (trainingBatch == null) {
+            trainingBatch = new PatternBatch(trainingSet);
+        }
+        return trainingBatch;
     }
 
     /**
@@ -45,6 +45,7 @@ public abstract class OptimisationProblemAdapter implements OptimisationProblem
     private ChangeStrategy changeStrategy;
     protected AtomicInteger fitnessEvaluations;
     protected DataSetBuilder dataSetBuilder;
+    private transient boolean batch; // true while the change strategy is consulted per batch
 
     protected OptimisationProblemAdapter() {
         fitnessEvaluations = new AtomicInteger(0);
@@ -73,18 +74,46 @@ public abstract class OptimisationProblemAdapter implements OptimisationProblem
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The fitness evaluations are counted atomically. Between calls to
+     * {@link #beginBatch()} and {@link #endBatch()} this method may be called
+     * concurrently, since the {@link ChangeStrategy} is then not consulted.
+     * The thread-safety of the fitness calculation itself is up to the subclass.
      */
     @Override
     public final Fitness getFitness(Type solution) {
         fitnessEvaluations.incrementAndGet();
 
-        if (this.changeStrategy.shouldApply(this)) {
+        if (!batch && this.changeStrategy.shouldApply(this)) {
             changeEnvironment();
         }
 
         return calculateFitness(solution);
     }
 
+    /**
+     * Consult the {@link ChangeStrategy} once for a batch of solutions whose
+     * fitness is about to be calculated concurrently, changing the environment
+     * if required. Until {@link #endBatch()} is called, {@link #getFitness(Type)}
+     * does not consult the change strategy, so every solution in the batch is
+     * evaluated in the same environment. Both methods must be called by the
+     * thread that hands the evaluations to the other threads.
+     */
+    public final void beginBatch() {
+        if (this.changeStrategy.shouldApply(this)) {
+            changeEnvironment();
+        }
+        batch = true;
+    }
+
+    /**
+     * Resume consulting the {@link ChangeStrategy} on every fitness evaluation.
+     * @see #beginBatch()
+     */
+    public final void endBatch() {
+        batch = false;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -24,8 +24,8 @@ package net.sourceforge.cilib.problem.boundaryconstraint;
 import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.math.random.generator.MersenneTwister;
 import net.sourceforge.cilib.math.random.generator.RandomProvider;
+import net.sourceforge.cilib.type.types.Int;
 import net.sourceforge.cilib.type.types.Numeric;
-import net.sourceforge.cilib.type.types.Type;
 import net.sourceforge.cilib.type.types.Types;
 import net.sourceforge.cilib.type.types.container.Vector;
 
@@ -59,17 +59,21 @@ public class PerElementReinitialisation extends ReinitialisationBoundary {
     }
 
     /**
-     * This method only randomises those elements inside the given {@linkplain Type} object that are out of bounds.
-     * NOTE: This method is recursive so that it can handle <tt>Vectors</tt> inside <tt>Vectors</tt>.
-     * @param type the {@linkplain Type} object whose individual elements should be randomised if they are out of bounds
+     * This method only randomises those elements inside the given {@linkplain Vector} that are out of bounds.
+     * Each randomised element is placed back into the {@linkplain Vector}, as the elements obtained from a
+     * real valued {@linkplain Vector} are copies.
+     * @param vector the {@linkplain Vector} whose individual elements should be randomised if they are out of bounds
      */
     private void enforce(Vector vector) {
-        for (Type element : vector) {
-            try {
-                enforce((Numeric) element);
-            }
-            catch (ClassCastException cce) {
-                enforce((Vector) element);
+        for (int i = 0; i < vector.size(); i++) {
+            if (!vector.boundsOf(i).isInsideBounds(vector.doubleValueOf(i))) {
+                Numeric numeric = vector.get(i);
+                numeric.randomize(random);
+                if (numeric instanceof Int) {
+                    vector.setInt(i, numeric.intValue());
+                } else {
+                    vector.setReal(i, numeric.doubleValue());
+                }
             }
         }
     }
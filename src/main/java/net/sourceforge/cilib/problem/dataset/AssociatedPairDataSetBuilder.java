@@ -44,7 +44,8 @@ public class AssociatedPairDataSetBuilder extends DataSetBuilder implements Clus
     protected ArrayList<Pattern> patterns = null;
     private Vector cachedMean = null;
     private double cachedVariance = 0.0;
-    private double[] distanceCache = null;
+    private DistanceCache distanceCache = null;
+    private double[] patternMatrix = null;
     private String identifier = null;
 
     /**
@@ -54,6 +55,7 @@ public class AssociatedPairDataSetBuilder extends DataSetBuilder implements Clus
         super();
         patterns = new ArrayList<Pattern>();
         identifier = "";
+        distanceCache = new DoubleDistanceCache();
     }
 
     public AssociatedPairDataSetBuilder(AssociatedPairDataSetBuilder rhs) {
@@ -62,6 +64,7 @@ public class AssociatedPairDataSetBuilder extends DataSetBuilder implements Clus
         for (Pattern pattern : rhs.patterns) {
             patterns.add(pattern.getClone());
         }
+        distanceCache = rhs.distanceCache.getClone();
     }
 
     @Override
@@ -120,6 +123,7 @@ public class AssociatedPairDataSetBuilder extends DataSetBuilder implements Clus
      */
     public void initialise() {
         cacheMeanAndVariance();
+        cachePatternMatrix();
         cacheDistances();
     }
 
@@ -150,35 +154,37 @@ public class AssociatedPairDataSetBuilder extends DataSetBuilder implements Clus
     }
 
     /**
-     * Calculate and cache the distances from all patterns to all other patterns. The cache
-     * structure looks like this (x represents a distance):
-     *   0 1 2 3 4 5
-     * 0 0 x x x x x
-     * 1   0 x x x x
-     * 2     0 x x x
-     * 3       0 x x
-     * 4         0 x
-     * 5           0
-     * Although it seems like a 2D structure, it is a 1D array. The zero-values are not
-     * stored, because zero can be returned when the indices are equal. Only the x values are
-     * stored.
+     * Copy the values of all the patterns into a single array, so that the patterns
+     * can be visited without going through their {@link Vector}s.
      */
-    private void cacheDistances() {
-        ClusteringUtils helper = ClusteringUtils.get();
-        int numPatterns = getNumberOfPatterns();
-        int cacheSize = (numPatterns * (numPatterns - 1)) / 2;
-        distanceCache = new double[cacheSize];
-        int index = 0;
-        for (int y = 0; y < numPatterns - 1; y++) {
-            Vector rhs = patterns.get(y).data;
-            for (int x = y + 1; x < numPatterns; x++) {
-                Vector lhs = patterns.get(x).data;
-                index = x + (numPatterns * y) - (((y + 1) * (y + 2)) / 2);
-                distanceCache[index] = helper.calculateDistance(lhs, rhs);
+    private void cachePatternMatrix() {
+        int dimension = patterns.isEmpty() ? 0 : patterns.get(0).data.size();
+        patternMatrix = new double[patterns.size() * dimension];
+        for (int i = 0; i < patterns.size(); i++) {
+            Vector data = patterns.get(i).data;
+            for (int j = 0; j < dimension; j++) {
+                patternMatrix[i * dimension + j] = data.doubleValueOf(j);
             }
         }
     }
 
+    /**
+     * Get the cached values of all the patterns, laid out one pattern after the other.
+     *
+     * @return the {@link #patternMatrix}
+     */
+    public double[] getPatternMatrix() {
+        return patternMatrix;
+    }
+
+    /**
+     * Cache the distances from all patterns to all other patterns, using the
+     * configured {@link DistanceCache}.
+     */
+    private void cacheDistances() {
+        distanceCache.initialise(patterns, ClusteringUtils.get().getClusteringProblem().getDistanceMeasure());
+    }
+
     /**
      * Retrieve the cached distance between the given patterns.
      *
@@ -198,9 +204,29 @@ public class AssociatedPairDataSetBuilder extends DataSetBuilder implements Clus
         }
 
         if (y > x) {
-            return getCachedDistance(y, x); // use recursion to swap the x and y index
+            return distanceCache.getDistance(y, x);
         }
-        return distanceCache[x + (getNumberOfPatterns() * y) - (((y + 1) * (y + 2)) / 2)];
+        return distanceCache.getDistance(x, y);
+    }
+
+    /**
+     * Get the strategy that stores the distances between the patterns.
+     *
+     * @return the {@link #distanceCache}
+     */
+    public DistanceCache getDistanceCache() {
+        return distanceCache;
+    }
+
+    /**
+     * Set the strategy that stores the distances between the patterns. The default
+     * {@link DoubleDistanceCache} holds the full matrix on the heap, which is only
+     * feasible for datasets of up to about 65000 patterns.
+     *
+     * @param distanceCache the {@link DistanceCache} to use
+     */
+    public void setDistanceCache(DistanceCache distanceCache) {
+        this.distanceCache = distanceCache;
     }
 
     /**
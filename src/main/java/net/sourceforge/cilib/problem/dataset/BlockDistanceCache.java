@@ -0,0 +1,144 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.problem.dataset;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import net.sourceforge.cilib.problem.dataset.ClusterableDataSet.Pattern;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.DistanceMeasure;
+
+/**
+ * A {@link DistanceCache} that divides the distance matrix into square blocks,
+ * which are calculated when one of their distances is first requested. The
+ * most recently used blocks are kept, up to the configured maximum, so the
+ * memory used is bounded by {@code 8 * blockSize * blockSize * maximumBlocks}
+ * bytes. The validity indices visit the patterns of one cluster against those
+ * of another, so most requests fall in blocks that are already cached.
+ */
+public class BlockDistanceCache implements DistanceCache {
+    private static final long serialVersionUID = 4390217618640557346L;
+
+    private int blockSize;
+    private int maximumBlocks;
+    private transient List<Pattern> patterns;
+    private transient DistanceMeasure distanceMeasure;
+    private transient int numberOfBlocks;
+    private transient Map<Long, double[]> blocks;
+
+    public BlockDistanceCache() {
+        blockSize = 256;
+        maximumBlocks = 256;
+    }
+
+    public BlockDistanceCache(BlockDistanceCache copy) {
+        blockSize = copy.blockSize;
+        maximumBlocks = copy.maximumBlocks;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BlockDistanceCache getClone() {
+        return new BlockDistanceCache(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void initialise(List<Pattern> patterns, DistanceMeasure distanceMeasure) {
+        this.patterns = patterns;
+        this.distanceMeasure = distanceMeasure;
+        this.numberOfBlocks = (patterns.size() + blockSize - 1) / blockSize;
+        this.blocks = new LinkedHashMap<Long, double[]>(16, 0.75f, true) {
+            private static final long serialVersionUID = -2411586453315958221L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, double[]> eldest) {
+                return size() > maximumBlocks;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getDistance(int x, int y) {
+        int row = x / blockSize;
+        int column = y / blockSize;
+        Long key = (long) row * numberOfBlocks + column;
+
+        double[] block;
+        synchronized (blocks) {
+            block = blocks.get(key);
+        }
+        if (block == null) {
+            block = calculateBlock(row, column);
+            synchronized (blocks) {
+                blocks.put(key, block);
+            }
+        }
+        return block[(x - row * blockSize) * blockSize + (y - column * blockSize)];
+    }
+
+    private double[] calculateBlock(int row, int column) {
+        double[] block = new double[blockSize * blockSize];
+        int rowEnd = Math.min(patterns.size(), (row + 1) * blockSize);
+        int columnEnd = Math.min(patterns.size(), (column + 1) * blockSize);
+
+        for (int x = row * blockSize, i = 0; x < rowEnd; x++, i += blockSize) {
+            Vector lhs = patterns.get(x).data;
+            for (int y = column * blockSize, j = i; y < columnEnd; y++, j++) {
+                block[j] = distanceMeasure.distance(lhs, patterns.get(y).data);
+            }
+        }
+        return block;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Set the number of patterns along each side of a block.
+     * @param blockSize The size of a block.
+     */
+    public void setBlockSize(int blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    public int getMaximumBlocks() {
+        return maximumBlocks;
+    }
+
+    /**
+     * Set the number of blocks that are kept in memory.
+     * @param maximumBlocks The maximum number of blocks.
+     */
+    public void setMaximumBlocks(int maximumBlocks) {
+        this.maximumBlocks = maximumBlocks;
+    }
+}
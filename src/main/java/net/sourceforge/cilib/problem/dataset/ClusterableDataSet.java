@@ -40,6 +40,12 @@ public interface ClusterableDataSet {
     Vector getMean();
     double getVariance();
     double getCachedDistance(int x, int y);
+
+    /**
+     * Get the values of all the patterns, laid out one pattern after the other.
+     * @return the row-major matrix of the patterns
+     */
+    double[] getPatternMatrix();
     void initialise();
 
     /**
@@ -0,0 +1,61 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.problem.dataset;
+
+import java.util.List;
+import net.sourceforge.cilib.problem.dataset.ClusterableDataSet.Pattern;
+import net.sourceforge.cilib.util.Cloneable;
+import net.sourceforge.cilib.util.DistanceMeasure;
+
+/**
+ * The storage of the distances between the patterns of a {@link ClusterableDataSet},
+ * which are served by {@link ClusterableDataSet#getCachedDistance(int, int)}. The
+ * strategies trade memory for computation, from a full matrix on the heap to no
+ * storage at all.
+ * <p>
+ * A {@code DistanceCache} is shared by all the threads that cluster the same
+ * dataset, so {@link #getDistance(int, int)} must be safe to call concurrently
+ * once the cache has been initialised.
+ */
+public interface DistanceCache extends Cloneable {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    DistanceCache getClone();
+
+    /**
+     * Prepare the cache for the given patterns.
+     * @param patterns The patterns of the dataset.
+     * @param distanceMeasure The measure of the distance between two patterns.
+     */
+    void initialise(List<Pattern> patterns, DistanceMeasure distanceMeasure);
+
+    /**
+     * Get the distance between two different patterns.
+     * @param x The index of the one pattern, which is greater than {@code y}.
+     * @param y The index of the other pattern.
+     * @return The distance between the two patterns.
+     */
+    double getDistance(int x, int y);
+}
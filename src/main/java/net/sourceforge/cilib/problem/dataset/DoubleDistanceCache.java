@@ -0,0 +1,76 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.problem.dataset;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * A {@link TriangularDistanceCache} that stores the distances in a single array
+ * of doubles. This is the fastest strategy, but it needs 4n(n - 1) bytes for n
+ * patterns and is limited to about 65000 patterns.
+ */
+public class DoubleDistanceCache extends TriangularDistanceCache {
+    private static final long serialVersionUID = 2460745452364219541L;
+
+    private double[] distances;
+
+    public DoubleDistanceCache() {
+    }
+
+    public DoubleDistanceCache(DoubleDistanceCache copy) {
+        super(copy);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DoubleDistanceCache getClone() {
+        return new DoubleDistanceCache(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void allocate(long size) {
+        Preconditions.checkArgument(size <= Integer.MAX_VALUE,
+                "Too many patterns to cache %s distances in an array, use another DistanceCache.", size);
+        distances = new double[(int) size];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void store(long index, double distance) {
+        distances[(int) index] = distance;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected double load(long index) {
+        return distances[(int) index];
+    }
+}
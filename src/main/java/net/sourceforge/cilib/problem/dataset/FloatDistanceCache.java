@@ -0,0 +1,79 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.problem.dataset;
+
+/**
+ * A {@link TriangularDistanceCache} that stores the distances as floats, which
+ * halves the memory of a {@link DoubleDistanceCache}. The distances are kept in
+ * pages, so that the number of patterns is limited only by the heap. The
+ * distances are accurate to about seven significant digits.
+ */
+public class FloatDistanceCache extends TriangularDistanceCache {
+    private static final long serialVersionUID = -3216290567330185164L;
+    private static final int PAGE_BITS = 24;
+    private static final int PAGE_MASK = (1 << PAGE_BITS) - 1;
+
+    private float[][] pages;
+
+    public FloatDistanceCache() {
+    }
+
+    public FloatDistanceCache(FloatDistanceCache copy) {
+        super(copy);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FloatDistanceCache getClone() {
+        return new FloatDistanceCache(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void allocate(long size) {
+        int count = (int) ((size + PAGE_MASK) >>> PAGE_BITS);
+        pages = new float[count][];
+        for (int i = 0; i < count; i++) {
+            pages[i] = new float[(int) Math.min(PAGE_MASK + 1, size - ((long) i << PAGE_BITS))];
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void store(long index, double distance) {
+        pages[(int) (index >>> PAGE_BITS)][(int) index & PAGE_MASK] = (float) distance;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected double load(long index) {
+        return pages[(int) (index >>> PAGE_BITS)][(int) index & PAGE_MASK];
+    }
+}
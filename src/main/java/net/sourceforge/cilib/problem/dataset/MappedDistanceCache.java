@@ -0,0 +1,115 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.problem.dataset;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A {@link TriangularDistanceCache} that stores the distances in a memory-mapped
+ * file, outside of the heap. The operating system pages the distances in and
+ * out as they are used, so the dataset may be larger than the available memory
+ * at the cost of disk access. The file is a temporary file, created in the
+ * configured directory, that is deleted when the virtual machine exits.
+ */
+public class MappedDistanceCache extends TriangularDistanceCache {
+    private static final long serialVersionUID = 7432419186312598873L;
+    private static final int REGION_BITS = 27;
+    private static final int REGION_MASK = (1 << REGION_BITS) - 1;
+
+    private String directory;
+    private transient DoubleBuffer[] regions;
+
+    public MappedDistanceCache() {
+        directory = System.getProperty("java.io.tmpdir");
+    }
+
+    public MappedDistanceCache(MappedDistanceCache copy) {
+        super(copy);
+        directory = copy.directory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MappedDistanceCache getClone() {
+        return new MappedDistanceCache(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void allocate(long size) {
+        int count = (int) ((size + REGION_MASK) >>> REGION_BITS);
+        regions = new DoubleBuffer[count];
+        try {
+            File file = File.createTempFile("cilib_distances", ".tmp", new File(directory));
+            file.deleteOnExit();
+            RandomAccessFile storage = new RandomAccessFile(file, "rw");
+            try {
+                FileChannel channel = storage.getChannel();
+                for (int i = 0; i < count; i++) {
+                    long offset = (long) i << REGION_BITS;
+                    long length = Math.min(REGION_MASK + 1, size - offset);
+                    regions[i] = channel.map(FileChannel.MapMode.READ_WRITE, offset * 8, length * 8).asDoubleBuffer();
+                }
+            } finally {
+                storage.close();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to map the distance cache in " + directory, e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void store(long index, double distance) {
+        regions[(int) (index >>> REGION_BITS)].put((int) index & REGION_MASK, distance);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected double load(long index) {
+        return regions[(int) (index >>> REGION_BITS)].get((int) index & REGION_MASK);
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Set the directory of the file that holds the distances.
+     * @param directory The path of the directory.
+     */
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+}
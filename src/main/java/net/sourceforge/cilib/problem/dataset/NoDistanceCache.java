@@ -0,0 +1,69 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.problem.dataset;
+
+import java.util.List;
+import net.sourceforge.cilib.problem.dataset.ClusterableDataSet.Pattern;
+import net.sourceforge.cilib.util.DistanceMeasure;
+
+/**
+ * A {@link DistanceCache} that stores nothing and calculates every distance when
+ * it is requested. It needs no memory, but every lookup costs a distance
+ * calculation.
+ */
+public class NoDistanceCache implements DistanceCache {
+    private static final long serialVersionUID = -5404396377125573917L;
+
+    private transient List<Pattern> patterns;
+    private transient DistanceMeasure distanceMeasure;
+
+    public NoDistanceCache() {
+    }
+
+    public NoDistanceCache(NoDistanceCache copy) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NoDistanceCache getClone() {
+        return new NoDistanceCache(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void initialise(List<Pattern> patterns, DistanceMeasure distanceMeasure) {
+        this.patterns = patterns;
+        this.distanceMeasure = distanceMeasure;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getDistance(int x, int y) {
+        return distanceMeasure.distance(patterns.get(x).data, patterns.get(y).data);
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.problem.dataset;
+
+import java.util.List;
+import net.sourceforge.cilib.problem.dataset.ClusterableDataSet.Pattern;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.DistanceMeasure;
+
+/**
+ * A {@link DistanceCache} that calculates all the distances when it is initialised.
+ * Only the distances above the diagonal of the distance matrix are stored (x
+ * represents a distance):
+ * <pre>
+ *   0 1 2 3 4 5
+ * 0 0 x x x x x
+ * 1   0 x x x x
+ * 2     0 x x x
+ * 3       0 x x
+ * 4         0 x
+ * 5           0
+ * </pre>
+ * The rows are laid out one after the other, so that the distances of pattern
+ * {@code y} to the patterns {@code x > y} are adjacent.
+ */
+public abstract class TriangularDistanceCache implements DistanceCache {
+    private static final long serialVersionUID = -1905374512474785260L;
+
+    private int numberOfPatterns;
+
+    protected TriangularDistanceCache() {
+    }
+
+    protected TriangularDistanceCache(TriangularDistanceCache copy) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void initialise(List<Pattern> patterns, DistanceMeasure distanceMeasure) {
+        numberOfPatterns = patterns.size();
+        allocate((long) numberOfPatterns * (numberOfPatterns - 1) / 2);
+
+        long index = 0;
+        for (int y = 0; y < numberOfPatterns - 1; y++) {
+            Vector rhs = patterns.get(y).data;
+            for (int x = y + 1; x < numberOfPatterns; x++) {
+                store(index++, distanceMeasure.distance(patterns.get(x).data, rhs));
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getDistance(int x, int y) {
+        return load(x + (long) numberOfPatterns * y - ((long) (y + 1) * (y + 2)) / 2);
+    }
+
+    /**
+     * Allocate the storage for the given number of distances.
+     * @param size The number of distances.
+     */
+    protected abstract void allocate(long size);
+
+    /**
+     * Store a distance.
+     * @param index The index of the distance.
+     * @param distance The distance.
+     */
+    protected abstract void store(long index, double distance);
+
+    /**
+     * Load a distance.
+     * @param index The index of the distance.
+     * @return The distance.
+     */
+    protected abstract double load(long index);
+}
@@ -26,6 +26,7 @@ import java.util.List;
 
 import net.sourceforge.cilib.algorithm.initialisation.ClonedPopulationInitialisationStrategy;
 import net.sourceforge.cilib.algorithm.population.IterationStrategy;
+import net.sourceforge.cilib.algorithm.population.Populations;
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
 import net.sourceforge.cilib.coevolution.cooperative.ParticipatingAlgorithm;
 import net.sourceforge.cilib.coevolution.cooperative.contributionselection.ContributionSelectionStrategy;
@@ -134,7 +135,7 @@ public class PSO extends SinglePopulationBasedAlgorithm implements Participating
      */
     @Override
     public OptimisationSolution getBestSolution() {
-        Particle bestEntity = topology.getBestEntity(new SocialBestFitnessComparator<Particle>());
+        Particle bestEntity = Populations.bestEntity(this, new SocialBestFitnessComparator<Particle>());
         return new OptimisationSolution(bestEntity.getBestPosition(), bestEntity.getBestFitness());
     }
 
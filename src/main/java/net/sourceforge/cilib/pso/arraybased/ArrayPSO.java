@@ -0,0 +1,298 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.pso.arraybased;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import java.util.List;
+
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.math.random.generator.RandomProvider;
+import net.sourceforge.cilib.problem.Fitness;
+import net.sourceforge.cilib.problem.InferiorFitness;
+import net.sourceforge.cilib.problem.OptimisationProblem;
+import net.sourceforge.cilib.problem.OptimisationSolution;
+import net.sourceforge.cilib.type.types.Bounds;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * <p>
+ * The standard synchronous PSO for real valued problems, with the state of the
+ * swarm held in an {@linkplain ArraySwarm} instead of a
+ * {@linkplain net.sourceforge.cilib.entity.Topology} of
+ * {@linkplain net.sourceforge.cilib.entity.Particle} objects. A particle is
+ * nothing more than an index into a handful of primitive arrays, which
+ * allows very large swarms to be optimised within a normal heap.
+ * </p>
+ * <p>
+ * Each iteration updates the velocity and position of every particle,
+ * evaluates every particle, updates the personal bests and then determines
+ * the neighbourhood bests through the {@linkplain ArrayTopology}. As with the
+ * default configuration of {@link net.sourceforge.cilib.pso.PSO}, particles
+ * are initialised uniformly within the domain of the problem with a zero
+ * velocity, and the first iteration evaluates the initial positions.
+ * </p>
+ * <p>
+ * The problem must have a real valued {@linkplain Vector} domain. Solutions
+ * are evaluated through {@link OptimisationProblem#getFitness}, so fitness
+ * evaluations are counted and stopping conditions and measurements that
+ * only rely on the {@linkplain net.sourceforge.cilib.algorithm.Algorithm}
+ * interface apply as usual.
+ * </p>
+ */
+public class ArrayPSO extends AbstractAlgorithm {
+    private static final long serialVersionUID = 2853720373546582208L;
+
+    private int swarmSize;
+    private ArrayVelocityProvider velocityProvider;
+    private ArrayTopology topology;
+    private RandomProvider random;
+
+    private ArraySwarm swarm;
+    private Vector candidate;
+    private Fitness fitnessPrototype;
+    private boolean maximise;
+
+    /**
+     * Create a new instance with a swarm of 20 particles, the
+     * {@linkplain StandardArrayVelocityProvider} and the
+     * {@linkplain GBestArrayTopology}.
+     */
+    public ArrayPSO() {
+        this.swarmSize = 20;
+        this.velocityProvider = new StandardArrayVelocityProvider();
+        this.topology = new GBestArrayTopology();
+        this.random = new MersenneTwister();
+    }
+
+    /**
+     * Copy constructor. Create a copy of the provided instance.
+     * @param copy The instance to copy.
+     */
+    public ArrayPSO(ArrayPSO copy) {
+        super(copy);
+        this.swarmSize = copy.swarmSize;
+        this.velocityProvider = copy.velocityProvider.getClone();
+        this.topology = copy.topology.getClone();
+        this.random = copy.random;
+
+        if (copy.swarm != null) {
+            this.swarm = copy.swarm.getClone();
+            this.candidate = Vector.copyOf(copy.candidate);
+        }
+        this.fitnessPrototype = copy.fitnessPrototype;
+        this.maximise = copy.maximise;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ArrayPSO getClone() {
+        return new ArrayPSO(this);
+    }
+
+    /**
+     * Create the swarm and place the particles uniformly at random within the
+     * domain of the problem.
+     */
+    @Override
+    public void performInitialisation() {
+        Vector domain = (Vector) getOptimisationProblem().getDomain().getBuiltRepresenation();
+        int dimension = domain.size();
+
+        swarm = new ArraySwarm(swarmSize, dimension);
+        candidate = Vector.copyOf(domain);
+        fitnessPrototype = null;
+
+        for (int j = 0; j < dimension; j++) {
+            Bounds bounds = domain.boundsOf(j);
+            double lower = bounds.getLowerBound();
+            double range = bounds.getUpperBound() - lower;
+            for (int i = 0; i < swarmSize; i++) {
+                int index = i * dimension + j;
+                swarm.positions[index] = lower + random.nextDouble() * range;
+                swarm.bestPositions[index] = swarm.positions[index];
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void algorithmIteration() {
+        int size = swarm.size;
+        int dimension = swarm.dimension;
+        double[] positions = swarm.positions;
+        double[] velocities = swarm.velocities;
+
+        for (int i = 0; i < size; i++) {
+            velocityProvider.updateVelocity(swarm, i, swarm.neighbourhoodBests[i]);
+            for (int j = i * dimension, end = j + dimension; j < end; j++) {
+                positions[j] += velocities[j];
+            }
+        }
+
+        OptimisationProblem problem = getOptimisationProblem();
+        for (int i = 0; i < size; i++) {
+            int offset = i * dimension;
+            for (int j = 0; j < dimension; j++) {
+                candidate.setReal(j, positions[offset + j]);
+            }
+
+            double cost = toCost(problem.getFitness(candidate));
+            swarm.costs[i] = cost;
+            if (ArraySwarm.isBetter(cost, swarm.bestCosts[i])) {
+                swarm.bestCosts[i] = cost;
+                System.arraycopy(positions, offset, swarm.bestPositions, offset, dimension);
+            }
+        }
+
+        topology.updateNeighbourhoodBests(swarm);
+        velocityProvider.updateControlParameters();
+    }
+
+    /**
+     * Convert a {@linkplain Fitness} into a cost, which is minimised. The
+     * direction of optimisation is taken from the first fitness that is not
+     * inferior.
+     */
+    private double toCost(Fitness fitness) {
+        if (fitness == InferiorFitness.instance()) {
+            return Double.NaN;
+        }
+
+        if (fitnessPrototype == null) {
+            fitnessPrototype = fitness;
+            maximise = fitness.newInstance(1.0).compareTo(fitness.newInstance(0.0)) > 0;
+        }
+
+        double value = fitness.getValue();
+        return maximise ? -value : value;
+    }
+
+    /**
+     * Get the best current solution, which is the best personal best position
+     * within the swarm.
+     * @return The {@linkplain OptimisationSolution} representing the best solution.
+     */
+    @Override
+    public OptimisationSolution getBestSolution() {
+        int best = swarm.getBestParticle();
+        Vector position = Vector.copyOf(candidate);
+        for (int j = 0, offset = best * swarm.dimension; j < swarm.dimension; j++) {
+            position.setReal(j, swarm.bestPositions[offset + j]);
+        }
+
+        double cost = swarm.bestCosts[best];
+        Fitness fitness = (fitnessPrototype == null || Double.isNaN(cost))
+                ? InferiorFitness.instance()
+                : fitnessPrototype.newInstance(maximise ? -cost : cost);
+        return new OptimisationSolution(position, fitness);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<OptimisationSolution> getSolutions() {
+        return Arrays.asList(getBestSolution());
+    }
+
+    /**
+     * Get the current state of the swarm.
+     * @return The swarm, or {@code null} if the algorithm is not initialised.
+     */
+    public ArraySwarm getSwarm() {
+        return swarm;
+    }
+
+    /**
+     * Get the number of particles in the swarm.
+     * @return The size of the swarm.
+     */
+    public int getSwarmSize() {
+        return swarmSize;
+    }
+
+    /**
+     * Set the number of particles in the swarm. The default is 20.
+     * @param swarmSize The size of the swarm.
+     */
+    public void setSwarmSize(int swarmSize) {
+        checkArgument(swarmSize > 0, "The swarm size must be positive.");
+        this.swarmSize = swarmSize;
+    }
+
+    /**
+     * Get the velocity update of the particles.
+     * @return The {@linkplain ArrayVelocityProvider}.
+     */
+    public ArrayVelocityProvider getVelocityProvider() {
+        return velocityProvider;
+    }
+
+    /**
+     * Set the velocity update of the particles. The default is the
+     * {@linkplain StandardArrayVelocityProvider}.
+     * @param velocityProvider The {@linkplain ArrayVelocityProvider} to use.
+     */
+    public void setVelocityProvider(ArrayVelocityProvider velocityProvider) {
+        this.velocityProvider = velocityProvider;
+    }
+
+    /**
+     * Get the neighbourhood structure of the swarm.
+     * @return The {@linkplain ArrayTopology}.
+     */
+    public ArrayTopology getTopology() {
+        return topology;
+    }
+
+    /**
+     * Set the neighbourhood structure of the swarm. The default is the
+     * {@linkplain GBestArrayTopology}.
+     * @param topology The {@linkplain ArrayTopology} to use.
+     */
+    public void setTopology(ArrayTopology topology) {
+        this.topology = topology;
+    }
+
+    /**
+     * Get the random number generator used to initialise the positions.
+     * @return The {@linkplain RandomProvider}.
+     */
+    public RandomProvider getRandom() {
+        return random;
+    }
+
+    /**
+     * Set the random number generator used to initialise the positions.
+     * @param random The {@linkplain RandomProvider} to use.
+     */
+    public void setRandom(RandomProvider random) {
+        this.random = random;
+    }
+}
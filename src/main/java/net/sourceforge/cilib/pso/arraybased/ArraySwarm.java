@@ -0,0 +1,197 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.pso.arraybased;
+
+import net.sourceforge.cilib.util.Cloneable;
+
+/**
+ * The state of a swarm of real valued particles, stored as a structure of
+ * arrays. The positions, velocities and personal best positions of all the
+ * particles are each kept in a single {@code double[]} of
+ * {@code size * dimension} elements, with the components of particle
+ * {@code i} at offsets {@code i * dimension} to
+ * {@code (i + 1) * dimension - 1}.
+ * <p>
+ * Fitness values are stored as costs, which are always minimised. For
+ * maximisation problems the cost is the negated fitness value. An entity
+ * that has not been evaluated (or whose fitness is inferior) has a cost that
+ * never compares as better, either positive infinity or {@code NaN}.
+ */
+public final class ArraySwarm implements Cloneable {
+    private static final long serialVersionUID = 3405963284937722415L;
+
+    final int size;
+    final int dimension;
+    final double[] positions;
+    final double[] velocities;
+    final double[] bestPositions;
+    final double[] costs;
+    final double[] bestCosts;
+    final int[] neighbourhoodBests;
+
+    /**
+     * Create a swarm of {@code size} particles in {@code dimension}
+     * dimensions. All positions and velocities are zero, and no particle has
+     * been evaluated.
+     * @param size The number of particles.
+     * @param dimension The dimension of the search space.
+     */
+    public ArraySwarm(int size, int dimension) {
+        this.size = size;
+        this.dimension = dimension;
+        this.positions = new double[size * dimension];
+        this.velocities = new double[size * dimension];
+        this.bestPositions = new double[size * dimension];
+        this.costs = new double[size];
+        this.bestCosts = new double[size];
+        this.neighbourhoodBests = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            costs[i] = Double.POSITIVE_INFINITY;
+            bestCosts[i] = Double.POSITIVE_INFINITY;
+            neighbourhoodBests[i] = i;
+        }
+    }
+
+    /**
+     * Copy constructor. Create a copy of the provided instance.
+     * @param copy The instance to copy.
+     */
+    public ArraySwarm(ArraySwarm copy) {
+        this.size = copy.size;
+        this.dimension = copy.dimension;
+        this.positions = copy.positions.clone();
+        this.velocities = copy.velocities.clone();
+        this.bestPositions = copy.bestPositions.clone();
+        this.costs = copy.costs.clone();
+        this.bestCosts = copy.bestCosts.clone();
+        this.neighbourhoodBests = copy.neighbourhoodBests.clone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ArraySwarm getClone() {
+        return new ArraySwarm(this);
+    }
+
+    /**
+     * Get the number of particles in the swarm.
+     * @return The number of particles.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Get the dimension of the search space.
+     * @return The dimension.
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Get the current position of a particle.
+     * @param particle The index of the particle.
+     * @param dimension The index of the dimension.
+     * @return The position of the particle in the given dimension.
+     */
+    public double getPosition(int particle, int dimension) {
+        return positions[particle * this.dimension + dimension];
+    }
+
+    /**
+     * Get the current velocity of a particle.
+     * @param particle The index of the particle.
+     * @param dimension The index of the dimension.
+     * @return The velocity of the particle in the given dimension.
+     */
+    public double getVelocity(int particle, int dimension) {
+        return velocities[particle * this.dimension + dimension];
+    }
+
+    /**
+     * Get the personal best position of a particle.
+     * @param particle The index of the particle.
+     * @param dimension The index of the dimension.
+     * @return The personal best position of the particle in the given dimension.
+     */
+    public double getBestPosition(int particle, int dimension) {
+        return bestPositions[particle * this.dimension + dimension];
+    }
+
+    /**
+     * Get the cost of the current position of a particle.
+     * @param particle The index of the particle.
+     * @return The cost of the current position.
+     */
+    public double getCost(int particle) {
+        return costs[particle];
+    }
+
+    /**
+     * Get the cost of the personal best position of a particle.
+     * @param particle The index of the particle.
+     * @return The cost of the personal best position.
+     */
+    public double getBestCost(int particle) {
+        return bestCosts[particle];
+    }
+
+    /**
+     * Get the index of the particle whose personal best position is the
+     * neighbourhood best of a particle.
+     * @param particle The index of the particle.
+     * @return The index of the neighbourhood best particle.
+     */
+    public int getNeighbourhoodBest(int particle) {
+        return neighbourhoodBests[particle];
+    }
+
+    /**
+     * Get the index of the particle with the best personal best position in
+     * the swarm. Ties are resolved in favour of the lowest index.
+     * @return The index of the best particle.
+     */
+    public int getBestParticle() {
+        int best = 0;
+        for (int i = 1; i < size; i++) {
+            if (isBetter(bestCosts[i], bestCosts[best])) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Determine whether {@code cost} is strictly better than {@code other}.
+     * A {@code NaN} cost is worse than any other cost.
+     * @param cost The cost to test.
+     * @param other The cost to compare against.
+     * @return {@code true} if {@code cost} is better, {@code false} otherwise.
+     */
+    static boolean isBetter(double cost, double other) {
+        return cost < other || (Double.isNaN(other) && !Double.isNaN(cost));
+    }
+}
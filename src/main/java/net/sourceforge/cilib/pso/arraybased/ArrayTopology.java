@@ -0,0 +1,44 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.pso.arraybased;
+
+import net.sourceforge.cilib.util.Cloneable;
+
+/**
+ * The neighbourhood structure of an {@linkplain ArraySwarm}. Particles are
+ * identified by their index within the swarm.
+ */
+public interface ArrayTopology extends Cloneable {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ArrayTopology getClone();
+
+    /**
+     * Determine the neighbourhood best of every particle in the swarm from the
+     * personal best costs, and record it in the swarm.
+     * @param swarm The swarm to update.
+     */
+    void updateNeighbourhoodBests(ArraySwarm swarm);
+}
@@ -0,0 +1,50 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.pso.arraybased;
+
+import net.sourceforge.cilib.util.Cloneable;
+
+/**
+ * Velocity update for the particles of an {@linkplain ArraySwarm}.
+ */
+public interface ArrayVelocityProvider extends Cloneable {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ArrayVelocityProvider getClone();
+
+    /**
+     * Update the velocity of a single particle, using the personal best
+     * position of {@code guide} as the social guide.
+     * @param swarm The swarm containing the particle.
+     * @param particle The index of the particle to update.
+     * @param guide The index of the particle providing the social guide.
+     */
+    void updateVelocity(ArraySwarm swarm, int particle, int guide);
+
+    /**
+     * Update the control parameters of the velocity update, once per iteration.
+     */
+    void updateControlParameters();
+}
@@ -0,0 +1,182 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.pso.arraybased;
+
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.controlparameter.ControlParameter;
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.math.random.generator.RandomProvider;
+
+/**
+ * The constriction velocity update of
+ * {@link net.sourceforge.cilib.pso.velocityprovider.ConstrictionVelocityProvider},
+ * for an {@linkplain ArraySwarm}. The constriction coefficient is derived
+ * from the acceleration parameters and {@code kappa}, under the constraint
+ * $c1 + c2 \geq 4$.
+ */
+public class ConstrictionArrayVelocityProvider implements ArrayVelocityProvider {
+    private static final long serialVersionUID = 6361404911305328286L;
+
+    private ControlParameter socialAcceleration;
+    private ControlParameter cognitiveAcceleration;
+    private ControlParameter kappa;
+    private RandomProvider r1;
+    private RandomProvider r2;
+    private double constrictionCoefficient;
+
+    /**
+     * Create a new instance with the same default parameters as the
+     * {@code ConstrictionVelocityProvider}.
+     */
+    public ConstrictionArrayVelocityProvider() {
+        this.socialAcceleration = new ConstantControlParameter(2.05);
+        this.cognitiveAcceleration = new ConstantControlParameter(2.05);
+        this.kappa = new ConstantControlParameter(1.0);
+        this.r1 = new MersenneTwister();
+        this.r2 = new MersenneTwister();
+        this.constrictionCoefficient = Double.NaN;
+    }
+
+    /**
+     * Copy constructor. Create a copy of the provided instance.
+     * @param copy The instance to copy.
+     */
+    public ConstrictionArrayVelocityProvider(ConstrictionArrayVelocityProvider copy) {
+        this.socialAcceleration = copy.socialAcceleration.getClone();
+        this.cognitiveAcceleration = copy.cognitiveAcceleration.getClone();
+        this.kappa = copy.kappa.getClone();
+        this.r1 = copy.r1;
+        this.r2 = copy.r2;
+        this.constrictionCoefficient = Double.NaN;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConstrictionArrayVelocityProvider getClone() {
+        return new ConstrictionArrayVelocityProvider(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateVelocity(ArraySwarm swarm, int particle, int guide) {
+        if (Double.isNaN(constrictionCoefficient)) {
+            calculateConstrictionCoefficient();
+        }
+
+        double chi = constrictionCoefficient;
+        double c1 = cognitiveAcceleration.getParameter();
+        double c2 = socialAcceleration.getParameter();
+
+        int dimension = swarm.dimension;
+        int offset = particle * dimension;
+        int guideOffset = guide * dimension;
+        double[] velocities = swarm.velocities;
+        double[] positions = swarm.positions;
+        double[] bestPositions = swarm.bestPositions;
+
+        for (int i = 0; i < dimension; i++) {
+            double x = positions[offset + i];
+            velocities[offset + i] = chi * (velocities[offset + i]
+                    + (bestPositions[offset + i] - x) * c1 * r1.nextDouble()
+                    + (bestPositions[guideOffset + i] - x) * c2 * r2.nextDouble());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateControlParameters() {
+        this.kappa.updateParameter();
+        this.cognitiveAcceleration.updateParameter();
+        this.socialAcceleration.updateParameter();
+        calculateConstrictionCoefficient();
+    }
+
+    private void calculateConstrictionCoefficient() {
+        double c1 = this.cognitiveAcceleration.getParameter();
+        double c2 = this.socialAcceleration.getParameter();
+
+        double phi = c1 + c2;
+        if (phi < 4.0) {
+            throw new UnsupportedOperationException("Parameter constraint violation: "
+                + "The sum of the Cognitive (" + c1 + ") and Social (" + c2 + ") acceleration parameters "
+                + "has to be greater than or equal to 4.");
+        }
+        this.constrictionCoefficient = (2 * this.kappa.getParameter()) / Math.abs(2 - phi - Math.sqrt(phi * (phi - 4.0)));
+    }
+
+    /**
+     * Get the acceleration towards the neighbourhood best.
+     * @return The social acceleration.
+     */
+    public ControlParameter getSocialAcceleration() {
+        return socialAcceleration;
+    }
+
+    /**
+     * Set the acceleration towards the neighbourhood best.
+     * @param socialAcceleration The social acceleration to set.
+     */
+    public void setSocialAcceleration(ControlParameter socialAcceleration) {
+        this.socialAcceleration = socialAcceleration;
+        this.constrictionCoefficient = Double.NaN;
+    }
+
+    /**
+     * Get the acceleration towards the personal best.
+     * @return The cognitive acceleration.
+     */
+    public ControlParameter getCognitiveAcceleration() {
+        return cognitiveAcceleration;
+    }
+
+    /**
+     * Set the acceleration towards the personal best.
+     * @param cognitiveAcceleration The cognitive acceleration to set.
+     */
+    public void setCognitiveAcceleration(ControlParameter cognitiveAcceleration) {
+        this.cognitiveAcceleration = cognitiveAcceleration;
+        this.constrictionCoefficient = Double.NaN;
+    }
+
+    /**
+     * Get the {@code kappa} control parameter.
+     * @return The {@code kappa} control parameter.
+     */
+    public ControlParameter getKappa() {
+        return kappa;
+    }
+
+    /**
+     * Set the {@code kappa} control parameter, which must be within [0, 1].
+     * @param kappa The {@code kappa} control parameter to set.
+     */
+    public void setKappa(ControlParameter kappa) {
+        this.kappa = kappa;
+        this.constrictionCoefficient = Double.NaN;
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.pso.arraybased;
+
+import java.util.Arrays;
+
+/**
+ * Fully connected topology for an {@linkplain ArraySwarm}: every particle
+ * shares the best personal best of the swarm as its neighbourhood best.
+ */
+public class GBestArrayTopology implements ArrayTopology {
+    private static final long serialVersionUID = -1219497738470498357L;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GBestArrayTopology getClone() {
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateNeighbourhoodBests(ArraySwarm swarm) {
+        Arrays.fill(swarm.neighbourhoodBests, swarm.getBestParticle());
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.pso.arraybased;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Ring topology for an {@linkplain ArraySwarm}. The neighbourhood of particle
+ * {@code i} is the {@code neighbourhoodSize} particles centred around
+ * {@code i}, with wrap around, as in the
+ * {@link net.sourceforge.cilib.entity.topologies.LBestTopology}.
+ */
+public class LBestArrayTopology implements ArrayTopology {
+    private static final long serialVersionUID = 3590419512958736092L;
+
+    private int neighbourhoodSize;
+
+    /**
+     * Create a new instance with a neighbourhood size of 3.
+     */
+    public LBestArrayTopology() {
+        this.neighbourhoodSize = 3;
+    }
+
+    /**
+     * Copy constructor. Create a copy of the provided instance.
+     * @param copy The instance to copy.
+     */
+    public LBestArrayTopology(LBestArrayTopology copy) {
+        this.neighbourhoodSize = copy.neighbourhoodSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LBestArrayTopology getClone() {
+        return new LBestArrayTopology(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Ties within a neighbourhood are resolved in favour of the particle
+     * visited first, starting from the left edge of the neighbourhood.
+     */
+    @Override
+    public void updateNeighbourhoodBests(ArraySwarm swarm) {
+        int size = swarm.size;
+        int degree = Math.min(neighbourhoodSize, size);
+        double[] bestCosts = swarm.bestCosts;
+
+        for (int i = 0; i < size; i++) {
+            int index = i - (degree / 2);
+            if (index < 0) {
+                index += size;
+            }
+
+            int best = index;
+            for (int count = 1; count < degree; count++) {
+                if (++index == size) {
+                    index = 0;
+                }
+                if (ArraySwarm.isBetter(bestCosts[index], bestCosts[best])) {
+                    best = index;
+                }
+            }
+            swarm.neighbourhoodBests[i] = best;
+        }
+    }
+
+    /**
+     * Get the number of particles in each neighbourhood.
+     * @return The size of the neighbourhood.
+     */
+    public int getNeighbourhoodSize() {
+        return neighbourhoodSize;
+    }
+
+    /**
+     * Set the number of particles in each neighbourhood. The default is 3.
+     * @param neighbourhoodSize The size of the neighbourhood.
+     */
+    public void setNeighbourhoodSize(int neighbourhoodSize) {
+        checkArgument(neighbourhoodSize > 0, "The neighbourhood size must be positive.");
+        this.neighbourhoodSize = neighbourhoodSize;
+    }
+}
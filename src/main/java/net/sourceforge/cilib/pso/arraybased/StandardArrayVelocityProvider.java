@@ -0,0 +1,156 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.pso.arraybased;
+
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.controlparameter.ControlParameter;
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.math.random.generator.RandomProvider;
+
+/**
+ * The inertia weight velocity update of
+ * {@link net.sourceforge.cilib.pso.velocityprovider.StandardVelocityProvider},
+ * for an {@linkplain ArraySwarm}.
+ */
+public class StandardArrayVelocityProvider implements ArrayVelocityProvider {
+    private static final long serialVersionUID = -1954327453915040741L;
+
+    private ControlParameter inertiaWeight;
+    private ControlParameter socialAcceleration;
+    private ControlParameter cognitiveAcceleration;
+    private RandomProvider r1;
+    private RandomProvider r2;
+
+    /**
+     * Create a new instance with the same default parameters as the
+     * {@code StandardVelocityProvider}.
+     */
+    public StandardArrayVelocityProvider() {
+        this.inertiaWeight = new ConstantControlParameter(0.729844);
+        this.socialAcceleration = new ConstantControlParameter(1.496180);
+        this.cognitiveAcceleration = new ConstantControlParameter(1.496180);
+        this.r1 = new MersenneTwister();
+        this.r2 = new MersenneTwister();
+    }
+
+    /**
+     * Copy constructor. Create a copy of the provided instance.
+     * @param copy The instance to copy.
+     */
+    public StandardArrayVelocityProvider(StandardArrayVelocityProvider copy) {
+        this.inertiaWeight = copy.inertiaWeight.getClone();
+        this.socialAcceleration = copy.socialAcceleration.getClone();
+        this.cognitiveAcceleration = copy.cognitiveAcceleration.getClone();
+        this.r1 = copy.r1;
+        this.r2 = copy.r2;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StandardArrayVelocityProvider getClone() {
+        return new StandardArrayVelocityProvider(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateVelocity(ArraySwarm swarm, int particle, int guide) {
+        double w = inertiaWeight.getParameter();
+        double c1 = cognitiveAcceleration.getParameter();
+        double c2 = socialAcceleration.getParameter();
+
+        int dimension = swarm.dimension;
+        int offset = particle * dimension;
+        int guideOffset = guide * dimension;
+        double[] velocities = swarm.velocities;
+        double[] positions = swarm.positions;
+        double[] bestPositions = swarm.bestPositions;
+
+        for (int i = 0; i < dimension; i++) {
+            double x = positions[offset + i];
+            velocities[offset + i] = velocities[offset + i] * w
+                    + (bestPositions[offset + i] - x) * c1 * r1.nextDouble()
+                    + (bestPositions[guideOffset + i] - x) * c2 * r2.nextDouble();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateControlParameters() {
+        this.inertiaWeight.updateParameter();
+        this.cognitiveAcceleration.updateParameter();
+        this.socialAcceleration.updateParameter();
+    }
+
+    /**
+     * Get the inertia weight of the velocity update equation.
+     * @return The inertia weight.
+     */
+    public ControlParameter getInertiaWeight() {
+        return inertiaWeight;
+    }
+
+    /**
+     * Set the inertia weight of the velocity update equation.
+     * @param inertiaWeight The inertia weight to set.
+     */
+    public void setInertiaWeight(ControlParameter inertiaWeight) {
+        this.inertiaWeight = inertiaWeight;
+    }
+
+    /**
+     * Get the acceleration towards the neighbourhood best.
+     * @return The social acceleration.
+     */
+    public ControlParameter getSocialAcceleration() {
+        return socialAcceleration;
+    }
+
+    /**
+     * Set the acceleration towards the neighbourhood best.
+     * @param socialAcceleration The social acceleration to set.
+     */
+    public void setSocialAcceleration(ControlParameter socialAcceleration) {
+        this.socialAcceleration = socialAcceleration;
+    }
+
+    /**
+     * Get the acceleration towards the personal best.
+     * @return The cognitive acceleration.
+     */
+    public ControlParameter getCognitiveAcceleration() {
+        return cognitiveAcceleration;
+    }
+
+    /**
+     * Set the acceleration towards the personal best.
+     * @param cognitiveAcceleration The cognitive acceleration to set.
+     */
+    public void setCognitiveAcceleration(ControlParameter cognitiveAcceleration) {
+        this.cognitiveAcceleration = cognitiveAcceleration;
+    }
+}
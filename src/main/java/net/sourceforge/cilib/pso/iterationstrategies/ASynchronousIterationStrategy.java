@@ -57,6 +57,11 @@ public class ASynchronousIterationStrategy extends AbstractIterationStrategy<PSO
      * <ol><li>Update the nieghbourhooh best</li></ol>
      * </ol>
      * </ol>
+     * <p>When all particles of a {@linkplain net.sourceforge.cilib.entity.topologies.GBestTopology}
+     * share the same neighbourhood best, the swarm best is tracked once, handed
+     * to each particle before its velocity update and shared with the whole
+     * swarm at the end of the iteration, which gives the same result in linear
+     * time.</p>
      *
      * @see net.sourceforge.cilib.PSO.IterationStrategy#performIteration()
      * @param algorithm The algorithm to which an iteration is to be applied.
@@ -65,6 +70,24 @@ public class ASynchronousIterationStrategy extends AbstractIterationStrategy<PSO
         Topology<Particle> topology = algorithm.getTopology();
         topology.update();
 
+        Particle best = NeighbourhoodBests.shared(topology);
+        if (best != null) {
+            for (Particle current : topology) {
+                current.setNeighbourhoodBest(best);
+                current.updateVelocity();
+                current.updatePosition();
+
+                boundaryConstraint.enforce(current);
+
+                current.calculateFitness();
+                if (current.getSocialFitness().compareTo(best.getSocialFitness()) > 0) {
+                    best = current;
+                }
+            }
+            NeighbourhoodBests.share(topology, best);
+            return;
+        }
+
         for (Iterator<? extends Particle> i = topology.iterator(); i.hasNext();) {
             Particle current = i.next();
             current.updateVelocity();       // TODO: replace with visitor (will simplify particle interface)
@@ -73,13 +96,7 @@ public class ASynchronousIterationStrategy extends AbstractIterationStrategy<PSO
             boundaryConstraint.enforce(current);
 
             current.calculateFitness();
-
-            for (Iterator<? extends Particle> j = topology.neighbourhood(i); j.hasNext();) {
-                Particle other = j.next();
-                if (current.getSocialFitness().compareTo(other.getNeighbourhoodBest().getSocialFitness()) > 0) {
-                    other.setNeighbourhoodBest(current); // TODO: neighbourhood visitor?
-                }
-            }
+            NeighbourhoodBests.update(topology, i, current);
         }
     }
 }
@@ -0,0 +1,100 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.pso.iterationstrategies;
+
+import java.util.Iterator;
+
+import net.sourceforge.cilib.entity.Particle;
+import net.sourceforge.cilib.entity.Topology;
+import net.sourceforge.cilib.entity.topologies.GBestTopology;
+
+/**
+ * Neighbourhood best propagation for fully connected topologies.
+ * <p>
+ * In a {@linkplain GBestTopology} the neighbourhood of every particle is the
+ * whole swarm. Once all particles refer to the same neighbourhood best, every
+ * particle makes exactly the same comparison against it, so the all-pairs
+ * update reduces to maintaining a single running best and sharing it with
+ * the swarm afterwards. Until the particles agree, the strategies fall back
+ * to the per-neighbourhood update.
+ */
+final class NeighbourhoodBests {
+
+    private NeighbourhoodBests() {
+        throw new UnsupportedOperationException("Cannot instantiate.");
+    }
+
+    /**
+     * Obtain the neighbourhood best that is shared by all the particles in
+     * the {@code topology}.
+     * @param topology The topology to inspect.
+     * @return The shared neighbourhood best, or {@code null} if the topology
+     *         is not fully connected or the particles do not share the same
+     *         neighbourhood best.
+     */
+    static Particle shared(Topology<Particle> topology) {
+        if (topology.getClass() != GBestTopology.class) {
+            return null;
+        }
+
+        Iterator<Particle> i = topology.iterator();
+        if (!i.hasNext()) {
+            return null;
+        }
+
+        Particle best = i.next().getNeighbourhoodBest();
+        while (i.hasNext()) {
+            if (i.next().getNeighbourhoodBest() != best) {
+                return null;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Make {@code best} the neighbourhood best of every particle in the
+     * {@code topology}.
+     * @param topology The topology to update.
+     * @param best The new neighbourhood best.
+     */
+    static void share(Topology<Particle> topology, Particle best) {
+        for (Particle particle : topology) {
+            particle.setNeighbourhoodBest(best);
+        }
+    }
+
+    /**
+     * Offer {@code current} as the neighbourhood best to every particle in
+     * its neighbourhood.
+     * @param topology The topology containing the particles.
+     * @param i The topology iterator positioned at {@code current}.
+     * @param current The particle to offer.
+     */
+    static void update(Topology<Particle> topology, Iterator<? extends Particle> i, Particle current) {
+        for (Iterator<? extends Particle> j = topology.neighbourhood(i); j.hasNext();) {
+            Particle other = j.next();
+            if (current.getSocialFitness().compareTo(other.getNeighbourhoodBest().getSocialFitness()) > 0) {
+                other.setNeighbourhoodBest(current); // TODO: neighbourhood visitor?
+            }
+        }
+    }
+}
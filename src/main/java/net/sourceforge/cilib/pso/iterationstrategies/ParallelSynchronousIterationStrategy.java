@@ -0,0 +1,251 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.pso.iterationstrategies;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
+import net.sourceforge.cilib.entity.Particle;
+import net.sourceforge.cilib.entity.Topology;
+import net.sourceforge.cilib.problem.OptimisationProblem;
+import net.sourceforge.cilib.problem.OptimisationProblemAdapter;
+import net.sourceforge.cilib.pso.PSO;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Synchronous iteration strategy for PSO that calculates the fitness of all
+ * the particles in the swarm concurrently.
+ * <p>
+ * The velocity and position updates are performed sequentially, because the
+ * velocity providers share random number generators between particles. The
+ * fitness of every particle is then calculated on a pool of worker threads,
+ * after which the neighbourhood bests are updated in topology order. The
+ * outcome of an iteration is therefore independent of the number of threads.
+ * <p>
+ * Note that, unlike {@link SynchronousIterationStrategy}, all the personal
+ * bests are updated before any of the neighbourhood bests are compared. The
+ * fitness calculation of the problem being optimised must be thread-safe. A
+ * dynamic problem only changes its environment before the fitness values of
+ * an iteration are calculated, never while they are being calculated.
+ * <p>
+ * By default the fitness values are calculated on the
+ * {@linkplain AbstractAlgorithm#getEvaluationExecutor() evaluation executor}
+ * of the current thread, which the simulator shares between all the samples
+ * of a run and sizes from its {@code -parallelism} option. Without one, the
+ * fitness values are calculated on the calling thread. Another executor can
+ * be given with {@link #setExecutor(ExecutorService)}, and it is shared with
+ * every copy of the instance. Setting the {@code threads} property instead
+ * gives the instance a private pool with that many threads.
+ */
+public class ParallelSynchronousIterationStrategy extends AbstractIterationStrategy<PSO> {
+
+    private static final long serialVersionUID = -1781366545426440178L;
+    private static final long KEEP_ALIVE_SECONDS = 60;
+    private int threads; // the size of the private pool, or 0 if an executor is shared
+    private transient ExecutorService executor; // the private pool, or the injected executor
+    private transient boolean privatePool;
+
+    /**
+     * Create a new instance that uses the evaluation executor of the current thread.
+     */
+    public ParallelSynchronousIterationStrategy() {
+        this.threads = 0;
+    }
+
+    /**
+     * Copy constructor. An injected executor is shared with the copy, but a
+     * private pool is not.
+     * @param copy The instance to copy.
+     */
+    public ParallelSynchronousIterationStrategy(ParallelSynchronousIterationStrategy copy) {
+        synchronized (copy) {
+            this.threads = copy.threads;
+            this.executor = copy.privatePool ? null : copy.executor;
+        }
+        this.boundaryConstraint = copy.boundaryConstraint;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ParallelSynchronousIterationStrategy getClone() {
+        return new ParallelSynchronousIterationStrategy(this);
+    }
+
+    /**
+     * <ol>
+     * <li>For all particles:</li>
+     * <ol><li>Update the particle velocity</li>
+     *     <li>Update the particle position</li></ol>
+     * <li>For all particles, concurrently:</li>
+     * <ol><li>Calculate the particle fitness</li></ol>
+     * <li>For all particles:</li>
+     * <ol><li>For all particles in the current particle's neighbourhood:</li>
+     *     <ol><li>Update the neighbourhood best</li></ol></ol>
+     * </ol>
+     *
+     * @param pso The {@link PSO} to have an iteration applied.
+     */
+    @Override
+    public void performIteration(PSO pso) {
+        Topology<Particle> topology = pso.getTopology();
+        topology.update();
+
+        for (Particle current : topology) {
+            current.updateVelocity();
+            current.updatePosition();
+
+            boundaryConstraint.enforce(current);
+        }
+
+        calculateFitness(topology, pso.getOptimisationProblem());
+
+        Particle best = NeighbourhoodBests.shared(topology);
+        if (best != null) {
+            for (Particle current : topology) {
+                if (current.getSocialFitness().compareTo(best.getSocialFitness()) > 0) {
+                    best = current;
+                }
+            }
+            NeighbourhoodBests.share(topology, best);
+            return;
+        }
+
+        for (Iterator<? extends Particle> i = topology.iterator(); i.hasNext();) {
+            NeighbourhoodBests.update(topology, i, i.next());
+        }
+    }
+
+    /**
+     * Calculate the fitness of all the particles within the {@code topology}
+     * on the worker threads, returning once all the calculations are complete.
+     * The change strategy of the {@code problem} is consulted once, on this
+     * thread, before any of the calculations start.
+     */
+    private void calculateFitness(Topology<Particle> topology, OptimisationProblem problem) {
+        List<Callable<Void>> tasks = Lists.newArrayListWithCapacity(topology.size());
+        for (final Particle current : topology) {
+            tasks.add(AbstractAlgorithm.inCurrentContext(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    current.calculateFitness();
+                    return null;
+                }
+            }));
+        }
+
+        OptimisationProblemAdapter adapter = (problem instanceof OptimisationProblemAdapter) ? (OptimisationProblemAdapter) problem : null;
+        if (adapter != null) {
+            adapter.beginBatch();
+        }
+        try {
+            for (Future<Void> future : getExecutor().invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } finally {
+            if (adapter != null) {
+                adapter.endBatch();
+            }
+        }
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            if (threads == 0) {
+                ExecutorService shared = AbstractAlgorithm.getEvaluationExecutor();
+                return (shared == null) ? MoreExecutors.sameThreadExecutor() : shared;
+            }
+            executor = newPool(threads);
+            privatePool = true;
+        }
+        return executor;
+    }
+
+    private static ExecutorService newPool(int threads) {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("fitness-worker-%d").build());
+        pool.allowCoreThreadTimeOut(true); // Idle workers must not outlive the algorithm
+        return pool;
+    }
+
+    private void releasePrivatePool() {
+        if (privatePool) {
+            executor.shutdown();
+        }
+        executor = null;
+        privatePool = false;
+    }
+
+    /**
+     * Get the number of worker threads of the private pool.
+     * @return The number of worker threads, or {@code 0} if a shared executor is used.
+     */
+    public synchronized int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Calculate the fitness values on a private pool of worker threads,
+     * instead of a shared executor.
+     * @param threads The number of worker threads.
+     */
+    public synchronized void setThreads(int threads) {
+        checkArgument(threads > 0, "The number of threads must be positive");
+        releasePrivatePool();
+        this.threads = threads;
+    }
+
+    /**
+     * Calculate the fitness values on the given executor, which is shared with
+     * all copies of this instance and is not shut down by it. The executor
+     * must not be one whose workers wait for this algorithm to complete, such
+     * as the executor running the simulation samples, otherwise the samples
+     * can deadlock.
+     * @param executor The executor to share.
+     */
+    public synchronized void setExecutor(ExecutorService executor) {
+        checkArgument(executor != null, "The executor may not be null");
+        releasePrivatePool();
+        this.threads = 0;
+        this.executor = executor;
+    }
+}
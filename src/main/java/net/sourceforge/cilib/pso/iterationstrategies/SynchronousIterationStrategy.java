@@ -56,6 +56,10 @@ public class SynchronousIterationStrategy extends AbstractIterationStrategy<PSO>
      *     <li>For all paritcles in the current particle's neighbourhood:</li>
      *     <ol><li>Update the nieghbourhooh best</li></ol></ol>
      * </ol>
+     * <p>When all particles of a {@linkplain net.sourceforge.cilib.entity.topologies.GBestTopology}
+     * share the same neighbourhood best, the swarm best is tracked once and
+     * shared after all the fitnesses are calculated, which gives the same
+     * result in linear time.</p>
      *
      * @see net.sourceforge.cilib.PSO.IterationStrategy#performIteration(net.sourceforge.cilib.PSO.PSO)
      * @param pso The {@link PSO} to have an iteration applied.
@@ -71,16 +75,22 @@ public class SynchronousIterationStrategy extends AbstractIterationStrategy<PSO>
             boundaryConstraint.enforce(current);
         }
 
+        Particle best = NeighbourhoodBests.shared(topology);
+        if (best != null) {
+            for (Particle current : topology) {
+                current.calculateFitness();
+                if (current.getSocialFitness().compareTo(best.getSocialFitness()) > 0) {
+                    best = current;
+                }
+            }
+            NeighbourhoodBests.share(topology, best);
+            return;
+        }
+
         for (Iterator<? extends Particle> i = topology.iterator(); i.hasNext();) {
             Particle current = i.next();
             current.calculateFitness();
-
-            for (Iterator<? extends Particle> j = topology.neighbourhood(i); j.hasNext();) {
-                Particle other = j.next();
-                if (current.getSocialFitness().compareTo(other.getNeighbourhoodBest().getSocialFitness()) > 0) {
-                    other.setNeighbourhoodBest(current); // TODO: neighbourhood visitor?
-                }
-            }
+            NeighbourhoodBests.update(topology, i, current);
         }
     }
 }
@@ -21,68 +21,37 @@
  */
 package net.sourceforge.cilib.pso.multiswarm;
 
-import java.util.Iterator;
-
+import com.google.common.base.Predicate;
 import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.entity.Topology;
-import net.sourceforge.cilib.entity.visitor.TopologyVisitor;
+import net.sourceforge.cilib.entity.visitor.DiameterVisitor;
 import net.sourceforge.cilib.pso.dynamic.ChargedParticle;
-import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
  * Visitor to determine the size of the diameter of the provided {@linkplain Topology}
  * within the <code>visit</code> method.
  * This visitor only takes into consideration neutral (non-charged) particles.
  */
-public class MultiSwarmDiameterVisitor extends TopologyVisitor{
+public class MultiSwarmDiameterVisitor extends DiameterVisitor {
 
-    private double distance = -Double.MAX_VALUE;
+    private static final Predicate<Entity> NEUTRAL = new Predicate<Entity>() {
+        @Override
+        public boolean apply(Entity entity) {
+            return !(entity instanceof ChargedParticle) || ((ChargedParticle) entity).getCharge() == 0;
+        }
+    };
 
     public MultiSwarmDiameterVisitor() {
         super();
     }
 
-    @Override
-    public void visit(Topology<? extends Entity> topology) {
-        double maxDistance = 0.0;
-
-        Iterator<? extends Entity> k1 = topology.iterator();
-        while (k1.hasNext()) {
-            Entity p1 = (Entity) k1.next();
-            if(p1 instanceof ChargedParticle && ((ChargedParticle)p1).getCharge() != 0)
-                continue;
-            Vector position1 = (Vector) p1.getCandidateSolution();
-
-            Iterator<? extends Entity> k2 = topology.iterator();
-            while (k2.hasNext()) {
-                Entity p2 = (Entity) k2.next();
-                if(p2 instanceof ChargedParticle && ((ChargedParticle)p2).getCharge() != 0)
-                    continue;
-                Vector position2 = (Vector) p2.getCandidateSolution();
-
-                double actualDistance = distanceMeasure.distance(position1, position2);
-                if (actualDistance > maxDistance)
-                    maxDistance = actualDistance;
-            }
-        }
-
-        //result = maxDistance;
-        distance = maxDistance;
-
-    }
-
-    @Override
-    public Object getResult() {
-         return this.distance;
-    }
-
     /**
-     * {@inheritDoc}
-     * @return
+     * Consider only the neutral particles.
+     * @return The filter of the neutral particles.
      */
     @Override
-    public boolean isDone() {
-        return false;
+    protected Predicate<? super Entity> getFilter() {
+        return NEUTRAL;
     }
 
 }
@@ -153,5 +153,6 @@ public class MultiSwarmIterationStrategy extends AbstractIterationStrategy<Multi
     public void reInitialise(PSO algorithm) {
         algorithm.getTopology().clear();
         algorithm.performInitialisation();
+        algorithm.getIterationCache().clear();
     }
 }
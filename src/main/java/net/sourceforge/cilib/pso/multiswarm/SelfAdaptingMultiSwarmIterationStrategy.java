@@ -170,5 +170,6 @@ public class SelfAdaptingMultiSwarmIterationStrategy extends AbstractIterationSt
     public void reInitialise(PSO algorithm) {
         algorithm.getTopology().clear();
         algorithm.performInitialisation();
+        algorithm.getIterationCache().clear();
     }
 }
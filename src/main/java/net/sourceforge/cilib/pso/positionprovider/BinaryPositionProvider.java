@@ -23,6 +23,8 @@ package net.sourceforge.cilib.pso.positionprovider;
 
 import net.sourceforge.cilib.entity.Particle;
 import net.sourceforge.cilib.functions.activation.Sigmoid;
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.math.random.generator.RandomProvider;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
@@ -34,12 +36,14 @@ public class BinaryPositionProvider implements PositionProvider {
 
     private static final long serialVersionUID = -2136786203855125909L;
     private Sigmoid sigmoid;
+    private RandomProvider random;
 
     /**
      * Create an instance of {@linkplain BinaryPositionProvider}.
      */
     public BinaryPositionProvider() {
         this.sigmoid = new Sigmoid();
+        this.random = new MersenneTwister();
     }
 
     /**
@@ -48,6 +52,7 @@ public class BinaryPositionProvider implements PositionProvider {
      */
     public BinaryPositionProvider(BinaryPositionProvider copy) {
         this.sigmoid = copy.sigmoid;
+        this.random = copy.random;
     }
 
     /**
@@ -67,7 +72,7 @@ public class BinaryPositionProvider implements PositionProvider {
         Vector.Builder builder = Vector.newBuilder();
         for (int i = 0; i < particle.getDimension(); i++) {
             double result = this.sigmoid.apply(velocity.doubleValueOf(i));
-            double rand = Math.random();
+            double rand = this.random.nextDouble();
 
             if (rand < result) {
                 builder.add(true);
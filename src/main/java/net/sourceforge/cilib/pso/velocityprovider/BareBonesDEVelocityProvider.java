@@ -106,25 +106,24 @@ public class BareBonesDEVelocityProvider implements VelocityProvider {
         List<Entity> positions = getRandomParentEntities(pso.getTopology());
 
         //select three random individuals, all different and different from particle
-        ProbabilityDistributionFuction pdf = new UniformDistribution();
-
         Vector position1 = (Vector) positions.get(0).getCandidateSolution();
         Vector position2 = (Vector) positions.get(1).getCandidateSolution();
 //        Vector position3 = (Vector) positions.get(2).getContents();
 
-        Vector.Builder builder = Vector.newBuilder();
+        Vector velocity = (Vector) particle.getVelocity();
+        Vector position = (Vector) particle.getPosition();
         for (int i = 0; i < particle.getDimension(); ++i) {
-            double r = pdf.getRandomNumber(0, 1);
+            double r = this.rand1.getRandomNumber(0, 1);
             double attractor = r * localGuide.doubleValueOf(i) + (1 - r) * globalGuide.doubleValueOf(i);
             double stepSize = this.rand3.getRandomNumber(0, 1) * (position1.doubleValueOf(i) - position2.doubleValueOf(i));
 
             if (this.rand2.getRandomNumber(0, 1) > this.crossoverProbability.getParameter()) {
-                builder.add(attractor + stepSize);
+                velocity.setReal(i, attractor + stepSize);
             } else {
-                builder.add(((Vector) particle.getPosition()).doubleValueOf(i)); //position3.getReal(i));
+                velocity.setReal(i, position.doubleValueOf(i)); //position3.getReal(i));
             }
         }
-        return builder.build();
+        return velocity;
     }
 
     /**
@@ -61,13 +61,13 @@ public class BareBonesExploitVelocityProvider implements VelocityProvider {
 
     @Override
     public Vector get(Particle particle) {
+        Vector velocity = (Vector) particle.getVelocity();
         Vector localGuide = (Vector) particle.getLocalGuide();
         Vector globalGuide = (Vector) particle.getGlobalGuide();
 
-        Vector.Builder builder = Vector.newBuilder();
         for (int i = 0; i < particle.getDimension(); ++i) {
             if (this.uniform.getRandomNumber(0, 1) < 0.5) {
-                builder.add(localGuide.doubleValueOf(i));
+                velocity.setReal(i, localGuide.doubleValueOf(i));
             } else {
                 //double tmp1 = cognitive.getParameter();
                 //double tmp2 = social.getParameter();
@@ -77,10 +77,10 @@ public class BareBonesExploitVelocityProvider implements VelocityProvider {
                 double mean = (localGuide.doubleValueOf(i) + globalGuide.doubleValueOf(i)) / 2;
                 //andries proposal: double mean = (tmp1*personalBestPosition.getReal(i) + tmp2*nBestPosition.getReal(i)) / (tmp1+tmp2);
 
-                builder.add(this.randomDistribution.getRandomNumber(mean, sigma));
+                velocity.setReal(i, this.randomDistribution.getRandomNumber(mean, sigma));
             }
         }
-        return builder.build();
+        return velocity;
     }
 
     @Override
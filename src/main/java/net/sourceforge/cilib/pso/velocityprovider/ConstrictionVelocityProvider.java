@@ -27,6 +27,7 @@ import net.sourceforge.cilib.entity.Particle;
 import net.sourceforge.cilib.math.random.generator.MersenneTwister;
 import net.sourceforge.cilib.math.random.generator.RandomProvider;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.RandomProviders;
 
 /**
  * A velocity update strategy that utilizes the constriction coefficient as
@@ -101,6 +102,8 @@ public class ConstrictionVelocityProvider implements VelocityProvider {
     private ControlParameter cognitiveAcceleration;
     protected RandomProvider r1;
     protected RandomProvider r2;
+    private transient double[] cognitiveRandoms; // scratch space, drawn in bulk per update
+    private transient double[] socialRandoms;
 
     private ControlParameter kappa;
     private ControlParameter constrictionCoefficient;
@@ -156,14 +159,21 @@ public class ConstrictionVelocityProvider implements VelocityProvider {
         Vector localGuide = (Vector) particle.getLocalGuide();
         Vector globalGuide = (Vector) particle.getGlobalGuide();
 
-        Vector.Builder builder = Vector.newBuilder();
-        for (int i = 0; i < particle.getDimension(); ++i) {
+        int n = particle.getDimension();
+        if (cognitiveRandoms == null || cognitiveRandoms.length != n) {
+            cognitiveRandoms = new double[n];
+            socialRandoms = new double[n];
+        }
+        RandomProviders.nextDoubles(this.r1, cognitiveRandoms);
+        RandomProviders.nextDoubles(this.r2, socialRandoms);
+
+        for (int i = 0; i < n; ++i) {
             double value = this.constrictionCoefficient.getParameter() * (velocity.doubleValueOf(i)
-                    + (localGuide.doubleValueOf(i) - position.doubleValueOf(i)) * this.cognitiveAcceleration.getParameter() * this.r1.nextDouble()
-                    + (globalGuide.doubleValueOf(i) - position.doubleValueOf(i)) * this.socialAcceleration.getParameter() * this.r2.nextDouble());
-            builder.add(value);
+                    + (localGuide.doubleValueOf(i) - position.doubleValueOf(i)) * this.cognitiveAcceleration.getParameter() * cognitiveRandoms[i]
+                    + (globalGuide.doubleValueOf(i) - position.doubleValueOf(i)) * this.socialAcceleration.getParameter() * socialRandoms[i]);
+            velocity.setReal(i, value);
         }
-        return builder.build();
+        return velocity;
     }
 
     /**
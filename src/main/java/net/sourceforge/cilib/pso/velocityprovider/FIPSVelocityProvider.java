@@ -21,7 +21,9 @@
  */
 package net.sourceforge.cilib.pso.velocityprovider;
 
+import com.google.common.collect.Lists;
 import java.util.Iterator;
+import java.util.List;
 
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
@@ -44,6 +46,7 @@ public class FIPSVelocityProvider implements VelocityProvider {
     private ControlParameter socialAcceleration;
     private ControlParameter cognitiveAcceleration;
     private RandomProvider randomProvider;
+    private transient List<Vector> neighbourhoodBests; // scratch space, refilled per update
 
     public FIPSVelocityProvider() {
         this.inertiaWeight = new ConstantControlParameter(0.729844);
@@ -79,30 +82,33 @@ public class FIPSVelocityProvider implements VelocityProvider {
             }
         }
 
-        Vector.Builder builder = Vector.newBuilder();
+        // The neighbourhood is walked once, but the random numbers are still
+        // drawn dimension by dimension, so that the results are unchanged.
+        if (neighbourhoodBests == null) {
+            neighbourhoodBests = Lists.newArrayList();
+        }
+        Iterator<Particle> neighbourhoodIterator = topology.neighbourhood(swarmIterator);
+        while (neighbourhoodIterator.hasNext()) {
+            neighbourhoodBests.add((Vector) neighbourhoodIterator.next().getBestPosition());
+        }
+        int numberOfNeighbours = neighbourhoodBests.size();
+
         for (int i = 0; i < particle.getDimension(); ++i) {
             double informationSum = 0.0;
-            int numberOfNeighbours = 0;
-
-            Iterator<Particle> neighborhoodIterator = topology.neighbourhood(swarmIterator);
-
-            while (neighborhoodIterator.hasNext()) {
-                Particle currentTarget = neighborhoodIterator.next();
-                Vector currentTargetPosition = (Vector) currentTarget.getBestPosition();
 
+            for (Vector currentTargetPosition : neighbourhoodBests) {
                 double randomComponent = (this.cognitiveAcceleration.getParameter() + this.socialAcceleration.getParameter()) * this.randomProvider.nextDouble();
 
                 informationSum += randomComponent * (currentTargetPosition.doubleValueOf(i) - position.doubleValueOf(i));
-
-                numberOfNeighbours++;
             }
 
             double value = this.inertiaWeight.getParameter() * (velocity.doubleValueOf(i) + (informationSum / numberOfNeighbours));
 
-            builder.add(value);
+            velocity.setReal(i, value);
         }
+        neighbourhoodBests.clear();
 
-        return builder.build();
+        return velocity;
     }
 
     @Override
@@ -144,17 +144,16 @@ public class GCVelocityProvider implements VelocityProvider {
             final Vector position = (Vector) particle.getPosition();
             final Vector globalGuide = (Vector) particle.getGlobalGuide();
 
-            Vector.Builder builder = Vector.newBuilder();
             for (int i = 0; i < velocity.size(); ++i) {
                 double component = -position.doubleValueOf(i) + globalGuide.doubleValueOf(i)
                         + this.inertiaWeight.getParameter() * velocity.doubleValueOf(i)
                         + this.rho.getParameter() * (1 - 2 * this.randomProvider.nextDouble());
-                builder.add(component);
+                velocity.setReal(i, component);
             }
 
             this.oldFitness = particle.getFitness().getClone(); // Keep a copy of the old Fitness object - particle.calculateFitness() within the IterationStrategy resets the fitness value
 
-            return builder.build();
+            return velocity;
         }
         else {
             return this.delegate.get(particle);
@@ -27,9 +27,7 @@ import net.sourceforge.cilib.entity.Particle;
 import net.sourceforge.cilib.math.random.generator.MersenneTwister;
 import net.sourceforge.cilib.math.random.generator.RandomProvider;
 import net.sourceforge.cilib.type.types.container.Vector;
-import net.sourceforge.cilib.util.ControlParameters;
 import net.sourceforge.cilib.util.RandomProviders;
-import net.sourceforge.cilib.util.Vectors;
 
 /**
  * Implementation of the standard / default velocity update equation.
@@ -45,6 +43,8 @@ public final class StandardVelocityProvider implements VelocityProvider {
     protected ControlParameter cognitiveAcceleration;
     protected RandomProvider r1;
     protected RandomProvider r2;
+    private transient double[] cognitiveRandoms; // scratch space, drawn in bulk per update
+    private transient double[] socialRandoms;
 
     /** Creates a new instance of StandardVelocityUpdate. */
     public StandardVelocityProvider() {
@@ -76,7 +76,8 @@ public final class StandardVelocityProvider implements VelocityProvider {
     }
 
     /**
-     * Perform the velocity update for the given <tt>Particle</tt>.
+     * Perform the velocity update for the given <tt>Particle</tt>. The velocity
+     * of the particle is updated in place and returned.
      * @param particle The Particle velocity that should be updated.
      */
     @Override
@@ -86,10 +87,22 @@ public final class StandardVelocityProvider implements VelocityProvider {
         Vector localGuide = (Vector) particle.getLocalGuide();
         Vector globalGuide = (Vector) particle.getGlobalGuide();
 
-        Vector dampenedVelocity = Vector.copyOf(velocity).multiply(ControlParameters.supplierOf(this.inertiaWeight));
-        Vector cognitiveComponent = Vector.copyOf(localGuide).subtract(position).multiply(ControlParameters.supplierOf(this.cognitiveAcceleration)).multiply(RandomProviders.supplierOf(this.r1));
-        Vector socialComponent = Vector.copyOf(globalGuide).subtract(position).multiply(ControlParameters.supplierOf(this.socialAcceleration)).multiply(RandomProviders.supplierOf(this.r2));
-        return Vectors.sumOf(dampenedVelocity, cognitiveComponent, socialComponent);
+        int n = velocity.size();
+        if (cognitiveRandoms == null || cognitiveRandoms.length != n) {
+            cognitiveRandoms = new double[n];
+            socialRandoms = new double[n];
+        }
+        RandomProviders.nextDoubles(this.r1, cognitiveRandoms);
+        RandomProviders.nextDoubles(this.r2, socialRandoms);
+
+        for (int i = 0; i < n; i++) {
+            double x = position.doubleValueOf(i);
+            double value = velocity.doubleValueOf(i) * this.inertiaWeight.getParameter()
+                    + (localGuide.doubleValueOf(i) - x) * this.cognitiveAcceleration.getParameter() * cognitiveRandoms[i]
+                    + (globalGuide.doubleValueOf(i) - x) * this.socialAcceleration.getParameter() * socialRandoms[i];
+            velocity.setReal(i, value);
+        }
+        return velocity;
     }
 
     /**
@@ -41,7 +41,11 @@ public interface VelocityProvider extends Cloneable {
 
     /**
      * Perform the velocity update operation on the specified <tt>Particle</tt>.
+     * <p>
+     * Implementations may update the velocity of the <tt>Particle</tt> in place
+     * and return it, instead of creating a new <tt>Vector</tt>.
      * @param particle The <tt>Particle</tt> to apply the operation on.
+     * @return The new velocity of the <tt>Particle</tt>.
      */
     Vector get(Particle particle);
 
@@ -0,0 +1,211 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.simulator;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import net.sourceforge.cilib.type.types.Type;
+
+/**
+ * A {@code MeasurementWriter} that moves the serialisation and I/O of the
+ * measurements off the algorithm thread.
+ * <p>
+ * Copies of the measured values are placed in a preallocated ring buffer. A
+ * task on the given executor takes all the rows that are available as a batch
+ * and writes them to the underlying writer, finishing once the buffer is empty.
+ * The task never waits, so it may share an executor with other short tasks.
+ * When the buffer is full, {@link #write(int, Type[])} blocks until the task
+ * makes space available, so that the memory used is bounded by the capacity
+ * of the buffer. If the task has not started by then, or by the time the
+ * writer is closed, the calling thread writes the rows itself.
+ */
+class AsynchronousMeasurementWriter implements MeasurementWriter {
+
+    private final MeasurementWriter delegate;
+    private final Executor executor;
+    private final int[] iterations;
+    private final Type[][] rows;
+    private final Runnable task;
+    private int head;
+    private int size;
+    private boolean scheduled; // a task has been submitted, but has not started
+    private boolean draining; // a thread is writing rows to the delegate
+    private IOException failure;
+
+    /**
+     * Create a new instance that writes to {@code delegate}.
+     * @param delegate the writer that performs the actual writing.
+     * @param capacity the maximum number of rows that may be buffered.
+     * @param executor the executor on which the rows are written.
+     */
+    AsynchronousMeasurementWriter(MeasurementWriter delegate, int capacity, Executor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.iterations = new int[capacity];
+        this.rows = new Type[capacity][];
+        this.task = new Runnable() {
+            @Override
+            public void run() {
+                if (claim(true)) {
+                    drain();
+                }
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The values are copied into the buffer, so the {@code values} array
+     * and the values themselves may be reused once this method returns.
+     */
+    @Override
+    public void write(int iteration, Type[] values) throws IOException {
+        boolean submit;
+        synchronized (this) {
+            while (size == rows.length && failure == null) {
+                if (claim(false)) { // The task has not started, so write the rows here
+                    drain();
+                } else {
+                    waitForDrain();
+                }
+            }
+            checkFailure();
+
+            int tail = (head + size) % rows.length;
+            if (rows[tail] == null || rows[tail].length != values.length) {
+                rows[tail] = new Type[values.length];
+            }
+            for (int i = 0; i < values.length; i++) {
+                rows[tail][i] = (values[i] == null) ? null : values[i].getClone();
+            }
+            iterations[tail] = iteration;
+            size++;
+
+            submit = !scheduled && !draining;
+            scheduled |= submit;
+        }
+
+        if (submit) {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException ex) {
+                task.run(); // The executor is shutting down, so write on this thread
+            }
+        }
+    }
+
+    /**
+     * Write all the buffered rows and close the underlying writer.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            synchronized (this) {
+                while (draining) {
+                    waitForDrain();
+                }
+                if (claim(false)) {
+                    drain();
+                }
+            }
+        } finally {
+            delegate.close();
+        }
+        synchronized (this) {
+            checkFailure();
+        }
+    }
+
+    /**
+     * Take over the writing of the rows, if no other thread is writing them.
+     * When the calling thread is not the submitted task, it writes the rows
+     * while holding the lock, which only delays a task that would find no
+     * work left to do.
+     * @param submitted {@code true} if called by the submitted task.
+     * @return {@code true} if the caller must write the rows.
+     */
+    private synchronized boolean claim(boolean submitted) {
+        if (submitted ? !scheduled : (draining || size == 0)) {
+            return false;
+        }
+        scheduled = false;
+        draining = true;
+        return true;
+    }
+
+    /**
+     * Write batches of rows until the buffer is empty or a write fails.
+     */
+    private void drain() {
+        while (true) {
+            int start;
+            int count;
+            synchronized (this) {
+                if (size == 0 || failure != null) {
+                    draining = false;
+                    notifyAll();
+                    return;
+                }
+                start = head;
+                count = size;
+            }
+
+            // The rows of the batch are not reused until the size is decreased
+            try {
+                for (int i = 0; i < count; i++) {
+                    int index = (start + i) % rows.length;
+                    delegate.write(iterations[index], rows[index]);
+                    Arrays.fill(rows[index], null);
+                }
+            } catch (IOException ex) {
+                synchronized (this) {
+                    failure = ex;
+                }
+                continue;
+            }
+
+            synchronized (this) {
+                head = (start + count) % rows.length;
+                size -= count;
+                notifyAll();
+            }
+        }
+    }
+
+    private void waitForDrain() throws IOException {
+        try {
+            wait();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the measurement writer.");
+        }
+    }
+
+    private void checkFailure() throws IOException {
+        if (failure != null) {
+            throw new IOException("Failed to write the measurements.", failure);
+        }
+    }
+}
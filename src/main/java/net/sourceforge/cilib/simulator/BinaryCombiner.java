@@ -0,0 +1,234 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.simulator;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+/**
+ * <p>
+ * Combine partial results in the {@linkplain BinaryFormat binary format} into
+ * a single binary file.
+ * </p>
+ * <p>
+ * The partial files are memory mapped and merged one row at a time: the cells
+ * of each row are copied from the partials to the combined file without being
+ * decoded, so that neither the partials nor the combined result need to fit
+ * in memory. The combined file may be converted to the normal CIlib text file
+ * format with the {@link BinaryToText} converter.
+ * </p>
+ */
+class BinaryCombiner implements MeasurementCombiner {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private final File file;
+
+    BinaryCombiner(File file) {
+        this.file = file;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The columns of the combined file are ordered by measurement and then
+     * by sample, in the same way as the text format.
+     */
+    @Override
+    public void combine(List<String> descriptions, List<File> partials) {
+        Preconditions.checkArgument(descriptions.size() >= 1);
+        Preconditions.checkArgument(partials.size() >= 1);
+
+        List<MappedPartial> inputs = Lists.newArrayListWithCapacity(partials.size());
+        try {
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+            try {
+                BinaryFormat.writeHeader(output, descriptions.size() * partials.size());
+                for (String description : descriptions) {
+                    for (int i = 0; i < partials.size(); i++) {
+                        output.writeUTF(description + " (" + i + ")");
+                    }
+                }
+
+                for (File partial : partials) {
+                    inputs.add(new MappedPartial(partial, descriptions.size()));
+                }
+                combineData(output, inputs, descriptions.size());
+            } finally {
+                output.close();
+                for (MappedPartial input : inputs) {
+                    input.close();
+                }
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+
+        for (File partial : partials) {
+            partial.delete();
+        }
+    }
+
+    private void combineData(DataOutputStream output, List<MappedPartial> inputs, int measurements) throws IOException {
+        MappedPartial first = inputs.get(0); // There will always be at least 1
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        while (first.hasRemaining()) {
+            int iteration = first.readInt();
+            for (MappedPartial input : inputs.subList(1, inputs.size())) {
+                if (!input.hasRemaining() || input.readInt() != iteration) {
+                    throw new IOException("Partial results do not contain the same iterations.");
+                }
+            }
+
+            output.writeInt(iteration);
+            for (MappedPartial input : inputs) {
+                input.indexRow();
+            }
+            for (int m = 0; m < measurements; m++) {
+                for (MappedPartial input : inputs) {
+                    input.copyCell(m, output, buffer);
+                }
+            }
+            for (MappedPartial input : inputs) {
+                input.skipRow();
+            }
+        }
+
+        for (MappedPartial input : inputs) {
+            if (input.hasRemaining()) {
+                throw new IOException("Partial results do not contain the same iterations.");
+            }
+        }
+    }
+
+    /**
+     * A partial result file, read through a window that is memory mapped
+     * on demand, so that partials larger than the address space may be read.
+     */
+    private static final class MappedPartial {
+
+        private static final long WINDOW_SIZE = 1L << 26;
+        private final FileInputStream stream;
+        private final FileChannel channel;
+        private final long size;
+        private final long[] cells; // The offsets of the cells of the current row.
+        private MappedByteBuffer window;
+        private long windowStart;
+        private long position;
+
+        MappedPartial(File file, int measurements) throws IOException {
+            this.stream = new FileInputStream(file);
+            this.channel = stream.getChannel();
+            this.size = channel.size();
+            this.cells = new long[measurements + 1];
+
+            if (size > 0) { // Samples without measurements have empty partials
+                if (readInt() != BinaryFormat.MAGIC || readInt() != BinaryFormat.VERSION) {
+                    throw new IOException("Not a binary measurement file: " + file);
+                }
+                int columns = readInt();
+                if (columns != measurements) {
+                    throw new IOException("Expected " + measurements + " measurements in " + file + ", but found " + columns);
+                }
+            }
+        }
+
+        boolean hasRemaining() {
+            return position < size;
+        }
+
+        int readInt() throws IOException {
+            int value = map(position, 4).getInt((int) (position - windowStart));
+            position += 4;
+            return value;
+        }
+
+        /**
+         * Determine the offsets of the cells in the current row, leaving
+         * the position unchanged.
+         */
+        void indexRow() throws IOException {
+            long offset = position;
+            for (int i = 0; i < cells.length - 1; i++) {
+                cells[i] = offset;
+                byte tag = map(offset, 1).get((int) (offset - windowStart));
+                int prefix = 0;
+                offset += 1;
+                if (BinaryFormat.hasPrefix(tag)) {
+                    prefix = map(offset, 4).getInt((int) (offset - windowStart));
+                    offset += 4;
+                }
+                offset += BinaryFormat.valueLength(tag, prefix);
+            }
+            cells[cells.length - 1] = offset;
+            if (offset > size) {
+                throw new IOException("Corrupt binary measurement file, truncated row.");
+            }
+        }
+
+        void copyCell(int cell, DataOutputStream output, byte[] buffer) throws IOException {
+            long offset = cells[cell];
+            long end = cells[cell + 1];
+            while (offset < end) {
+                int length = (int) Math.min(buffer.length, end - offset);
+                MappedByteBuffer mapped = map(offset, length);
+                mapped.position((int) (offset - windowStart));
+                mapped.get(buffer, 0, length);
+                output.write(buffer, 0, length);
+                offset += length;
+            }
+        }
+
+        void skipRow() {
+            position = cells[cells.length - 1];
+        }
+
+        /**
+         * Ensure that the {@code length} bytes at {@code offset} are mapped.
+         */
+        private MappedByteBuffer map(long offset, int length) throws IOException {
+            if (offset + length > size) {
+                throw new IOException("Corrupt binary measurement file, unexpected end of file.");
+            }
+            if (window == null || offset < windowStart || offset + length > windowStart + window.capacity()) {
+                windowStart = offset;
+                window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(Math.max(length, WINDOW_SIZE), size - offset));
+            }
+            return window;
+        }
+
+        void close() throws IOException {
+            channel.close();
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.simulator;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import net.sourceforge.cilib.type.types.Numeric;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * Encoding of measurement values in the binary output format.
+ * <p>
+ * Both the partial and the combined files start with a header, which is the
+ * {@link #MAGIC} number, the {@link #VERSION} and the number of columns. The
+ * combined file follows this with the description of each column. The header
+ * is followed by a row for each measured iteration: the iteration number and
+ * then a cell for each column. A cell is a tag byte followed by the value:
+ * <ul>
+ * <li>{@link #INTEGER}: a {@code long}, for {@code Int}, {@code Long} and {@code Bit} values;</li>
+ * <li>{@link #REAL}: a {@code double}, for {@code Real} values;</li>
+ * <li>{@link #VECTOR}: the number of elements followed by the elements as {@code double}s,
+ * for vectors of {@code Real} elements;</li>
+ * <li>{@link #NUMERIC_VECTOR}: the number of elements followed by each element as
+ * an {@link #INTEGER} or {@link #REAL} tag and its value, for any other vector;</li>
+ * <li>{@link #TEXT}: the number of bytes followed by the UTF-8 encoded {@code toString()} of any other value.</li>
+ * </ul>
+ * The length of a cell can be determined from its first bytes, so that cells can
+ * be copied from the partial files to the combined file without decoding them.
+ */
+final class BinaryFormat {
+
+    static final int MAGIC = 0x43494c42; // "CILB"
+    static final int VERSION = 1;
+    static final byte INTEGER = 0;
+    static final byte REAL = 1;
+    static final byte VECTOR = 2;
+    static final byte TEXT = 3;
+    static final byte NUMERIC_VECTOR = 4;
+    static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private BinaryFormat() {
+        throw new UnsupportedOperationException("Cannot instantiate.");
+    }
+
+    /**
+     * Write the header shared by the partial and combined files.
+     */
+    static void writeHeader(DataOutput output, int columns) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(columns);
+    }
+
+    /**
+     * Read the header shared by the partial and combined files.
+     * @return the number of columns.
+     */
+    static int readHeader(DataInput input) throws IOException {
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a binary measurement file.");
+        }
+        int version = input.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary measurement version: " + version);
+        }
+        return input.readInt();
+    }
+
+    static void writeCell(DataOutput output, Type value) throws IOException {
+        if (value instanceof Real) {
+            output.writeByte(REAL);
+            output.writeDouble(((Real) value).doubleValue());
+        } else if (value instanceof Numeric) {
+            output.writeByte(INTEGER);
+            output.writeLong(((Numeric) value).longValue());
+        } else if (value instanceof Vector) {
+            writeVector(output, (Vector) value);
+        } else {
+            byte[] bytes = String.valueOf(value).getBytes(UTF8);
+            output.writeByte(TEXT);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+    }
+
+    private static void writeVector(DataOutput output, Vector vector) throws IOException {
+        int size = vector.size();
+        boolean real = true;
+        for (int i = 0; i < size && real; i++) {
+            real = vector.get(i) instanceof Real;
+        }
+
+        output.writeByte(real ? VECTOR : NUMERIC_VECTOR);
+        output.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            if (real) {
+                output.writeDouble(vector.doubleValueOf(i));
+                continue;
+            }
+            Numeric element = vector.get(i);
+            if (element instanceof Real) {
+                output.writeByte(REAL);
+                output.writeDouble(element.doubleValue());
+            } else {
+                output.writeByte(INTEGER);
+                output.writeLong(element.longValue());
+            }
+        }
+    }
+
+    /**
+     * Determine the length of the value of a cell, excluding the tag and the
+     * length prefix of variable length values.
+     * @param tag the tag of the cell.
+     * @param prefix the length prefix, ignored for fixed length cells.
+     * @return the number of bytes of the value.
+     */
+    static long valueLength(byte tag, int prefix) throws IOException {
+        switch (tag) {
+            case INTEGER:
+            case REAL:
+                return 8;
+            case VECTOR:
+                return 8L * prefix;
+            case NUMERIC_VECTOR:
+                return 9L * prefix;
+            case TEXT:
+                return prefix;
+            default:
+                throw new IOException("Corrupt binary measurement file, unknown tag: " + tag);
+        }
+    }
+
+    /**
+     * Determine if cells with the given {@code tag} have a length prefix.
+     */
+    static boolean hasPrefix(byte tag) {
+        return tag == VECTOR || tag == NUMERIC_VECTOR || tag == TEXT;
+    }
+
+    /**
+     * Read a cell and append its value to {@code builder} in the same textual
+     * form as the {@code toString()} of the measured value.
+     */
+    static void appendCell(DataInput input, StringBuilder builder) throws IOException {
+        byte tag = input.readByte();
+        switch (tag) {
+            case INTEGER:
+                builder.append(input.readLong());
+                break;
+            case REAL:
+                builder.append(input.readDouble());
+                break;
+            case VECTOR:
+            case NUMERIC_VECTOR:
+                int size = input.readInt();
+                builder.append("[");
+                for (int i = 0; i < size; i++) {
+                    if (i > 0) {
+                        builder.append(",");
+                    }
+                    if (tag == VECTOR || input.readByte() == REAL) {
+                        builder.append(input.readDouble());
+                    } else {
+                        builder.append(input.readLong());
+                    }
+                }
+                builder.append("]");
+                break;
+            case TEXT:
+                byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                builder.append(new String(bytes, UTF8));
+                break;
+            default:
+                throw new IOException("Corrupt binary measurement file, unknown tag: " + tag);
+        }
+    }
+}
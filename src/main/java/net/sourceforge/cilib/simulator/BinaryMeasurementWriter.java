@@ -0,0 +1,66 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.simulator;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import net.sourceforge.cilib.type.types.Type;
+
+/**
+ * Write partial results in the {@linkplain BinaryFormat binary format}, to be
+ * merged by the {@link BinaryCombiner}. The header is written along with the
+ * first row, once the number of measurements is known.
+ */
+class BinaryMeasurementWriter implements MeasurementWriter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private final DataOutputStream output;
+    private int columns;
+
+    BinaryMeasurementWriter(File file) throws IOException {
+        this.output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+        this.columns = -1;
+    }
+
+    @Override
+    public void write(int iterations, Type[] values) throws IOException {
+        if (columns < 0) {
+            columns = values.length;
+            BinaryFormat.writeHeader(output, columns);
+        } else if (columns != values.length) {
+            throw new IOException("Expected " + columns + " measurements, but received " + values.length);
+        }
+
+        output.writeInt(iterations);
+        for (Type value : values) {
+            BinaryFormat.writeCell(output, value);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.simulator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+
+/**
+ * Convert a combined result file in the {@linkplain BinaryFormat binary format}
+ * to the normal CIlib text file format, as produced by the {@link TextBasedCombiner}.
+ * This class accepts two command line parameters: the binary file to read and
+ * the text file to write.
+ */
+public final class BinaryToText {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private BinaryToText() {
+        throw new UnsupportedOperationException("Cannot instantiate.");
+    }
+
+    /**
+     * Entry point for the converter.
+     * @param args provided arguments.
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Please provide the correct arguments.\nUsage: BinaryToText <results.bin> <results.txt>");
+        }
+
+        try {
+            convert(new File(args[0]), new File(args[1]));
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Convert the binary {@code source} file to text, written to {@code destination}.
+     * @param source the combined binary result file.
+     * @param destination the text file to create.
+     * @throws IOException if the source cannot be read or the destination cannot be written.
+     */
+    public static void convert(File source, File destination) throws IOException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(source), BUFFER_SIZE));
+        try {
+            BufferedWriter writer = new BufferedWriter(new FileWriter(destination), BUFFER_SIZE);
+            try {
+                int columns = BinaryFormat.readHeader(input);
+                writer.write("# 0 - Iterations\n");
+                for (int i = 1; i <= columns; i++) {
+                    writer.write("# " + i + " - " + input.readUTF() + "\n");
+                }
+
+                StringBuilder builder = new StringBuilder();
+                while (true) {
+                    int iteration;
+                    try {
+                        iteration = input.readInt();
+                    } catch (EOFException ex) {
+                        break; // No more rows
+                    }
+
+                    builder.setLength(0);
+                    builder.append(iteration);
+                    for (int i = 0; i < columns; i++) {
+                        builder.append(" ");
+                        BinaryFormat.appendCell(input, builder);
+                    }
+                    writer.write(builder.toString());
+                    writer.newLine();
+                }
+            } finally {
+                writer.close();
+            }
+        } finally {
+            input.close();
+        }
+    }
+}
@@ -30,11 +30,15 @@ import net.sourceforge.cilib.algorithm.ProgressListener;
 /**
  * This is the entry point for the CIlib simulator. This class accepts one
  * command line parameter, which is the name of the XML config file to parse.
+ * The optional {@code -parallelism} parameter sets the number of samples that
+ * are executed concurrently, which defaults to the number of available processors.
  *
  * @author  Edwin Peer
  */
 public final class Main {
 
+    private static final String USAGE = "Please provide the correct arguments.\nUsage: Simulator <simulation-config.xml> [-textprogress|-guiprogress] [-parallelism <threads>]";
+
     private Main() {
         throw new UnsupportedOperationException("Cannot instantiate.");
     }
@@ -45,17 +49,30 @@ public final class Main {
      */
     public static void main(String[] args) {
         if (args.length < 1) {
-            throw new IllegalArgumentException("Please provide the correct arguments.\nUsage: Simulator <simulation-config.xml> [-textprogress|-guiprogress]");
+            throw new IllegalArgumentException(USAGE);
+        }
+
+        String progressOption = null;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        for (int i = 1; i < args.length; ++i) {
+            if (args[i].equals("-parallelism")) {
+                if (++i == args.length) {
+                    throw new IllegalArgumentException(USAGE);
+                }
+                parallelism = parseParallelism(args[i]);
+            } else {
+                progressOption = args[i];
+            }
         }
 
-        Injector injector = Guice.createInjector(new SimulatorModule());
+        Injector injector = Guice.createInjector(new SimulatorModule(parallelism));
         SimulatorShell shell = injector.getInstance(SimulatorShell.class);
         final List<Simulator> simulators = shell.prepare(new File(args[0]));
 
         ProgressListener progress = null;
-        if (args.length > 1 && args[1].equals("-textprogress")) {
+        if ("-textprogress".equals(progressOption)) {
             progress = new ProgressText(simulators.size());
-        } else if (args.length > 1 && args[1].equals("-guiprogress")) {
+        } else if ("-guiprogress".equals(progressOption)) {
             ProgressFrame pf = new ProgressFrame(simulators.size());
             pf.setVisible(true);
             progress = pf;
@@ -65,4 +82,16 @@ public final class Main {
 
         shell.execute(simulators, progress);
     }
+
+    private static int parseParallelism(String value) {
+        try {
+            int parallelism = Integer.parseInt(value);
+            if (parallelism >= 1) {
+                return parallelism;
+            }
+        } catch (NumberFormatException e) {
+            // Reported with the usage message below.
+        }
+        throw new IllegalArgumentException(USAGE);
+    }
 }
@@ -22,14 +22,15 @@
 package net.sourceforge.cilib.simulator;
 
 import com.google.common.collect.Lists;
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import net.sourceforge.cilib.measurement.MeasurementStateManager;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.measurement.Measurement;
 import net.sourceforge.cilib.measurement.StateAwareMeasurement;
@@ -37,6 +38,12 @@ import net.sourceforge.cilib.type.types.Type;
 
 /**
  * The <code>MeasurementSuite</code> is essentially a collection of measurements.
+ * <p>
+ * A suite is created for every sample of a simulation, so the measurements of
+ * the suite hold the state of {@linkplain StateAwareMeasurement state aware}
+ * measurements for the algorithm of that sample directly. If the suite is used
+ * to measure more than one algorithm, each further algorithm is measured with
+ * its own copies of the state aware measurements.
  *
  * @see net.sourceforge.Measurement.Measurement
  *
@@ -46,16 +53,21 @@ public class MeasurementSuite implements MeasurementCollector {
 
     private static final long serialVersionUID = 8021290553229945841L;
     private File file;
-    private BufferedWriter writer;
+    private MeasurementWriter writer;
+    private OutputType outputType;
     private int resolution;
+    private int bufferSize;
     private List<Measurement<?>> measurements;
-    private MeasurementStateManager measurementStateManager;
+    private List<Measurement<?>> prototypes;
+    private Map<Algorithm, List<Measurement<?>>> states;
 
     /** Creates a new instance of MeasurementSuite. */
     public MeasurementSuite() {
         measurements = new ArrayList<Measurement<?>>();
         resolution = 1;
-        measurementStateManager = new MeasurementStateManager();
+        bufferSize = 0;
+        outputType = OutputType.TXT;
+        states = new IdentityHashMap<Algorithm, List<Measurement<?>>>();
     }
 
     /**
@@ -64,7 +76,11 @@ public class MeasurementSuite implements MeasurementCollector {
     public void initialise() {
         try {
             file = File.createTempFile("cilib_data", ".tmp");
-            writer = new BufferedWriter(new FileWriter(file));
+            writer = outputType.newWriter(file);
+            ExecutorService executor = AbstractAlgorithm.getEvaluationExecutor();
+            if (bufferSize > 0 && executor != null) {
+                writer = new AsynchronousMeasurementWriter(writer, bufferSize, executor);
+            }
         } catch (IOException ex) {
             ex.printStackTrace();
         }
@@ -74,6 +90,15 @@ public class MeasurementSuite implements MeasurementCollector {
         return file;
     }
 
+    /**
+     * Set the format of the temporary data store, which must match the
+     * format of the combiner for the simulation.
+     * @param outputType the format of the results.
+     */
+    void setOutputType(OutputType outputType) {
+        this.outputType = outputType;
+    }
+
     /**
      * Sets the resolution of the results. The resolution determines how offen
      * results are logged to file. If the resolution is 10 then results are
@@ -94,6 +119,28 @@ public class MeasurementSuite implements MeasurementCollector {
         return resolution;
     }
 
+    /**
+     * Sets the number of measured iterations that may be buffered while they
+     * are written to file on the executor that the simulator shares between
+     * the samples. The algorithm waits for the writes if the buffer is full.
+     * The default buffer size of zero writes the results on the algorithm
+     * thread, as does running the suite outside of the simulator.
+     *
+     * @param bufferSize The number of iterations to buffer.
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Accessor for the number of measured iterations that may be buffered.
+     *
+     * @return The buffer size.
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
     /**
      * Adds a measurement to the suite.
      *
@@ -107,52 +154,73 @@ public class MeasurementSuite implements MeasurementCollector {
      * Measure the provided {@linkplain Algorithm}. All the current measurements
      * that are defined for the {@linkplain MeasurementSuite} are applied to the
      * {@linkplain Algorithm}. Any measurements that are
-     * {@linkplain StateAwareMeasurement state aware} instances will
-     * automatically have their internal state saved and restored
-     * as measurements are taken on the current {@linkplain Algorithm}.
+     * {@linkplain StateAwareMeasurement state aware} instances keep their
+     * internal state for the current {@linkplain Algorithm} between measurements.
      * @param algorithm The {@linkplain Algorithm} to measure.
      */
     @Override
     public void measure(Algorithm algorithm) {
-        Type[] tmp = new Type[measurements.size()];
-        int index = 0;
-        for (Measurement<?> measurement : measurements) {
-            Type value = null;
-
-            if (measurement instanceof StateAwareMeasurement<?>) {
-                StateAwareMeasurement<?> stateAwareMeasurement = (StateAwareMeasurement<?>) measurement;
-                measurementStateManager.setState(algorithm, stateAwareMeasurement);
-                value = measurement.getValue(algorithm);
-                measurementStateManager.getState(algorithm, stateAwareMeasurement);
-            } else {
-                value = measurement.getValue(algorithm);
-            }
-
-            tmp[index++] = value;
-        }
-        StringBuilder builder = new StringBuilder();
-        builder.append(algorithm.getIterations());
-        for (Type t : tmp) {
-            builder.append(" ").append(t);
+        List<Measurement<?>> current = getMeasurements(algorithm);
+        Type[] tmp = new Type[current.size()];
+        for (int i = 0; i < tmp.length; i++) {
+            tmp[i] = current.get(i).getValue(algorithm);
         }
 
         try {
-            writer.write(builder.toString());
-            writer.newLine();
+            writer.write(algorithm.getIterations(), tmp);
         } catch (IOException ex) {
             throw new RuntimeException(ex);
         }
     }
 
+    /**
+     * Get the measurements that hold the state for the given {@code algorithm}.
+     * The first algorithm is measured with the measurements of the suite, before
+     * which copies of the initial state aware measurements are retained for
+     * any further algorithms.
+     */
+    private List<Measurement<?>> getMeasurements(Algorithm algorithm) {
+        List<Measurement<?>> current = states.get(algorithm);
+        if (current == null) {
+            if (states.isEmpty()) {
+                prototypes = copyStateAware(measurements);
+                current = measurements;
+            } else {
+                current = copyStateAware(prototypes);
+            }
+            states.put(algorithm, current);
+        }
+        return current;
+    }
+
+    private static List<Measurement<?>> copyStateAware(List<Measurement<?>> source) {
+        List<Measurement<?>> result = Lists.newArrayListWithCapacity(source.size());
+        for (Measurement<?> measurement : source) {
+            if (measurement instanceof StateAwareMeasurement<?> && ((StateAwareMeasurement<?>) measurement).isStateAware()) {
+                result.add(measurement.getClone());
+            } else {
+                result.add(measurement);
+            }
+        }
+        return result;
+    }
+
     @Override
     public void add(Measurement<?> measurement) {
         measurements.add(measurement);
     }
 
+    /**
+     * Close the temporary data store. Closing the suite more than once has no
+     * further effect.
+     */
     @Override
     public void close() throws IOException {
-        this.writer.flush();
-        this.writer.close();
+        if (writer != null) {
+            MeasurementWriter current = writer;
+            writer = null;
+            current.close();
+        }
     }
 
     @Override
@@ -0,0 +1,42 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.simulator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import net.sourceforge.cilib.type.types.Type;
+
+/**
+ * Write the measurements of a single sample to a partial result file. The
+ * partial files are merged by the {@link MeasurementCombiner} of the same
+ * {@link OutputType} once all the samples have completed.
+ */
+interface MeasurementWriter extends Closeable {
+
+    /**
+     * Write the measured {@code values} for the given iteration.
+     * @param iterations the number of iterations performed by the algorithm.
+     * @param values the measured values, in the order of the measurements.
+     * @throws IOException if the values cannot be written.
+     */
+    void write(int iterations, Type[] values) throws IOException;
+}
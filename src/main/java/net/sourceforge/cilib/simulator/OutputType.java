@@ -22,6 +22,7 @@
 package net.sourceforge.cilib.simulator;
 
 import java.io.File;
+import java.io.IOException;
 
 public enum OutputType {
 
@@ -31,19 +32,51 @@ public enum OutputType {
         public MeasurementCombiner newInstance(File file) {
             return new TextBasedCombiner(file);
         }
+
+        @Override
+        MeasurementWriter newWriter(File partial) throws IOException {
+            return new TextMeasurementWriter(partial);
+        }
+    }, BIN {
+
+        @Override
+        public MeasurementCombiner newInstance(File file) {
+            return new BinaryCombiner(file);
+        }
+
+        @Override
+        MeasurementWriter newWriter(File partial) throws IOException {
+            return new BinaryMeasurementWriter(partial);
+        }
     }, CSV {
 
         @Override
         public MeasurementCombiner newInstance(File file) {
             throw new UnsupportedOperationException();
         }
+
+        @Override
+        MeasurementWriter newWriter(File partial) {
+            throw new UnsupportedOperationException();
+        }
     }, XML {
 
         @Override
         public MeasurementCombiner newInstance(File file) {
             throw new UnsupportedOperationException();
         }
+
+        @Override
+        MeasurementWriter newWriter(File partial) {
+            throw new UnsupportedOperationException();
+        }
     };
 
     public abstract MeasurementCombiner newInstance(File file);
+
+    /**
+     * Create the writer for the partial results of a single sample, in the
+     * format expected by the combiner of this output type.
+     */
+    abstract MeasurementWriter newWriter(File partial) throws IOException;
 }
@@ -25,14 +25,20 @@ import net.sourceforge.cilib.algorithm.ProgressEvent;
 import net.sourceforge.cilib.algorithm.ProgressListener;
 
 /**
- * Implements a text progress meter.
+ * Implements a text progress meter. A report of the number of iterations and
+ * fitness evaluations performed per second by each active simulation is
+ * printed periodically.
  *
  * @author  jkroon
  */
 final class ProgressText implements ProgressListener {
 
+    private static final long REPORT_INTERVAL = 10000000000L; // Nanoseconds between rate reports
     private boolean printedDone;
     private final int simulations;
+    private long lastReport;
+    private long[] lastIterations;
+    private long[] lastEvaluations;
 
     /**
      * Creates new form ProgressFrame.
@@ -42,6 +48,9 @@ final class ProgressText implements ProgressListener {
     ProgressText(int simulations) {
         this.simulations = simulations;
         printedDone = false;
+        lastReport = System.nanoTime();
+        lastIterations = new long[simulations];
+        lastEvaluations = new long[simulations];
     }
 
     @Override
@@ -49,6 +58,7 @@ final class ProgressText implements ProgressListener {
         if (printedDone) {
             return;
         }
+        report(event);
         double percentage = (int) (1000 * event.getPercentage()) / 10.0;
         int nequals = (int) (50 * event.getPercentage());
         int i = 0;
@@ -70,7 +80,32 @@ final class ProgressText implements ProgressListener {
 
     @Override
     public void setSimulation(int simulation) {
-        System.out.println("Starting simulation " + (simulation + 1) + " of " + simulations + ".");
-        printedDone = false;
+        System.out.println();
+        System.out.println("Completed simulation " + simulation + " of " + simulations + ".");
+    }
+
+    /**
+     * Print the rate of work of the active simulations, if the report
+     * interval has elapsed since the previous report.
+     */
+    private void report(ProgressEvent event) {
+        long now = System.nanoTime();
+        long[] iterations = event.getIterations();
+        long[] evaluations = event.getFitnessEvaluations();
+        if (now - lastReport < REPORT_INTERVAL || iterations.length != lastIterations.length) {
+            return;
+        }
+
+        double seconds = (now - lastReport) / 1e9;
+        System.out.println();
+        for (int i = 0; i < iterations.length; i++) {
+            if (iterations[i] != lastIterations[i]) {
+                System.out.printf("Simulation %d: %.1f iterations/s, %.1f evaluations/s%n", i + 1,
+                        (iterations[i] - lastIterations[i]) / seconds, (evaluations[i] - lastEvaluations[i]) / seconds);
+            }
+        }
+        lastReport = now;
+        lastIterations = iterations;
+        lastEvaluations = evaluations;
     }
 }
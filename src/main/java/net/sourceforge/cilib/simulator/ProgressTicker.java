@@ -0,0 +1,80 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.simulator;
+
+import java.util.List;
+import net.sourceforge.cilib.algorithm.ProgressEvent;
+import net.sourceforge.cilib.algorithm.ProgressListener;
+
+/**
+ * Periodically reports the progress of all the simulators of a run to a single
+ * listener. The simulators record their progress without notifying anyone, so
+ * the rate at which listeners are notified is independent of the number of
+ * samples and of how often they are measured.
+ * <p>
+ * The overall progress is the progress of the simulators, weighted by their
+ * number of samples. The listener is only ever called while holding the lock
+ * of the ticker, so it need not be thread-safe.
+ */
+final class ProgressTicker implements Runnable {
+
+    /** The period, in milliseconds, at which the listener is notified. */
+    static final long PERIOD = 250;
+    private final List<Simulator> simulators;
+    private final ProgressListener listener;
+    private final int samples;
+
+    ProgressTicker(List<Simulator> simulators, ProgressListener listener) {
+        this.simulators = simulators;
+        this.listener = listener;
+        int total = 0;
+        for (Simulator simulator : simulators) {
+            total += simulator.getSamples();
+        }
+        this.samples = total;
+    }
+
+    /**
+     * Notify the listener of the current progress.
+     */
+    @Override
+    public synchronized void run() {
+        long[] iterations = new long[simulators.size()];
+        long[] evaluations = new long[simulators.size()];
+        double sum = 0;
+        for (int i = 0; i < iterations.length; i++) {
+            Simulator simulator = simulators.get(i);
+            sum += simulator.getProgress() * simulator.getSamples();
+            iterations[i] = simulator.getIterations();
+            evaluations[i] = simulator.getFitnessEvaluations();
+        }
+        listener.handleProgressEvent(new ProgressEvent(sum / samples, iterations, evaluations));
+    }
+
+    /**
+     * Notify the listener of the number of completed simulations.
+     * @param completed the number of completed simulations.
+     */
+    synchronized void setSimulation(int completed) {
+        listener.setSimulation(completed);
+    }
+}
@@ -22,6 +22,7 @@
 package net.sourceforge.cilib.simulator;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.algorithm.AlgorithmEvent;
@@ -36,21 +37,27 @@ class Simulation implements AlgorithmListener, Runnable {
 
     private static final long serialVersionUID = -3733724215662398762L;
     private final Simulator simulator;
+    private final int sample;
     private final Algorithm algorithm;
     private final Problem problem;
     private final MeasurementSuite measurementSuite;
+    private long nextProgressUpdate; // System.nanoTime() after which the progress is next recorded
 
     /**
      * Create a Simulation with the required dependencies.
      * @param simulator The controlling {@code Simulator}.
-     * @param algorithmFactory The factory that creates {@code Algorithm} instances.
-     * @param problemFactory The factory that creates {@code Problem} instances.
+     * @param sample The index of the sample within the {@code simulator}.
+     * @param algorithm The {@code Algorithm} to execute.
+     * @param problem The {@code Problem} to optimise.
+     * @param measurementSuite The measurements to record.
      */
-    Simulation(Simulator simulator, Algorithm algorithm, Problem problem, MeasurementSuite measurementSuite) {
+    Simulation(Simulator simulator, int sample, Algorithm algorithm, Problem problem, MeasurementSuite measurementSuite) {
         this.simulator = simulator;
+        this.sample = sample;
         this.algorithm = algorithm;
         this.problem = problem;
         this.measurementSuite = measurementSuite;
+        this.nextProgressUpdate = System.nanoTime();
     }
 
     /**
@@ -66,11 +73,20 @@ class Simulation implements AlgorithmListener, Runnable {
     }
 
     /**
-     * Execute the simulation.
+     * Execute the simulation. If the algorithm fails, the measurements are
+     * closed before the failure is rethrown.
      */
     @Override
     public void run() {
-        algorithm.run();
+        try {
+            algorithm.run();
+        } catch (RuntimeException ex) {
+            closeQuietly();
+            throw ex;
+        } catch (Error ex) {
+            closeQuietly();
+            throw ex;
+        }
     }
 
     /**
@@ -94,8 +110,19 @@ class Simulation implements AlgorithmListener, Runnable {
     @Override
     public void algorithmFinished(AlgorithmEvent event) {
         measurementSuite.measure(event.getSource());
-        simulator.updateProgress(this, ((AbstractAlgorithm) event.getSource()).getPercentageComplete());
+        updateProgress(event.getSource());
+        close();
+    }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void algorithmTerminated(AlgorithmEvent event) {
+        close();
+    }
+
+    private void close() {
         try {
             measurementSuite.close();
         } catch (IOException ex) {
@@ -103,11 +130,12 @@ class Simulation implements AlgorithmListener, Runnable {
         }
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void algorithmTerminated(AlgorithmEvent event) {
+    private void closeQuietly() {
+        try {
+            measurementSuite.close();
+        } catch (IOException ex) {
+            // The failure of the algorithm is reported instead
+        }
     }
 
     /**
@@ -118,8 +146,20 @@ class Simulation implements AlgorithmListener, Runnable {
         Algorithm alg = event.getSource();
         if (alg.getIterations() % measurementSuite.getResolution() == 0) {
             measurementSuite.measure(alg);
-            simulator.updateProgress(this, ((AbstractAlgorithm) alg).getPercentageComplete());
         }
+
+        // The progress is only reported every ProgressTicker.PERIOD, so it is
+        // not recorded more often than that.
+        long now = System.nanoTime();
+        if (now - nextProgressUpdate >= 0) {
+            nextProgressUpdate = now + TimeUnit.MILLISECONDS.toNanos(ProgressTicker.PERIOD);
+            updateProgress(alg);
+        }
+    }
+
+    private void updateProgress(Algorithm alg) {
+        simulator.updateProgress(this, ((AbstractAlgorithm) alg).getPercentageComplete(),
+                alg.getIterations(), alg.getOptimisationProblem().getFitnessEvaluations());
     }
 
     /**
@@ -133,4 +173,8 @@ class Simulation implements AlgorithmListener, Runnable {
     MeasurementSuite getMeasurementSuite() {
         return measurementSuite;
     }
+
+    int getSample() {
+        return sample;
+    }
 }
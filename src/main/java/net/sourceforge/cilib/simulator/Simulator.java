@@ -21,22 +21,19 @@
  */
 package net.sourceforge.cilib.simulator;
 
-import com.google.common.collect.Lists;
 import java.io.File;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Vector;
-import java.util.concurrent.CompletionService;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.algorithm.Algorithm;
-import net.sourceforge.cilib.algorithm.ProgressEvent;
-import net.sourceforge.cilib.algorithm.ProgressListener;
+import net.sourceforge.cilib.math.random.generator.SeedSequence;
+import net.sourceforge.cilib.math.random.generator.Seeder;
 import net.sourceforge.cilib.problem.Problem;
 
 /**
@@ -47,8 +44,24 @@ import net.sourceforge.cilib.problem.Problem;
  * <p>
  * Each simulation experiment is repeated based on the
  * number of samples that the measurement suite requires (although this is subject to change
- * in a future version of the library). In this implementation each experiment is
- * execute in its own thread. Thus, each experiment is execute in parallel for a given simulation.
+ * in a future version of the library). The samples are not constructed up front: each
+ * {@linkplain #getSample(int) sample task} creates, initialises and executes its own
+ * {@code Simulation}, which is discarded once the measurements have been written. The
+ * tasks of all the simulators are scheduled on a shared executor by the {@link SimulatorShell},
+ * so the number of live samples is bounded by the number of worker threads.
+ * </p>
+ * <p>
+ * The progress of each sample is recorded without locking, in slots that are
+ * only written by the thread executing the sample. The progress is read
+ * periodically by a {@link ProgressTicker}.
+ * </p>
+ * <p>
+ * Every sample draws the seeds of its random number generators from its own
+ * {@linkplain SeedSequence}, spawned by sample index from the sequence of the
+ * simulator. Seeding therefore takes no global lock and the seeds of a sample
+ * do not depend on the order in which the samples are scheduled. When the
+ * sequence of the simulator is derived from a fixed root seed, the results of
+ * every sample are reproducible, regardless of the number of worker threads.
  * </p>
  * <p>
  * The primary purpose of running simulations is to measure the performance of the given algorithm
@@ -60,15 +73,23 @@ import net.sourceforge.cilib.problem.Problem;
 class Simulator {
 
     private static final long serialVersionUID = 8987667794610802908L;
-    private final Simulation[] simulations;
-    private final Vector<ProgressListener> progressListeners;
-    private final HashMap<Simulation, Double> progress;
-    private final ExecutorService executor;
+    private static final double PROGRESS_SCALE = 1000000.0; // Fixed-point precision of the progress
+    private final AtomicLongArray progress;
+    private final AtomicLongArray iterations;
+    private final AtomicLongArray evaluations;
+    private final AtomicReferenceArray<Simulation> running;
+    private final File[] results;
+    private final AtomicInteger remaining;
     private final XMLObjectFactory algorithmFactory;
     private final XMLObjectFactory problemFactory;
     private final XMLObjectFactory measurementFactory;
     private final MeasurementCombiner combiner;
+    private final OutputType format;
     private final int samples;
+    private final SeedSequence seeds;
+    private final ExecutorService fitnessExecutor;
+    private volatile List<String> descriptions;
+    private volatile boolean terminated;
 
     /**
      * Creates a new instance of Simulator given an algorithm factory, a problem factory and a
@@ -77,112 +98,166 @@ class Simulator {
      * @param algorithmFactory The algorithm factory.
      * @param problemFactory The problem factory.
      * @param measurementFactory The measurement suite.
+     * @param combiner The combiner for the results of the samples.
+     * @param format The format of the partial results, expected by the {@code combiner}.
+     * @param samples The number of samples to execute.
+     * @param seeds The sequence from which the seeds of the samples are spawned.
+     * @param fitnessExecutor The executor on which the samples may calculate fitness values.
      */
-    Simulator(ExecutorService executor, XMLObjectFactory algorithmFactory, XMLObjectFactory problemFactory, XMLObjectFactory measurementFactory, MeasurementCombiner combiner, int samples) {
-        this.executor = executor;
+    Simulator(XMLObjectFactory algorithmFactory, XMLObjectFactory problemFactory, XMLObjectFactory measurementFactory, MeasurementCombiner combiner, OutputType format, int samples, SeedSequence seeds, ExecutorService fitnessExecutor) {
         this.algorithmFactory = algorithmFactory;
         this.problemFactory = problemFactory;
         this.measurementFactory = measurementFactory;
         this.combiner = combiner;
+        this.format = format;
         this.samples = samples;
-        this.progressListeners = new Vector<ProgressListener>();
-        this.progress = new HashMap<Simulation, Double>();
-        this.simulations = new Simulation[samples];
+        this.progress = new AtomicLongArray(samples);
+        this.iterations = new AtomicLongArray(samples);
+        this.evaluations = new AtomicLongArray(samples);
+        this.running = new AtomicReferenceArray<Simulation>(samples);
+        this.results = new File[samples];
+        this.remaining = new AtomicInteger(samples);
+        this.seeds = seeds;
+        this.fitnessExecutor = fitnessExecutor;
     }
 
     /**
-     * Perform the initialization of the {@code Simulator} by creating the required
-     * {@code Simulation} instances and executing the threads.
+     * Create and initialise the {@code Simulation} for the given sample.
+     * @param sample The index of the sample.
+     * @return The {@code Simulation}, ready for execution.
      */
-    void init() {
-        for (int i = 0; i < samples; ++i) {
-            simulations[i] = new Simulation(this, (Algorithm) algorithmFactory.newObject(), (Problem) problemFactory.newObject(), (MeasurementSuite) measurementFactory.newObject());
-            simulations[i].init(); // Prepare the simulation for execution
-            progress.put(simulations[i], 0.0);
-        }
+    Simulation newSimulation(int sample) {
+        MeasurementSuite measurementSuite = (MeasurementSuite) measurementFactory.newObject();
+        measurementSuite.setOutputType(format);
+        Simulation simulation = new Simulation(this, sample, (Algorithm) algorithmFactory.newObject(), (Problem) problemFactory.newObject(), measurementSuite);
+        simulation.init(); // Prepare the simulation for execution
+        return simulation;
     }
 
     /**
-     * Executes all the experiments for this simulation. The measurement suite will
-     * be closed once this method completes.
+     * Get the task that executes the given sample. The task constructs the
+     * {@code Simulation} when it is executed and retains only the file
+     * containing the measurements once the sample is complete.
+     * @param sample The index of the sample.
+     * @return The task, which returns this {@code Simulator} on completion.
      */
-    void execute() {
-        CompletionService<Simulation> completionService = new ExecutorCompletionService<Simulation>(executor);
-        for (int i = 0; i < samples; ++i) {
-            completionService.submit(simulations[i], simulations[i]); // The return value is explicitly null.
-        }
+    Callable<Simulator> getSample(final int sample) {
+        return new Callable<Simulator>() {
+            @Override
+            public Simulator call() {
+                if (!terminated) {
+                    Simulation simulation;
+                    Seeder.setLocalSequence(seeds.spawn(sample));
+                    AbstractAlgorithm.setEvaluationExecutor(fitnessExecutor);
+                    try {
+                        simulation = newSimulation(sample);
+                        running.set(sample, simulation);
+                        simulation.run();
+                    } finally {
+                        running.set(sample, null);
+                        Seeder.setLocalSequence(null);
+                        AbstractAlgorithm.setEvaluationExecutor(null);
+                    }
 
-        final Simulation[] completedSimulations = new Simulation[samples];
-        try {
-            for (int i = 0; i < samples; i++) {
-                Future<Simulation> simulation = completionService.take();
-                completedSimulations[i] = simulation.get();
+                    if (descriptions == null) {
+                        descriptions = simulation.getMeasurementSuite().getDescriptions(); // Law of demeter!
+                    }
+                    synchronized (results) {
+                        results[sample] = simulation.getMeasurementSuite().getFile();
+                    }
+                }
+                remaining.decrementAndGet();
+                return Simulator.this;
             }
-        } catch (InterruptedException ex) {
-            Logger.getLogger(Simulator.class.getName()).log(Level.SEVERE, null, ex);
-        } catch (ExecutionException ex) {
-            throw new RuntimeException(ex);
-        }
+        };
+    }
 
-        // Get the names of the measurements.
-        List<String> descriptions = simulations[0].getMeasurementSuite().getDescriptions(); // Law of demeter!
+    /**
+     * Get the number of samples for this simulator.
+     * @return The number of samples.
+     */
+    int getSamples() {
+        return samples;
+    }
 
-        List<File> fileList = Lists.newArrayList();
-        for (Simulation simulation : completedSimulations) {
-            fileList.add(simulation.getMeasurementSuite().getFile());
-        }
-        executor.shutdown();
+    /**
+     * Determine if all the samples of this simulator have been executed.
+     * @return {@code true} if no samples remain, {@code false} otherwise.
+     */
+    boolean isComplete() {
+        return remaining.get() == 0;
+    }
 
+    /**
+     * Combine the results of all the samples. The measurement suite files are
+     * provided to the combiner in sample order.
+     */
+    void combine() {
+        List<File> fileList;
+        synchronized (results) {
+            fileList = Arrays.asList(results.clone());
+        }
         combiner.combine(descriptions, fileList);
     }
 
     /**
-     * Terminates all the experiments.
+     * Terminates all the running experiments. Samples that have not yet
+     * started will not be executed.
      */
     void terminate() {
+        terminated = true;
         for (int i = 0; i < samples; ++i) {
-            simulations[i].terminate();
+            Simulation simulation = running.get(i);
+            if (simulation != null) {
+                simulation.terminate();
+            }
         }
     }
 
     /**
-     * Adds a listener for progress events. A progress is fired periodically based on the resolution
-     * of the measurements. {@see ProgressEvent} {@see ProgressListener}
-     * @param listener The event listener
+     * Get the average progress of all the samples of this simulator.
+     * @return The fraction of the work that is complete.
      */
-    void addProgressListener(ProgressListener listener) {
-        progressListeners.add(listener);
+    double getProgress() {
+        return sum(progress) / PROGRESS_SCALE / samples;
     }
 
     /**
-     * Removes a listener for progress events.
-     * @param listener The event listener
+     * Get the total number of iterations performed by the samples of this simulator.
+     * @return The number of iterations.
      */
-    void removeProgressListener(ProgressListener listener) {
-        progressListeners.remove(listener);
+    long getIterations() {
+        return sum(iterations);
     }
 
-    private synchronized void notifyProgress() {
-        double ave = 0;
-        for (Double tmp : progress.values()) {
-            ave += tmp.doubleValue();
-        }
-
-        ave /= progress.size();
-
-        for (ProgressListener listener : progressListeners) {
-            listener.handleProgressEvent(new ProgressEvent(ave));
-        }
+    /**
+     * Get the total number of fitness evaluations performed by the samples of this simulator.
+     * @return The number of fitness evaluations.
+     */
+    long getFitnessEvaluations() {
+        return sum(evaluations);
     }
 
     /**
-     * Update the progress of the current simulation with the provided
-     * percentage.
+     * Update the progress of the given simulation. This method must only be
+     * called by the thread that executes the {@code simulation}.
      * @param simulation to be updated.
      * @param percentageComplete updated percentage value.
+     * @param iterationCount the number of iterations the simulation has performed.
+     * @param evaluationCount the number of fitness evaluations the simulation has performed.
      */
-    void updateProgress(Simulation simulation, double percentageComplete) {
-        progress.put(simulation, percentageComplete);
-        notifyProgress();
+    void updateProgress(Simulation simulation, double percentageComplete, long iterationCount, long evaluationCount) {
+        int sample = simulation.getSample();
+        progress.lazySet(sample, Math.round(percentageComplete * PROGRESS_SCALE));
+        iterations.lazySet(sample, iterationCount);
+        evaluations.lazySet(sample, evaluationCount);
+    }
+
+    private static long sum(AtomicLongArray array) {
+        long sum = 0;
+        for (int i = 0, n = array.length(); i < n; i++) {
+            sum += array.get(i);
+        }
+        return sum;
     }
 }
@@ -23,7 +23,10 @@ package net.sourceforge.cilib.simulator;
 
 import com.google.inject.Inject;
 import com.google.inject.Provider;
+import com.google.inject.name.Named;
 import java.util.concurrent.ExecutorService;
+import net.sourceforge.cilib.math.random.generator.SeedSequence;
+import net.sourceforge.cilib.math.random.generator.Seeder;
 
 /**
  *
@@ -31,16 +34,18 @@ import java.util.concurrent.ExecutorService;
  */
 class SimulatorCreator implements Provider<Simulator> {
 
-    private final Provider<ExecutorService> service;
+    private final ExecutorService fitnessExecutor;
     private XMLObjectFactory algorithmFactory;
     private XMLObjectFactory problemFactory;
     private XMLObjectFactory measurementFactory;
     private int samples;
     private MeasurementCombiner combiner;
+    private OutputType format;
+    private SeedSequence seeds;
 
     @Inject
-    SimulatorCreator(Provider<ExecutorService> service) {
-        this.service = service;
+    SimulatorCreator(@Named(SimulatorModule.FITNESS) ExecutorService fitnessExecutor) {
+        this.fitnessExecutor = fitnessExecutor;
     }
 
     SimulatorCreator algorithm(XMLObjectFactory algorithmFactory) {
@@ -63,12 +68,29 @@ class SimulatorCreator implements Provider<Simulator> {
         return this;
     }
 
+    SimulatorCreator format(OutputType format) {
+        this.format = format;
+        return this;
+    }
+
+    /**
+     * Set the sequence from which the seeds of the samples are spawned. If no
+     * sequence is set, the root seed of the simulator is obtained from the
+     * {@link Seeder}.
+     */
+    SimulatorCreator seeds(SeedSequence seeds) {
+        this.seeds = seeds;
+        return this;
+    }
+
     @Override
     public Simulator get() {
-        Simulator simulator = new Simulator(service.get(), algorithmFactory, problemFactory, measurementFactory, combiner, samples);
+        SeedSequence sequence = (seeds == null) ? new SeedSequence(Seeder.getSeed()) : seeds;
+        Simulator simulator = new Simulator(algorithmFactory, problemFactory, measurementFactory, combiner, format, samples, sequence, fitnessExecutor);
         this.algorithmFactory = null;
         this.problemFactory = null;
         this.measurementFactory = null;
+        this.seeds = null;
         return simulator;
     }
 
@@ -21,23 +21,63 @@
  */
 package net.sourceforge.cilib.simulator;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 /**
+ * Configuration for the simulator. A single executor is shared by all the
+ * simulations of a run, so that idle worker threads pick up the samples of
+ * any simulation that still has work remaining.
+ * <p>
+ * A second executor, of the same size, calculates fitness values on behalf
+ * of the samples, for algorithms that evaluate their entities concurrently.
+ * It is kept separate from the sample executor, because a sample waits for
+ * its fitness calculations to complete and would otherwise deadlock once all
+ * the workers are running samples.
  *
  * @author gpampara
  */
  final class SimulatorModule extends AbstractModule {
 
+    private final int parallelism;
+
+    /**
+     * Create a module with the given number of worker threads.
+     * @param parallelism The number of samples to execute concurrently.
+     */
+    SimulatorModule(int parallelism) {
+        checkArgument(parallelism > 0, "The parallelism level must be positive");
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * The name of the binding of the executor for the fitness calculations.
+     */
+    static final String FITNESS = "fitness";
+
     @Override
     protected void configure() {
     }
 
     @Provides
+    @Singleton
     ExecutorService getExecutor() {
-        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        return Executors.newFixedThreadPool(parallelism,
+                new ThreadFactoryBuilder().setNameFormat("simulation-worker-%d").build());
+    }
+
+    @Provides
+    @Singleton
+    @Named(FITNESS)
+    ExecutorService getFitnessExecutor() {
+        return Executors.newFixedThreadPool(parallelism,
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("fitness-worker-%d").build());
     }
 }
@@ -22,12 +22,24 @@
 package net.sourceforge.cilib.simulator;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
 import java.io.File;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import net.sourceforge.cilib.algorithm.ProgressListener;
+import net.sourceforge.cilib.math.random.generator.SeedSequence;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
@@ -38,7 +50,17 @@ import org.w3c.dom.NodeList;
  * is actually created and executed.
  * <p>
  * The {@code SimulatorShell} may construct more than one simulator instance
- * if required, based on the provided simulation file.
+ * if required, based on the provided simulation file. The samples of all
+ * the simulators are interleaved on a single executor and each sample is only
+ * constructed once a worker thread is available to execute it.
+ * <p>
+ * If the {@code simulator} element of the file specifies a root {@code seed},
+ * the random number generators of each sample are seeded from the path
+ * {@code (seed, simulation index, sample index)}, and every sample can be
+ * replayed exactly, irrespective of the number of worker threads:
+ * <pre>
+ * &lt;simulator seed="1234"&gt;
+ * </pre>
  *
  * @author gpampara
  */
@@ -47,18 +69,25 @@ class SimulatorShell {
     private final XMLObjectBuilder objectBuilder;
     private final SimulatorCreator creator;
     private final MeasurementCombinerBuilder combinerBuilder;
+    private final ExecutorService executor;
+    private final ExecutorService fitnessExecutor;
 
     @Inject
     SimulatorShell(XMLObjectBuilder objectBuilder,
             SimulatorCreator creator,
-            MeasurementCombinerBuilder combinerBuilder) {
+            MeasurementCombinerBuilder combinerBuilder,
+            ExecutorService executor,
+            @Named(SimulatorModule.FITNESS) ExecutorService fitnessExecutor) {
         this.objectBuilder = objectBuilder;
         this.creator = creator;
         this.combinerBuilder = combinerBuilder;
+        this.executor = executor;
+        this.fitnessExecutor = fitnessExecutor;
     }
 
     /**
-     * Prepare a list of {@code Simulator} instances for execution.
+     * Prepare a list of {@code Simulator} instances for execution. The
+     * samples of the simulators are only constructed when they are executed.
      * @param specification to be read defining the simulations.
      * @return the list of instacnes to execute.
      */
@@ -69,6 +98,9 @@ class SimulatorShell {
             DocumentBuilder db = dbf.newDocumentBuilder();
             Document config = db.parse(specification);
 
+            Element root = config.getDocumentElement();
+            SeedSequence seeds = root.hasAttribute("seed") ? new SeedSequence(Long.parseLong(root.getAttribute("seed").trim())) : null;
+
             NodeList simulations = config.getElementsByTagName("simulation");
             for (int i = 0; i < simulations.getLength(); ++i) {
                 Element current = (Element) simulations.item(i);
@@ -76,11 +108,14 @@ class SimulatorShell {
                 XMLObjectFactory algorithmFactory = objectBuilder.config(config).element(current.getElementsByTagName("algorithm").item(0)).build();
                 XMLObjectFactory problemFactory = objectBuilder.config(config).element(current.getElementsByTagName("problem").item(0)).build();
                 XMLObjectFactory measurementsFactory = objectBuilder.config(config).element((Element) current.getElementsByTagName("measurements").item(0)).build();
-                MeasurementCombiner combiner = createCombiner((Element) current.getElementsByTagName("output").item(0));
+                Element output = (Element) current.getElementsByTagName("output").item(0);
+                OutputType format = OutputType.valueOf(output.getAttribute("format").toUpperCase());
+                MeasurementCombiner combiner = createCombiner(format, output);
 
-                Simulator simulator = creator.algorithm(algorithmFactory).problem(problemFactory).measurement(measurementsFactory).combiner(combiner).samples(samples).get();
-                simulator.init(); // Prepare the simulator by initializing the simulations
-                simulators.add(simulator);
+                if (seeds != null) {
+                    creator.seeds(seeds.spawn(i));
+                }
+                simulators.add(creator.algorithm(algorithmFactory).problem(problemFactory).measurement(measurementsFactory).combiner(combiner).format(format).samples(samples).get());
             }
             return simulators;
         } catch (Exception ex) {
@@ -89,26 +124,78 @@ class SimulatorShell {
     }
 
     /**
-     * Run and execute the simulations, reporting progress.
-     * @param simulators iterable list to execute.
+     * Run and execute the simulations, reporting progress. The samples are
+     * submitted round-robin across the simulators, so that all simulations
+     * progress together. The results of a simulator are combined as soon as
+     * all of its samples are complete, after which the listener is informed
+     * of the number of completed simulations. The listener is notified of
+     * the progress periodically by a {@link ProgressTicker}.
+     * If a sample fails, or the calling thread is interrupted, all the
+     * simulators are terminated, the outstanding samples are cancelled and
+     * the failure is rethrown.
+     * @param simulators list to execute.
      * @param listener reposible to monitor progress.
-     * TODO: This listener idea is not fresh - one listener per simulation should be the case.
      */
-    void execute(Iterable<Simulator> simulators, ProgressListener listener) {
-        int index = 0;
+    void execute(List<Simulator> simulators, ProgressListener listener) {
+        CompletionService<Simulator> completionService = new ExecutorCompletionService<Simulator>(executor);
+        ProgressTicker progress = new ProgressTicker(simulators, listener);
+        ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("progress-ticker").build());
+        ticker.scheduleAtFixedRate(progress, ProgressTicker.PERIOD, ProgressTicker.PERIOD, TimeUnit.MILLISECONDS);
+
+        int maximumSamples = 0;
+        for (Simulator simulator : simulators) {
+            maximumSamples = Math.max(maximumSamples, simulator.getSamples());
+        }
+
+        int tasks = 0;
+        for (int sample = 0; sample < maximumSamples; ++sample) {
+            for (Simulator simulator : simulators) {
+                if (sample < simulator.getSamples()) {
+                    completionService.submit(simulator.getSample(sample));
+                    tasks++;
+                }
+            }
+        }
+
+        int completed = 0;
+        Set<Simulator> combined = Sets.newIdentityHashSet();
+        try {
+            for (int i = 0; i < tasks; ++i) {
+                Simulator simulator = completionService.take().get();
+                if (simulator.isComplete() && combined.add(simulator)) { // samples may complete before they are taken
+                    simulator.combine();
+                    progress.setSimulation(++completed);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            terminate(simulators);
+            throw new RuntimeException(ex);
+        } catch (ExecutionException ex) {
+            terminate(simulators);
+            throw new RuntimeException(ex);
+        } finally {
+            executor.shutdown();
+            fitnessExecutor.shutdown();
+            ticker.shutdown();
+        }
+        progress.run(); // Report the final progress
+    }
+
+    private void terminate(List<Simulator> simulators) {
         for (Simulator simulator : simulators) {
-            simulator.addProgressListener(listener);
-            listener.setSimulation(index++);
-            simulator.execute();
+            simulator.terminate();
         }
+        executor.shutdownNow();
+        fitnessExecutor.shutdownNow();
     }
 
     /*
      * This shoud be a guice provider.... I don't like this
      */
-    private MeasurementCombiner createCombiner(Element item) {
+    private MeasurementCombiner createCombiner(OutputType format, Element item) {
         String file = item.getAttribute("file");
-        OutputType format = OutputType.valueOf(item.getAttribute("format").toUpperCase());
         return this.combinerBuilder.build(format, file);
     }
 }
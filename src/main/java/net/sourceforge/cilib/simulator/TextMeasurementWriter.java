@@ -0,0 +1,59 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.simulator;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import net.sourceforge.cilib.type.types.Type;
+
+/**
+ * Write partial results as lines of space separated text, to be merged by
+ * the {@link TextBasedCombiner}.
+ */
+class TextMeasurementWriter implements MeasurementWriter {
+
+    private final BufferedWriter writer;
+
+    TextMeasurementWriter(File file) throws IOException {
+        this.writer = new BufferedWriter(new FileWriter(file));
+    }
+
+    @Override
+    public void write(int iterations, Type[] values) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        builder.append(iterations);
+        for (Type t : values) {
+            builder.append(" ").append(t);
+        }
+
+        writer.write(builder.toString());
+        writer.newLine();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+        writer.close();
+    }
+}
@@ -21,9 +21,13 @@
  */
 package net.sourceforge.cilib.simulator;
 
+import com.google.common.base.Optional;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.w3c.dom.*;
 
 /**
@@ -62,6 +66,11 @@ import org.w3c.dom.*;
  * a hierarchical fashion to handle the construction of complex objects.
  * </p>
  * <p>
+ * The results of resolving class names, literal values and methods are cached
+ * for all factories, so that constructing further objects from the same
+ * description only replays the resolved reflective calls.
+ * </p>
+ * <p>
  * Note: Requires the Java API for XML processing (JAXP).
  * </p>
  *
@@ -72,6 +81,10 @@ import org.w3c.dom.*;
 // TODO: Rewrite to use SAX instead of maintaining a DOM tree.
 class XMLObjectFactory {
 
+    private static final ConcurrentMap<String, Class<?>> CLASSES = new ConcurrentHashMap<String, Class<?>>();
+    private static final ConcurrentMap<String, String> SETTERS = new ConcurrentHashMap<String, String>();
+    private static final ConcurrentMap<String, Object> LITERALS = new ConcurrentHashMap<String, Object>();
+    private static final ConcurrentMap<MethodKey, Optional<Method>> METHODS = new ConcurrentHashMap<MethodKey, Optional<Method>>();
     private Document xmlDocument;
     private Element xmlObjectDescription;
 
@@ -89,12 +102,17 @@ class XMLObjectFactory {
 
     /**
      * Constructs a new {@link java.lang.Object} based on the underlying XML object description.
+     * Construction is serialised on the owning XML document, so that factories
+     * sharing a document may be used from multiple threads.
      *
      * @exception FactoryException In case the object cannot be constructed.
      * @return A new {@link java.lang.Object} constructed according to the given description.
      */
     public Object newObject() {
-        return newObject(xmlObjectDescription);
+        // DOM implementations need not be thread-safe, even for reads.
+        synchronized (xmlObjectDescription.getOwnerDocument()) {
+            return newObject(xmlObjectDescription);
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -130,6 +148,15 @@ class XMLObjectFactory {
             error(xml, "No class specified");
         }
 
+        Class<?> objectClass = CLASSES.get(className);
+        if (objectClass == null) {
+            objectClass = findClass(xml, className);
+            CLASSES.put(className, objectClass);
+        }
+        return objectClass;
+    }
+
+    private Class<?> findClass(Element xml, String className) {
         try {
             return Class.forName("net.sourceforge.cilib." + className);
         } catch (ClassNotFoundException e) {
@@ -233,6 +260,15 @@ class XMLObjectFactory {
     }
 
     private Object newObject(String value) {
+        Object literal = LITERALS.get(value);
+        if (literal == null) {
+            literal = parseLiteral(value);
+            LITERALS.put(value, literal);
+        }
+        return literal;
+    }
+
+    private Object parseLiteral(String value) {
         try {
             return Integer.valueOf(value.trim());
         } catch (NumberFormatException e) {
@@ -253,18 +289,31 @@ class XMLObjectFactory {
     }
 
     private void invokeAnyMethod(Element xml, Object target, String name, Object value) {
-        try {
-            invokeSetMethod(xml, target, name, value);
-        } catch (Exception ex) {
-            Object[] parameter = {value};
-            invokeMethod(xml, target, name, parameter);
+        Object[] parameter = {value};
+        String setMethodName = getSetMethodName(name);
+        if (resolveMethod(target, setMethodName, parameter) != null) {
+            try {
+                invokeMethod(xml, target, setMethodName, parameter);
+                return;
+            } catch (Exception ex) {
+                // Fall back to a method with the given name
+            }
         }
+        invokeMethod(xml, target, name, parameter);
     }
 
     private void invokeSetMethod(Element xml, Object target, String property, Object value) {
-        String setMethodName = "set" + property.substring(0, 1).toUpperCase() + property.substring(1);
         Object[] parameters = {value};
-        invokeMethod(xml, target, setMethodName, parameters);
+        invokeMethod(xml, target, getSetMethodName(property), parameters);
+    }
+
+    private String getSetMethodName(String property) {
+        String setMethodName = SETTERS.get(property);
+        if (setMethodName == null) {
+            setMethodName = "set" + property.substring(0, 1).toUpperCase() + property.substring(1);
+            SETTERS.put(property, setMethodName);
+        }
+        return setMethodName;
     }
 
     private String getParameterString(Object[] parameters) {
@@ -281,6 +330,38 @@ class XMLObjectFactory {
     }
 
     private void invokeMethod(Element xml, Object target, String methodName, Object[] parameters) {
+        Method method = resolveMethod(target, methodName, parameters);
+        if (method == null) {
+            error(xml, target.getClass().getName() + " does not expose a " + methodName + "(" + getParameterString(parameters) + ") method");
+        }
+
+        try {
+            method.invoke(target, parameters);
+        } catch (InvocationTargetException ex) {
+            ex.printStackTrace();
+            error(xml, "Invoking " + target.getClass().getName() + "." + method.getName() + "(" + getParameterString(parameters) + ") caused: " + ex.getTargetException().toString());
+        } catch (Exception ex) {
+            error(xml, "Could not invoke " + target.getClass().getName() + "." + method.getName() + "(" + getParameterString(parameters) + ")");
+        }
+    }
+
+    private Method resolveMethod(Object target, String methodName, Object[] parameters) {
+        Class<?>[] parameterClasses = new Class<?>[parameters.length];
+        for (int i = 0; i < parameters.length; ++i) {
+            parameterClasses[i] = parameters[i].getClass();
+        }
+
+        // The match only depends on the classes of the target and the parameters
+        MethodKey key = new MethodKey(target.getClass(), methodName, parameterClasses);
+        Optional<Method> cached = METHODS.get(key);
+        if (cached == null) {
+            cached = Optional.fromNullable(findMethod(target, methodName, parameters));
+            METHODS.put(key, cached);
+        }
+        return cached.orNull();
+    }
+
+    private Method findMethod(Object target, String methodName, Object[] parameters) {
         Method method = null;
 
         // Find the method
@@ -314,22 +395,48 @@ class XMLObjectFactory {
                 }
             }
         }
+        return method;
+    }
 
-        if (method == null) {
-            error(xml, target.getClass().getName() + " does not expose a " + methodName + "(" + getParameterString(parameters) + ") method");
+    protected void error(Element element, String message) {
+        throw new RuntimeException("In <" + element.getTagName() + "> : " + message);
+    }
+
+    /**
+     * The key of a resolved method: the name of the method and the classes
+     * of the target and the parameters.
+     */
+    private static final class MethodKey {
+
+        private final Class<?> target;
+        private final String name;
+        private final Class<?>[] parameters;
+
+        MethodKey(Class<?> target, String name, Class<?>[] parameters) {
+            this.target = target;
+            this.name = name;
+            this.parameters = parameters;
         }
 
-        try {
-            method.invoke(target, parameters);
-        } catch (InvocationTargetException ex) {
-            ex.printStackTrace();
-            error(xml, "Invoking " + target.getClass().getName() + "." + method.getName() + "(" + getParameterString(parameters) + ") caused: " + ex.getTargetException().toString());
-        } catch (Exception ex) {
-            error(xml, "Could not invoke " + target.getClass().getName() + "." + method.getName() + "(" + getParameterString(parameters) + ")");
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof MethodKey)) {
+                return false;
+            }
+            MethodKey other = (MethodKey) obj;
+            return target.equals(other.target) && name.equals(other.name) && Arrays.equals(parameters, other.parameters);
         }
-    }
 
-    protected void error(Element element, String message) {
-        throw new RuntimeException("In <" + element.getTagName() + "> : " + message);
+        @Override
+        public int hashCode() {
+            int hash = 7;
+            hash = 31 * hash + target.hashCode();
+            hash = 31 * hash + name.hashCode();
+            hash = 31 * hash + Arrays.hashCode(parameters);
+            return hash;
+        }
     }
 }
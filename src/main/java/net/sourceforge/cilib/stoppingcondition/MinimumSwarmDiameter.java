@@ -21,7 +21,9 @@
  */
 package net.sourceforge.cilib.stoppingcondition;
 
-import net.sourceforge.cilib.entity.visitor.DiameterVisitor;
+import net.sourceforge.cilib.entity.visitor.DiameterStrategy;
+import net.sourceforge.cilib.entity.visitor.Diameters;
+import net.sourceforge.cilib.entity.visitor.ExactDiameterStrategy;
 import net.sourceforge.cilib.pso.PSO;
 
 /**
@@ -31,14 +33,16 @@ public class MinimumSwarmDiameter implements StoppingCondition<PSO> {
 
     private static final long serialVersionUID = -1570485054918077401L;
     private double minimumSwarmDiameter;
+    private DiameterStrategy strategy;
 
     /** Creates a new instance of MinimumSwarmDiameterIndicator. */
     public MinimumSwarmDiameter() {
-        minimumSwarmDiameter = 0.0001;
+        this(0.0001);
     }
 
     public MinimumSwarmDiameter(double minimumSwarmDiameter) {
         this.minimumSwarmDiameter = minimumSwarmDiameter;
+        this.strategy = new ExactDiameterStrategy();
     }
 
     public void setDiameter(double minimumSwarmDiameter) {
@@ -51,9 +55,7 @@ public class MinimumSwarmDiameter implements StoppingCondition<PSO> {
 
     @Override
     public double getPercentageCompleted(PSO algorithm) {
-        DiameterVisitor diameterVisitor = new DiameterVisitor();
-        algorithm.accept(diameterVisitor);
-        double diameter = diameterVisitor.getResult();
+        double diameter = Diameters.of(algorithm, strategy);
 
         if (diameter <= minimumSwarmDiameter) {
             return 1;
@@ -63,8 +65,14 @@ public class MinimumSwarmDiameter implements StoppingCondition<PSO> {
 
     @Override
     public boolean apply(PSO input) {
-        DiameterVisitor diameterVisitor = new DiameterVisitor();
-        input.accept(diameterVisitor);
-        return (diameterVisitor.getResult() <= minimumSwarmDiameter);
+        return (Diameters.of(input, strategy) <= minimumSwarmDiameter);
+    }
+
+    public DiameterStrategy getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(DiameterStrategy strategy) {
+        this.strategy = strategy;
     }
 }
@@ -21,13 +21,21 @@
  */
 package net.sourceforge.cilib.type.types;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Simple {@code Blackboard} implementation.
+ * <p>
+ * Keys that implement {@link Slot} are stored in an array at the position
+ * given by the key, so that reading and writing them requires no hashing.
+ * All other keys are kept in a {@code HashMap}.
  *
  * @param <K> The key type.
  * @param <V> The value type.
@@ -35,13 +43,30 @@ import java.util.concurrent.ConcurrentHashMap;
 public final class Blackboard<K, V extends Type> implements Type {
 
     private static final long serialVersionUID = -2589625146223946484L;
-    private final Map<K, V> board;
+    private static final Object[] EMPTY = new Object[0];
+
+    /**
+     * A key that occupies a fixed slot within a {@code Blackboard}. Each key
+     * must have a distinct, small, non-negative slot.
+     */
+    public interface Slot {
+        /**
+         * Get the position of the key within the {@code Blackboard}.
+         * @return The slot of the key.
+         */
+        int getSlot();
+    }
+
+    private Object[] keys;
+    private Object[] values;
+    private Map<K, V> board;
 
     /**
      * Create a new empty {@code Blackboard} container.
      */
     public Blackboard() {
-        this.board = new HashMap<K, V>();
+        this.keys = EMPTY;
+        this.values = EMPTY;
     }
 
     /**
@@ -49,12 +74,21 @@ public final class Blackboard<K, V extends Type> implements Type {
      * @param copy The isntance to copy.
      */
     public Blackboard(Blackboard<K, V> copy) {
-        this.board = new ConcurrentHashMap<K, V>();
-        for (Map.Entry<K, V> entry : copy.board.entrySet()) {
-            K key = entry.getKey();
-            @SuppressWarnings({"unchecked"})
-            V value = (V) entry.getValue().getClone();
-            this.board.put(key, value);
+        this.keys = copy.keys.clone();
+        this.values = new Object[copy.values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (copy.values[i] != null) {
+                this.values[i] = ((Type) copy.values[i]).getClone();
+            }
+        }
+
+        if (copy.board != null) {
+            this.board = new HashMap<K, V>();
+            for (Map.Entry<K, V> entry : copy.board.entrySet()) {
+                @SuppressWarnings({"unchecked"})
+                V value = (V) entry.getValue().getClone();
+                this.board.put(entry.getKey(), value);
+            }
         }
     }
 
@@ -81,6 +115,20 @@ public final class Blackboard<K, V extends Type> implements Type {
         }
 
         Blackboard<?, ?> other = (Blackboard<?, ?>) obj;
+        int length = Math.max(this.values.length, other.values.length);
+        for (int i = 0; i < length; i++) {
+            Object value = i < this.values.length ? this.values[i] : null;
+            Object otherValue = i < other.values.length ? other.values[i] : null;
+            if (value == null ? otherValue != null : !value.equals(otherValue)) {
+                return false;
+            }
+        }
+
+        boolean empty = this.board == null || this.board.isEmpty();
+        boolean otherEmpty = other.board == null || other.board.isEmpty();
+        if (empty || otherEmpty) {
+            return empty == otherEmpty;
+        }
         return this.board.equals(other.board);
     }
 
@@ -89,8 +137,18 @@ public final class Blackboard<K, V extends Type> implements Type {
      */
     @Override
     public int hashCode() {
+        int entries = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                entries += keys[i].hashCode() ^ values[i].hashCode();
+            }
+        }
+        if (board != null) {
+            entries += board.hashCode();
+        }
+
         int hash = 7;
-        hash = 31 * hash + (this.board == null ? 0 : this.board.hashCode());
+        hash = 31 * hash + entries;
         return hash;
     }
 
@@ -99,7 +157,14 @@ public final class Blackboard<K, V extends Type> implements Type {
      */
     @Override
     public String toString() {
-        return this.board.toString();
+        StringBuilder builder = new StringBuilder("{");
+        for (Map.Entry<K, V> entry : entrySet()) {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return builder.append('}').toString();
     }
 
     /**
@@ -109,6 +174,22 @@ public final class Blackboard<K, V extends Type> implements Type {
      * @return The provided value.
      */
     public V put(K key, V value) {
+        if (key instanceof Slot) {
+            int slot = ((Slot) key).getSlot();
+            if (slot >= values.length) {
+                keys = Arrays.copyOf(keys, slot + 1);
+                values = Arrays.copyOf(values, slot + 1);
+            }
+            @SuppressWarnings({"unchecked"})
+            V previous = (V) values[slot];
+            keys[slot] = key;
+            values[slot] = value;
+            return previous;
+        }
+
+        if (board == null) {
+            board = new HashMap<K, V>();
+        }
         return this.board.put(key, value);
     }
 
@@ -117,15 +198,99 @@ public final class Blackboard<K, V extends Type> implements Type {
      * @param key The key to obtained the value of.
      * @return The associated value to the key.
      */
+    @SuppressWarnings({"unchecked"})
     public V get(K key) {
-        return this.board.get(key);
+        if (key instanceof Slot) {
+            int slot = ((Slot) key).getSlot();
+            return slot < values.length ? (V) values[slot] : null;
+        }
+
+        return board == null ? null : this.board.get(key);
     }
 
     /**
-     * Obtain a {@code Set} of key / value pairs.
+     * Obtain a {@code Set} of key / value pairs. The set is a view of the
+     * {@code Blackboard}, and setting the value of an entry updates the
+     * {@code Blackboard}.
      * @return The set of values.
      */
     public Set<Map.Entry<K, V>> entrySet() {
-        return this.board.entrySet();
+        return new EntrySet();
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            int size = board == null ? 0 : board.size();
+            for (Object value : values) {
+                if (value != null) {
+                    size++;
+                }
+            }
+            return size;
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        private final Iterator<Map.Entry<K, V>> boardIterator;
+        private int slot = nextSlot(0);
+
+        EntryIterator() {
+            this.boardIterator = board == null ? null : board.entrySet().iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return slot < values.length || (boardIterator != null && boardIterator.hasNext());
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (slot < values.length) {
+                Map.Entry<K, V> entry = new SlotEntry(slot);
+                slot = nextSlot(slot + 1);
+                return entry;
+            }
+
+            if (boardIterator == null) {
+                throw new NoSuchElementException();
+            }
+            return boardIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Entries cannot be removed from a Blackboard");
+        }
+
+        private int nextSlot(int from) {
+            int next = from;
+            while (next < values.length && values[next] == null) {
+                next++;
+            }
+            return next;
+        }
+    }
+
+    private final class SlotEntry extends AbstractMap.SimpleEntry<K, V> {
+        private static final long serialVersionUID = 4210960457322478315L;
+        private final int slot;
+
+        @SuppressWarnings({"unchecked"})
+        SlotEntry(int slot) {
+            super((K) keys[slot], (V) values[slot]);
+            this.slot = slot;
+        }
+
+        @Override
+        public V setValue(V value) {
+            values[slot] = value;
+            return super.setValue(value);
+        }
     }
 }
@@ -40,7 +40,7 @@ import net.sourceforge.cilib.type.types.Bounds;
 import net.sourceforge.cilib.type.types.Int;
 import net.sourceforge.cilib.type.types.Numeric;
 import net.sourceforge.cilib.type.types.Real;
-import net.sourceforge.cilib.util.Sequence;
+import net.sourceforge.cilib.util.RandomProviders;
 
 /**
  * Mathematical vector implementation. This class represents a vector within
@@ -58,6 +58,13 @@ import net.sourceforge.cilib.util.Sequence;
  * accept an instance of {@code Vector} and maintain all the modifications
  * internally, without modifying the current instance.
  *
+ * <p>A {@code Vector} that contains only {@code Real} elements is stored
+ * as a primitive {@code double[]}, with the {@code Bounds} of the elements
+ * shared between the {@code Vector} and all vectors derived from it. For
+ * such vectors {@link #get(int)} returns a copy of the element; prefer
+ * {@link #doubleValueOf(int)} and {@link #setReal(int, double)} for element
+ * access.
+ *
  * <p>{@code Vector} additionally implements a functional interface.
  *
  * <p><strong>Note: Many methods have been deprecated from previous versions
@@ -75,7 +82,20 @@ public class Vector implements StructuredType<Numeric>,
         VectorMath, RandomAccess {
 
     private static final long serialVersionUID = -4853190809813810272L;
+    private static final Bounds DEFAULT_BOUNDS = Real.valueOf(0.0).getBounds();
+
+    /*
+     * A Vector that contains only Real elements (the common case) stores the
+     * element values directly within a double[], together with the Bounds of
+     * each element. The Bounds array is never modified in place and is shared
+     * between the Vector and all Vectors derived from it through arithmetic.
+     * Vectors that contain other Numeric types (Int, Bit, ...) use the
+     * Numeric[] representation instead, in which case both values and bounds
+     * are null.
+     */
     private Numeric[] components;
+    private double[] values;
+    private Bounds[] bounds;
 
     /**
      * Returns an empty {@code Vector}.
@@ -85,7 +105,7 @@ public class Vector implements StructuredType<Numeric>,
      * @return empty {@code Vector}.
      */
     public static Vector of() {
-        return new Vector(new Numeric[]{});
+        return new Vector(new double[]{}, new Bounds[]{});
     }
 
     /**
@@ -102,12 +122,12 @@ public class Vector implements StructuredType<Numeric>,
      * @return A new {@code Vector} instance.
      */
     public static Vector of(Number... numbers) {
-        Numeric[] elements = new Numeric[numbers.length];
+        double[] elements = new double[numbers.length];
         int index = 0;
         for (Number number : numbers) {
-            elements[index++] = Real.valueOf(number.doubleValue());
+            elements[index++] = number.doubleValue();
         }
-        return new Vector(elements);
+        return new Vector(elements, defaultBounds(elements.length));
     }
 
     /**
@@ -150,21 +170,48 @@ public class Vector implements StructuredType<Numeric>,
      *         {@code Vector}.
      */
     public static Vector copyOf(Vector input) {
-        return newBuilder().copyOf(input).build(); // this is a little weird :(
+        if (input.components == null) {
+            return new Vector(input.values.clone(), input.bounds);
+        }
+        Numeric[] array = new Numeric[input.components.length];
+        for (int i = 0, n = array.length; i < n; i++) {
+            array[i] = input.components[i].getClone();
+        }
+        return new Vector(array);
     }
 
     private static Vector copyOfInternal(Collection<? extends Number> collection) {
         int size = collection.size();
-        Numeric[] array = new Numeric[size];
+        double[] array = new double[size];
         int index = 0;
         for (Number n : collection) {
-            array[index++] = Real.valueOf(checkNotNull(n).doubleValue());
+            array[index++] = checkNotNull(n).doubleValue();
         }
-        return new Vector(array);
+        return new Vector(array, defaultBounds(size));
+    }
+
+    private static Bounds[] defaultBounds(int size) {
+        Bounds[] result = new Bounds[size];
+        Arrays.fill(result, DEFAULT_BOUNDS);
+        return result;
+    }
+
+    private static boolean isRealValued(Numeric[] elements) {
+        for (Numeric n : elements) {
+            if (!(n instanceof Real)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Vector(double[] values, Bounds[] bounds) {
+        this.values = values;
+        this.bounds = bounds;
     }
 
     private Vector(Numeric[] elements) {
-        this.components = elements;
+        setElements(elements);
     }
 
     /**
@@ -174,7 +221,8 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Deprecated
     public Vector() {
-        this.components = new Numeric[]{};
+        this.values = new double[]{};
+        this.bounds = new Bounds[]{};
     }
 
     /**
@@ -198,10 +246,11 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Deprecated
     public Vector(int size, Numeric numeric) {
-        this.components = new Numeric[size];
+        Numeric[] elements = new Numeric[size];
         for (int i = 0; i < size; i++) {
-            this.components[i] = numeric.getClone();
+            elements[i] = numeric.getClone();
         }
+        setElements(elements);
     }
 
     /**
@@ -211,9 +260,91 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Deprecated
     public Vector(Vector copy) {
-        this.components = new Numeric[copy.components.length];
+        if (copy.components == null) {
+            this.values = copy.values.clone();
+            this.bounds = copy.bounds;
+        } else {
+            this.components = new Numeric[copy.components.length];
+            for (int i = 0, n = components.length; i < n; i++) {
+                this.components[i] = copy.components[i].getClone();
+            }
+        }
+    }
+
+    /**
+     * Use the given elements as the contents of this {@code Vector}, selecting
+     * the primitive representation if all the elements are {@code Real} instances.
+     */
+    private void setElements(Numeric[] elements) {
+        if (isRealValued(elements)) {
+            this.values = new double[elements.length];
+            this.bounds = new Bounds[elements.length];
+            for (int i = 0, n = elements.length; i < n; i++) {
+                this.values[i] = elements[i].doubleValue();
+                this.bounds[i] = elements[i].getBounds();
+            }
+            this.components = null;
+        } else {
+            this.components = elements;
+            this.values = null;
+            this.bounds = null;
+        }
+    }
+
+    /**
+     * Convert a primitive {@code Vector} into the general {@code Numeric[]}
+     * representation. This is required when a non {@code Real} element is
+     * placed within the {@code Vector}.
+     */
+    private void inflate() {
+        if (components != null) {
+            return;
+        }
+        Numeric[] array = new Numeric[values.length];
+        for (int i = 0, n = values.length; i < n; i++) {
+            array[i] = Real.valueOf(values[i], bounds[i]);
+        }
+        this.components = array;
+        this.values = null;
+        this.bounds = null;
+    }
+
+    /**
+     * Obtain the values of this {@code Vector} as a {@code double[]}. The
+     * returned array is the internal storage for primitive vectors and must
+     * therefore not be modified.
+     */
+    private double[] doubles() {
+        if (components == null) {
+            return values;
+        }
+        double[] result = new double[components.length];
         for (int i = 0, n = components.length; i < n; i++) {
-            this.components[i] = copy.components[i].getClone();
+            result[i] = components[i].doubleValue();
+        }
+        return result;
+    }
+
+    /**
+     * Obtain the {@code Bounds} that a {@code Vector} derived from this
+     * instance should have. The returned array must not be modified.
+     */
+    private Bounds[] derivedBounds() {
+        if (components == null) {
+            return bounds;
+        }
+        Bounds[] result = new Bounds[components.length];
+        for (int i = 0, n = components.length; i < n; i++) {
+            result[i] = components[i].getBounds();
+        }
+        return result;
+    }
+
+    private void setBounds(int index, Bounds value) {
+        if (bounds[index] != value) {
+            Bounds[] array = bounds.clone(); // the array may be shared
+            array[index] = value;
+            this.bounds = array;
         }
     }
 
@@ -244,7 +375,22 @@ public class Vector implements StructuredType<Numeric>,
         }
 
         Vector otherList = (Vector) obj;
-        return Arrays.deepEquals(components, otherList.components);
+        if (components == null && otherList.components == null) {
+            return Arrays.equals(values, otherList.values)
+                    && Arrays.equals(bounds, otherList.bounds);
+        }
+
+        if (size() != otherList.size()) {
+            return false;
+        }
+        for (int i = 0, n = size(); i < n; i++) {
+            Numeric a = get(i);
+            Numeric b = otherList.get(i);
+            if (a == null ? b != null : !a.equals(b)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -253,17 +399,28 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public int hashCode() {
+        int elements = 1;
+        for (int i = 0, n = size(); i < n; i++) {
+            Numeric element = get(i);
+            elements = 31 * elements + (element == null ? 0 : element.hashCode());
+        }
         int hash = 7;
-        hash = 31 * hash + (this.components == null ? 0 : Arrays.hashCode(components));
+        hash = 31 * hash + elements;
         return hash;
     }
 
     /**
      * Get the {@code Numeric} at the provided {@code index}.
+     * <p>
+     * For real valued vectors the returned instance is a copy of the
+     * element. Changes must be made with {@link #setReal(int, double)}.
      * @param index The index of the {@code Numeric} in the {@code Vector}.
      * @return The {@code Numeric} at index {@code index}.
      */
     public Numeric get(int index) {
+        if (components == null) {
+            return Real.valueOf(values[index], bounds[index]);
+        }
         return components[index];
     }
 
@@ -275,6 +432,14 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Deprecated
     public void set(int index, Numeric value) {
+        if (components == null) {
+            if (value instanceof Real) {
+                this.values[index] = value.doubleValue();
+                setBounds(index, value.getBounds());
+                return;
+            }
+            inflate();
+        }
         this.components[index] = value;
     }
 
@@ -284,10 +449,9 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public Object[] toArray() {
-        Object[] copy = new Object[components.length];
-        int index = 0;
-        for (Numeric n : components) {
-            copy[index++] = n.getClone();
+        Object[] copy = new Object[size()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = get(i).getClone();
         }
         return copy;
     }
@@ -299,6 +463,10 @@ public class Vector implements StructuredType<Numeric>,
      * @return A {@code Vector} which is a subset of the current {@code Vector}.
      */
     public Vector copyOfRange(final int fromIndex, final int toIndex) {
+        if (components == null) {
+            return new Vector(Arrays.copyOfRange(values, fromIndex, toIndex),
+                    Arrays.copyOfRange(bounds, fromIndex, toIndex));
+        }
         return new Vector(Arrays.copyOfRange(components, fromIndex, toIndex));
     }
 
@@ -311,6 +479,17 @@ public class Vector implements StructuredType<Numeric>,
     @Deprecated
     @Override
     public boolean add(Numeric element) {
+        if (components == null) {
+            if (element instanceof Real) {
+                int n = values.length;
+                values = Arrays.copyOf(values, n + 1);
+                bounds = Arrays.copyOf(bounds, n + 1);
+                values[n] = element.doubleValue();
+                bounds[n] = element.getBounds();
+                return true;
+            }
+            inflate();
+        }
         Numeric[] array = new Numeric[components.length + 1];
         System.arraycopy(components, 0, array, 0, components.length);
         array[array.length - 1] = element;
@@ -329,15 +508,17 @@ public class Vector implements StructuredType<Numeric>,
     @Deprecated
     @Override
     public boolean addAll(Collection<? extends Numeric> c) {
-        int size = components.length + c.size();
+        int size = size() + c.size();
         Numeric[] array = new Numeric[size];
-        System.arraycopy(components, 0, array, 0, components.length);
-        int index = components.length;
+        int index = 0;
+        for (int i = 0, n = size(); i < n; i++) {
+            array[index++] = get(i);
+        }
         for (Numeric numeric : c) {
             array[index++] = numeric;
         }
 
-        this.components = array;
+        setElements(array);
         return true;
     }
 
@@ -349,7 +530,9 @@ public class Vector implements StructuredType<Numeric>,
     @Deprecated
     @Override
     public void clear() {
-        this.components = new Numeric[]{};
+        this.components = null;
+        this.values = new double[]{};
+        this.bounds = new Bounds[]{};
     }
 
     /**
@@ -362,8 +545,8 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public boolean contains(Object o) {
-        for (int i = 0; i < components.length; i++) {
-            if (o.equals(components[i])) {
+        for (int i = 0, n = size(); i < n; i++) {
+            if (o.equals(get(i))) {
                 return true;
             }
         }
@@ -376,6 +559,9 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public boolean isEmpty() {
+        if (components == null) {
+            return values.length == 0;
+        }
         for (int i = 0; i < components.length; i++) {
             if (components[i] != null) {
                 return false;
@@ -397,12 +583,12 @@ public class Vector implements StructuredType<Numeric>,
 
             @Override
             public final boolean hasNext() {
-                return index < components.length;
+                return index < size();
             }
 
             @Override
             public final Numeric next() {
-                return components[index++];
+                return get(index++);
             }
         };
     }
@@ -417,8 +603,8 @@ public class Vector implements StructuredType<Numeric>,
     @Deprecated
     @Override
     public boolean remove(Object o) {
-        for (int i = 0; i < components.length; i++) {
-            if (components[i].equals(o)) {
+        for (int i = 0, n = size(); i < n; i++) {
+            if (get(i).equals(o)) {
                 return remove(i);
             }
         }
@@ -426,6 +612,17 @@ public class Vector implements StructuredType<Numeric>,
     }
 
     private boolean remove(final int index) {
+        if (components == null) {
+            double[] valueArray = new double[values.length - 1];
+            Bounds[] boundsArray = new Bounds[values.length - 1];
+            System.arraycopy(values, 0, valueArray, 0, index);
+            System.arraycopy(values, index + 1, valueArray, index, values.length - index - 1);
+            System.arraycopy(bounds, 0, boundsArray, 0, index);
+            System.arraycopy(bounds, index + 1, boundsArray, index, bounds.length - index - 1);
+            values = valueArray;
+            bounds = boundsArray;
+            return true;
+        }
         Numeric[] array = new Numeric[components.length - 1];
         int count = 0;
         for (int i = 0; i < index; i++) {
@@ -458,7 +655,7 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public int size() {
-        return this.components.length;
+        return (components == null) ? values.length : components.length;
     }
 
     /**
@@ -467,9 +664,9 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public void accept(Visitor<Numeric> visitor) {
-        for (Numeric numeric : this.components) {
+        for (int i = 0, n = size(); i < n; i++) {
             if (!visitor.isDone()) {
-                visitor.visit(numeric);
+                visitor.visit(get(i));
             }
         }
     }
@@ -479,14 +676,16 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public final Vector plus(Vector vector) {
-        if (this.components.length != vector.size()) {
+        if (this.size() != vector.size()) {
             throw new UnsupportedOperationException("Cannot add vectors with differing dimensions");
         }
-        Numeric[] result = new Numeric[components.length];
-        for (int i = 0, n = components.length; i < n; i++) {
-            result[i] = Real.valueOf(components[i].doubleValue() + vector.components[i].doubleValue(), components[i].getBounds());
+        final double[] a = doubles();
+        final double[] b = vector.doubles();
+        double[] result = new double[a.length];
+        for (int i = 0, n = a.length; i < n; i++) {
+            result[i] = a[i] + b[i];
         }
-        return new Vector(result);
+        return new Vector(result, derivedBounds());
     }
 
     /**
@@ -494,14 +693,16 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public final Vector subtract(Vector vector) {
-        if (this.components.length != vector.size()) {
+        if (this.size() != vector.size()) {
             throw new UnsupportedOperationException("Cannot subtract vectors with differing dimensions");
         }
-        Numeric[] result = new Numeric[components.length];
-        for (int i = 0, n = components.length; i < n; i++) {
-            result[i] = Real.valueOf(components[i].doubleValue() - vector.components[i].doubleValue(), components[i].getBounds());
+        final double[] a = doubles();
+        final double[] b = vector.doubles();
+        double[] result = new double[a.length];
+        for (int i = 0, n = a.length; i < n; i++) {
+            result[i] = a[i] - b[i];
         }
-        return new Vector(result);
+        return new Vector(result, derivedBounds());
     }
 
     /**
@@ -520,15 +721,21 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public final Vector multiply(double scalar) {
-        return multiply(Sequence.of(scalar));
+        final double[] a = doubles();
+        double[] result = new double[a.length];
+        for (int i = 0, n = a.length; i < n; i++) {
+            result[i] = a[i] * scalar;
+        }
+        return new Vector(result, derivedBounds());
     }
 
     public final Vector multiply(Supplier<Number> supplier) {
-        Numeric[] result = new Numeric[components.length];
-        for (int i = 0, n = components.length; i < n; i++) {
-            result[i] = Real.valueOf(components[i].doubleValue() * supplier.get().doubleValue(), components[i].getBounds());
+        final double[] a = doubles();
+        double[] result = new double[a.length];
+        for (int i = 0, n = a.length; i < n; i++) {
+            result[i] = a[i] * supplier.get().doubleValue();
         }
-        return new Vector(result);
+        return new Vector(result, derivedBounds());
     }
 
     /**
@@ -536,13 +743,12 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public final double norm() {
-        return Math.sqrt(foldLeft(0, new Function<Numeric, Double>() {
-
-            @Override
-            public Double apply(Numeric x) {
-                return x.doubleValue() * x.doubleValue();
-            }
-        }));
+        final double[] a = doubles();
+        double sum = 0.0;
+        for (int i = 0, n = a.length; i < n; i++) {
+            sum += a[i] * a[i];
+        }
+        return Math.sqrt(sum);
     }
 
     /**
@@ -560,12 +766,11 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public final Vector normalize() {
-        Vector local = copyOf(this);
-        double value = local.norm();
+        double value = norm();
 
         // If the norm() of the vector is 0.0, then we are takling about the "normal vector"
         // (\vector{0}) and as a result the normal vector is it's own normal.
-        return (Double.compare(value, 0.0) != 0) ? local.divide(value) : local;
+        return (Double.compare(value, 0.0) != 0) ? divide(value) : copyOf(this);
     }
 
     /**
@@ -577,9 +782,11 @@ public class Vector implements StructuredType<Numeric>,
             throw new ArithmeticException("Cannot perform the dot product on vectors with differing dimensions");
         }
 
+        final double[] a = doubles();
+        final double[] b = vector.doubles();
         double result = 0.0;
-        for (int i = 0, n = components.length; i < n; i++) {
-            result += this.doubleValueOf(i) * vector.doubleValueOf(i);
+        for (int i = 0, n = a.length; i < n; i++) {
+            result += a[i] * b[i];
         }
         return result;
     }
@@ -597,11 +804,11 @@ public class Vector implements StructuredType<Numeric>,
             throw new ArithmeticException("Cannot determine the cross product on non 3-dimensional vectors.");
         }
 
-        Numeric[] n = new Numeric[components.length];
-        n[0] = Real.valueOf(this.doubleValueOf(1) * vector.doubleValueOf(2) - this.doubleValueOf(2) * vector.doubleValueOf(1));
-        n[1] = Real.valueOf(-(vector.doubleValueOf(2) * this.doubleValueOf(0) - vector.doubleValueOf(0) * this.doubleValueOf(2)));
-        n[2] = Real.valueOf(this.doubleValueOf(0) * vector.doubleValueOf(1) - this.doubleValueOf(1) * vector.doubleValueOf(0));
-        return new Vector(n);
+        double[] n = new double[3];
+        n[0] = this.doubleValueOf(1) * vector.doubleValueOf(2) - this.doubleValueOf(2) * vector.doubleValueOf(1);
+        n[1] = -(vector.doubleValueOf(2) * this.doubleValueOf(0) - vector.doubleValueOf(0) * this.doubleValueOf(2));
+        n[2] = this.doubleValueOf(0) * vector.doubleValueOf(1) - this.doubleValueOf(1) * vector.doubleValueOf(0);
+        return new Vector(n, defaultBounds(3));
     }
 
     /**
@@ -612,6 +819,14 @@ public class Vector implements StructuredType<Numeric>,
     @Deprecated
     @Override
     public void randomize(RandomProvider random) {
+        if (components == null) {
+            RandomProviders.nextDoubles(random, values);
+            for (int i = 0; i < values.length; i++) {
+                Bounds b = bounds[i];
+                this.values[i] = this.values[i] * (b.getUpperBound() - b.getLowerBound()) + b.getLowerBound();
+            }
+            return;
+        }
         for (int i = 0; i < components.length; i++) {
             this.components[i].randomize(random);
         }
@@ -623,6 +838,10 @@ public class Vector implements StructuredType<Numeric>,
      * @param value The value to be set.
      */
     public void setReal(int index, double value) {
+        if (components == null) {
+            this.values[index] = value;
+            return;
+        }
         this.components[index] = Real.valueOf(value, components[index].getBounds());
     }
 
@@ -634,7 +853,7 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Deprecated
     public double getReal(int index) {
-        return this.components[index].doubleValue();
+        return doubleValueOf(index);
     }
 
     /**
@@ -643,6 +862,7 @@ public class Vector implements StructuredType<Numeric>,
      * @param value The value to be set.
      */
     public void setInt(int index, int value) {
+        inflate();
         this.components[index] = Int.valueOf(value, components[index].getBounds());
     }
 
@@ -654,7 +874,7 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Deprecated
     public int getInt(int index) {
-        return this.components[index].intValue();
+        return intValueOf(index);
     }
 
     /**
@@ -663,6 +883,7 @@ public class Vector implements StructuredType<Numeric>,
      * @param value The value to be set.
      */
     public void setBit(int index, boolean value) {
+        inflate();
         this.components[index] = Bit.valueOf(value);
     }
 
@@ -674,7 +895,7 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Deprecated
     public boolean getBit(int index) {
-        return this.components[index].booleanValue();
+        return booleanValueOf(index);
     }
 
     /**
@@ -683,6 +904,9 @@ public class Vector implements StructuredType<Numeric>,
      * @return {@code double} value of index within {@code Vector}.
      */
     public double doubleValueOf(int index) {
+        if (components == null) {
+            return this.values[index];
+        }
         return this.components[index].doubleValue();
     }
 
@@ -692,7 +916,7 @@ public class Vector implements StructuredType<Numeric>,
      * @return {@code integer} value of index within {@code Vector}.
      */
     public int intValueOf(int index) {
-        return this.components[index].intValue();
+        return get(index).intValue();
     }
 
     /**
@@ -701,7 +925,7 @@ public class Vector implements StructuredType<Numeric>,
      * @return {@code long} value of index within {@code Vector}.
      */
     public long longValueOf(int index) {
-        return components[index].longValue();
+        return get(index).longValue();
     }
 
     /**
@@ -710,7 +934,7 @@ public class Vector implements StructuredType<Numeric>,
      * @return {@code boolean} value of index within {@code Vector}.
      */
     public boolean booleanValueOf(int index) {
-        return components[index].booleanValue();
+        return get(index).booleanValue();
     }
 
     /**
@@ -737,13 +961,20 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public <T> T[] toArray(T[] a) {
-        if (a.length < components.length) {
+        Numeric[] elements = components;
+        if (elements == null) {
+            elements = new Numeric[values.length];
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = get(i);
+            }
+        }
+        if (a.length < elements.length) {
             // Make a new array of a's runtime type, but my contents:
-            return (T[]) Arrays.copyOf(components, components.length, a.getClass());
+            return (T[]) Arrays.copyOf(elements, elements.length, a.getClass());
         }
-        System.arraycopy(components, 0, a, 0, components.length);
-        if (a.length > components.length) {
-            a[components.length] = null;
+        System.arraycopy(elements, 0, a, 0, elements.length);
+        if (a.length > elements.length) {
+            a[elements.length] = null;
         }
         return a;
     }
@@ -789,6 +1020,9 @@ public class Vector implements StructuredType<Numeric>,
      *         index {@code index}.
      */
     public Bounds boundsOf(int index) {
+        if (components == null) {
+            return bounds[index];
+        }
         return components[index].getBounds();
     }
 
@@ -805,12 +1039,15 @@ public class Vector implements StructuredType<Numeric>,
     public String toString() {
         StringBuilder builder = new StringBuilder();
         builder.append("[");
-        int index = 0;
-        if (size() >= 1) {
-            builder.append(components[index++]);
-        }
-        for (int i = index; i < components.length; i++) {
-            builder.append(",").append(components[index++]);
+        for (int i = 0, n = size(); i < n; i++) {
+            if (i > 0) {
+                builder.append(",");
+            }
+            if (components == null) {
+                builder.append(values[i]);
+            } else {
+                builder.append(components[i]);
+            }
         }
         builder.append("]");
         return builder.toString();
@@ -824,9 +1061,9 @@ public class Vector implements StructuredType<Numeric>,
      * @return A new {@code Vector} containing the transformed elements.
      */
     public Vector map(Function<Numeric, Numeric> function) {
-        Numeric[] result = new Numeric[components.length];
-        for (int i = 0, n = components.length; i < n; i++) {
-            result[i] = function.apply(components[i]);
+        Numeric[] result = new Numeric[size()];
+        for (int i = 0, n = result.length; i < n; i++) {
+            result[i] = function.apply(get(i));
         }
         return new Vector(result);
     }
@@ -837,10 +1074,11 @@ public class Vector implements StructuredType<Numeric>,
      * @return a {@code Vector} containing the filtered elements.
      */
     public Vector filter(Predicate<Numeric> predicate) {
-        List<Numeric> result = Lists.newArrayListWithCapacity(components.length);
-        for (Numeric n : components) {
-            if (predicate.apply(n)) {
-                result.add(n);
+        List<Numeric> result = Lists.newArrayListWithCapacity(size());
+        for (int i = 0, n = size(); i < n; i++) {
+            Numeric element = get(i);
+            if (predicate.apply(element)) {
+                result.add(element);
             }
         }
         return new Vector(result.toArray(new Numeric[]{}));
@@ -858,8 +1096,8 @@ public class Vector implements StructuredType<Numeric>,
      */
     public double foldLeft(double initial, Function<Numeric, Double> function) {
         double acc = initial;
-        for (int i = 0, n = components.length; i < n; i++) {
-            acc += function.apply(components[i]);
+        for (int i = 0, n = size(); i < n; i++) {
+            acc += function.apply(get(i));
         }
         return acc;
     }
@@ -875,15 +1113,9 @@ public class Vector implements StructuredType<Numeric>,
             throw new UnsupportedOperationException("empty.reduceLeft");
         }
 
-        boolean first = true;
-        Number acc = 0.0;
-        for (Numeric n : this) {
-            if (first) {
-                acc = n.doubleValue();
-                first = false;
-            } else {
-                acc = function.apply(acc.doubleValue(), n.doubleValue());
-            }
+        Number acc = doubleValueOf(0);
+        for (int i = 1, n = size(); i < n; i++) {
+            acc = function.apply(acc.doubleValue(), doubleValueOf(i));
         }
         return acc;
     }
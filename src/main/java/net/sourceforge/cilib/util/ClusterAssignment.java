@@ -0,0 +1,271 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.util;
+
+import java.util.Arrays;
+import java.util.List;
+import net.sourceforge.cilib.problem.dataset.ClusterableDataSet.Pattern;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * The assignment of the patterns of a dataset to their closest centroids, as
+ * determined by {@link ClusteringUtils#arrangeClustersAndCentroids(Vector)}.
+ * Every pattern has the index of its cluster as label, and every cluster keeps
+ * the number of its patterns and the sum of their positions. A cluster is
+ * <i>formed</i> when at least one pattern belongs to it; the formed clusters, in
+ * the order of their centroids, are the <i>arranged</i> clusters of
+ * {@link ClusteringUtils}.
+ * <p>
+ * An assignment is reused by the {@link ClusteringUtils} of the thread that
+ * created it, so it is only valid until the next arrangement in that thread.
+ */
+public final class ClusterAssignment {
+
+    /**
+     * The label of a pattern that is not closer than {@link Double#MAX_VALUE} to
+     * any centroid.
+     */
+    public static final int UNASSIGNED = -1;
+
+    private final int[] labels;
+    private final int numberOfClusters;
+    private final int dimension;
+    private final int[] counts;
+    private final double[] sums;
+    private final int[] formed;
+    private final int[] arranged;
+    private int clustersFormed;
+    private int[] members;
+    private int[] offsets;
+
+    ClusterAssignment(int numberOfPatterns, int numberOfClusters, int dimension) {
+        this.labels = new int[numberOfPatterns];
+        this.numberOfClusters = numberOfClusters;
+        this.dimension = dimension;
+        this.counts = new int[numberOfClusters];
+        this.sums = new double[numberOfClusters * dimension];
+        this.formed = new int[numberOfClusters];
+        this.arranged = new int[numberOfClusters];
+    }
+
+    boolean fits(int numberOfPatterns, int numberOfClusters, int dimension) {
+        return labels.length == numberOfPatterns && this.numberOfClusters == numberOfClusters && this.dimension == dimension;
+    }
+
+    /**
+     * Assign the patterns {@code from} (inclusive) to {@code to} (exclusive) of the
+     * row-major {@code patterns} to the closest of the row-major {@code centroids},
+     * using the Euclidean distance. The counts and sums of the clusters are added
+     * to {@code partialCounts} and {@code partialSums}.
+     */
+    void assign(double[] patterns, double[] centroids, int from, int to, int[] partialCounts, double[] partialSums) {
+        for (int i = from; i < to; i++) {
+            int offset = i * dimension;
+            int closest = UNASSIGNED;
+            double minimum = Double.MAX_VALUE;
+
+            for (int j = 0, centroid = 0; j < numberOfClusters; j++, centroid += dimension) {
+                double distance = 0.0;
+                for (int k = 0; k < dimension; k++) {
+                    double difference = patterns[offset + k] - centroids[centroid + k];
+                    distance += difference * difference;
+                }
+                if (distance < minimum) {
+                    minimum = distance;
+                    closest = j;
+                }
+            }
+            add(patterns, i, closest, partialCounts, partialSums);
+        }
+    }
+
+    /**
+     * Assign the patterns {@code from} (inclusive) to {@code to} (exclusive) to the
+     * closest of the given centroids, as measured by the {@code distanceMeasure}.
+     * The row-major {@code patterns} are only used for the sums.
+     */
+    void assign(double[] patterns, List<Pattern> data, Vector[] centroids, DistanceMeasure distanceMeasure,
+            int from, int to, int[] partialCounts, double[] partialSums) {
+        for (int i = from; i < to; i++) {
+            Vector pattern = data.get(i).data;
+            int closest = UNASSIGNED;
+            double minimum = Double.MAX_VALUE;
+
+            for (int j = 0; j < numberOfClusters; j++) {
+                double distance = distanceMeasure.distance(pattern, centroids[j]);
+                if (distance < minimum) {
+                    minimum = distance;
+                    closest = j;
+                }
+            }
+            add(patterns, i, closest, partialCounts, partialSums);
+        }
+    }
+
+    private void add(double[] patterns, int i, int closest, int[] partialCounts, double[] partialSums) {
+        labels[i] = closest;
+        if (closest != UNASSIGNED) {
+            partialCounts[closest]++;
+            for (int k = 0, offset = i * dimension, sum = closest * dimension; k < dimension; k++) {
+                partialSums[sum + k] += patterns[offset + k];
+            }
+        }
+    }
+
+    /**
+     * Reset the counts and sums before the partial results are combined.
+     */
+    void reset() {
+        Arrays.fill(counts, 0);
+        Arrays.fill(sums, 0.0);
+        members = null;
+    }
+
+    /**
+     * Add partial counts and sums, in a fixed order, so that the result does not
+     * depend on how the patterns were divided between threads.
+     */
+    void combine(int[] partialCounts, double[] partialSums) {
+        for (int j = 0; j < numberOfClusters; j++) {
+            counts[j] += partialCounts[j];
+        }
+        for (int j = 0; j < sums.length; j++) {
+            sums[j] += partialSums[j];
+        }
+    }
+
+    /**
+     * Determine the formed clusters once all the partial results are combined.
+     */
+    void complete() {
+        clustersFormed = 0;
+        for (int j = 0; j < numberOfClusters; j++) {
+            if (counts[j] > 0) {
+                arranged[j] = clustersFormed;
+                formed[clustersFormed++] = j;
+            } else {
+                arranged[j] = UNASSIGNED;
+            }
+        }
+    }
+
+    /**
+     * Get the number of patterns in the dataset.
+     * @return The number of patterns.
+     */
+    public int getNumberOfPatterns() {
+        return labels.length;
+    }
+
+    /**
+     * Get the number of centroids, including those of empty clusters.
+     * @return The number of clusters.
+     */
+    public int getNumberOfClusters() {
+        return numberOfClusters;
+    }
+
+    /**
+     * Get the number of clusters that have at least one pattern.
+     * @return The number of formed clusters.
+     */
+    public int getClustersFormed() {
+        return clustersFormed;
+    }
+
+    /**
+     * Get the cluster of the given arranged (formed) cluster.
+     * @param arranged The index of a formed cluster, less than {@link #getClustersFormed()}.
+     * @return The index of the cluster among all the centroids.
+     */
+    public int getFormedCluster(int arranged) {
+        return formed[arranged];
+    }
+
+    /**
+     * Get the arranged index of the given cluster, which is its index among the formed
+     * clusters.
+     * @param cluster The index of the cluster among all the centroids.
+     * @return The arranged index, or {@link #UNASSIGNED} if the cluster is empty.
+     */
+    public int getArrangedIndex(int cluster) {
+        return arranged[cluster];
+    }
+
+    /**
+     * Get the cluster to which the given pattern belongs.
+     * @param pattern The index of the pattern in the dataset.
+     * @return The index of the cluster, or {@link #UNASSIGNED}.
+     */
+    public int getLabel(int pattern) {
+        return labels[pattern];
+    }
+
+    /**
+     * Get the number of patterns that belong to the given cluster.
+     * @param cluster The index of the cluster.
+     * @return The size of the cluster.
+     */
+    public int getCount(int cluster) {
+        return counts[cluster];
+    }
+
+    /**
+     * Get the mean of the patterns that belong to the given cluster.
+     * @param cluster The index of a non-empty cluster.
+     * @return A new {@link Vector} that is the mean of the cluster.
+     */
+    public Vector getMean(int cluster) {
+        Vector.Builder mean = Vector.newBuilder();
+        for (int k = 0, offset = cluster * dimension; k < dimension; k++) {
+            mean.add(sums[offset + k] / counts[cluster]);
+        }
+        return mean.build();
+    }
+
+    /**
+     * Get the indices of the patterns that belong to the given cluster, in
+     * ascending order.
+     * @param cluster The index of the cluster.
+     * @return A new array with the indices of the patterns.
+     */
+    public int[] getMembers(int cluster) {
+        if (members == null) {
+            groupMembers();
+        }
+        return Arrays.copyOfRange(members, offsets[cluster], offsets[cluster + 1]);
+    }
+
+    private void groupMembers() {
+        offsets = new int[numberOfClusters + 1];
+        for (int j = 0; j < numberOfClusters; j++) {
+            offsets[j + 1] = offsets[j] + counts[j];
+        }
+        int[] next = Arrays.copyOf(offsets, numberOfClusters);
+        members = new int[offsets[numberOfClusters]];
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i] != UNASSIGNED) {
+                members[next[labels[i]]++] = i;
+            }
+        }
+    }
+}
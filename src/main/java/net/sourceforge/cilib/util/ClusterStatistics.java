@@ -0,0 +1,367 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.sourceforge.cilib.functions.clustering.clustercenterstrategies.ClusterCenterStrategy;
+import net.sourceforge.cilib.problem.dataset.ClusterableDataSet.Pattern;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * Statistics of the clusters of a single arrangement, as determined by
+ * {@link ClusteringUtils#arrangeClustersAndCentroids(Vector)}, that are shared by all the
+ * clustering fitness functions and validity indices that evaluate the same centroids.
+ * Every statistic is calculated the first time it is requested and then kept until the
+ * next arrangement, so that the quadratic set distances and diameters, and the passes
+ * over the patterns, are done at most once per arrangement.
+ * <p>
+ * Clusters are identified by their arranged index, i.e. their index among the formed
+ * clusters. The statistics that depend on the centers of the clusters are kept for
+ * every class of {@link ClusterCenterStrategy} that requests them.
+ */
+public final class ClusterStatistics {
+
+    private final ClusteringUtils helper;
+    private final ClusterAssignment assignment;
+    private final int clustersFormed;
+    private final int[][] members;
+    private final Vector[] means;
+    private final double[] diameters;
+    // the minimum, maximum and average set distances of every pair of clusters, in
+    // the row-major order of the upper triangle of a matrix of the clusters
+    private final double[] minimumSetDistances;
+    private final double[] maximumSetDistances;
+    private final double[] averageSetDistances;
+    private final Map<Class<?>, Vector[]> centers = new HashMap<Class<?>, Vector[]>();
+    private final Map<Class<?>, double[]> distanceSums = new HashMap<Class<?>, double[]>();
+    private final Map<Class<?>, double[]> squaredDistanceSums = new HashMap<Class<?>, double[]>();
+    private final Map<Class<?>, double[][]> crossDistanceSums = new HashMap<Class<?>, double[][]>();
+    private final Map<Object, double[][]> squaredDeviations = new HashMap<Object, double[][]>();
+
+    ClusterStatistics(ClusteringUtils helper) {
+        this.helper = helper;
+        this.assignment = helper.getAssignment();
+        this.clustersFormed = assignment.getClustersFormed();
+        this.members = new int[clustersFormed][];
+        this.means = new Vector[clustersFormed];
+        this.diameters = new double[clustersFormed];
+        Arrays.fill(diameters, Double.NaN);
+
+        int pairs = clustersFormed * (clustersFormed - 1) / 2;
+        this.minimumSetDistances = new double[pairs];
+        this.maximumSetDistances = new double[pairs];
+        this.averageSetDistances = new double[pairs];
+        Arrays.fill(averageSetDistances, Double.NaN);
+    }
+
+    /**
+     * Get the number of clusters that have at least one pattern.
+     * @return The number of formed clusters.
+     */
+    public int getClustersFormed() {
+        return clustersFormed;
+    }
+
+    /**
+     * Get the number of patterns in the given cluster.
+     * @param i The arranged index of the cluster.
+     * @return The size of the cluster.
+     */
+    public int getSize(int i) {
+        return assignment.getCount(assignment.getFormedCluster(i));
+    }
+
+    /**
+     * Get the indices of the patterns in the given cluster, in ascending order. The
+     * returned array is shared and should not be modified.
+     * @param i The arranged index of the cluster.
+     * @return The indices of the patterns.
+     */
+    public int[] getMembers(int i) {
+        if (members[i] == null) {
+            members[i] = assignment.getMembers(assignment.getFormedCluster(i));
+        }
+        return members[i];
+    }
+
+    /**
+     * Get the mean of the patterns in the given cluster, from the sums of the assignment.
+     * The returned {@link Vector} is shared and should not be modified.
+     * @param i The arranged index of the cluster.
+     * @return The mean of the cluster.
+     */
+    public Vector getMean(int i) {
+        if (means[i] == null) {
+            means[i] = assignment.getMean(assignment.getFormedCluster(i));
+        }
+        return means[i];
+    }
+
+    /**
+     * Get the center of the given cluster, as determined by the given strategy.
+     * @param strategy The strategy that determines the centers of the clusters.
+     * @param i The arranged index of the cluster.
+     * @return The center of the cluster.
+     */
+    public Vector getCenter(ClusterCenterStrategy strategy, int i) {
+        return getCenters(strategy)[i];
+    }
+
+    private Vector[] getCenters(ClusterCenterStrategy strategy) {
+        Vector[] result = centers.get(strategy.getClass());
+        if (result == null) {
+            result = new Vector[clustersFormed];
+            for (int i = 0; i < clustersFormed; i++) {
+                result[i] = strategy.getCenter(i);
+            }
+            centers.put(strategy.getClass(), result);
+        }
+        return result;
+    }
+
+    /**
+     * Get the sum of the distances between the patterns of the given cluster and its
+     * center.
+     * @param strategy The strategy that determines the centers of the clusters.
+     * @param i The arranged index of the cluster.
+     * @return The sum of the distances to the center.
+     */
+    public double getDistanceSum(ClusterCenterStrategy strategy, int i) {
+        calculateDistancesToCenters(strategy);
+        return distanceSums.get(strategy.getClass())[i];
+    }
+
+    /**
+     * Get the sum of the squared distances between the patterns of the given cluster and
+     * its center.
+     * @param strategy The strategy that determines the centers of the clusters.
+     * @param i The arranged index of the cluster.
+     * @return The sum of the squared distances to the center.
+     */
+    public double getSquaredDistanceSum(ClusterCenterStrategy strategy, int i) {
+        calculateDistancesToCenters(strategy);
+        return squaredDistanceSums.get(strategy.getClass())[i];
+    }
+
+    /**
+     * Calculate the sums of the distances, and of the squared distances, of all the
+     * patterns to the centers of their clusters in a single pass over the patterns.
+     */
+    private void calculateDistancesToCenters(ClusterCenterStrategy strategy) {
+        if (squaredDistanceSums.containsKey(strategy.getClass())) {
+            return;
+        }
+        List<Pattern> patterns = helper.getPatternsInDataSet();
+        Vector[] clusterCenters = getCenters(strategy);
+        double[] sums = new double[clustersFormed];
+        double[] squaredSums = new double[clustersFormed];
+
+        for (int p = 0; p < patterns.size(); p++) {
+            int label = assignment.getLabel(p);
+            if (label != ClusterAssignment.UNASSIGNED) {
+                int i = assignment.getArrangedIndex(label);
+                double distance = helper.calculateDistance(patterns.get(p).data, clusterCenters[i]);
+                sums[i] += distance;
+                squaredSums[i] += distance * distance;
+            }
+        }
+        distanceSums.put(strategy.getClass(), sums);
+        squaredDistanceSums.put(strategy.getClass(), squaredSums);
+    }
+
+    /**
+     * Get the sum of the distances between the patterns of cluster {@code i} and the
+     * center of cluster {@code j}. The distances of all the patterns to all the centers
+     * are calculated in a single pass over the patterns.
+     * @param strategy The strategy that determines the centers of the clusters.
+     * @param i The arranged index of the cluster whose patterns are used.
+     * @param j The arranged index of the cluster whose center is used.
+     * @return The sum of the distances.
+     */
+    public double getDistanceSum(ClusterCenterStrategy strategy, int i, int j) {
+        double[][] sums = crossDistanceSums.get(strategy.getClass());
+        if (sums == null) {
+            List<Pattern> patterns = helper.getPatternsInDataSet();
+            Vector[] clusterCenters = getCenters(strategy);
+            sums = new double[clustersFormed][clustersFormed];
+
+            for (int p = 0; p < patterns.size(); p++) {
+                int label = assignment.getLabel(p);
+                if (label != ClusterAssignment.UNASSIGNED) {
+                    double[] row = sums[assignment.getArrangedIndex(label)];
+                    for (int c = 0; c < clustersFormed; c++) {
+                        row[c] += helper.calculateDistance(patterns.get(p).data, clusterCenters[c]);
+                    }
+                }
+            }
+            crossDistanceSums.put(strategy.getClass(), sums);
+        }
+        return sums[i][j];
+    }
+
+    /**
+     * Get the sums of the squared deviations of the patterns of the given cluster from its
+     * center, per dimension.
+     * @param strategy The strategy that determines the centers of the clusters.
+     * @param i The arranged index of the cluster.
+     * @return The shared array of the squared deviations, which should not be modified.
+     */
+    public double[] getSquaredDeviations(ClusterCenterStrategy strategy, int i) {
+        double[][] deviations = squaredDeviations.get(strategy.getClass());
+        if (deviations == null) {
+            deviations = calculateSquaredDeviations(getCenters(strategy));
+            squaredDeviations.put(strategy.getClass(), deviations);
+        }
+        return deviations[i];
+    }
+
+    /**
+     * Get the sums of the squared deviations of the patterns of the given cluster from the
+     * mean of the dataset, per dimension.
+     * @param i The arranged index of the cluster.
+     * @return The shared array of the squared deviations, which should not be modified.
+     */
+    public double[] getSquaredDeviationsFromDataSetMean(int i) {
+        double[][] deviations = squaredDeviations.get(ClusterStatistics.class);
+        if (deviations == null) {
+            Vector[] clusterCenters = new Vector[clustersFormed];
+            Arrays.fill(clusterCenters, helper.getDataSetMean());
+            deviations = calculateSquaredDeviations(clusterCenters);
+            squaredDeviations.put(ClusterStatistics.class, deviations);
+        }
+        return deviations[i];
+    }
+
+    private double[][] calculateSquaredDeviations(Vector[] clusterCenters) {
+        List<Pattern> patterns = helper.getPatternsInDataSet();
+        double[][] deviations = new double[clustersFormed][];
+
+        for (int p = 0; p < patterns.size(); p++) {
+            int label = assignment.getLabel(p);
+            if (label != ClusterAssignment.UNASSIGNED) {
+                int i = assignment.getArrangedIndex(label);
+                Vector pattern = patterns.get(p).data;
+                if (deviations[i] == null) {
+                    deviations[i] = new double[pattern.size()];
+                }
+                for (int k = 0; k < pattern.size(); k++) {
+                    double deviation = pattern.doubleValueOf(k) - clusterCenters[i].doubleValueOf(k);
+                    deviations[i][k] += deviation * deviation;
+                }
+            }
+        }
+        return deviations;
+    }
+
+    /**
+     * Get the diameter of the given cluster, i.e. the distance between the two patterns
+     * of the cluster that are furthest apart.
+     * @param i The arranged index of the cluster.
+     * @return The diameter of the cluster.
+     */
+    public double getDiameter(int i) {
+        if (Double.isNaN(diameters[i])) {
+            double diameter = 0.0;
+            int[] indices = getMembers(i);
+
+            for (int left = 0; left < indices.length - 1; left++) {
+                for (int right = left + 1; right < indices.length; right++) {
+                    diameter = Math.max(diameter, helper.calculateDistance(indices[left], indices[right]));
+                }
+            }
+            diameters[i] = diameter;
+        }
+        return diameters[i];
+    }
+
+    /**
+     * Get the shortest distance between a pattern of cluster {@code i} and a pattern of
+     * cluster {@code j}.
+     * @param i The arranged index of the one cluster.
+     * @param j The arranged index of the other cluster.
+     * @return The minimum set distance.
+     */
+    public double getMinimumSetDistance(int i, int j) {
+        return minimumSetDistances[calculateSetDistances(i, j)];
+    }
+
+    /**
+     * Get the longest distance between a pattern of cluster {@code i} and a pattern of
+     * cluster {@code j}.
+     * @param i The arranged index of the one cluster.
+     * @param j The arranged index of the other cluster.
+     * @return The maximum set distance.
+     */
+    public double getMaximumSetDistance(int i, int j) {
+        return maximumSetDistances[calculateSetDistances(i, j)];
+    }
+
+    /**
+     * Get the average distance between the patterns of cluster {@code i} and the patterns
+     * of cluster {@code j}.
+     * @param i The arranged index of the one cluster.
+     * @param j The arranged index of the other cluster.
+     * @return The average set distance.
+     */
+    public double getAverageSetDistance(int i, int j) {
+        return averageSetDistances[calculateSetDistances(i, j)];
+    }
+
+    /**
+     * Calculate the minimum, maximum and average set distances of the two clusters
+     * together, in a single pass over their pairs of patterns.
+     *
+     * @return the index of the pair of clusters
+     */
+    private int calculateSetDistances(int i, int j) {
+        if (i == j) {
+            throw new IllegalArgumentException("The set distances of cluster " + i + " with itself are not kept");
+        }
+        int left = Math.min(i, j);
+        int right = Math.max(i, j);
+        int pair = left * clustersFormed - left * (left + 1) / 2 + (right - left - 1);
+        if (Double.isNaN(averageSetDistances[pair])) {
+            double minimum = Double.MAX_VALUE;
+            double maximum = -Double.MAX_VALUE;
+            double sum = 0.0;
+            int[] leftCluster = getMembers(left);
+            int[] rightCluster = getMembers(right);
+
+            for (int leftPatternIndex : leftCluster) {
+                for (int rightPatternIndex : rightCluster) {
+                    double distance = helper.calculateDistance(leftPatternIndex, rightPatternIndex);
+                    minimum = Math.min(minimum, distance);
+                    maximum = Math.max(maximum, distance);
+                    sum += distance;
+                }
+            }
+            minimumSetDistances[pair] = minimum;
+            maximumSetDistances[pair] = maximum;
+            averageSetDistances[pair] = sum / (leftCluster.length * rightCluster.length);
+        }
+        return pair;
+    }
+}
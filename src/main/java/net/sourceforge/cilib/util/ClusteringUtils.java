@@ -21,9 +21,16 @@
  */
 package net.sourceforge.cilib.util;
 
+import com.google.common.collect.Lists;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EmptyStackException;
 import java.util.Hashtable;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.algorithm.Algorithm;
@@ -44,6 +51,10 @@ import net.sourceforge.cilib.type.types.container.Vector;
 public final class ClusteringUtils {
 
     private static final long serialVersionUID = 4878437477807660149L;
+    /**
+     * The number of patterns that are assigned to their closest centroids at a time.
+     */
+    private static final int CHUNK_SIZE = 4096;
     /**
      * A thread local instance of this class.
      */
@@ -62,6 +73,17 @@ public final class ClusteringUtils {
     // index i refers to the i'th Pattern in the DataSet
     private ArrayList<Hashtable<Integer, Pattern>> originalClusters = null;
     private ArrayList<Hashtable<Integer, Pattern>> arrangedClusters = null;
+    // the assignment of patterns to centroids, and the buffers that produce it,
+    // are reused by every arrangement of this thread
+    private ClusterAssignment assignment = null;
+    private double[] centroidMatrix = null;
+    private int[][] partialCounts = null;
+    private double[][] partialSums = null;
+    // what the latest arrangement was based on, so that it is not repeated for the
+    // same centroids, and the statistics that are shared by its evaluations
+    private double[] arrangedPatterns = null;
+    private DistanceMeasure arrangedDistanceMeasure = null;
+    private ClusterStatistics statistics = null;
 
     /**
      * Private because this is a Singleton class. When starting an {@link Algorithm}, the
@@ -72,32 +94,50 @@ public final class ClusteringUtils {
      * via the <code>Algorithm.get()</code> construct. Then it configures the
      * {@link ClusteringProblem} and then it configures the {@link DataSetBuilder}. This
      * method will be called only once for every new {@link Thread}, in other words, each
-     * {@link ClusteringUtils} object is associated with a single {@link Thread}.
+     * {@link ClusteringUtils} object is associated with a single {@link Thread}. The
+     * problem is looked up again by {@link #get()}.
      */
     private ClusteringUtils() {
-        if (clusteringProblem == null || clusterableDataSet == null) {
-            try {
-                Algorithm algorithm = AbstractAlgorithm.get();
-                clusteringProblem = (ClusteringProblem) algorithm.getOptimisationProblem();
-                clusterableDataSet = (ClusterableDataSet) clusteringProblem.getDataSetBuilder();
-
-                System.out.println("Initialised Algorithm found: " + ClusteringUtils.class.getSimpleName() + " is now configured");
-            } catch (EmptyStackException ese) {
-                System.out.println("Preliminary: Algorithm not initialised yet");
-                // there is no active algorithm when running the unit test
-                // we need to return, otherwise it will break
-                return;
-            }
+        if (!configure()) {
+            System.out.println("Preliminary: Algorithm not initialised yet");
         }
     }
 
     /**
-     * Return the current instance of this class.
+     * Return the current instance of this class, configured for the problem of the
+     * {@link Algorithm} that is currently executing in this thread. A thread that
+     * evaluates the entities of more than one algorithm, such as a pooled worker
+     * thread, is therefore configured again whenever the problem changes.
      *
      * @return the current {@link #instance} of this class.
      */
     public static ClusteringUtils get() {
-        return instance.get();
+        ClusteringUtils utils = instance.get();
+        utils.configure();
+        return utils;
+    }
+
+    /**
+     * Use the {@link ClusteringProblem} of the current {@link Algorithm}, and its dataset,
+     * if it is not already being used.
+     *
+     * @return {@code false} if there is no active algorithm, which is the case when
+     *         running the unit tests, {@code true} otherwise.
+     */
+    private boolean configure() {
+        Algorithm algorithm;
+        try {
+            algorithm = AbstractAlgorithm.get();
+        } catch (EmptyStackException ese) {
+            return false;
+        }
+        if (algorithm.getOptimisationProblem() instanceof ClusteringProblem
+                && algorithm.getOptimisationProblem() != clusteringProblem) {
+            clusteringProblem = (ClusteringProblem) algorithm.getOptimisationProblem();
+            clusterableDataSet = (ClusterableDataSet) clusteringProblem.getDataSetBuilder();
+            System.out.println("Initialised Algorithm found: " + ClusteringUtils.class.getSimpleName() + " is now configured");
+        }
+        return true;
     }
 
     /**
@@ -172,13 +212,38 @@ public final class ClusteringUtils {
      * <li>Remove the empty clusters and their associated centroids from the <i>arranged
      * lists</i>, thereby finalizing the arranging of clusters (depends on both Steps 1 & 2)</li>
      * </ol>
+     * The latest arrangement, and its {@linkplain #getClusterStatistics() statistics},
+     * are kept when the same centroids are arranged again for the same patterns and
+     * distance measure, which happens when several fitness functions or measurements
+     * evaluate the same solution.
      *
      * @param centroids the @{@linkplain Vector} that represents the centroids
      */
     public void arrangeClustersAndCentroids(Vector centroids) {
+        if (isArranged(centroids)) {
+            return;
+        }
         arrangeCentroids(centroids);
-        arrangeClusters();
+        arrangeClusters(centroids);
         removeEmptyClustersAndCentroids();
+        arrangedPatterns = clusterableDataSet.getPatternMatrix();
+        arrangedDistanceMeasure = clusteringProblem.getDistanceMeasure();
+        statistics = null;
+    }
+
+    private boolean isArranged(Vector centroids) {
+        if (assignment == null || arrangedPatterns != clusterableDataSet.getPatternMatrix()
+                || arrangedDistanceMeasure != clusteringProblem.getDistanceMeasure()
+                || assignment.getNumberOfClusters() != clusteringProblem.getNumberOfClusters()
+                || centroidMatrix.length != centroids.size()) {
+            return false;
+        }
+        for (int i = 0; i < centroidMatrix.length; i++) {
+            if (centroidMatrix[i] != centroids.doubleValueOf(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -200,72 +265,135 @@ public final class ClusteringUtils {
     }
 
     /**
-     * Assign all patterns to their closest centroid, building up an {@link ArrayList} that
-     * contains {@link Hashtable}s that link a {@link Pattern} to its index in the DataSet.
-     * When this method is done, all patterns will <i>belong</i> to it's closest centroid.
+     * Assign all patterns to their closest centroid, labelling every pattern with the
+     * index of its cluster in the {@link #assignment}. The patterns are processed in
+     * chunks of {@link #CHUNK_SIZE}, and the partial counts and sums of the chunks are
+     * combined in order, so that the outcome does not depend on the number of
+     * {@linkplain ClusteringProblem#getAssignmentThreads() assignment threads}. With the
+     * Euclidean distance, the squared distances between the flat copies of the patterns
+     * and centroids are compared.
+     *
+     * @param centroids the centroids {@linkplain Vector}
      */
-    private void arrangeClusters() {
-        int numberOfClusters = clusteringProblem.getNumberOfClusters();
-        ArrayList<Pattern> patterns = clusterableDataSet.getPatterns();
-        originalClusters = new ArrayList<Hashtable<Integer, Pattern>>(numberOfClusters);
+    private void arrangeClusters(Vector centroids) {
+        final int numberOfClusters = clusteringProblem.getNumberOfClusters();
+        final int numberOfPatterns = clusterableDataSet.getNumberOfPatterns();
+        final int dimension = centroids.size() / numberOfClusters;
+        final int chunks = (numberOfPatterns + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+        if (assignment == null || !assignment.fits(numberOfPatterns, numberOfClusters, dimension)) {
+            assignment = new ClusterAssignment(numberOfPatterns, numberOfClusters, dimension);
+            centroidMatrix = new double[numberOfClusters * dimension];
+            partialCounts = new int[chunks][numberOfClusters];
+            partialSums = new double[chunks][numberOfClusters * dimension];
+        }
+        for (int i = 0; i < centroidMatrix.length; i++) {
+            centroidMatrix[i] = centroids.doubleValueOf(i);
+        }
 
-        for (int i = 0; i < numberOfClusters; i++) {
-            originalClusters.add(new Hashtable<Integer, Pattern>(patterns.size() / numberOfClusters));
+        // The executor is only available to the thread running the algorithm, so the
+        // patterns are assigned sequentially when the entities are evaluated concurrently
+        ExecutorService executor = AbstractAlgorithm.getEvaluationExecutor();
+        int threads = Math.min(clusteringProblem.getAssignmentThreads(), chunks);
+        if (threads > 1 && executor != null) {
+            List<Callable<Void>> tasks = Lists.newArrayListWithCapacity(threads);
+            for (int t = 0; t < threads; t++) {
+                final int first = t * chunks / threads;
+                final int last = (t + 1) * chunks / threads;
+                tasks.add(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        assignChunks(first, last);
+                        return null;
+                    }
+                });
+            }
+            invokeAll(tasks, executor);
+        } else {
+            assignChunks(0, chunks);
         }
 
-        for (int i = 0; i < patterns.size(); i++) {
-            Pattern pattern = patterns.get(i);
-            double minimum = Double.MAX_VALUE;
-            for (int j = 0; j < numberOfClusters; j++) {
-                double distance = calculateDistance(pattern.data, originalCentroids.get(j));
+        assignment.reset();
+        for (int c = 0; c < chunks; c++) {
+            assignment.combine(partialCounts[c], partialSums[c]);
+        }
+        assignment.complete();
+        originalClusters = null;
+        arrangedClusters = null;
+    }
 
-                if (distance < minimum) {
-                    minimum = distance;
-                    for (Hashtable<Integer, Pattern> all : originalClusters) {
-                        all.remove(i);
-                    }
-                    originalClusters.get(j).put(i, pattern);
-                }
+    private void assignChunks(int first, int last) {
+        double[] patterns = clusterableDataSet.getPatternMatrix();
+        DistanceMeasure distanceMeasure = clusteringProblem.getDistanceMeasure();
+        boolean euclidean = distanceMeasure.getClass() == EuclideanDistanceMeasure.class;
+        Vector[] centroids = euclidean ? null : originalCentroids.toArray(new Vector[originalCentroids.size()]);
+        int numberOfPatterns = assignment.getNumberOfPatterns();
+
+        for (int c = first; c < last; c++) {
+            Arrays.fill(partialCounts[c], 0);
+            Arrays.fill(partialSums[c], 0.0);
+            int from = c * CHUNK_SIZE;
+            int to = Math.min(from + CHUNK_SIZE, numberOfPatterns);
+
+            if (euclidean) {
+                assignment.assign(patterns, centroidMatrix, from, to, partialCounts[c], partialSums[c]);
+            } else {
+                assignment.assign(patterns, clusterableDataSet.getPatterns(), centroids, distanceMeasure, from, to, partialCounts[c], partialSums[c]);
             }
         }
+    }
 
-        //    for (Hashtable<Integer, Pattern> cluster : originalClusters) {
-        //        logger.debug("begin cluster: " + cluster.size());
-        //        Enumeration<Integer> e = cluster.keys();
-        //        while(e.hasMoreElements()) {
-        //            Integer i = e.nextElement();
-        //            logger.debug(i + " -> " + cluster.get(i).data);
-        //        }
-        //        logger.debug("done");
-        //    }
+    private static void invokeAll(List<Callable<Void>> tasks, ExecutorService executor) {
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
     }
 
     /**
      * Empty clusters are caused due to centroids that are not associated with any of the
      * patterns in the dataset. Empty clusters should not be included in the calculation of
      * fitness functions or validity indices. This method constructs the
-     * {@link #arrangedClusters} list which is basically the same as the
-     * {@link #originalClusters} list, with the only difference that the empty clusters are
-     * removed. It also constructs the {@link #arrangedCentroids} list which is basically the
-     * same as the {@link #originalCentroids} list, with the only difference that the
-     * centroids that do not have any patterns associated with them are removed.
+     * {@link #arrangedCentroids} list which is basically the same as the
+     * {@link #originalCentroids} list, with the only difference that the centroids that do
+     * not have any patterns associated with them are removed.
      */
     private void removeEmptyClustersAndCentroids() {
-        arrangedCentroids = new ArrayList<Vector>(originalCentroids.size());
-        arrangedCentroids.addAll(originalCentroids);
-        arrangedClusters = new ArrayList<Hashtable<Integer, Pattern>>(originalClusters.size());
-        arrangedClusters.addAll(originalClusters);
-
-        // traverse list of clusters in reverse due to the way in which the remove(i) method works
-        // i.e to prevent skipping elements, because all elements after i are shift left after a remove
-        for (int i = arrangedClusters.size() - 1; i >= 0; i--) {
-            if (arrangedClusters.get(i).isEmpty()) {
-                arrangedClusters.remove(i);
-                arrangedCentroids.remove(i);
-            }
+        int clustersFormed = assignment.getClustersFormed();
+        arrangedCentroids = new ArrayList<Vector>(clustersFormed);
+        for (int i = 0; i < clustersFormed; i++) {
+            arrangedCentroids.add(originalCentroids.get(assignment.getFormedCluster(i)));
         }
-        arrangedClusters.trimToSize();
-        arrangedCentroids.trimToSize();
+    }
+
+    /**
+     * Get the assignment of the patterns to the centroids of the latest arrangement. It
+     * is reused by the next arrangement in the current thread.
+     *
+     * @return the {@link ClusterAssignment} of the patterns
+     */
+    public ClusterAssignment getAssignment() {
+        return assignment;
+    }
+
+    /**
+     * Get the statistics of the clusters of the latest arrangement, which are shared by
+     * all the fitness functions that evaluate the same centroids. A new instance is
+     * created for every arrangement.
+     *
+     * @return the {@link ClusterStatistics} of the latest arrangement
+     */
+    public ClusterStatistics getClusterStatistics() {
+        if (statistics == null && assignment != null) {
+            statistics = new ClusterStatistics(this);
+        }
+        return statistics;
     }
 
     /**
@@ -310,22 +438,46 @@ public final class ClusteringUtils {
 
     /**
      * Get the structure that represents the seperate clusters <em>before</em> the empty
-     * clusters were removed.
+     * clusters were removed. It is built from the {@link #assignment} when it is first
+     * requested after an arrangement.
      *
      * @return an {@link ArrayList} of {@link Hashtable}s that may contain empty clusters
      */
     public ArrayList<Hashtable<Integer, Pattern>> getOriginalClusters() {
+        if (originalClusters == null && assignment != null) {
+            ArrayList<Pattern> patterns = clusterableDataSet.getPatterns();
+            int numberOfClusters = assignment.getNumberOfClusters();
+            originalClusters = new ArrayList<Hashtable<Integer, Pattern>>(numberOfClusters);
+            for (int j = 0; j < numberOfClusters; j++) {
+                originalClusters.add(new Hashtable<Integer, Pattern>(Math.max(1, assignment.getCount(j) * 4 / 3 + 1)));
+            }
+            for (int i = 0; i < patterns.size(); i++) {
+                int label = assignment.getLabel(i);
+                if (label != ClusterAssignment.UNASSIGNED) {
+                    originalClusters.get(label).put(i, patterns.get(i));
+                }
+            }
+        }
         return originalClusters;
     }
 
     /**
      * Get the structure that represents the seperate clusters <em>after</em> the empty
-     * clusters have been removed.
+     * clusters have been removed. It is built from the {@link #assignment} when it is
+     * first requested after an arrangement.
      *
      * @return an {@link ArrayList} of {@link Hashtable}s that does NOT contain empty
      *         clusters
      */
     public ArrayList<Hashtable<Integer, Pattern>> getArrangedClusters() {
+        if (arrangedClusters == null && assignment != null) {
+            ArrayList<Hashtable<Integer, Pattern>> clusters = getOriginalClusters();
+            int clustersFormed = assignment.getClustersFormed();
+            arrangedClusters = new ArrayList<Hashtable<Integer, Pattern>>(clustersFormed);
+            for (int i = 0; i < clustersFormed; i++) {
+                arrangedClusters.add(clusters.get(assignment.getFormedCluster(i)));
+            }
+        }
         return arrangedClusters;
     }
 
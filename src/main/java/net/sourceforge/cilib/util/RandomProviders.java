@@ -39,4 +39,18 @@ public class RandomProviders {
             }
         };
     }
+
+    /**
+     * Fill the given array with uniform random numbers in {@code [0, 1)}, in
+     * the order in which they are produced by the {@code randomProvider}.
+     * @param randomProvider The source of the random numbers.
+     * @param values The array to fill.
+     * @return The filled array, for chaining.
+     */
+    public static double[] nextDoubles(RandomProvider randomProvider, double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = randomProvider.nextDouble();
+        }
+        return values;
+    }
 }
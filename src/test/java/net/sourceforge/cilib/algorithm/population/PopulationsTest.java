@@ -0,0 +1,88 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.algorithm.population;
+
+import net.sourceforge.cilib.ec.EC;
+import net.sourceforge.cilib.ec.Individual;
+import net.sourceforge.cilib.entity.EntityType;
+import net.sourceforge.cilib.entity.Topology;
+import net.sourceforge.cilib.problem.MinimisationFitness;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+public class PopulationsTest {
+
+    @SuppressWarnings("unchecked")
+    private static EC createAlgorithm() {
+        EC ec = new EC();
+        Topology<Individual> topology = (Topology<Individual>) ec.getTopology();
+        topology.add(createIndividual(Vector.of(0.0, 2.0), 4.0));
+        topology.add(createIndividual(Vector.of(2.0, 4.0), 1.0));
+        topology.add(createIndividual(Vector.of(4.0, 6.0), 7.0));
+        return ec;
+    }
+
+    private static Individual createIndividual(Vector position, double fitness) {
+        Individual individual = new Individual();
+        individual.setCandidateSolution(position);
+        individual.getProperties().put(EntityType.FITNESS, new MinimisationFitness(fitness));
+        return individual;
+    }
+
+    @Test
+    public void statistics() {
+        EC ec = createAlgorithm();
+
+        Assert.assertThat(Populations.bestEntity(ec), sameInstance(ec.getTopology().get(1)));
+        Assert.assertThat(Populations.centroid(ec), is(Vector.of(2.0, 4.0)));
+        Assert.assertEquals(4.0, Populations.fitnessMean(ec), 1e-10);
+        Assert.assertEquals(6.0, Populations.fitnessVariance(ec), 1e-10);
+    }
+
+    @Test
+    public void statisticsAreCachedUntilCleared() {
+        EC ec = createAlgorithm();
+        Populations.bestEntity(ec);
+        Populations.fitnessMean(ec);
+
+        Individual improved = (Individual) ec.getTopology().get(2);
+        improved.getProperties().put(EntityType.FITNESS, new MinimisationFitness(0.0));
+        Assert.assertThat(Populations.bestEntity(ec), sameInstance(ec.getTopology().get(1)));
+        Assert.assertEquals(4.0, Populations.fitnessMean(ec), 1e-10);
+
+        ec.getIterationCache().clear();
+        Assert.assertThat(Populations.<Individual>bestEntity(ec), sameInstance(improved));
+        Assert.assertEquals(5.0 / 3.0, Populations.fitnessMean(ec), 1e-10);
+    }
+
+    @Test
+    public void centroidIsACopy() {
+        EC ec = createAlgorithm();
+        Populations.centroid(ec).setReal(0, 100.0);
+
+        Assert.assertThat(Populations.centroid(ec), is(Vector.of(2.0, 4.0)));
+    }
+}
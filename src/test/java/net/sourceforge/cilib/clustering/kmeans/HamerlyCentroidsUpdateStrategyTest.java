@@ -0,0 +1,144 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.clustering.kmeans;
+
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.problem.ClusteringProblem;
+import net.sourceforge.cilib.problem.dataset.AssociatedPairDataSetBuilder;
+import net.sourceforge.cilib.problem.dataset.ClusterableDataSet.Pattern;
+import net.sourceforge.cilib.problem.dataset.NoDistanceCache;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.ClusterAssignment;
+import net.sourceforge.cilib.util.ClusteringUtils;
+import net.sourceforge.cilib.util.ManhattanDistanceMeasure;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+
+public class HamerlyCentroidsUpdateStrategyTest {
+
+    private static final int PATTERNS = 5000;
+    private static final int CLUSTERS = 6;
+    private static final int DIMENSION = 2;
+
+    private ClusteringProblem problem;
+    private AssociatedPairDataSetBuilder dataSet;
+    private MersenneTwister random;
+
+    @Before
+    public void createDataSet() {
+        problem = new ClusteringProblem();
+        problem.setNumberOfClusters(CLUSTERS);
+
+        random = new MersenneTwister(11);
+        dataSet = new AssociatedPairDataSetBuilder() {
+            {
+                for (int i = 0; i < PATTERNS; i++) {
+                    patterns.add(new Pattern("class", randomVector(random, DIMENSION)));
+                }
+            }
+        };
+        dataSet.setDistanceCache(new NoDistanceCache());
+        dataSet.initialise();
+
+        ClusteringUtils.get().setClusteringProblem(problem);
+        ClusteringUtils.get().setClusterableDataSet(dataSet);
+    }
+
+    private static Vector randomVector(MersenneTwister random, int size) {
+        Vector.Builder vector = Vector.newBuilder();
+        for (int i = 0; i < size; i++) {
+            vector.add(random.nextDouble() * 10.0);
+        }
+        return vector.build();
+    }
+
+    /**
+     * A single Lloyd update, using the arrangement of {@link ClusteringUtils}.
+     */
+    private static int[] lloyd(Vector centroids) {
+        ClusteringUtils helper = ClusteringUtils.get();
+        helper.arrangeClustersAndCentroids(centroids);
+        ClusterAssignment assignment = helper.getAssignment();
+        int[] counts = new int[CLUSTERS];
+
+        for (int j = 0; j < CLUSTERS; j++) {
+            counts[j] = assignment.getCount(j);
+            if (counts[j] > 0) {
+                Vector mean = assignment.getMean(j);
+                for (int k = 0; k < DIMENSION; k++) {
+                    centroids.setReal(j * DIMENSION + k, mean.doubleValueOf(k));
+                }
+            }
+        }
+        return counts;
+    }
+
+    @Test
+    public void sameClustersAsLloyd() {
+        Vector expected = randomVector(random, CLUSTERS * DIMENSION);
+        Vector actual = Vector.copyOf(expected);
+        HamerlyCentroidsUpdateStrategy strategy = new HamerlyCentroidsUpdateStrategy();
+
+        for (int iteration = 0; iteration < 20; iteration++) {
+            if (iteration == 5) {
+                // a reinitialised centroid must not invalidate the bounds
+                for (int k = 0; k < DIMENSION; k++) {
+                    double value = random.nextDouble() * 10.0;
+                    expected.setReal(k, value);
+                    actual.setReal(k, value);
+                }
+            }
+            int[] expectedCounts = lloyd(expected);
+            int[] actualCounts = strategy.update(problem, dataSet, actual);
+
+            for (int j = 0; j < CLUSTERS; j++) {
+                Assert.assertThat(actualCounts[j], is(expectedCounts[j]));
+            }
+            for (int i = 0; i < expected.size(); i++) {
+                Assert.assertEquals(expected.doubleValueOf(i), actual.doubleValueOf(i), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void cloneStartsAfresh() {
+        Vector expected = randomVector(random, CLUSTERS * DIMENSION);
+        HamerlyCentroidsUpdateStrategy strategy = new HamerlyCentroidsUpdateStrategy();
+        strategy.update(problem, dataSet, Vector.copyOf(expected));
+
+        Vector actual = Vector.copyOf(expected);
+        lloyd(expected);
+        strategy.getClone().update(problem, dataSet, actual);
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(expected.doubleValueOf(i), actual.doubleValueOf(i), 1e-9);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void euclideanOnly() {
+        problem.setDistanceMeasure(new ManhattanDistanceMeasure());
+        new HamerlyCentroidsUpdateStrategy().update(problem, dataSet, randomVector(random, CLUSTERS * DIMENSION));
+    }
+}
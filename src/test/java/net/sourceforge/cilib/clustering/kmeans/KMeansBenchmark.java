@@ -0,0 +1,142 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.clustering.kmeans;
+
+import java.util.Random;
+
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.math.random.generator.RandomAdaptor;
+import net.sourceforge.cilib.problem.ClusteringProblem;
+import net.sourceforge.cilib.problem.dataset.AssociatedPairDataSetBuilder;
+import net.sourceforge.cilib.problem.dataset.ClusterableDataSet.Pattern;
+import net.sourceforge.cilib.problem.dataset.NoDistanceCache;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.ClusterAssignment;
+import net.sourceforge.cilib.util.ClusteringUtils;
+
+/**
+ * Compare the time per iteration of the KMeans centroid updates on a synthetic dataset
+ * of a million patterns, drawn from Gaussian clusters around random centres. The
+ * standard update is timed as {@link LloydCentroidsUpdateStrategy} performs it, minus the
+ * fitness calculation, so that only the arrangement of the clusters is compared. The
+ * sum of squared errors of the final centroids is reported with every time.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=net.sourceforge.cilib.clustering.kmeans.KMeansBenchmark}.
+ */
+public final class KMeansBenchmark {
+
+    private static final int PATTERNS = 1000000;
+    private static final int CLUSTERS = 20;
+    private static final int DIMENSION = 8;
+    private static final int ITERATIONS = 30;
+    private static final int BATCH_SIZE = 1000;
+
+    private KMeansBenchmark() {
+        throw new UnsupportedOperationException("Cannot instantiate.");
+    }
+
+    public static void main(String[] args) {
+        ClusteringProblem problem = new ClusteringProblem();
+        problem.setNumberOfClusters(CLUSTERS);
+
+        final Random random = new RandomAdaptor(new MersenneTwister(1));
+        final double[] centres = new double[CLUSTERS * DIMENSION];
+        for (int i = 0; i < centres.length; i++) {
+            centres[i] = random.nextDouble() * 100.0;
+        }
+        AssociatedPairDataSetBuilder dataSet = new AssociatedPairDataSetBuilder() {
+            {
+                for (int i = 0; i < PATTERNS; i++) {
+                    int centre = random.nextInt(CLUSTERS) * DIMENSION;
+                    Vector.Builder pattern = Vector.newBuilder();
+                    for (int k = 0; k < DIMENSION; k++) {
+                        pattern.add(centres[centre + k] + random.nextGaussian() * 5.0);
+                    }
+                    patterns.add(new Pattern("class", pattern.build()));
+                }
+            }
+        };
+        dataSet.setDistanceCache(new NoDistanceCache());
+        dataSet.initialise();
+
+        ClusteringUtils.get().setClusteringProblem(problem);
+        ClusteringUtils.get().setClusterableDataSet(dataSet);
+
+        Vector initial = new DataSetBasedCentroidsInitialisationStrategy().initialise(problem, dataSet);
+        MiniBatchCentroidsUpdateStrategy miniBatch = new MiniBatchCentroidsUpdateStrategy();
+        miniBatch.setBatchSize(BATCH_SIZE);
+
+        for (int round = 0; round < 2; round++) {
+            report("lloyd", problem, dataSet, initial, null);
+            report("hamerly", problem, dataSet, initial, new HamerlyCentroidsUpdateStrategy());
+            report("mini-batch", problem, dataSet, initial, miniBatch.getClone());
+        }
+    }
+
+    private static void report(String name, ClusteringProblem problem, AssociatedPairDataSetBuilder dataSet,
+            Vector initial, CentroidsUpdateStrategy strategy) {
+        Vector centroids = Vector.copyOf(initial);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (strategy == null) {
+                lloyd(centroids);
+            } else {
+                strategy.update(problem, dataSet, centroids);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-10s %8.2f ms per iteration, sum of squared errors %.6e%n",
+                name, elapsed / 1e6 / ITERATIONS, sumOfSquaredErrors(dataSet.getPatternMatrix(), centroids));
+    }
+
+    private static void lloyd(Vector centroids) {
+        ClusteringUtils helper = ClusteringUtils.get();
+        helper.arrangeClustersAndCentroids(centroids);
+        ClusterAssignment assignment = helper.getAssignment();
+        for (int j = 0; j < CLUSTERS; j++) {
+            if (assignment.getCount(j) > 0) {
+                Vector mean = assignment.getMean(j);
+                for (int k = 0; k < DIMENSION; k++) {
+                    centroids.setReal(j * DIMENSION + k, mean.doubleValueOf(k));
+                }
+            }
+        }
+    }
+
+    private static double sumOfSquaredErrors(double[] patterns, Vector centroids) {
+        double total = 0.0;
+        for (int i = 0; i < PATTERNS; i++) {
+            double minimum = Double.MAX_VALUE;
+            for (int j = 0; j < CLUSTERS; j++) {
+                double distance = 0.0;
+                for (int k = 0; k < DIMENSION; k++) {
+                    double difference = patterns[i * DIMENSION + k] - centroids.doubleValueOf(j * DIMENSION + k);
+                    distance += difference * difference;
+                }
+                minimum = Math.min(minimum, distance);
+            }
+            total += minimum;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.clustering.kmeans;
+
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.problem.ClusteringProblem;
+import net.sourceforge.cilib.problem.dataset.AssociatedPairDataSetBuilder;
+import net.sourceforge.cilib.problem.dataset.ClusterableDataSet.Pattern;
+import net.sourceforge.cilib.problem.dataset.NoDistanceCache;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+
+public class MiniBatchCentroidsUpdateStrategyTest {
+
+    private static final int PATTERNS_PER_CLUSTER = 1000;
+    private static final double[] OFFSETS = {0.0, 10.0, 20.0};
+
+    private ClusteringProblem problem;
+    private AssociatedPairDataSetBuilder dataSet;
+
+    /**
+     * Three well separated clusters of patterns, uniformly distributed in unit squares
+     * with corners on the diagonal, so that their means are 0.5, 10.5 and 20.5.
+     */
+    @Before
+    public void createDataSet() {
+        problem = new ClusteringProblem();
+        problem.setNumberOfClusters(OFFSETS.length);
+
+        final MersenneTwister random = new MersenneTwister(3);
+        dataSet = new AssociatedPairDataSetBuilder() {
+            {
+                for (int i = 0; i < PATTERNS_PER_CLUSTER; i++) {
+                    for (double offset : OFFSETS) {
+                        patterns.add(new Pattern("class", Vector.of(offset + random.nextDouble(), offset + random.nextDouble())));
+                    }
+                }
+            }
+        };
+        dataSet.setDistanceCache(new NoDistanceCache());
+        dataSet.initialise();
+    }
+
+    @Test
+    public void approachesMeans() {
+        Vector centroids = Vector.of(1.0, 0.0, 11.0, 10.0, 19.0, 21.0);
+        MiniBatchCentroidsUpdateStrategy strategy = new MiniBatchCentroidsUpdateStrategy();
+        strategy.setBatchSize(60);
+
+        int[] counts = null;
+        for (int iteration = 0; iteration < 50; iteration++) {
+            counts = strategy.update(problem, dataSet, centroids);
+        }
+
+        Assert.assertThat(counts[0] + counts[1] + counts[2], is(50 * 60));
+        for (int i = 0; i < centroids.size(); i++) {
+            Assert.assertEquals(OFFSETS[i / 2] + 0.5, centroids.doubleValueOf(i), 0.1);
+        }
+    }
+
+    @Test
+    public void reinitialisedCentroidIsReset() {
+        Vector centroids = Vector.of(1.0, 0.0, 11.0, 10.0, 19.0, 21.0);
+        MiniBatchCentroidsUpdateStrategy strategy = new MiniBatchCentroidsUpdateStrategy();
+        int[] counts = strategy.update(problem, dataSet, centroids);
+        int others = counts[1] + counts[2];
+
+        centroids.setReal(0, 0.5);
+        centroids.setReal(1, 0.5);
+        counts = strategy.update(problem, dataSet, centroids);
+        Assert.assertThat(counts[0] + counts[1] + counts[2], is(others + strategy.getBatchSize()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void positiveBatchSize() {
+        new MiniBatchCentroidsUpdateStrategy().setBatchSize(0);
+    }
+}
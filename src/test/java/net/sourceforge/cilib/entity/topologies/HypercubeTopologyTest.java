@@ -0,0 +1,93 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.entity.topologies;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.util.Iterator;
+import java.util.List;
+
+import net.sourceforge.cilib.entity.Particle;
+import net.sourceforge.cilib.pso.particle.StandardParticle;
+
+import org.junit.Test;
+
+public class HypercubeTopologyTest {
+
+    @Test
+    public void neighbourhoodMatchesHypercube() {
+        HypercubeTopology<Particle> topology = createTopology(16);
+
+        for (int degree = 1; degree <= 4; degree++) {
+            topology.setNeighbourhoodSize(degree);
+            assertNeighbourhoods(topology);
+        }
+    }
+
+    @Test
+    public void neighbourhoodFollowsTopologySize() {
+        HypercubeTopology<Particle> topology = createTopology(4);
+        topology.setNeighbourhoodSize(2);
+        assertNeighbourhoods(topology);
+
+        for (int i = 0; i < 4; i++) {
+            topology.add(new StandardParticle());
+        }
+        assertNeighbourhoods(topology);
+
+        topology.setNeighbourhoodSize(3);
+        assertNeighbourhoods(topology);
+
+        for (int i = 0; i < 8; i++) {
+            topology.add(new StandardParticle());
+        }
+        assertNeighbourhoods(topology);
+    }
+
+    private static HypercubeTopology<Particle> createTopology(int size) {
+        HypercubeTopology<Particle> topology = new HypercubeTopology<Particle>();
+        for (int i = 0; i < size; i++) {
+            topology.add(new StandardParticle());
+        }
+        return topology;
+    }
+
+    /**
+     * Compare the neighbourhood of every entity with the one visited by the
+     * original neighbourhood iterator, which flipped each of the lowest
+     * neighbourhood size bits of the index in turn.
+     */
+    private static void assertNeighbourhoods(HypercubeTopology<Particle> topology) {
+        List<Particle> entities = topology.asList();
+        Iterator<Particle> i = topology.iterator();
+        for (int index = 0; index < entities.size(); index++) {
+            i.next();
+            Iterator<Particle> j = topology.neighbourhood(i);
+            for (int count = 0; count < topology.getNeighbourhoodSize(); count++) {
+                int neighbour = index ^ Double.valueOf(Math.pow(2, count)).intValue();
+                assertSame(entities.get(neighbour), j.next());
+            }
+            assertFalse(j.hasNext());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.entity.topologies;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.util.Iterator;
+
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.entity.Particle;
+import net.sourceforge.cilib.pso.particle.StandardParticle;
+
+import org.junit.Test;
+
+public class LBestTopologyTest {
+
+    @Test
+    public void neighbourhoodIsCentredRing() {
+        LBestTopology<Particle> topology = createTopology(7);
+
+        assertNeighbourhood(topology, 0, 6, 0, 1);
+        assertNeighbourhood(topology, 3, 2, 3, 4);
+        assertNeighbourhood(topology, 6, 5, 6, 0);
+    }
+
+    @Test
+    public void neighbourhoodFollowsTopologySize() {
+        LBestTopology<Particle> topology = createTopology(7);
+        assertNeighbourhood(topology, 6, 5, 6, 0);
+
+        topology.add(new StandardParticle());
+        assertNeighbourhood(topology, 6, 5, 6, 7);
+
+        topology.setNeighbourhoodSize(new ConstantControlParameter(5));
+        assertNeighbourhood(topology, 0, 6, 7, 0, 1, 2);
+    }
+
+    @Test
+    public void neighbourhoodIsLimitedToTopology() {
+        LBestTopology<Particle> topology = createTopology(2);
+
+        assertNeighbourhood(topology, 0, 1, 0);
+        assertNeighbourhood(topology, 1, 0, 1);
+    }
+
+    private static LBestTopology<Particle> createTopology(int size) {
+        LBestTopology<Particle> topology = new LBestTopology<Particle>();
+        for (int i = 0; i < size; i++) {
+            topology.add(new StandardParticle());
+        }
+        return topology;
+    }
+
+    private static void assertNeighbourhood(LBestTopology<Particle> topology, int index, int... expected) {
+        Iterator<Particle> i = topology.iterator();
+        for (int k = 0; k <= index; k++) {
+            i.next();
+        }
+
+        Iterator<Particle> j = topology.neighbourhood(i);
+        for (int neighbour : expected) {
+            assertSame(topology.get(neighbour), j.next());
+        }
+        assertFalse(j.hasNext());
+        assertEquals(expected.length, topology.getNeighbourhoodSize());
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.entity.topologies;
+
+import java.util.Iterator;
+
+import net.sourceforge.cilib.entity.Particle;
+import net.sourceforge.cilib.entity.Topology;
+import net.sourceforge.cilib.pso.particle.StandardParticle;
+
+/**
+ * Measure the cost of a full neighbourhood pass, visiting the neighbourhood
+ * of every entity as the iteration strategies do, over swarms of 20 to
+ * 10,000 particles for each of the neighbourhood topologies.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=net.sourceforge.cilib.entity.topologies.TopologyBenchmark}.
+ */
+public final class TopologyBenchmark {
+
+    private static final int[] SIZES = {20, 100, 1000, 10000};
+    private static final int VISITS = 2000000;
+    private static final int ROUNDS = 3;
+
+    private TopologyBenchmark() {
+        throw new UnsupportedOperationException("Cannot instantiate.");
+    }
+
+    public static void main(String[] args) {
+        for (int size : SIZES) {
+            for (int round = 0; round < ROUNDS; round++) {
+                System.out.printf("Size %5d, round %d: lbest %.1f ns, von neumann %.1f ns, hypercube %.1f ns per neighbour%n",
+                        size, round + 1,
+                        time(populate(new LBestTopology<Particle>(), size)),
+                        time(populate(new VonNeumannTopology<Particle>(), size)),
+                        time(populate(new HypercubeTopology<Particle>(), size)));
+            }
+        }
+    }
+
+    private static Topology<Particle> populate(Topology<Particle> topology, int size) {
+        if (topology instanceof HypercubeTopology) {
+            // keep every neighbour within the topology
+            int degree = 0;
+            while ((1 << (degree + 1)) <= size) {
+                degree++;
+            }
+            ((HypercubeTopology<Particle>) topology).setNeighbourhoodSize(degree);
+            size = 1 << degree;
+        }
+        for (int i = 0; i < size; i++) {
+            topology.add(new StandardParticle());
+        }
+        return topology;
+    }
+
+    private static double time(Topology<Particle> topology) {
+        int visited = 0;
+        int checksum = 0;
+        long start = System.nanoTime();
+        while (visited < VISITS) {
+            for (Iterator<Particle> i = topology.iterator(); i.hasNext();) {
+                i.next();
+                for (Iterator<Particle> j = topology.neighbourhood(i); j.hasNext();) {
+                    checksum += j.next() == null ? 0 : 1;
+                    visited++;
+                }
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        if (checksum != visited) {
+            throw new IllegalStateException();
+        }
+        return (double) elapsed / visited;
+    }
+}
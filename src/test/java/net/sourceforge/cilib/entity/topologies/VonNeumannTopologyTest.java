@@ -23,9 +23,12 @@ package net.sourceforge.cilib.entity.topologies;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import net.sourceforge.cilib.entity.Particle;
@@ -33,6 +36,7 @@ import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.problem.Fitness;
 import net.sourceforge.cilib.problem.OptimisationProblem;
 import net.sourceforge.cilib.pso.particle.AbstractParticle;
+import net.sourceforge.cilib.pso.particle.StandardParticle;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 import org.junit.BeforeClass;
@@ -164,12 +168,120 @@ public class VonNeumannTopologyTest {
         assertEquals(5, count);
     }
 
+    @Test
+    public void neighbourhoodFollowsGridLayout() {
+        VonNeumannTopology<Particle> topology = new VonNeumannTopology<Particle>();
+        List<List<Particle>> grid = new ArrayList<List<Particle>>();
+
+        for (int i = 0; i < 30; ++i) {
+            Particle particle = new StandardParticle();
+            topology.add(particle);
+            addToGrid(grid, particle);
+            assertNeighbourhoods(topology, grid);
+        }
+
+        int[] removed = {29, 0, 12, 5, 17, 20};
+        for (int index : removed) {
+            Iterator<Particle> i = topology.iterator();
+            for (int c = 0; c <= index; ++c) {
+                i.next();
+            }
+            i.remove();
+            removeFromGrid(grid, index);
+            assertNeighbourhoods(topology, grid);
+        }
+    }
+
     @Test
     public void topologyAsList() {
         assertEquals(9, square.asList().size());
         assertEquals(10, irregular.asList().size());
     }
 
+    /**
+     * Compare the neighbourhood of every entity with the one visited by the
+     * original neighbourhood iterator, which searched the rows of the grid
+     * for the neighbours of the entity.
+     */
+    private static void assertNeighbourhoods(VonNeumannTopology<Particle> topology, List<List<Particle>> grid) {
+        Iterator<Particle> i = topology.iterator();
+        for (int x = 0; x < grid.size(); ++x) {
+            for (int y = 0; y < grid.get(x).size(); ++y) {
+                assertSame(grid.get(x).get(y), i.next());
+
+                Iterator<Particle> j = topology.neighbourhood(i);
+                for (Particle expected : gridNeighbourhood(grid, x, y)) {
+                    assertSame(expected, j.next());
+                }
+                assertFalse(j.hasNext());
+            }
+        }
+        assertFalse(i.hasNext());
+    }
+
+    private static void addToGrid(List<List<Particle>> grid, Particle particle) {
+        int min = grid.size();
+        List<Particle> shortest = null;
+        for (List<Particle> row : grid) {
+            if (row.size() < min) {
+                shortest = row;
+                min = row.size();
+            }
+        }
+        if (shortest == null) {
+            shortest = new ArrayList<Particle>();
+            grid.add(shortest);
+        }
+        shortest.add(particle);
+    }
+
+    private static void removeFromGrid(List<List<Particle>> grid, int index) {
+        int x = 0;
+        while (index >= grid.get(x).size()) {
+            index -= grid.get(x).size();
+            ++x;
+        }
+        grid.get(x).remove(index);
+        if (grid.get(x).isEmpty()) {
+            grid.remove(x);
+        }
+    }
+
+    private static List<Particle> gridNeighbourhood(List<List<Particle>> grid, int x, int y) {
+        List<Particle> neighbourhood = new ArrayList<Particle>();
+        neighbourhood.add(grid.get(x).get(y));
+
+        int row = x - 1;
+        while (true) {
+            if (row < 0) {
+                row = grid.size() - 1;
+            }
+            if (y < grid.get(row).size()) {
+                break;
+            }
+            --row;
+        }
+        neighbourhood.add(grid.get(row).get(y));
+
+        int length = grid.get(x).size();
+        neighbourhood.add(grid.get(x).get(y + 1 < length ? y + 1 : 0));
+
+        row = x + 1;
+        while (true) {
+            if (row >= grid.size()) {
+                row = 0;
+            }
+            if (y < grid.get(row).size()) {
+                break;
+            }
+            ++row;
+        }
+        neighbourhood.add(grid.get(row).get(y));
+
+        neighbourhood.add(grid.get(x).get(y > 0 ? y - 1 : length - 1));
+        return neighbourhood;
+    }
+
     private static Topology<Particle> empty;
     private static Topology<Particle> square;
     private static Topology<Particle> irregular;
@@ -0,0 +1,156 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.entity.visitor;
+
+import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
+import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.Particle;
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.pso.particle.StandardParticle;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+
+public class DiametersTest {
+
+    private static final int SIZE = 50;
+    private static final int DIMENSION = 7;
+
+    private static double[] positions(long seed) {
+        MersenneTwister random = new MersenneTwister(seed);
+        double[] positions = new double[SIZE * DIMENSION];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = random.nextDouble() * 20.0 - 10.0;
+        }
+        return positions;
+    }
+
+    private static double bruteForce(double[] positions) {
+        double max = 0.0;
+        for (int i = 0; i < SIZE; i++) {
+            for (int j = 0; j < SIZE; j++) {
+                double sum = 0.0;
+                for (int k = 0; k < DIMENSION; k++) {
+                    double d = positions[i * DIMENSION + k] - positions[j * DIMENSION + k];
+                    sum += d * d;
+                }
+                max = Math.max(max, Math.sqrt(sum));
+            }
+        }
+        return max;
+    }
+
+    @Test
+    public void exactDiameter() {
+        double[] positions = positions(1);
+        double expected = bruteForce(positions);
+
+        Assert.assertEquals(expected, new ExactDiameterStrategy().diameter(positions, SIZE, DIMENSION), 1e-10);
+    }
+
+    @Test
+    public void approximateDiameterBounds() {
+        for (long seed = 0; seed < 10; seed++) {
+            double[] positions = positions(seed);
+            double expected = bruteForce(positions);
+
+            double boundingBox = new BoundingBoxDiameterStrategy().diameter(positions, SIZE, DIMENSION);
+            Assert.assertTrue(boundingBox >= expected - 1e-10);
+            Assert.assertTrue(boundingBox <= Math.sqrt(DIMENSION) * expected + 1e-10);
+
+            double farthestPoint = new FarthestPointDiameterStrategy().diameter(positions, SIZE, DIMENSION);
+            Assert.assertTrue(farthestPoint >= expected / 2.0 - 1e-10);
+            Assert.assertTrue(farthestPoint <= expected + 1e-10);
+        }
+    }
+
+    @Test
+    public void singleEntity() {
+        double[] positions = {1.0, 2.0, 3.0};
+
+        Assert.assertEquals(0.0, new ExactDiameterStrategy().diameter(positions, 1, 3), 0.0);
+        Assert.assertEquals(0.0, new BoundingBoxDiameterStrategy().diameter(positions, 1, 3), 0.0);
+        Assert.assertEquals(0.0, new FarthestPointDiameterStrategy().diameter(positions, 1, 3), 0.0);
+    }
+
+    @Test
+    public void diameterOfAlgorithmIsCachedPerIteration() {
+        PSO pso = new PSO();
+        addParticle(pso, Vector.of(0.0, 0.0));
+        addParticle(pso, Vector.of(3.0, 4.0));
+        CountingStrategy strategy = new CountingStrategy();
+
+        Assert.assertEquals(5.0, Diameters.of(pso, strategy), 1e-10);
+        Assert.assertEquals(5.0, Diameters.of(pso, strategy), 1e-10);
+        Assert.assertThat(strategy.count, is(1));
+
+        Diameters.of(pso, strategy, Predicates.<Object>alwaysFalse());
+        Assert.assertThat(strategy.count, is(1));
+
+        addParticle(pso, Vector.of(6.0, 8.0));
+        pso.getIterationCache().clear();
+        Assert.assertEquals(10.0, Diameters.of(pso, strategy), 1e-10);
+        Assert.assertThat(strategy.count, is(2));
+    }
+
+    @Test
+    public void visitorFilter() {
+        PSO pso = new PSO();
+        addParticle(pso, Vector.of(0.0, 0.0));
+        addParticle(pso, Vector.of(3.0, 4.0));
+        addParticle(pso, Vector.of(6.0, 8.0));
+
+        DiameterVisitor visitor = new DiameterVisitor() {
+            @Override
+            protected Predicate<? super Entity> getFilter() {
+                return new Predicate<Entity>() {
+                    @Override
+                    public boolean apply(Entity entity) {
+                        return ((Vector) entity.getCandidateSolution()).doubleValueOf(0) < 5.0;
+                    }
+                };
+            }
+        };
+        pso.getTopology().accept(visitor);
+        Assert.assertEquals(5.0, visitor.getResult(), 1e-10);
+    }
+
+    private static void addParticle(PSO pso, Vector position) {
+        Particle particle = new StandardParticle();
+        particle.setCandidateSolution(position);
+        pso.getTopology().add(particle);
+    }
+
+    private static class CountingStrategy extends ExactDiameterStrategy {
+        private int count;
+
+        @Override
+        public double diameter(double[] positions, int size, int dimension) {
+            count++;
+            return super.diameter(positions, size, dimension);
+        }
+    }
+}
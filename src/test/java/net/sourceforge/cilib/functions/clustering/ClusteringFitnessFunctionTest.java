@@ -31,6 +31,7 @@ import net.sourceforge.cilib.type.types.Int;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 import org.junit.AfterClass;
+import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -73,6 +74,15 @@ public class ClusteringFitnessFunctionTest {
     }
 
 
+    /**
+     * The calculations use the arrangement of the current thread, so the centroids are
+     * arranged before every test, regardless of the order in which the tests run.
+     */
+    @Before
+    public void arrange() {
+        function.apply(centroids);
+    }
+
     @AfterClass
     public static void destroy() {
         function = null;
@@ -0,0 +1,207 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.functions.continuous.decorators;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Quadric;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.problem.FunctionMinimisationProblem;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.stoppingcondition.MaximumIterations;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Test;
+
+public class RotatedFunctionDecoratorTest {
+
+    @Test
+    public void matrixIsOrthonormal() {
+        RotatedFunctionDecorator rotated = new RotatedFunctionDecorator();
+        rotated.setFunction(new Spherical());
+        rotated.apply(Vector.of(1.0, 2.0, 3.0, 4.0, 5.0));
+
+        double[][] matrix = rotated.getRotationMatrix();
+        assertThat(matrix.length, is(5));
+        for (int i = 0; i < matrix.length; i++) {
+            for (int j = 0; j < matrix.length; j++) {
+                double innerProduct = 0.0;
+                for (int k = 0; k < matrix.length; k++) {
+                    innerProduct += matrix[i][k] * matrix[j][k];
+                }
+                assertEquals(i == j ? 1.0 : 0.0, innerProduct, 1e-10);
+            }
+        }
+    }
+
+    @Test
+    public void rotationPreservesNorm() {
+        RotatedFunctionDecorator rotated = new RotatedFunctionDecorator();
+        rotated.setFunction(new Spherical());
+        rotated.setRotationProbability(new ConstantControlParameter(1.0));
+
+        Vector input = Vector.of(1.0, -2.0, 0.5, 3.0, 4.0, -1.5, 2.5);
+        double expected = new Spherical().apply(input);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(expected, rotated.apply(input), 1e-10);
+        }
+    }
+
+    @Test
+    public void matrixFollowsDimension() {
+        RotatedFunctionDecorator rotated = new RotatedFunctionDecorator();
+        rotated.setFunction(new Spherical());
+        rotated.setRotationProbability(new ConstantControlParameter(0.0));
+
+        rotated.apply(Vector.of(1.0, 2.0));
+        assertThat(rotated.getRotationMatrix().length, is(2));
+        rotated.apply(Vector.of(1.0, 2.0, 3.0));
+        assertThat(rotated.getRotationMatrix().length, is(3));
+    }
+
+    /**
+     * While an algorithm is executing, the matrix is re-created for iterations,
+     * so every evaluation of an iteration uses the same matrix.
+     */
+    @Test
+    public void matrixRecreatedPerIteration() {
+        final RotatedFunctionDecorator rotated = new RotatedFunctionDecorator();
+        rotated.setRotationProbability(new ConstantControlParameter(1.0));
+        final Map<Integer, double[][]> matrices = new HashMap<Integer, double[][]>();
+        rotated.setFunction(new ContinuousFunction() {
+            @Override
+            public Double apply(Vector input) {
+                double[][] matrix = rotated.getRotationMatrix();
+                double[][] previous = matrices.put(AbstractAlgorithm.get().getIterations(), matrix);
+                assertTrue(previous == null || Arrays.deepEquals(previous, matrix));
+                return new Spherical().apply(input);
+            }
+        });
+
+        FunctionMinimisationProblem problem = new FunctionMinimisationProblem();
+        problem.setDomain("R(-5.12, 5.12)^5");
+        problem.setFunction(rotated);
+        PSO pso = new PSO();
+        pso.setOptimisationProblem(problem);
+        pso.addStoppingCondition(new MaximumIterations(3));
+        pso.initialise();
+        pso.run();
+
+        assertThat(matrices.size(), is(3));
+        assertFalse(Arrays.deepEquals(matrices.get(0), matrices.get(1)));
+    }
+
+    @Test
+    public void concurrentEvaluations() throws Exception {
+        final RotatedFunctionDecorator rotated = new RotatedFunctionDecorator();
+        rotated.setFunction(new Quadric());
+        rotated.setRotationProbability(new ConstantControlParameter(0.0));
+
+        MersenneTwister random = new MersenneTwister(2);
+        final List<Vector> inputs = new ArrayList<Vector>();
+        final double[] expected = new double[50];
+        for (int i = 0; i < expected.length; i++) {
+            Vector.Builder input = Vector.newBuilder();
+            for (int j = 0; j < 100; j++) {
+                input.add(random.nextDouble() * 10.0 - 5.0);
+            }
+            inputs.add(input.build());
+            expected[i] = rotated.apply(inputs.get(i));
+        }
+
+        List<double[]> results = evaluateConcurrently(rotated, inputs);
+        for (double[] result : results) {
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], result[i], 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void concurrentRotations() throws Exception {
+        RotatedFunctionDecorator rotated = new RotatedFunctionDecorator();
+        rotated.setFunction(new Spherical());
+        rotated.setRotationProbability(new ConstantControlParameter(1.0));
+
+        MersenneTwister random = new MersenneTwister(3);
+        List<Vector> inputs = new ArrayList<Vector>();
+        for (int i = 0; i < 50; i++) {
+            Vector.Builder input = Vector.newBuilder();
+            for (int j = 0; j < 10; j++) {
+                input.add(random.nextDouble() * 10.0 - 5.0);
+            }
+            inputs.add(input.build());
+        }
+
+        List<double[]> results = evaluateConcurrently(rotated, inputs);
+        for (double[] result : results) {
+            for (int i = 0; i < inputs.size(); i++) {
+                double expected = new Spherical().apply(inputs.get(i));
+                assertEquals(expected, result[i], expected * 1e-10);
+            }
+        }
+    }
+
+    private static List<double[]> evaluateConcurrently(final RotatedFunctionDecorator rotated, final List<Vector> inputs) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<double[]>> futures = new ArrayList<Future<double[]>>();
+            for (int t = 0; t < 32; t++) {
+                futures.add(executor.submit(new Callable<double[]>() {
+                    @Override
+                    public double[] call() {
+                        double[] result = new double[inputs.size()];
+                        for (int repeat = 0; repeat < 20; repeat++) {
+                            for (int i = 0; i < result.length; i++) {
+                                result[i] = rotated.apply(inputs.get(i));
+                            }
+                        }
+                        return result;
+                    }
+                }));
+            }
+            List<double[]> results = new ArrayList<double[]>();
+            for (Future<double[]> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.math.random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+public class GaussianDistributionTest {
+
+    @Test
+    public void fillMatchesSingleSamples() {
+        GaussianDistribution single = new GaussianDistribution(7);
+        GaussianDistribution bulk = new GaussianDistribution(7);
+
+        double[] values = bulk.fillGaussian(new double[1000], 3.0, 2.0);
+        for (double value : values) {
+            assertThat(value, is(single.getRandomNumber(3.0, 2.0)));
+        }
+        assertThat(bulk.getRandomNumber(), is(single.getRandomNumber()));
+    }
+}
@@ -0,0 +1,160 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.math.random.generator;
+
+/**
+ * Measure the cost of constructing a generator and drawing its first value,
+ * as every component does when an algorithm is created, and the cost of a
+ * long stream of {@code nextDouble()} values, for each of the generators.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=net.sourceforge.cilib.math.random.generator.RandomProviderBenchmark}.
+ */
+public final class RandomProviderBenchmark {
+
+    private static final int CONSTRUCTIONS = 20000;
+    private static final int DRAWS = 20000000;
+    private static final int ROUNDS = 3;
+
+    private RandomProviderBenchmark() {
+        throw new UnsupportedOperationException("Cannot instantiate.");
+    }
+
+    private interface Factory {
+        RandomProvider create(long seed);
+    }
+
+    public static void main(String[] args) {
+        String[] names = {"MersenneTwister", "KnuthSubtractive", "ZiffGFSR4", "RANLUX", "Tausworthe", "SplitMix64", "Xoroshiro128PlusPlus"};
+        Factory[] factories = {
+            new Factory() {
+                @Override
+                public RandomProvider create(long seed) {
+                    return new MersenneTwister(seed);
+                }
+            },
+            new Factory() {
+                @Override
+                public RandomProvider create(long seed) {
+                    return new KnuthSubtractive(seed);
+                }
+            },
+            new Factory() {
+                @Override
+                public RandomProvider create(long seed) {
+                    return new ZiffGFSR4(seed);
+                }
+            },
+            new Factory() {
+                @Override
+                public RandomProvider create(long seed) {
+                    return new RANLUX(seed);
+                }
+            },
+            new Factory() {
+                @Override
+                public RandomProvider create(long seed) {
+                    return new Tausworthe(seed);
+                }
+            },
+            new Factory() {
+                @Override
+                public RandomProvider create(long seed) {
+                    return new SplitMix64(seed);
+                }
+            },
+            new Factory() {
+                @Override
+                public RandomProvider create(long seed) {
+                    return new Xoroshiro128PlusPlus(seed);
+                }
+            }
+        };
+
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < factories.length; i++) {
+                System.out.printf("Round %d, %-20s: construct %8.1f ns, nextDouble %5.2f ns%n",
+                        round + 1, names[i], construct(factories[i]), draw(factories[i].create(round)));
+            }
+        }
+
+        for (int round = 0; round < ROUNDS; round++) {
+            System.out.printf("Round %d, seeding: shared strategy %6.1f ns, seed sequence %5.1f ns%n",
+                    round + 1, sharedSeeds(), sequenceSeeds());
+        }
+    }
+
+    private static double construct(Factory factory) {
+        double checksum = 0.0;
+        long start = System.nanoTime();
+        for (int i = 0; i < CONSTRUCTIONS; i++) {
+            checksum += factory.create(i).nextDouble();
+        }
+        long elapsed = System.nanoTime() - start;
+        check(checksum);
+        return (double) elapsed / CONSTRUCTIONS;
+    }
+
+    private static double draw(RandomProvider random) {
+        double checksum = 0.0;
+        long start = System.nanoTime();
+        for (int i = 0; i < DRAWS; i++) {
+            checksum += random.nextDouble();
+        }
+        long elapsed = System.nanoTime() - start;
+        check(checksum);
+        return (double) elapsed / DRAWS;
+    }
+
+    private static double sharedSeeds() {
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < CONSTRUCTIONS; i++) {
+            checksum ^= Seeder.getSeed();
+        }
+        long elapsed = System.nanoTime() - start;
+        check(checksum);
+        return (double) elapsed / CONSTRUCTIONS;
+    }
+
+    private static double sequenceSeeds() {
+        long checksum = 0;
+        Seeder.setLocalSequence(new SeedSequence(Seeder.getSeed()).spawn(0));
+        try {
+            long start = System.nanoTime();
+            for (int i = 0; i < CONSTRUCTIONS; i++) {
+                checksum ^= Seeder.getSeed();
+            }
+            long elapsed = System.nanoTime() - start;
+            check(checksum);
+            return (double) elapsed / CONSTRUCTIONS;
+        } finally {
+            Seeder.setLocalSequence(null);
+        }
+    }
+
+    private static void check(double checksum) {
+        if (Double.isNaN(checksum)) {
+            throw new IllegalStateException();
+        }
+    }
+}
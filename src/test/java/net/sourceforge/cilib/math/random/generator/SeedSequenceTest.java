@@ -0,0 +1,71 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.math.random.generator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class SeedSequenceTest {
+
+    @Test
+    public void spawnIsIndependentOfOrder() {
+        SeedSequence root = new SeedSequence(123);
+        long second = root.spawn(1).getSeed();
+        long first = root.spawn(0).getSeed();
+
+        SeedSequence other = new SeedSequence(123);
+        assertThat(other.spawn(0).getSeed(), is(first));
+        assertThat(other.spawn(1).getSeed(), is(second));
+        assertThat(first, not(is(second)));
+    }
+
+    @Test
+    public void seedsAreDistinct() {
+        SeedSequence root = new SeedSequence(0);
+        Set<Long> seeds = new HashSet<Long>();
+        for (int i = 0; i < 100; ++i) {
+            SeedSequence child = root.spawn(i);
+            for (int j = 0; j < 100; ++j) {
+                seeds.add(child.getSeed());
+            }
+            seeds.add(root.getSeed());
+        }
+        assertThat(seeds.size(), is(10100));
+    }
+
+    @Test
+    public void localSequence() {
+        Seeder.setLocalSequence(new SeedSequence(5).spawn(3));
+        try {
+            long seed = Seeder.getSeed();
+            assertThat(seed, is(new SeedSequence(5).spawn(3).getSeed()));
+        } finally {
+            Seeder.setLocalSequence(null);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.math.random.generator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class SplitMix64Test {
+
+    @Test
+    public void testNextDouble() {
+        RandomTester tester = new SimpleRandomTester();
+        RandomProvider r = new SplitMix64();
+        for (int i = 0; i < 100000; ++i) {
+            double d = r.nextDouble();
+            assertTrue("Random value out of range", 0 <= d && d < 1);
+            tester.addSample(d);
+        }
+        assertTrue("Samples are not random", tester.hasRandomSamples());
+    }
+
+    @Test
+    public void referenceValues() {
+        RandomProvider r = new SplitMix64(0);
+        assertThat(r.nextLong(), is(0xe220a8397b1dcdafL));
+        assertThat(r.nextLong(), is(0x6e789e6aa1b965f4L));
+        assertThat(r.nextLong(), is(0x06c45d188009454fL));
+    }
+
+    @Test
+    public void splitIsDeterministic() {
+        SplitMix64 a = new SplitMix64(42).split();
+        SplitMix64 b = new SplitMix64(42).split();
+        for (int i = 0; i < 100; ++i) {
+            assertThat(a.nextLong(), is(b.nextLong()));
+        }
+    }
+
+    @Test
+    public void nextIntInRange() {
+        RandomProvider r = new SplitMix64(1);
+        int[] counts = new int[7];
+        for (int i = 0; i < 70000; ++i) {
+            counts[r.nextInt(7)]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 9000 && count < 11000);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.math.random.generator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class Xoroshiro128PlusPlusTest {
+
+    @Test
+    public void testNextDouble() {
+        RandomTester tester = new SimpleRandomTester();
+        RandomProvider r = new Xoroshiro128PlusPlus();
+        for (int i = 0; i < 100000; ++i) {
+            double d = r.nextDouble();
+            assertTrue("Random value out of range", 0 <= d && d < 1);
+            tester.addSample(d);
+        }
+        assertTrue("Samples are not random", tester.hasRandomSamples());
+    }
+
+    @Test
+    public void sameSeedSameStream() {
+        RandomProvider a = new Xoroshiro128PlusPlus(7);
+        RandomProvider b = new Xoroshiro128PlusPlus(7);
+        for (int i = 0; i < 100; ++i) {
+            assertThat(a.nextLong(), is(b.nextLong()));
+        }
+    }
+
+    @Test
+    public void zeroSeed() {
+        RandomProvider r = new Xoroshiro128PlusPlus(0);
+        assertThat(r.nextLong() | r.nextLong(), not(is(0L)));
+    }
+
+    @Test
+    public void splitStreamsDoNotOverlap() {
+        Xoroshiro128PlusPlus parent = new Xoroshiro128PlusPlus(11);
+        Xoroshiro128PlusPlus child = parent.split();
+        Xoroshiro128PlusPlus copy = new Xoroshiro128PlusPlus(11);
+
+        Set<Long> seen = new HashSet<Long>();
+        for (int i = 0; i < 10000; ++i) {
+            assertThat(child.nextLong(), is(copy.nextLong()));
+            seen.add(parent.nextLong());
+        }
+
+        copy = new Xoroshiro128PlusPlus(11);
+        for (int i = 0; i < 10000; ++i) {
+            assertTrue(!seen.contains(copy.nextLong()));
+        }
+    }
+}
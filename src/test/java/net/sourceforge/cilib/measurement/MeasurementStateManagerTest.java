@@ -31,9 +31,11 @@ import org.junit.Assert;
 import org.junit.Test;
 
 /**
- *
+ * The {@link MeasurementStateManager} is deprecated, but is still tested for
+ * as long as it remains.
  * @author gpampara
  */
+@SuppressWarnings("deprecation")
 public class MeasurementStateManagerTest {
 
     @Test
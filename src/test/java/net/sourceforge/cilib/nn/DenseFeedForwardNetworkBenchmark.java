@@ -0,0 +1,118 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.nn;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.sourceforge.cilib.io.pattern.StandardPattern;
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.nn.architecture.builder.LayerConfiguration;
+import net.sourceforge.cilib.nn.architecture.visitors.OutputErrorVisitor;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * Compare the time taken to calculate the training error of a feed forward
+ * network, for a number of random weight vectors, through the visitors (as
+ * {@code NNDataTrainingProblem} used to) and through the
+ * {@link DenseFeedForwardNetwork}. The mean of the errors is reported with
+ * every time.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=net.sourceforge.cilib.nn.DenseFeedForwardNetworkBenchmark}.
+ */
+public final class DenseFeedForwardNetworkBenchmark {
+
+    private static final int PATTERNS = 10000;
+    private static final int INPUTS = 16;
+    private static final int HIDDEN = 20;
+    private static final int EVALUATIONS = 50;
+
+    private DenseFeedForwardNetworkBenchmark() {
+        throw new UnsupportedOperationException("Cannot instantiate.");
+    }
+
+    public static void main(String[] args) {
+        NeuralNetwork network = new NeuralNetwork();
+        network.getArchitecture().getArchitectureBuilder().addLayer(new LayerConfiguration(INPUTS));
+        network.getArchitecture().getArchitectureBuilder().addLayer(new LayerConfiguration(HIDDEN));
+        network.getArchitecture().getArchitectureBuilder().addLayer(new LayerConfiguration(1));
+        network.getArchitecture().getArchitectureBuilder().getLayerBuilder().setDomain("R(-3,3)");
+        network.initialize();
+
+        MersenneTwister random = new MersenneTwister(1);
+        List<StandardPattern> patterns = new ArrayList<StandardPattern>();
+        for (int p = 0; p < PATTERNS; p++) {
+            Vector.Builder input = Vector.newBuilder();
+            for (int i = 0; i < INPUTS; i++) {
+                input.add(random.nextDouble());
+            }
+            patterns.add(new StandardPattern(input.build(), Real.valueOf(random.nextDouble())));
+        }
+
+        int numWeights = network.getWeights().size();
+        List<Vector> solutions = new ArrayList<Vector>();
+        for (int s = 0; s < EVALUATIONS; s++) {
+            Vector.Builder weights = Vector.newBuilder();
+            for (int w = 0; w < numWeights; w++) {
+                weights.add(random.nextDouble() * 6.0 - 3.0);
+            }
+            solutions.add(weights.build());
+        }
+
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            double total = 0.0;
+            for (Vector weights : solutions) {
+                total += visitors(network, patterns, weights);
+            }
+            report("visitors", System.nanoTime() - start, total);
+
+            start = System.nanoTime();
+            total = 0.0;
+            PatternBatch batch = new PatternBatch(patterns);
+            for (Vector weights : solutions) {
+                total += network.getDenseNetwork().calculateMSE(batch, weights);
+            }
+            report("dense", System.nanoTime() - start, total);
+        }
+    }
+
+    private static void report(String name, long elapsed, double total) {
+        System.out.printf("%-8s %8.3f ms per evaluation, mean error %.12f%n",
+                name, elapsed / 1e6 / EVALUATIONS, total / EVALUATIONS);
+    }
+
+    private static double visitors(NeuralNetwork network, List<StandardPattern> patterns, Vector weights) {
+        network.setWeights(weights);
+        OutputErrorVisitor visitor = new OutputErrorVisitor();
+        double error = 0.0;
+        for (StandardPattern pattern : patterns) {
+            network.evaluatePattern(pattern);
+            visitor.setInput(pattern);
+            network.getArchitecture().accept(visitor);
+            double difference = visitor.getOutput().doubleValueOf(0);
+            error += difference * difference;
+        }
+        return error / patterns.size();
+    }
+}
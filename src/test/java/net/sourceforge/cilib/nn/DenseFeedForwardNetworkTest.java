@@ -0,0 +1,129 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.nn;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.sourceforge.cilib.io.pattern.StandardPattern;
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.nn.architecture.builder.LayerConfiguration;
+import net.sourceforge.cilib.nn.architecture.visitors.OutputErrorVisitor;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DenseFeedForwardNetworkTest {
+
+    private static NeuralNetwork createNetwork(int... sizes) {
+        NeuralNetwork network = new NeuralNetwork();
+        for (int size : sizes) {
+            network.getArchitecture().getArchitectureBuilder().addLayer(new LayerConfiguration(size));
+        }
+        network.getArchitecture().getArchitectureBuilder().getLayerBuilder().setDomain("R(-3,3)");
+        network.initialize();
+        return network;
+    }
+
+    private static List<StandardPattern> createPatterns(int count, int inputs, int targets) {
+        MersenneTwister random = new MersenneTwister(3);
+        List<StandardPattern> patterns = new ArrayList<StandardPattern>();
+        for (int p = 0; p < count; p++) {
+            Vector.Builder input = Vector.newBuilder();
+            for (int i = 0; i < inputs; i++) {
+                input.add(random.nextDouble());
+            }
+            Type target = Real.valueOf(random.nextDouble());
+            if (targets > 1) {
+                Vector.Builder targetBuilder = Vector.newBuilder();
+                for (int k = 0; k < targets; k++) {
+                    targetBuilder.add(random.nextDouble());
+                }
+                target = targetBuilder.build();
+            }
+            patterns.add(new StandardPattern(input.build(), target));
+        }
+        return patterns;
+    }
+
+    private static double visitorMSE(NeuralNetwork network, List<StandardPattern> patterns, Vector weights) {
+        network.setWeights(weights);
+        OutputErrorVisitor visitor = new OutputErrorVisitor();
+        double error = 0.0;
+        int outputs = 0;
+        for (StandardPattern pattern : patterns) {
+            network.evaluatePattern(pattern);
+            visitor.setInput(pattern);
+            network.getArchitecture().accept(visitor);
+            Vector output = visitor.getOutput();
+            for (int k = 0; k < output.size(); k++) {
+                error += output.doubleValueOf(k) * output.doubleValueOf(k);
+            }
+            outputs = output.size();
+        }
+        return error / (patterns.size() * outputs);
+    }
+
+    @Test
+    public void calculateMSE() {
+        NeuralNetwork network = createNetwork(5, 4, 3, 2);
+        Vector weights = network.getWeights();
+        List<StandardPattern> patterns = createPatterns(600, 5, 2);
+
+        DenseFeedForwardNetwork dense = network.getDenseNetwork();
+        Assert.assertEquals(weights.size(), dense.getNumWeights());
+        Assert.assertEquals(5, dense.getNumInputs());
+        Assert.assertEquals(2, dense.getNumOutputs());
+        Assert.assertEquals(visitorMSE(network, patterns, weights), dense.calculateMSE(new PatternBatch(patterns), weights), 0.0);
+    }
+
+    @Test
+    public void singleOutput() {
+        NeuralNetwork network = createNetwork(4, 3, 1);
+        Vector weights = network.getWeights();
+        List<StandardPattern> patterns = createPatterns(10, 4, 1);
+
+        Assert.assertEquals(visitorMSE(network, patterns, weights),
+                network.getDenseNetwork().calculateMSE(new PatternBatch(patterns), weights), 0.0);
+    }
+
+    @Test
+    public void readsWeightsInPlace() {
+        NeuralNetwork network = createNetwork(4, 3, 1);
+        Vector weights = network.getWeights();
+        Vector original = Vector.copyOf(weights);
+        PatternBatch batch = new PatternBatch(createPatterns(10, 4, 1));
+
+        double before = network.getDenseNetwork().calculateMSE(batch, weights);
+        weights.setReal(0, weights.doubleValueOf(0) + 1.0);
+        Assert.assertTrue(before != network.getDenseNetwork().calculateMSE(batch, weights));
+        Assert.assertEquals(before, network.getDenseNetwork().calculateMSE(batch, original), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void wrongNumberOfWeights() {
+        NeuralNetwork network = createNetwork(4, 3, 1);
+        PatternBatch batch = new PatternBatch(createPatterns(10, 4, 1));
+        network.getDenseNetwork().calculateMSE(batch, Vector.of(1.0, 2.0));
+    }
+}
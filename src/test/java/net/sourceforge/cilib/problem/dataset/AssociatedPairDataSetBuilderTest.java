@@ -23,14 +23,20 @@ package net.sourceforge.cilib.problem.dataset;
 
 import static org.junit.Assert.assertEquals;
 import net.sourceforge.cilib.problem.ClusteringProblem;
+import net.sourceforge.cilib.util.EuclideanDistanceMeasure;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class AssociatedPairDataSetBuilderTest {
     private static AssociatedPairDataSetBuilder dataSetBuilder = null;
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @BeforeClass
     public static void intialise() {
         dataSetBuilder = new AssociatedPairDataSetBuilder();
@@ -48,4 +54,50 @@ public class AssociatedPairDataSetBuilderTest {
     public void testNumberOfPatterns() {
         assertEquals(93, dataSetBuilder.getNumberOfPatterns());
     }
+
+    @Test
+    public void doubleDistanceCache() {
+        assertCachedDistances(new DoubleDistanceCache(), 0.0);
+    }
+
+    @Test
+    public void floatDistanceCache() {
+        assertCachedDistances(new FloatDistanceCache(), 1e-5);
+    }
+
+    @Test
+    public void mappedDistanceCache() {
+        MappedDistanceCache cache = new MappedDistanceCache();
+        cache.setDirectory(folder.getRoot().getPath());
+        assertCachedDistances(cache, 0.0);
+    }
+
+    @Test
+    public void blockDistanceCache() {
+        BlockDistanceCache cache = new BlockDistanceCache();
+        cache.setBlockSize(10);
+        cache.setMaximumBlocks(3);
+        assertCachedDistances(cache, 0.0);
+    }
+
+    @Test
+    public void noDistanceCache() {
+        assertCachedDistances(new NoDistanceCache(), 0.0);
+    }
+
+    private static void assertCachedDistances(DistanceCache cache, double tolerance) {
+        AssociatedPairDataSetBuilder builder = new AssociatedPairDataSetBuilder();
+        builder.addDataSet(new MockClusteringStringDataSet());
+        builder.setDistanceCache(cache);
+        builder.initialise();
+
+        EuclideanDistanceMeasure distanceMeasure = new EuclideanDistanceMeasure();
+        int size = builder.getNumberOfPatterns();
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                double expected = distanceMeasure.distance(builder.getPattern(x).data, builder.getPattern(y).data);
+                assertEquals(expected, builder.getCachedDistance(x, y), tolerance * expected);
+            }
+        }
+    }
 }
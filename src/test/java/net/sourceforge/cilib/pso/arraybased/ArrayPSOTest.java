@@ -0,0 +1,107 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.pso.arraybased;
+
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.problem.FunctionMaximisationProblem;
+import net.sourceforge.cilib.problem.FunctionMinimisationProblem;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.problem.MaximisationFitness;
+import net.sourceforge.cilib.problem.OptimisationSolution;
+import net.sourceforge.cilib.stoppingcondition.MaximumIterations;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+
+public class ArrayPSOTest {
+
+    @Test
+    public void gbestMinimises() {
+        ArrayPSO pso = createPSO(new FunctionMinimisationProblem());
+        pso.run();
+
+        Assert.assertTrue(pso.getBestSolution().getFitness().getValue() < 1e-6);
+        Assert.assertThat(pso.getOptimisationProblem().getFitnessEvaluations(), is(20 * 200));
+    }
+
+    @Test
+    public void lbestConstrictionMinimises() {
+        ArrayPSO pso = createPSO(new FunctionMinimisationProblem());
+        pso.setTopology(new LBestArrayTopology());
+        pso.setVelocityProvider(new ConstrictionArrayVelocityProvider());
+        pso.run();
+
+        Assert.assertTrue(pso.getBestSolution().getFitness().getValue() < 1e-3);
+    }
+
+    @Test
+    public void maximises() {
+        ArrayPSO pso = createPSO(new FunctionMaximisationProblem());
+        pso.run();
+
+        OptimisationSolution solution = pso.getBestSolution();
+        Assert.assertThat(solution.getFitness(), instanceOf(MaximisationFitness.class));
+        Assert.assertTrue(solution.getFitness().getValue() > 200.0);
+    }
+
+    @Test
+    public void bestSolutionMatchesPersonalBest() {
+        ArrayPSO pso = createPSO(new FunctionMinimisationProblem());
+        pso.run();
+
+        ArraySwarm swarm = pso.getSwarm();
+        int best = swarm.getBestParticle();
+        Vector position = (Vector) pso.getBestSolution().getPosition();
+        for (int j = 0; j < swarm.getDimension(); j++) {
+            Assert.assertThat(position.doubleValueOf(j), is(swarm.getBestPosition(best, j)));
+        }
+        Assert.assertThat(pso.getBestSolution().getFitness().getValue(), is(new Spherical().apply(position)));
+    }
+
+    @Test
+    public void lbestNeighbourhoodIsCentredRing() {
+        ArraySwarm swarm = new ArraySwarm(5, 1);
+        double[] costs = {3.0, 1.0, 4.0, 0.0, 5.0};
+        System.arraycopy(costs, 0, swarm.bestCosts, 0, costs.length);
+
+        new LBestArrayTopology().updateNeighbourhoodBests(swarm);
+
+        int[] expected = {1, 1, 3, 3, 3};
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertThat(swarm.getNeighbourhoodBest(i), is(expected[i]));
+        }
+    }
+
+    private static ArrayPSO createPSO(FunctionOptimisationProblem problem) {
+        problem.setDomain("R(-5.12, 5.12)^10");
+        problem.setFunction(new Spherical());
+
+        ArrayPSO pso = new ArrayPSO();
+        pso.setOptimisationProblem(problem);
+        pso.addStoppingCondition(new MaximumIterations(200));
+        pso.initialise();
+        return pso;
+    }
+}
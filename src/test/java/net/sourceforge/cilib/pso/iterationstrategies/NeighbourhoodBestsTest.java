@@ -0,0 +1,97 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.pso.iterationstrategies;
+
+import net.sourceforge.cilib.algorithm.population.IterationStrategy;
+import net.sourceforge.cilib.entity.Particle;
+import net.sourceforge.cilib.entity.topologies.GBestTopology;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Rastrigin;
+import net.sourceforge.cilib.math.random.generator.SeedSelectionStrategy;
+import net.sourceforge.cilib.math.random.generator.Seeder;
+import net.sourceforge.cilib.problem.FunctionMinimisationProblem;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.stoppingcondition.MaximumIterations;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+
+public class NeighbourhoodBestsTest {
+
+    /**
+     * A fully connected topology that is not a {@code GBestTopology} is
+     * updated through the neighbourhood iterators.
+     */
+    private static class IteratedGBestTopology extends GBestTopology<Particle> {
+        private static final long serialVersionUID = 5012474542412006131L;
+    }
+
+    @Test
+    public void synchronousMatchesNeighbourhoodUpdate() {
+        Assert.assertThat(optimise(new SynchronousIterationStrategy(), new GBestTopology<Particle>()),
+                is(optimise(new SynchronousIterationStrategy(), new IteratedGBestTopology())));
+    }
+
+    @Test
+    public void asynchronousMatchesNeighbourhoodUpdate() {
+        Assert.assertThat(optimise(new ASynchronousIterationStrategy(), new GBestTopology<Particle>()),
+                is(optimise(new ASynchronousIterationStrategy(), new IteratedGBestTopology())));
+    }
+
+    @Test
+    public void parallelMatchesNeighbourhoodUpdate() {
+        Assert.assertThat(optimise(new ParallelSynchronousIterationStrategy(), new GBestTopology<Particle>()),
+                is(optimise(new ParallelSynchronousIterationStrategy(), new IteratedGBestTopology())));
+    }
+
+    private Vector optimise(IterationStrategy<PSO> strategy, GBestTopology<Particle> topology) {
+        SeedSelectionStrategy seedStrategy = Seeder.getSeederStrategy();
+        Seeder.setSeederStrategy(new SeedSelectionStrategy() {
+            private long seed;
+
+            @Override
+            public long getSeed() {
+                return seed++;
+            }
+        });
+
+        try {
+            FunctionMinimisationProblem problem = new FunctionMinimisationProblem();
+            problem.setDomain("R(-5.12, 5.12)^10");
+            problem.setFunction(new Rastrigin());
+
+            PSO pso = new PSO();
+            pso.setTopology(topology);
+            pso.setOptimisationProblem(problem);
+            pso.setIterationStrategy(strategy);
+            pso.addStoppingCondition(new MaximumIterations(100));
+
+            pso.initialise();
+            pso.run();
+
+            return (Vector) pso.getBestSolution().getPosition();
+        } finally {
+            Seeder.setSeederStrategy(seedStrategy);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.pso.iterationstrategies;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.functions.continuous.decorators.RotatedFunctionDecorator;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Quadric;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.math.random.generator.SeedSelectionStrategy;
+import net.sourceforge.cilib.math.random.generator.Seeder;
+import net.sourceforge.cilib.math.random.generator.ZeroSeederStrategy;
+import net.sourceforge.cilib.problem.FunctionMinimisationProblem;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.stoppingcondition.MaximumIterations;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+
+public class ParallelSynchronousIterationStrategyTest {
+
+    /**
+     * The outcome of an iteration should not depend on the number of threads
+     * used to calculate the fitness values.
+     */
+    @Test
+    public void resultIndependentOfThreadCount() {
+        Assert.assertThat(optimise(4), is(optimise(1)));
+    }
+
+    /**
+     * The rotation of a rotated function should be re-created for iterations,
+     * not for evaluations, so that it does not depend on the number of threads
+     * either.
+     */
+    @Test
+    public void rotatedResultIndependentOfThreadCount() {
+        Assert.assertThat(optimise(strategy(4), true), is(optimise(strategy(1), true)));
+    }
+
+    /**
+     * Without an executor of its own, an instance should calculate the fitness
+     * values on the evaluation executor of the current thread, or on the
+     * current thread if there is none.
+     */
+    @Test
+    public void evaluationExecutor() {
+        Assert.assertThat(optimise(new ParallelSynchronousIterationStrategy()), is(optimise(1)));
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>());
+        AbstractAlgorithm.setEvaluationExecutor(executor);
+        try {
+            Assert.assertThat(optimise(new ParallelSynchronousIterationStrategy()), is(optimise(1)));
+            Assert.assertTrue(executor.getCompletedTaskCount() > 0);
+        } finally {
+            AbstractAlgorithm.setEvaluationExecutor(null);
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Copies of an instance with an injected executor should calculate the
+     * fitness values on that executor.
+     */
+    @Test
+    public void copiesShareInjectedExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>());
+        try {
+            ParallelSynchronousIterationStrategy strategy = new ParallelSynchronousIterationStrategy();
+            strategy.setExecutor(executor);
+            Assert.assertThat(strategy.getThreads(), is(0));
+
+            Assert.assertThat(optimise(strategy.getClone()), is(optimise(1)));
+            Assert.assertTrue(executor.getCompletedTaskCount() > 0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidThreadCount() {
+        new ParallelSynchronousIterationStrategy().setThreads(0);
+    }
+
+    private double optimise(int threads) {
+        return optimise(strategy(threads));
+    }
+
+    private double optimise(ParallelSynchronousIterationStrategy strategy) {
+        return optimise(strategy, false);
+    }
+
+    private ParallelSynchronousIterationStrategy strategy(int threads) {
+        ParallelSynchronousIterationStrategy strategy = new ParallelSynchronousIterationStrategy();
+        strategy.setThreads(threads);
+        return strategy;
+    }
+
+    private double optimise(ParallelSynchronousIterationStrategy strategy, boolean rotated) {
+        SeedSelectionStrategy seedStrategy = Seeder.getSeederStrategy();
+        Seeder.setSeederStrategy(new ZeroSeederStrategy());
+
+        try {
+            FunctionMinimisationProblem problem = new FunctionMinimisationProblem();
+            problem.setDomain("R(-5.12, 5.12)^10");
+            if (rotated) {
+                RotatedFunctionDecorator function = new RotatedFunctionDecorator();
+                function.setFunction(new Quadric());
+                problem.setFunction(function);
+            } else {
+                problem.setFunction(new Spherical());
+            }
+
+            PSO pso = new PSO();
+            pso.setOptimisationProblem(problem);
+            pso.setIterationStrategy(strategy);
+            pso.addStoppingCondition(new MaximumIterations(100));
+
+            pso.initialise();
+            pso.run();
+
+            return pso.getBestSolution().getFitness().getValue();
+        } finally {
+            Seeder.setSeederStrategy(seedStrategy);
+        }
+    }
+}
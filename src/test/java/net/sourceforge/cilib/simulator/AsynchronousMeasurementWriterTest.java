@@ -0,0 +1,122 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.simulator;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import net.sourceforge.cilib.type.types.Int;
+import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+
+public class AsynchronousMeasurementWriterTest {
+
+    /**
+     * All rows should be written in order once the writer is closed, even
+     * if the buffer is much smaller than the number of rows.
+     */
+    @Test
+    public void rowsWrittenInOrder() throws IOException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertRowsWritten(executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Rows should still be written if the executor never runs the tasks it is
+     * given, as happens when it is shut down while the tasks are queued.
+     */
+    @Test
+    public void rowsWrittenWithoutExecutor() throws IOException {
+        assertRowsWritten(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+            }
+        });
+    }
+
+    private static void assertRowsWritten(Executor executor) throws IOException {
+        RecordingWriter recorder = new RecordingWriter();
+        MeasurementWriter writer = new AsynchronousMeasurementWriter(recorder, 4, executor);
+
+        Type[] values = new Type[1];
+        Vector value = Vector.of(0.0);
+        for (int i = 0; i < 1000; i++) {
+            value.setReal(0, -i); // The array and the value are reused by the caller
+            values[0] = value;
+            writer.write(i, values);
+        }
+        writer.close();
+
+        Assert.assertThat(recorder.rows.size(), is(1000));
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertThat(recorder.rows.get(i), is(i + " " + Vector.of(-i)));
+        }
+        Assert.assertThat(recorder.closed, is(true));
+    }
+
+    @Test(expected = IOException.class)
+    public void failurePropagated() throws IOException {
+        MeasurementWriter writer = new AsynchronousMeasurementWriter(new MeasurementWriter() {
+            @Override
+            public void write(int iterations, Type[] values) throws IOException {
+                throw new IOException("Disk full");
+            }
+
+            @Override
+            public void close() {
+            }
+        }, 2, MoreExecutors.sameThreadExecutor());
+
+        for (int i = 0; i < 10; i++) {
+            writer.write(i, new Type[] {Int.valueOf(i)});
+        }
+        writer.close();
+    }
+
+    private static class RecordingWriter implements MeasurementWriter {
+
+        private final List<String> rows = Lists.newArrayList();
+        private boolean closed;
+
+        @Override
+        public void write(int iterations, Type[] values) {
+            rows.add(iterations + " " + values[0]);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.simulator;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+import com.google.common.io.Files;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import net.sourceforge.cilib.type.types.Bit;
+import net.sourceforge.cilib.type.types.Int;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.StringType;
+import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+
+public class BinaryCombinerTest {
+
+    private static final List<String> DESCRIPTIONS = Arrays.asList("Fitness", "Evaluations", "Position", "Counts", "Bits", "Mixed", "Name");
+
+    /**
+     * The text converted from the combined binary results should be
+     * identical to the output of the text based combiner.
+     */
+    @Test
+    public void conversionMatchesTextOutput() throws IOException {
+        File text = File.createTempFile("cilib_test", ".txt");
+        File binary = File.createTempFile("cilib_test", ".bin");
+        File converted = File.createTempFile("cilib_test", ".txt");
+        try {
+            new TextBasedCombiner(text).combine(DESCRIPTIONS, writePartials(OutputType.TXT));
+            new BinaryCombiner(binary).combine(DESCRIPTIONS, writePartials(OutputType.BIN));
+            BinaryToText.convert(binary, converted);
+
+            Assert.assertThat(Files.toString(converted, Charsets.UTF_8), is(Files.toString(text, Charsets.UTF_8)));
+        } finally {
+            text.delete();
+            binary.delete();
+            converted.delete();
+        }
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void misalignedPartials() throws IOException {
+        List<File> partials = writePartials(OutputType.BIN);
+        MeasurementWriter writer = OutputType.BIN.newWriter(partials.get(1));
+        writer.write(1, row(1));
+        writer.close();
+
+        File binary = File.createTempFile("cilib_test", ".bin");
+        try {
+            new BinaryCombiner(binary).combine(DESCRIPTIONS, partials);
+        } finally {
+            binary.delete();
+        }
+    }
+
+    private List<File> writePartials(OutputType type) throws IOException {
+        List<File> partials = Lists.newArrayList();
+        for (int sample = 0; sample < 3; sample++) {
+            File partial = File.createTempFile("cilib_data", ".tmp");
+            partial.deleteOnExit();
+            MeasurementWriter writer = type.newWriter(partial);
+            for (int iteration = 10; iteration <= 30; iteration += 10) {
+                writer.write(iteration, row(sample * iteration));
+            }
+            writer.close();
+            partials.add(partial);
+        }
+        return partials;
+    }
+
+    private Type[] row(int seed) {
+        return new Type[] {
+            Real.valueOf(seed / 7.0),
+            Int.valueOf(seed),
+            Vector.of(seed, -0.5, 1e-12),
+            Vector.of(Int.valueOf(seed), Int.valueOf(-3)),
+            Vector.of(Bit.valueOf(seed % 2 == 0), Bit.valueOf(true), Bit.valueOf(false)),
+            Vector.of(Real.valueOf(seed / 3.0), Int.valueOf(seed), Bit.valueOf(true)),
+            new StringType("sample-" + seed)
+        };
+    }
+}
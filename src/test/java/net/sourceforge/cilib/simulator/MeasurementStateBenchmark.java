@@ -0,0 +1,94 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.simulator;
+
+import java.util.Arrays;
+import java.util.List;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.measurement.StateAwareMeasurement;
+import net.sourceforge.cilib.measurement.single.dynamic.AverageBestFitnessBeforeChange;
+import net.sourceforge.cilib.measurement.single.dynamic.CollectiveMeanFitness;
+import net.sourceforge.cilib.problem.FunctionMinimisationProblem;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.stoppingcondition.MaximumIterations;
+
+/**
+ * Compare the cost of measuring the dynamic measurements when their state is
+ * externalised around every measurement, as was done by the
+ * {@link net.sourceforge.cilib.measurement.MeasurementStateManager}, with
+ * holding the state directly, as is done by the {@link MeasurementSuite}.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=net.sourceforge.cilib.simulator.MeasurementStateBenchmark}.
+ */
+@SuppressWarnings("deprecation")
+public final class MeasurementStateBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    private MeasurementStateBenchmark() {
+        throw new UnsupportedOperationException("Cannot instantiate.");
+    }
+
+    public static void main(String[] args) {
+        int measurementCount = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+
+        FunctionMinimisationProblem problem = new FunctionMinimisationProblem();
+        problem.setDomain("R(-5.12, 5.12)^30");
+        problem.setFunction(new Spherical());
+
+        PSO pso = new PSO();
+        pso.setOptimisationProblem(problem);
+        pso.addStoppingCondition(new MaximumIterations(10));
+        pso.initialise();
+        pso.run();
+
+        List<StateAwareMeasurement<?>> measurements = Arrays.<StateAwareMeasurement<?>>asList(
+                new CollectiveMeanFitness(), new AverageBestFitnessBeforeChange());
+
+        for (int round = 0; round < ROUNDS; round++) {
+            net.sourceforge.cilib.measurement.MeasurementStateManager manager =
+                    new net.sourceforge.cilib.measurement.MeasurementStateManager();
+            long start = System.nanoTime();
+            for (int i = 0; i < measurementCount; i++) {
+                for (StateAwareMeasurement<?> measurement : measurements) {
+                    manager.setState(pso, measurement);
+                    measurement.getValue(pso);
+                    manager.getState(pso, measurement);
+                }
+            }
+            long externalised = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < measurementCount; i++) {
+                for (StateAwareMeasurement<?> measurement : measurements) {
+                    measurement.getValue(pso);
+                }
+            }
+            long direct = System.nanoTime() - start;
+
+            double total = (double) measurementCount * measurements.size();
+            System.out.printf("Round %d: externalised %.1f ns/measurement, direct %.1f ns/measurement%n",
+                    round + 1, externalised / total, direct / total);
+        }
+    }
+}
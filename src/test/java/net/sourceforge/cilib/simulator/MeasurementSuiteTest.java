@@ -0,0 +1,103 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.simulator;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import net.sourceforge.cilib.algorithm.Algorithm;
+import net.sourceforge.cilib.measurement.StateAwareMeasurement;
+import net.sourceforge.cilib.type.types.Int;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.Mockito.mock;
+
+public class MeasurementSuiteTest {
+
+    /**
+     * Each algorithm measured by a suite should observe its own state for the
+     * state aware measurements, starting from the initial state.
+     */
+    @Test
+    public void stateHeldPerAlgorithm() throws IOException {
+        CountingMeasurement measurement = new CountingMeasurement();
+        MeasurementSuite suite = new MeasurementSuite();
+        suite.setBufferSize(0);
+        suite.addMeasurement(measurement);
+        suite.initialise();
+
+        Algorithm first = mock(Algorithm.class);
+        Algorithm second = mock(Algorithm.class);
+        suite.measure(first);
+        suite.measure(first);
+        suite.measure(second);
+        suite.measure(first);
+        suite.close();
+        List<String> lines = Files.readLines(suite.getFile(), Charsets.UTF_8);
+        suite.getFile().delete();
+
+        Assert.assertThat(lines, is(Arrays.asList("0 1", "0 2", "0 1", "0 3")));
+        Assert.assertThat(measurement.count, is(3));
+    }
+
+    private static class CountingMeasurement extends StateAwareMeasurement<Int> {
+
+        private static final long serialVersionUID = 1L;
+        private int count;
+
+        CountingMeasurement() {
+        }
+
+        CountingMeasurement(CountingMeasurement copy) {
+            this.count = copy.count;
+        }
+
+        @Override
+        public CountingMeasurement getClone() {
+            return new CountingMeasurement(this);
+        }
+
+        @Override
+        public String getDomain() {
+            return "Z";
+        }
+
+        @Override
+        public Int getValue(Algorithm algorithm) {
+            return Int.valueOf(++count);
+        }
+
+        @Override
+        public void writeExternal(java.io.ObjectOutput out) throws IOException {
+            out.writeInt(count);
+        }
+
+        @Override
+        public void readExternal(java.io.ObjectInput in) throws IOException {
+            count = in.readInt();
+        }
+    }
+}
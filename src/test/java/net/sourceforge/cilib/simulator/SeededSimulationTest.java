@@ -0,0 +1,96 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.simulator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Simulations with a root seed must produce identical results, irrespective
+ * of the number of threads executing the samples.
+ */
+public class SeededSimulationTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void resultsIndependentOfThreads() throws IOException {
+        String sequential = run(1234, MoreExecutors.sameThreadExecutor());
+        String parallel = run(1234, Executors.newFixedThreadPool(4));
+
+        assertThat(parallel, is(sequential));
+        assertThat(run(4321, Executors.newFixedThreadPool(4)), not(is(sequential)));
+    }
+
+    private String run(long seed, ExecutorService executor) throws IOException {
+        File output = new File(folder.getRoot(), "output-" + seed + "-" + System.nanoTime() + ".txt");
+        File specification = folder.newFile("simulation-" + seed + "-" + System.nanoTime() + ".xml");
+        Files.write("<?xml version=\"1.0\"?>\n"
+                + "<!DOCTYPE simulator [\n"
+                + "<!ATTLIST algorithm id ID #IMPLIED>\n"
+                + "<!ATTLIST problem id ID #IMPLIED>\n"
+                + "<!ATTLIST measurements id ID #IMPLIED>\n"
+                + "]>\n"
+                + "<simulator seed=\"" + seed + "\">\n"
+                + "  <algorithms>\n"
+                + "    <algorithm id=\"pso\" class=\"pso.PSO\">\n"
+                + "      <addStoppingCondition class=\"stoppingcondition.MaximumIterations\" maximumIterations=\"30\"/>\n"
+                + "    </algorithm>\n"
+                + "  </algorithms>\n"
+                + "  <problems>\n"
+                + "    <problem id=\"spherical\" class=\"problem.FunctionMinimisationProblem\" domain=\"R(-5.12, 5.12)^5\">\n"
+                + "      <function class=\"functions.continuous.unconstrained.Spherical\"/>\n"
+                + "    </problem>\n"
+                + "  </problems>\n"
+                + "  <measurements id=\"fitness\" class=\"simulator.MeasurementSuite\" resolution=\"10\">\n"
+                + "    <addMeasurement class=\"measurement.single.Fitness\"/>\n"
+                + "  </measurements>\n"
+                + "  <simulations>\n"
+                + "    <simulation samples=\"4\">\n"
+                + "      <algorithm idref=\"pso\"/>\n"
+                + "      <problem idref=\"spherical\"/>\n"
+                + "      <measurements idref=\"fitness\"/>\n"
+                + "      <output format=\"TXT\" file=\"" + output.getAbsolutePath() + "\"/>\n"
+                + "    </simulation>\n"
+                + "  </simulations>\n"
+                + "</simulator>\n", specification, Charsets.UTF_8);
+
+        ExecutorService fitnessExecutor = Executors.newFixedThreadPool(2);
+        SimulatorShell shell = new SimulatorShell(new XMLObjectBuilder(), new SimulatorCreator(fitnessExecutor),
+                new MeasurementCombinerBuilder(), executor, fitnessExecutor);
+        shell.execute(shell.prepare(specification), new NoProgress());
+        return Files.toString(output, Charsets.UTF_8);
+    }
+}
@@ -23,12 +23,11 @@ package net.sourceforge.cilib.simulator;
 
 import com.google.common.base.Function;
 import com.google.common.collect.Lists;
-import com.google.inject.Provider;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.File;
 import java.io.FilenameFilter;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -49,9 +48,9 @@ public class SimulatorTest {
     /**
      * <p>
      * Iterate through all the availble XML simulation specifications and
-     * instantiate the needed objects, as well as making the simulations
-     * ready for execution. After this process, discard the constructed
-     * instances.
+     * instantiate the needed objects, as well as making the first sample of
+     * each simulation ready for execution. After this process, discard the
+     * constructed instances.
      * </p>
      * <p>
      * Tests will pass if all instance creation for the defined simulations
@@ -61,8 +60,11 @@ public class SimulatorTest {
     @Test
     public void simulationConstruction() {
         System.out.println("Constructing specification: " + filename);
-        SimulatorShell shell = new SimulatorShell(new XMLObjectBuilder(), new SimulatorCreator(new FakeService()), new MeasurementCombinerBuilder());
-        shell.prepare(new File("xml", filename));
+        SimulatorShell shell = new SimulatorShell(new XMLObjectBuilder(), new SimulatorCreator(MoreExecutors.sameThreadExecutor()),
+                new MeasurementCombinerBuilder(), MoreExecutors.sameThreadExecutor(), MoreExecutors.sameThreadExecutor());
+        for (Simulator simulator : shell.prepare(new File("xml", filename))) {
+            simulator.newSimulation(0);
+        }
     }
 
     @Parameterized.Parameters
@@ -95,12 +97,4 @@ public class SimulatorTest {
             }
         });
     }
-
-    private class FakeService implements Provider<ExecutorService> {
-
-        @Override
-        public ExecutorService get() {
-            return null;
-        }
-    }
 }
@@ -0,0 +1,104 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.simulator;
+
+import com.google.common.collect.Lists;
+import java.io.File;
+import java.io.FilenameFilter;
+import java.util.Arrays;
+import java.util.List;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+/**
+ * Measure the time taken to construct the algorithms, problems and measurement
+ * suites of the simulations in the shipped XML files, as is done for every
+ * sample of a simulation. The first sample of each file is reported separately
+ * from the average of the further samples.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=net.sourceforge.cilib.simulator.XMLObjectFactoryBenchmark}.
+ * The optional arguments are the number of samples and the directory of the
+ * XML files.
+ */
+public final class XMLObjectFactoryBenchmark {
+
+    private XMLObjectFactoryBenchmark() {
+        throw new UnsupportedOperationException("Cannot instantiate.");
+    }
+
+    public static void main(String[] args) throws Exception {
+        int samples = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+        File directory = new File(args.length > 1 ? args[1] : "xml");
+        String[] files = directory.list(new FilenameFilter() {
+            @Override
+            public boolean accept(File dir, String name) {
+                return name.endsWith("xml");
+            }
+        });
+        Arrays.sort(files);
+
+        long firstTotal = 0;
+        long furtherTotal = 0;
+        for (String file : files) {
+            List<XMLObjectFactory> factories = getFactories(new File(directory, file));
+
+            long start = System.nanoTime();
+            construct(factories);
+            long first = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 1; i < samples; i++) {
+                construct(factories);
+            }
+            long further = (System.nanoTime() - start) / Math.max(1, samples - 1);
+
+            firstTotal += first;
+            furtherTotal += further;
+            System.out.printf("%-36s first sample %9.1f us, further samples %9.1f us%n", file, first / 1e3, further / 1e3);
+        }
+        System.out.printf("%-36s first sample %9.1f us, further samples %9.1f us%n", "Total", firstTotal / 1e3, furtherTotal / 1e3);
+    }
+
+    private static List<XMLObjectFactory> getFactories(File file) throws Exception {
+        Document config = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file);
+        XMLObjectBuilder objectBuilder = new XMLObjectBuilder();
+        List<XMLObjectFactory> factories = Lists.newArrayList();
+
+        NodeList simulations = config.getElementsByTagName("simulation");
+        for (int i = 0; i < simulations.getLength(); ++i) {
+            Element current = (Element) simulations.item(i);
+            for (String tag : Arrays.asList("algorithm", "problem", "measurements")) {
+                factories.add(objectBuilder.config(config).element(current.getElementsByTagName(tag).item(0)).build());
+            }
+        }
+        return factories;
+    }
+
+    private static void construct(List<XMLObjectFactory> factories) {
+        for (XMLObjectFactory factory : factories) {
+            factory.newObject();
+        }
+    }
+}
@@ -22,13 +22,36 @@
 package net.sourceforge.cilib.type.types.container;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.util.Map;
+
 import net.sourceforge.cilib.type.types.Blackboard;
+import net.sourceforge.cilib.type.types.Int;
 import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.Type;
 
 import org.junit.Test;
 
 public class BlackboardTest {
 
+    private enum Key implements Blackboard.Slot {
+        FIRST(0), SECOND(5);
+
+        private final int slot;
+
+        private Key(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public int getSlot() {
+            return slot;
+        }
+    }
+
     @Test
     public void toStringTest() {
         Blackboard<String, Real> properties = new Blackboard<String, Real>();
@@ -40,4 +63,51 @@ public class BlackboardTest {
         // the value of "first"
         assertEquals("{second=2.0, first=1.0}", properties.toString());
     }
+
+    @Test
+    public void slotKeys() {
+        Blackboard<Object, Type> properties = new Blackboard<Object, Type>();
+        assertNull(properties.get(Key.SECOND));
+
+        properties.put(Key.SECOND, Real.valueOf(2.0));
+        properties.put("other", Int.valueOf(3));
+        properties.put(Key.FIRST, Real.valueOf(1.0));
+
+        assertEquals(Real.valueOf(1.0), properties.get(Key.FIRST));
+        assertEquals(Real.valueOf(2.0), properties.put(Key.SECOND, Real.valueOf(4.0)));
+        assertEquals(Real.valueOf(4.0), properties.get(Key.SECOND));
+        assertEquals(Int.valueOf(3), properties.get("other"));
+        assertEquals("{FIRST=1.0, SECOND=4.0, other=3}", properties.toString());
+    }
+
+    @Test
+    public void entrySetIsView() {
+        Blackboard<Object, Type> properties = new Blackboard<Object, Type>();
+        properties.put(Key.SECOND, Real.valueOf(2.0));
+        properties.put("other", Int.valueOf(3));
+
+        assertEquals(2, properties.entrySet().size());
+        for (Map.Entry<Object, Type> entry : properties.entrySet()) {
+            entry.setValue(Real.valueOf(-1.0));
+        }
+
+        assertEquals(Real.valueOf(-1.0), properties.get(Key.SECOND));
+        assertEquals(Real.valueOf(-1.0), properties.get("other"));
+    }
+
+    @Test
+    public void cloneCopiesValues() {
+        Blackboard<Object, Type> properties = new Blackboard<Object, Type>();
+        properties.put(Key.FIRST, Real.valueOf(1.0));
+        properties.put("other", Int.valueOf(3));
+
+        Blackboard<Object, Type> clone = properties.getClone();
+        assertEquals(properties, clone);
+        assertEquals(properties.hashCode(), clone.hashCode());
+        assertNotSame(properties.get(Key.FIRST), clone.get(Key.FIRST));
+
+        clone.put(Key.SECOND, Real.valueOf(2.0));
+        assertFalse(properties.equals(clone));
+        assertNull(properties.get(Key.SECOND));
+    }
 }
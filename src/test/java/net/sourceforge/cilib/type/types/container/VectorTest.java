@@ -400,4 +400,43 @@ public class VectorTest {
 
         Assert.assertEquals(4.0, result, 0.0001);
     }
+
+    @Test
+    public void equalityIsIndependentOfRepresentation() {
+        Bounds bounds = new Bounds(-1.0, 1.0);
+        Vector real = Vector.newBuilder().addWithin(0.5, bounds).addWithin(0.25, bounds).build();
+        Vector general = new Vector(2);
+        general.set(0, Real.valueOf(0.5, bounds));
+        general.set(1, Real.valueOf(0.25, bounds));
+
+        assertEquals(real, general);
+        assertEquals(general, real);
+        assertEquals(real.hashCode(), general.hashCode());
+    }
+
+    @Test
+    public void derivedVectorsKeepBounds() {
+        Bounds bounds = new Bounds(-1.0, 1.0);
+        Vector a = Vector.newBuilder().addWithin(0.5, bounds).addWithin(0.25, bounds).build();
+        Vector b = a.plus(a).multiply(2.0);
+
+        assertEquals(bounds, b.boundsOf(0));
+        assertEquals(bounds, b.get(1).getBounds());
+
+        Bounds other = new Bounds(-5.0, 5.0);
+        b.set(0, Real.valueOf(1.0, other));
+        assertEquals(other, b.boundsOf(0));
+        assertEquals(bounds, a.boundsOf(0));
+    }
+
+    @Test
+    public void setNonRealElement() {
+        Vector v = Vector.of(1.0, 2.0, 3.0);
+        v.setInt(1, 5);
+
+        assertTrue(v.get(1) instanceof Int);
+        assertEquals(5, v.intValueOf(1));
+        assertEquals(1.0, v.doubleValueOf(0), 0.0);
+        assertEquals(Vector.of(2.0, 10.0, 6.0), v.multiply(2.0));
+    }
 }
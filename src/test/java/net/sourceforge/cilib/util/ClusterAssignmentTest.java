@@ -0,0 +1,159 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.util;
+
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.problem.ClusteringProblem;
+import net.sourceforge.cilib.problem.dataset.AssociatedPairDataSetBuilder;
+import net.sourceforge.cilib.problem.dataset.ClusterableDataSet.Pattern;
+import net.sourceforge.cilib.problem.dataset.NoDistanceCache;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+
+public class ClusterAssignmentTest {
+
+    private static final int PATTERNS = 10000;
+    private static final int CLUSTERS = 5;
+    private static final int DIMENSION = 3;
+
+    private ClusteringProblem problem;
+    private AssociatedPairDataSetBuilder dataSet;
+    private Vector centroids;
+
+    @Before
+    public void createDataSet() {
+        problem = new ClusteringProblem();
+        problem.setNumberOfClusters(CLUSTERS);
+
+        final MersenneTwister random = new MersenneTwister(7);
+        dataSet = new AssociatedPairDataSetBuilder() {
+            {
+                for (int i = 0; i < PATTERNS; i++) {
+                    patterns.add(new Pattern("class", randomVector(random, DIMENSION)));
+                }
+            }
+        };
+        dataSet.setDistanceCache(new NoDistanceCache());
+        dataSet.initialise();
+        centroids = randomVector(random, CLUSTERS * DIMENSION);
+
+        ClusteringUtils.get().setClusteringProblem(problem);
+        ClusteringUtils.get().setClusterableDataSet(dataSet);
+    }
+
+    private static Vector randomVector(MersenneTwister random, int size) {
+        Vector.Builder vector = Vector.newBuilder();
+        for (int i = 0; i < size; i++) {
+            vector.add(random.nextDouble() * 10.0);
+        }
+        return vector.build();
+    }
+
+    @Test
+    public void closestCentroid() {
+        ClusteringUtils helper = ClusteringUtils.get();
+        helper.arrangeClustersAndCentroids(centroids);
+        ClusterAssignment assignment = helper.getAssignment();
+
+        EuclideanDistanceMeasure distanceMeasure = new EuclideanDistanceMeasure();
+        int[] counts = new int[CLUSTERS];
+        for (int i = 0; i < PATTERNS; i++) {
+            Vector pattern = dataSet.getPattern(i).data;
+            int closest = 0;
+            for (int j = 1; j < CLUSTERS; j++) {
+                if (distanceMeasure.distance(pattern, helper.getOriginalCentroids().get(j))
+                        < distanceMeasure.distance(pattern, helper.getOriginalCentroids().get(closest))) {
+                    closest = j;
+                }
+            }
+            Assert.assertThat(assignment.getLabel(i), is(closest));
+            counts[closest]++;
+        }
+
+        for (int j = 0; j < CLUSTERS; j++) {
+            Assert.assertThat(assignment.getCount(j), is(counts[j]));
+            Assert.assertThat(assignment.getMembers(j).length, is(counts[j]));
+            Assert.assertThat(helper.getOriginalClusters().get(j).size(), is(counts[j]));
+        }
+    }
+
+    @Test
+    public void meanOfCluster() {
+        ClusteringUtils helper = ClusteringUtils.get();
+        helper.arrangeClustersAndCentroids(centroids);
+        ClusterAssignment assignment = helper.getAssignment();
+
+        for (int j = 0; j < assignment.getClustersFormed(); j++) {
+            int cluster = assignment.getFormedCluster(j);
+            double[] sum = new double[DIMENSION];
+            for (int i : assignment.getMembers(cluster)) {
+                for (int k = 0; k < DIMENSION; k++) {
+                    sum[k] += dataSet.getPattern(i).data.doubleValueOf(k);
+                }
+            }
+            Vector mean = assignment.getMean(cluster);
+            for (int k = 0; k < DIMENSION; k++) {
+                Assert.assertEquals(sum[k] / assignment.getCount(cluster), mean.doubleValueOf(k), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void independentOfThreads() {
+        ClusteringUtils helper = ClusteringUtils.get();
+        helper.arrangeClustersAndCentroids(centroids);
+        int[] labels = new int[PATTERNS];
+        for (int i = 0; i < PATTERNS; i++) {
+            labels[i] = helper.getAssignment().getLabel(i);
+        }
+        Vector mean = helper.getAssignment().getMean(0);
+
+        // arrange other centroids in between, so that the arrangement is not reused
+        helper.arrangeClustersAndCentroids(centroids.multiply(2.0));
+        problem.setAssignmentThreads(3);
+        helper.arrangeClustersAndCentroids(centroids);
+        for (int i = 0; i < PATTERNS; i++) {
+            Assert.assertThat(helper.getAssignment().getLabel(i), is(labels[i]));
+        }
+        Assert.assertThat(helper.getAssignment().getMean(0), is(mean));
+    }
+
+    @Test
+    public void otherDistanceMeasure() {
+        ClusteringUtils helper = ClusteringUtils.get();
+        helper.arrangeClustersAndCentroids(centroids);
+        int[] labels = new int[PATTERNS];
+        for (int i = 0; i < PATTERNS; i++) {
+            labels[i] = helper.getAssignment().getLabel(i);
+        }
+
+        problem.setDistanceMeasure(new MinkowskiMetric(2));
+        helper.arrangeClustersAndCentroids(centroids);
+        for (int i = 0; i < PATTERNS; i++) {
+            Assert.assertThat(helper.getAssignment().getLabel(i), is(labels[i]));
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Hashtable;
+
+import net.sourceforge.cilib.functions.clustering.clustercenterstrategies.ClusterCentroidStrategy;
+import net.sourceforge.cilib.functions.clustering.clustercenterstrategies.ClusterMeanStrategy;
+import net.sourceforge.cilib.math.Stats;
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.problem.ClusteringProblem;
+import net.sourceforge.cilib.problem.dataset.AssociatedPairDataSetBuilder;
+import net.sourceforge.cilib.problem.dataset.ClusterableDataSet.Pattern;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+public class ClusterStatisticsTest {
+
+    private static final int PATTERNS = 300;
+    private static final int CLUSTERS = 4;
+    private static final int DIMENSION = 3;
+    private static final double DELTA = 1e-9;
+
+    private AssociatedPairDataSetBuilder dataSet;
+    private Vector centroids;
+    private ClusteringUtils helper;
+    private EuclideanDistanceMeasure distanceMeasure = new EuclideanDistanceMeasure();
+
+    @Before
+    public void arrange() {
+        ClusteringProblem problem = new ClusteringProblem();
+        problem.setNumberOfClusters(CLUSTERS);
+
+        final MersenneTwister random = new MersenneTwister(5);
+        dataSet = new AssociatedPairDataSetBuilder() {
+            {
+                for (int i = 0; i < PATTERNS; i++) {
+                    patterns.add(new Pattern("class", randomVector(random, DIMENSION)));
+                }
+            }
+        };
+        dataSet.initialise();
+        centroids = randomVector(random, CLUSTERS * DIMENSION);
+
+        helper = ClusteringUtils.get();
+        helper.setClusteringProblem(problem);
+        helper.setClusterableDataSet(dataSet);
+        helper.arrangeClustersAndCentroids(centroids);
+    }
+
+    private static Vector randomVector(MersenneTwister random, int size) {
+        Vector.Builder vector = Vector.newBuilder();
+        for (int i = 0; i < size; i++) {
+            vector.add(random.nextDouble() * 10.0);
+        }
+        return vector.build();
+    }
+
+    private Collection<Pattern> cluster(int i) {
+        return helper.getArrangedClusters().get(i).values();
+    }
+
+    @Test
+    public void setDistances() {
+        ClusterStatistics statistics = helper.getClusterStatistics();
+        ArrayList<Hashtable<Integer, Pattern>> clusters = helper.getArrangedClusters();
+
+        for (int i = 0; i < statistics.getClustersFormed(); i++) {
+            for (int j = 0; j < statistics.getClustersFormed(); j++) {
+                if (i == j) {
+                    continue;
+                }
+                double minimum = Double.MAX_VALUE, maximum = 0.0, sum = 0.0;
+                for (int left : clusters.get(i).keySet()) {
+                    for (int right : clusters.get(j).keySet()) {
+                        double distance = distanceMeasure.distance(dataSet.getPattern(left).data, dataSet.getPattern(right).data);
+                        minimum = Math.min(minimum, distance);
+                        maximum = Math.max(maximum, distance);
+                        sum += distance;
+                    }
+                }
+                Assert.assertEquals(minimum, statistics.getMinimumSetDistance(i, j), DELTA);
+                Assert.assertEquals(maximum, statistics.getMaximumSetDistance(i, j), DELTA);
+                Assert.assertEquals(sum / (clusters.get(i).size() * clusters.get(j).size()), statistics.getAverageSetDistance(i, j), DELTA);
+            }
+        }
+    }
+
+    @Test
+    public void diameters() {
+        ClusterStatistics statistics = helper.getClusterStatistics();
+
+        for (int i = 0; i < statistics.getClustersFormed(); i++) {
+            double diameter = 0.0;
+            for (Pattern left : cluster(i)) {
+                for (Pattern right : cluster(i)) {
+                    diameter = Math.max(diameter, distanceMeasure.distance(left.data, right.data));
+                }
+            }
+            Assert.assertEquals(diameter, statistics.getDiameter(i), DELTA);
+        }
+    }
+
+    @Test
+    public void distancesToCenters() {
+        ClusterStatistics statistics = helper.getClusterStatistics();
+        ClusterMeanStrategy strategy = new ClusterMeanStrategy();
+
+        for (int i = 0; i < statistics.getClustersFormed(); i++) {
+            Assert.assertThat(statistics.getSize(i), is(cluster(i).size()));
+            Vector mean = Stats.meanVector(cluster(i));
+            for (int k = 0; k < DIMENSION; k++) {
+                Assert.assertEquals(mean.doubleValueOf(k), statistics.getMean(i).doubleValueOf(k), DELTA);
+            }
+
+            double sum = 0.0, squaredSum = 0.0;
+            for (Pattern pattern : cluster(i)) {
+                double distance = distanceMeasure.distance(pattern.data, statistics.getMean(i));
+                sum += distance;
+                squaredSum += distance * distance;
+            }
+            Assert.assertEquals(sum, statistics.getDistanceSum(strategy, i), DELTA);
+            Assert.assertEquals(squaredSum, statistics.getSquaredDistanceSum(strategy, i), DELTA);
+
+            for (int j = 0; j < statistics.getClustersFormed(); j++) {
+                double crossSum = 0.0;
+                for (Pattern pattern : cluster(i)) {
+                    crossSum += distanceMeasure.distance(pattern.data, helper.getArrangedCentroids().get(j));
+                }
+                Assert.assertEquals(crossSum, statistics.getDistanceSum(new ClusterCentroidStrategy(), i, j), DELTA);
+            }
+        }
+    }
+
+    @Test
+    public void squaredDeviations() {
+        ClusterStatistics statistics = helper.getClusterStatistics();
+        ClusterCentroidStrategy strategy = new ClusterCentroidStrategy();
+
+        for (int i = 0; i < statistics.getClustersFormed(); i++) {
+            Assert.assertEquals(Stats.variance(cluster(i), helper.getArrangedCentroids().get(i)),
+                    norm(statistics.getSquaredDeviations(strategy, i)) / statistics.getSize(i), DELTA);
+            Assert.assertEquals(Stats.variance(cluster(i), helper.getDataSetMean()),
+                    norm(statistics.getSquaredDeviationsFromDataSetMean(i)) / statistics.getSize(i), DELTA);
+        }
+    }
+
+    private static double norm(double[] values) {
+        double norm = 0.0;
+        for (double value : values) {
+            norm += value * value;
+        }
+        return Math.sqrt(norm);
+    }
+
+    @Test
+    public void sharedForSameCentroids() {
+        ClusterStatistics statistics = helper.getClusterStatistics();
+
+        helper.arrangeClustersAndCentroids(Vector.copyOf(centroids));
+        Assert.assertThat(helper.getClusterStatistics(), sameInstance(statistics));
+
+        helper.arrangeClustersAndCentroids(centroids.multiply(0.5));
+        Assert.assertThat(helper.getClusterStatistics(), not(sameInstance(statistics)));
+    }
+}